@@ -2,6 +2,7 @@ plugins {
 	java
 	id("org.springframework.boot") version "3.4.5"
 	id("io.spring.dependency-management") version "1.1.7"
+	id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com.project"
@@ -48,7 +49,11 @@ dependencies {
 
 	implementation("org.springframework.boot:spring-boot-starter-websocket")
 
+	// 로컬 캐시
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
 	testImplementation ("com.h2database:h2")
+	jmh("com.h2database:h2") // 채팅 이력 벤치마크용 메모리 DB
 
 	// --- test ---
 	testCompileOnly("org.projectlombok:lombok")
@@ -56,6 +61,13 @@ dependencies {
 }
 
 
+// 마이크로 벤치마크: ./gradlew jmh (src/jmh/java)
+jmh {
+	warmupIterations = 2
+	iterations = 5
+	fork = 1
+}
+
 tasks.withType<Test> {
 	useJUnitPlatform()
 }
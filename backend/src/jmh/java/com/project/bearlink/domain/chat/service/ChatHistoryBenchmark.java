@@ -0,0 +1,162 @@
+package com.project.bearlink.domain.chat.service;
+
+import com.project.bearlink.domain.chat.entity.MessageType;
+import com.project.bearlink.domain.room.dto.RoomMessageDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 채팅 이력 조회 비교 (H2 메모리 DB 기준, 실제 MySQL 은 네트워크 왕복이 더해진다)
+//  - query_nPlusOne: 기존 경로 (최근 50건 조회 후 sender 마다 닉네임 조회)
+//  - query_joinFetch: join 으로 닉네임까지 한 번에 조회 (버퍼를 채울 때의 경로)
+//  - buffer_hit: RoomMessageBuffer 에서 바로 반환
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ChatHistoryBenchmark {
+
+    private static final int HISTORY = 50;
+
+    @Param({"100"})
+    public int rooms;
+
+    @Param({"500"})
+    public int messagesPerRoom;
+
+    private Connection connection;
+    private PreparedStatement recentMessages;
+    private PreparedStatement senderNickname;
+    private PreparedStatement recentWithSender;
+    private final Map<Long, RoomMessageBuffer> buffers = new HashMap<>();
+
+    @Setup(Level.Trial)
+    public void setup() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:chat_bench;DB_CLOSE_DELAY=-1");
+        try (Statement st = connection.createStatement()) {
+            st.execute("CREATE TABLE users (id BIGINT PRIMARY KEY, nickname VARCHAR(50))");
+            st.execute("""
+                    CREATE TABLE chat_message (
+                        id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                        room_id BIGINT, sender_id BIGINT, type VARCHAR(20), content TEXT,
+                        created_at TIMESTAMP, updated_at TIMESTAMP)
+                    """);
+            st.execute("CREATE INDEX idx_message_room_created ON chat_message (room_id, created_at)");
+        }
+
+        int users = 200;
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO users VALUES (?, ?)")) {
+            for (long u = 1; u <= users; u++) {
+                ps.setLong(1, u);
+                ps.setString(2, "user" + u);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+
+        LocalDateTime base = LocalDateTime.now().minusDays(1);
+        try (PreparedStatement ps = connection.prepareStatement(
+                "INSERT INTO chat_message (room_id, sender_id, type, content, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            for (long room = 1; room <= rooms; room++) {
+                RoomMessageBuffer buffer = new RoomMessageBuffer(HISTORY, 0);
+                for (int i = 0; i < messagesPerRoom; i++) {
+                    long sender = ThreadLocalRandom.current().nextLong(1, users + 1);
+                    Timestamp at = Timestamp.valueOf(base.plusSeconds(i));
+                    ps.setLong(1, room);
+                    ps.setLong(2, sender);
+                    ps.setString(3, MessageType.TALK.name());
+                    ps.setString(4, "message " + i);
+                    ps.setTimestamp(5, at);
+                    ps.setTimestamp(6, at);
+                    ps.addBatch();
+
+                    buffer.add(new RoomMessageDto(null, room, sender, "user" + sender, MessageType.TALK, "message " + i, null));
+                }
+                ps.executeBatch();
+                buffers.put(room, buffer);
+            }
+        }
+
+        recentMessages = connection.prepareStatement(
+                "SELECT sender_id, type, content FROM chat_message WHERE room_id = ? ORDER BY created_at DESC LIMIT " + HISTORY);
+        senderNickname = connection.prepareStatement("SELECT nickname FROM users WHERE id = ?");
+        recentWithSender = connection.prepareStatement("""
+                SELECT m.sender_id, u.nickname, m.type, m.content
+                FROM chat_message m JOIN users u ON u.id = m.sender_id
+                WHERE m.room_id = ? ORDER BY m.created_at DESC, m.id DESC LIMIT %d
+                """.formatted(HISTORY));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement st = connection.createStatement()) {
+            st.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    private long randomRoom() {
+        return ThreadLocalRandom.current().nextLong(1, rooms + 1);
+    }
+
+    @Benchmark
+    public List<RoomMessageDto> query_nPlusOne() throws SQLException {
+        long room = randomRoom();
+        List<RoomMessageDto> result = new ArrayList<>(HISTORY);
+
+        recentMessages.setLong(1, room);
+        try (ResultSet rs = recentMessages.executeQuery()) {
+            while (rs.next()) {
+                long sender = rs.getLong(1);
+                senderNickname.setLong(1, sender);
+                String nickname;
+                try (ResultSet nrs = senderNickname.executeQuery()) {
+                    nickname = nrs.next() ? nrs.getString(1) : null;
+                }
+                result.add(new RoomMessageDto(null, room, sender, nickname, MessageType.valueOf(rs.getString(2)), rs.getString(3), null));
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<RoomMessageDto> query_joinFetch() throws SQLException {
+        long room = randomRoom();
+        List<RoomMessageDto> result = new ArrayList<>(HISTORY);
+
+        recentWithSender.setLong(1, room);
+        try (ResultSet rs = recentWithSender.executeQuery()) {
+            while (rs.next()) {
+                result.add(new RoomMessageDto(null, room, rs.getLong(1), rs.getString(2),
+                        MessageType.valueOf(rs.getString(3)), rs.getString(4), null));
+            }
+        }
+        return result;
+    }
+
+    @Benchmark
+    public List<RoomMessageDto> buffer_hit() {
+        return buffers.get(randomRoom()).newestFirst();
+    }
+}
@@ -0,0 +1,105 @@
+package com.project.bearlink.domain.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+// 1,000개 방에 동시에 메시지가 들어올 때 방별 순서를 보장하는 두 방식 비교
+//  - lanes: RoomLanes (roomId 로 단일 스레드 lane 고정, 방 상태는 lane 안에서만 변경)
+//  - lockPerRoom: 공용 스레드 풀 + 방마다 synchronized (기존처럼 아무 스레드에서 처리하며 lock 으로 직렬화)
+// skew=hot 이면 메시지 절반이 10개 방에 몰린다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RoomLanesBenchmark {
+
+    private static final int MESSAGES = 10_000;
+
+    @Param({"1000"})
+    public int rooms;
+
+    @Param({"uniform", "hot"})
+    public String skew;
+
+    @Param({"50"})
+    public int workTokens; // 메시지 하나 처리 비용 (버퍼 추가 + 직렬화 정도)
+
+    private RoomLanes roomLanes;
+    private ExecutorService sharedPool;
+    private Object[] roomLocks;
+    private long[] laneSequences;
+    private long[] lockSequences;
+    private long[] targets;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        int threads = Runtime.getRuntime().availableProcessors();
+        roomLanes = new RoomLanes(threads, MESSAGES, new SimpleMeterRegistry());
+        roomLanes.start();
+        sharedPool = Executors.newFixedThreadPool(threads);
+
+        roomLocks = new Object[rooms + 1];
+        for (int i = 0; i <= rooms; i++) roomLocks[i] = new Object();
+        laneSequences = new long[rooms + 1];
+        lockSequences = new long[rooms + 1];
+
+        targets = new long[MESSAGES];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < MESSAGES; i++) {
+            boolean hot = "hot".equals(skew) && random.nextBoolean();
+            targets[i] = hot ? random.nextLong(1, 11) : random.nextLong(1, rooms + 1);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        roomLanes.stop();
+        sharedPool.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void lanes() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(MESSAGES);
+        for (long roomId : targets) {
+            int room = (int) roomId;
+            roomLanes.execute(roomId, () -> {
+                Blackhole.consumeCPU(workTokens + ++laneSequences[room] % 2);
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(MESSAGES)
+    public void lockPerRoom() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(MESSAGES);
+        for (long roomId : targets) {
+            int room = (int) roomId;
+            sharedPool.execute(() -> {
+                synchronized (roomLocks[room]) {
+                    Blackhole.consumeCPU(workTokens + ++lockSequences[room] % 2);
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,93 @@
+package com.project.bearlink.domain.friend.service;
+
+import com.project.bearlink.global.util.LongHashSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 친구 그래프 인접 목록의 관계 확인 비교 (절반은 친구, 절반은 아닌 id 로 조회)
+//  - longHashSet: LongHashSet.contains (long[] 선형 탐사, 박싱 없음)
+//  - boxedHashSet: HashSet<Long>.contains (Long 박싱 + 노드 포인터 추적)
+// 인접 목록을 users 명만큼 만들어 캐시에 다 올라가지 않는 상황(여러 사용자 요청이 섞임)도 본다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FriendGraphBenchmark {
+
+    private static final int LOOKUPS = 4096;
+
+    @Param({"1", "10000"})
+    public int users;
+
+    @Param({"50", "500"})
+    public int friends; // 사용자당 친구 수
+
+    private LongHashSet[] primitive;
+    private Set<Long>[] boxed;
+    private int[] owners;
+    private long[] probes;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        long idRange = 10_000_000L;
+
+        primitive = new LongHashSet[users];
+        boxed = new Set[users];
+        long[][] friendIds = new long[users][];
+        for (int u = 0; u < users; u++) {
+            primitive[u] = new LongHashSet(friends);
+            boxed[u] = new HashSet<>();
+            friendIds[u] = new long[friends];
+            for (int i = 0; i < friends; i++) {
+                long id = random.nextLong(1, idRange);
+                friendIds[u][i] = id;
+                primitive[u].add(id);
+                boxed[u].add(id);
+            }
+        }
+
+        owners = new int[LOOKUPS];
+        probes = new long[LOOKUPS];
+        for (int i = 0; i < LOOKUPS; i++) {
+            int owner = random.nextInt(users);
+            owners[i] = owner;
+            probes[i] = i % 2 == 0
+                    ? friendIds[owner][random.nextInt(friends)]
+                    : random.nextLong(1, idRange);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int longHashSet() {
+        int hits = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (primitive[owners[i]].contains(probes[i])) hits++;
+        }
+        return hits;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(LOOKUPS)
+    public int boxedHashSet() {
+        int hits = 0;
+        for (int i = 0; i < LOOKUPS; i++) {
+            if (boxed[owners[i]].contains(probes[i])) hits++;
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,141 @@
+package com.project.bearlink.domain.friend.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 친구의 친구 추천: 수락 하나를 반영하는 두 방식 비교 (멱법칙 친구 그래프)
+//  - rebuild: 활성 사용자의 후보 수를 친구들의 친구 목록으로 처음부터 다시 센다 (배치 재계산)
+//  - incremental: FriendRecommender 처럼 새 친구의 친구 목록과 활성 친구들만 +1
+//  - top: 유지 중인 후보에서 상위 topK 선택 (조회 한 번)
+// 그래프는 preferential attachment (새 사용자가 기존 친구 수에 비례해 edgesPerUser 명과 친구) → 소수의 허브가 친구 수천 명.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FriendRecommendBenchmark {
+
+    private static final int ACTIVE = 1024;
+    private static final int TOP_K = 20;
+
+    @Param({"100000"})
+    public int users;
+
+    @Param({"5"})
+    public int edgesPerUser;
+
+    @Param({"2000"})
+    public int maxCandidates;
+
+    private long[][] friends;
+    private long[] activeUsers;
+    private MutualFriendCounts[] activeCounts; // 인덱스 = 사용자 id, 활성이 아니면 null
+    private long[] newFriends;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        friends = powerLawGraph(random);
+
+        activeUsers = new long[ACTIVE];
+        newFriends = new long[ACTIVE];
+        activeCounts = new MutualFriendCounts[users + 1];
+        for (int i = 0; i < ACTIVE; i++) {
+            long user = 1 + random.nextInt(users);
+            activeUsers[i] = user;
+            newFriends[i] = 1 + random.nextInt(users);
+            activeCounts[(int) user] = build(user);
+        }
+    }
+
+    private int nextIndex() {
+        return next++ & (ACTIVE - 1);
+    }
+
+    @Benchmark
+    public MutualFriendCounts rebuild() {
+        return build(activeUsers[nextIndex()]);
+    }
+
+    @Benchmark
+    public int incremental() {
+        int i = nextIndex();
+        long user = activeUsers[i];
+        long friend = newFriends[i];
+
+        activeCounts[(int) user].addFriend(friend, friends[(int) friend]);
+        int touched = 0;
+        for (long other : friends[(int) user]) {
+            MutualFriendCounts theirs = activeCounts[(int) other];
+            if (theirs != null) {
+                theirs.increment(friend);
+                touched++;
+            }
+        }
+        return touched;
+    }
+
+    @Benchmark
+    public List<FriendRecommender.Candidate> top() {
+        return activeCounts[(int) activeUsers[nextIndex()]].top(TOP_K, id -> false);
+    }
+
+    private MutualFriendCounts build(long user) {
+        long[] mine = friends[(int) user];
+        MutualFriendCounts counts = new MutualFriendCounts(user, mine, maxCandidates);
+        for (long friend : mine) counts.addAll(friends[(int) friend]);
+        counts.trim();
+        return counts;
+    }
+
+    // 간선 끝점 목록에서 무작위로 고르면 친구 수에 비례해 뽑힌다
+    private long[][] powerLawGraph(SplittableRandom random) {
+        int[] degree = new int[users + 1];
+        long[] endpoints = new long[2 * users * edgesPerUser];
+        long[] sources = new long[users * edgesPerUser];
+        long[] targets = new long[users * edgesPerUser];
+        int ends = 0;
+        int edges = 0;
+
+        for (int user = 2; user <= users; user++) {
+            int links = Math.min(edgesPerUser, user - 1);
+            for (int j = 0; j < links; j++) {
+                long target = ends == 0 ? 1 : endpoints[random.nextInt(ends)];
+                if (target == user) continue;
+
+                sources[edges] = user;
+                targets[edges++] = target;
+                endpoints[ends++] = user;
+                endpoints[ends++] = target;
+                degree[user]++;
+                degree[(int) target]++;
+            }
+        }
+
+        long[][] graph = new long[users + 1][];
+        for (int user = 0; user <= users; user++) graph[user] = new long[degree[user]];
+        int[] filled = new int[users + 1];
+        for (int e = 0; e < edges; e++) {
+            int s = (int) sources[e];
+            int t = (int) targets[e];
+            graph[s][filled[s]++] = t;
+            graph[t][filled[t]++] = s;
+        }
+        // 같은 두 사용자가 두 번 이어진 경우는 한 번만
+        for (int user = 0; user <= users; user++) {
+            graph[user] = Arrays.stream(graph[user]).distinct().toArray();
+        }
+        return graph;
+    }
+}
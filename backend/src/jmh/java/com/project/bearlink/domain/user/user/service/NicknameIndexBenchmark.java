@@ -0,0 +1,83 @@
+package com.project.bearlink.domain.user.user.service;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// 100만 명 닉네임에서 부분 일치 검색 한 번의 지연 (찾기 화면 키 입력 하나)
+//  - ngramIndex: NgramIndex.search (trigram 교집합 또는 prefix 범위)
+//  - scan: 전체 닉네임 contains (LIKE '%keyword%' 풀 스캔에 해당, DB I/O 제외)
+// 닉네임은 한글 음절 + 영문 + 숫자를 섞어 만들고, 키워드는 실제 닉네임의 일부를 잘라 쓴다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class NicknameIndexBenchmark {
+
+    private static final String SYLLABLES = "가나다라마바사아자차카타파하곰링크베어";
+    private static final int KEYWORDS = 1024;
+
+    @Param({"1000000"})
+    public int users;
+
+    @Param({"2", "4"})
+    public int keywordLength;
+
+    private NgramIndex index;
+    private String[] nicknames;
+    private String[] keywords;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        index = new NgramIndex();
+        nicknames = new String[users];
+
+        for (int i = 0; i < users; i++) {
+            StringBuilder nickname = new StringBuilder();
+            int syllables = 2 + random.nextInt(4);
+            for (int j = 0; j < syllables; j++) {
+                nickname.append(SYLLABLES.charAt(random.nextInt(SYLLABLES.length())));
+            }
+            nickname.append(random.nextBoolean() ? "bear" : "link").append(random.nextInt(1000));
+
+            nicknames[i] = NgramIndex.normalize(nickname.toString());
+            index.put(i + 1, nickname.toString());
+        }
+
+        keywords = new String[KEYWORDS];
+        for (int i = 0; i < KEYWORDS; i++) {
+            String nickname = nicknames[random.nextInt(users)];
+            int start = keywordLength < 3 ? 0 : random.nextInt(nickname.length() - keywordLength + 1);
+            keywords[i] = nickname.substring(start, start + keywordLength);
+        }
+    }
+
+    private String keyword() {
+        return keywords[next++ & (KEYWORDS - 1)];
+    }
+
+    @Benchmark
+    public long[] ngramIndex() {
+        return index.search(keyword(), id -> id % 7 != 0, 1000); // 관계 있는 사용자 일부 제외
+    }
+
+    @Benchmark
+    public int scan() {
+        String keyword = keyword();
+        int hits = 0;
+        for (String nickname : nicknames) {
+            if (nickname.contains(keyword) && ++hits == 1000) break;
+        }
+        return hits;
+    }
+}
@@ -0,0 +1,88 @@
+package com.project.bearlink.global.security.jwt;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 기존 방식(매 호출마다 Keys.hmacShaKeyFor + Jwts.parser().build())과
+// JwtKeyRing(미리 만든 키/parser + kid 선택)의 서명, 검증 비용 비교
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtVerifyBenchmark {
+
+    private static final String SECRET = "bearlink-benchmark-secret-key-0123456789abcdef";
+    private static final Map<String, Object> CLAIMS = Map.of(
+            "userId", 1L, "email", "bear@bearlink.kr", "nickname", "bear", "role", "USER");
+
+    private JwtKeyRing keyRing;
+    private String legacyToken;
+    private String keyRingToken;
+
+    @Setup
+    public void setup() {
+        keyRing = new JwtKeyRing(SECRET, new InMemoryJwtKeyStore());
+        legacyToken = perCallSign(SECRET, 3600, CLAIMS);
+        keyRingToken = keyRing.sign(CLAIMS, 3600);
+    }
+
+    @Benchmark
+    public String sign_perCall() {
+        return perCallSign(SECRET, 3600, CLAIMS);
+    }
+
+    @Benchmark
+    public String sign_keyRing() {
+        return keyRing.sign(CLAIMS, 3600);
+    }
+
+    // 기존 AuthLoginService 경로: isValid + getPayload 로 같은 토큰을 두 번 검증
+    @Benchmark
+    public Object verify_perCall_twice() {
+        perCallVerify(SECRET, legacyToken);
+        return perCallVerify(SECRET, legacyToken);
+    }
+
+    @Benchmark
+    public Object verify_perCall() {
+        return perCallVerify(SECRET, legacyToken);
+    }
+
+    @Benchmark
+    public Object verify_keyRing() {
+        return keyRing.verify(keyRingToken);
+    }
+
+    private static String perCallSign(String secret, long expireSeconds, Map<String, Object> claims) {
+        Date issuedAt = new Date();
+        Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
+        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes());
+
+        return Jwts.builder()
+                .claims(claims)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(key)
+                .compact();
+    }
+
+    private static Object perCallVerify(String secret, String token) {
+        SecretKey key = Keys.hmacShaKeyFor(secret.getBytes());
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parse(token)
+                .getPayload();
+    }
+}
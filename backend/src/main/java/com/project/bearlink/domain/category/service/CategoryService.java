@@ -28,8 +28,9 @@ public class CategoryService {
 
     @Transactional(readOnly = false)
     public Category createCategory(CategoryRequest req, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+        // FK 용 프록시 (존재만 확인)
+        if (!userRepository.existsById(userId)) throw new ApiException(ErrorCode.USER_NOT_FOUND);
+        User user = userRepository.getReferenceById(userId);
 
         Category category = Category.builder()
                 .name(req.getName())
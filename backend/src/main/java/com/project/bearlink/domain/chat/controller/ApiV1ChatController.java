@@ -1,10 +1,12 @@
 package com.project.bearlink.domain.chat.controller;
 
+import com.project.bearlink.domain.chat.dto.ChatHistoryPage;
 import com.project.bearlink.domain.chat.dto.ChatMessageDto;
 import com.project.bearlink.domain.chat.entity.ChatMessage;
 import com.project.bearlink.domain.chat.entity.MessageType;
 import com.project.bearlink.domain.chat.repository.ChatMessageRepository;
 import com.project.bearlink.domain.chat.service.ChatService;
+import com.project.bearlink.domain.room.dto.RoomEventReplayDto;
 import com.project.bearlink.domain.room.dto.RoomMessageDto;
 import com.project.bearlink.domain.room.entity.LinkRoom;
 import com.project.bearlink.domain.room.repository.LinkRoomRepository;
@@ -13,18 +15,27 @@ import com.project.bearlink.domain.user.user.repository.UserRepository;
 import com.project.bearlink.global.exception.ApiException;
 import com.project.bearlink.global.exception.ErrorCode;
 import com.project.bearlink.global.response.ApiResponse;
+import com.project.bearlink.global.security.auth.SecurityUser;
+import com.project.bearlink.global.websocket.StompPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageExceptionHandler;
 import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.security.Principal;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -38,14 +49,34 @@ public class ApiV1ChatController {
     private final ChatService chatService;
 
     @MessageMapping("/room/{roomId}")
-    public void handleRoomMessage(@DestinationVariable Long roomId, RoomMessageDto messageDto) {
-        chatService.handleRoomMessage(roomId,messageDto);
+    public void handleRoomMessage(@DestinationVariable Long roomId, RoomMessageDto messageDto, Principal principal,
+                                  @Header(SimpMessageHeaderAccessor.SESSION_ID_HEADER) String sessionId) {
+        // CONNECT 때 StompAuthChannelInterceptor 가 설정한 세션 principal
+        chatService.handleRoomMessage(roomId, messageDto, (StompPrincipal) principal, sessionId);
+    }
+
+    // 메시지 처리 중 예외 (형식 오류, lane 포화 등) → 보낸 세션에만 전달
+    @MessageExceptionHandler
+    @SendToUser(destinations = ChatService.ERROR_QUEUE, broadcast = false)
+    public ApiResponse<Void> handleMessageException(Exception e) {
+        return ChatService.errorResponse(e);
     }
 
 
+    // 최신 → 오래된 순 페이지, 다음 페이지는 응답의 nextCursor 를 cursor 로 넘겨 조회
     @GetMapping("/api/rooms/{roomId}/messages")
-    public ResponseEntity<ApiResponse<List<RoomMessageDto>>> getChatHistory(@PathVariable Long roomId) {
-        List<RoomMessageDto> messageDto = chatService.getChatHistory(roomId);
-        return ResponseEntity.ok(ApiResponse.ok(messageDto));
+    public ResponseEntity<ApiResponse<ChatHistoryPage>> getChatHistory(@PathVariable Long roomId,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(required = false) Integer size) {
+        ChatHistoryPage page = chatService.getChatHistory(roomId, cursor, size);
+        return ResponseEntity.ok(ApiResponse.ok(page));
+    }
+
+    // 재연결 시 마지막으로 받은 seq 이후의 방 이벤트만 조회
+    @GetMapping("/api/rooms/{roomId}/events")
+    public ResponseEntity<ApiResponse<RoomEventReplayDto>> getRoomEvents(@PathVariable Long roomId,
+                                                                         @RequestParam long afterSeq,
+                                                                         @AuthenticationPrincipal SecurityUser user) {
+        return ResponseEntity.ok(ApiResponse.ok(chatService.getRoomEvents(roomId, afterSeq, user.getId())));
     }
 }
\ No newline at end of file
@@ -0,0 +1,52 @@
+package com.project.bearlink.domain.chat.dto;
+
+import com.project.bearlink.global.exception.ApiException;
+import com.project.bearlink.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+// 채팅 이력 keyset 커서: (createdAt, id) 보다 이전 메시지를 조회
+// 클라이언트에는 "epochMicros:id" 를 Base64url 로 감싼 불투명 문자열로 전달한다.
+// 버퍼에서 응답한 메시지는 id 가 없으므로(저장 전이거나 저장 후에도 버퍼 사본은 id 없음)
+// id 대신 작성자를 담은 "epochMicros:~senderId" 로 보내고, 다음 페이지 조회 때 저장된 행의 id 로 바꾼다.
+public record ChatCursor(LocalDateTime createdAt, Long id, Long senderId) {
+
+    private static final String UNRESOLVED = "~";
+
+    public static ChatCursor of(LocalDateTime createdAt, Long id, Long senderId) {
+        return new ChatCursor(createdAt, id, id == null ? senderId : null);
+    }
+
+    // id 를 아직 모르는 커서 (resolve 필요)
+    public boolean unresolved() {
+        return id == null;
+    }
+
+    public String encode() {
+        long micros = ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), createdAt);
+        String raw = micros + ":" + (id != null ? id.toString() : UNRESOLVED + (senderId == null ? "" : senderId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChatCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            long micros = Long.parseLong(raw.substring(0, sep));
+            String key = raw.substring(sep + 1);
+
+            LocalDateTime createdAt = LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC).plus(micros, ChronoUnit.MICROS);
+            if (key.startsWith(UNRESOLVED)) {
+                String sender = key.substring(UNRESOLVED.length());
+                return new ChatCursor(createdAt, null, sender.isEmpty() ? null : Long.valueOf(sender));
+            }
+            return new ChatCursor(createdAt, Long.valueOf(key), null);
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.project.bearlink.domain.chat.dto;
+
+import com.project.bearlink.domain.room.dto.RoomMessageDto;
+
+import java.util.List;
+
+// 채팅 이력 한 페이지 (최신 → 오래된 순), nextCursor 가 null 이면 마지막 페이지
+public record ChatHistoryPage(List<RoomMessageDto> messages, String nextCursor) {}
@@ -6,5 +6,7 @@ public enum MessageType {
     LEAVE,
     LINK_ADD,
     LINK_DELETE,
-    LINK_UPDATE
+    LINK_UPDATE,
+    LINK_BATCH,  // 합쳐진 링크 이벤트 묶음 (브로드캐스트 전용, 저장하지 않음)
+    PRESENCE     // 접속자 변경분 (브로드캐스트 전용, 순번 없음)
 }
\ No newline at end of file
@@ -1,11 +1,59 @@
 package com.project.bearlink.domain.chat.repository;
 
 import com.project.bearlink.domain.chat.entity.ChatMessage;
+import com.project.bearlink.domain.room.dto.RoomMessageDto;
 import com.project.bearlink.domain.room.entity.LinkRoom;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
     List<ChatMessage> findTop50ByRoomOrderByCreatedAtDesc(LinkRoom room);
-}
\ No newline at end of file
+
+    // 최근 메시지 (최신 → 오래된 순), sender 닉네임을 join 으로 함께 가져와 N+1 없음
+    // 예전에 저장된 ENTER/LEAVE 행은 presence 로 대체되었으므로 이력에서 제외
+    @Query("""
+    SELECT new com.project.bearlink.domain.room.dto.RoomMessageDto(
+        m.id, m.room.id, s.id, s.nickname, m.type, m.content, m.createdAt
+    )
+    FROM ChatMessage m
+    JOIN m.sender s
+    WHERE m.room.id = :roomId
+      AND m.type = com.project.bearlink.domain.chat.entity.MessageType.TALK
+    ORDER BY m.createdAt DESC, m.id DESC
+""")
+    List<RoomMessageDto> findRecentMessages(@Param("roomId") Long roomId, Pageable pageable);
+
+    // keyset 페이지: (createdAt, id) < 커서, idx_message_room_created 인덱스로 바로 찾아가므로 깊이와 무관하게 일정 비용
+    @Query("""
+    SELECT new com.project.bearlink.domain.room.dto.RoomMessageDto(
+        m.id, m.room.id, s.id, s.nickname, m.type, m.content, m.createdAt
+    )
+    FROM ChatMessage m
+    JOIN m.sender s
+    WHERE m.room.id = :roomId
+      AND m.type = com.project.bearlink.domain.chat.entity.MessageType.TALK
+      AND (m.createdAt < :createdAt OR (m.createdAt = :createdAt AND m.id < :id))
+    ORDER BY m.createdAt DESC, m.id DESC
+""")
+    List<RoomMessageDto> findMessagesBefore(@Param("roomId") Long roomId,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    // 버퍼에서 응답한(id 없는) 메시지로 만든 커서를 저장된 행 id 로 바꿀 때 사용, 없으면 null
+    @Query("""
+    SELECT MAX(m.id)
+    FROM ChatMessage m
+    WHERE m.room.id = :roomId
+      AND m.sender.id = :senderId
+      AND m.createdAt = :createdAt
+""")
+    Long findIdAt(@Param("roomId") Long roomId,
+                  @Param("senderId") Long senderId,
+                  @Param("createdAt") LocalDateTime createdAt);
+}
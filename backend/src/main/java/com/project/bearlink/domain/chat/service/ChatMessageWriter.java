@@ -0,0 +1,318 @@
+package com.project.bearlink.domain.chat.service;
+
+import com.project.bearlink.domain.chat.entity.MessageType;
+import com.project.bearlink.global.exception.ApiException;
+import com.project.bearlink.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+// 채팅 메시지 write-behind 저장기
+// STOMP 스레드는 큐에 넣기만 하고, 전용 writer 스레드가 크기/시간 기준으로 모아 multi-row INSERT 한다.
+// (BaseEntity 가 IDENTITY 전략이라 Hibernate 배치 insert 가 불가능하므로 JdbcTemplate 사용)
+// INSERT 는 매번 TransactionTemplate 으로 커밋한다. prod 는 hikari auto-commit=false 라 트랜잭션 없이 실행하면
+// 커넥션 반납 시 롤백되어 아무것도 저장되지 않는다.
+//  - WRITE_BEHIND: 큐에 들어가면 바로 응답 (기본)
+//  - SYNC: 메시지가 포함된 배치가 커밋될 때까지 기다린 뒤 응답 (group commit)
+// 큐가 가득 차거나 종료 중이면 SERVER_BUSY 로 거절한다 (RoomLanes 와 같은 배압).
+//  - 호출 스레드(방 lane)에서 직접 INSERT 하면 그 lane 의 모든 방이 DB 를 기다리고, 큐에 남은 앞선 메시지보다 먼저 커밋될 수 있다.
+//  - 거절된 메시지는 저장/버퍼/브로드캐스트 어디에도 들어가지 않으므로 순서가 어긋나지 않고, 보낸 세션은 오류를 받아 다시 보낸다.
+@Slf4j
+@Component
+public class ChatMessageWriter implements SmartLifecycle {
+
+    public enum Durability { WRITE_BEHIND, SYNC }
+
+    public record PendingMessage(Long roomId, Long senderId, MessageType type, String content,
+                                 LocalDateTime createdAt, CompletableFuture<Void> persisted) {}
+
+    private static final String INSERT_PREFIX =
+            "INSERT INTO chat_message (room_id, sender_id, type, content, created_at, updated_at) VALUES ";
+    private static final String ROW = "(?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingMessage> queue;
+    private final int batchSize;
+    private final long flushMillis;
+    private final Durability durability;
+    private final long syncTimeoutMillis;
+
+    private final Timer flushTimer;
+    private final DistributionSummary batchSizes;
+    private final Counter persisted;
+    private final Counter failed;
+    private final Counter rejected;
+
+    private volatile boolean running;
+
+    // 큐를 거친 메시지 수 / writer 가 처리한 메시지 수 (awaitFlushed 용)
+    private final Object enqueueLock = new Object();
+    private final Object processedLock = new Object();
+    private long enqueuedCount;
+    private long processedCount;
+    private Thread writerThread;
+
+    public ChatMessageWriter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${custom.chat.writer.queueCapacity:10000}") int queueCapacity,
+                             @Value("${custom.chat.writer.batchSize:200}") int batchSize,
+                             @Value("${custom.chat.writer.flushMillis:50}") long flushMillis,
+                             @Value("${custom.chat.writer.durability:WRITE_BEHIND}") Durability durability,
+                             @Value("${custom.chat.writer.syncTimeoutMillis:2000}") long syncTimeoutMillis,
+                             MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.flushMillis = flushMillis;
+        this.durability = durability;
+        this.syncTimeoutMillis = syncTimeoutMillis;
+
+        this.flushTimer = Timer.builder("chat.writer.flush").register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("chat.writer.batchSize").register(meterRegistry);
+        this.persisted = Counter.builder("chat.writer.persisted").register(meterRegistry);
+        this.failed = Counter.builder("chat.writer.failed").register(meterRegistry);
+        this.rejected = Counter.builder("chat.writer.rejected").register(meterRegistry);
+        Gauge.builder("chat.writer.queue", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    public Durability durability() {
+        return durability;
+    }
+
+    // 메시지 저장 요청, SYNC 모드면 커밋될 때까지 대기
+    public void write(Long roomId, Long senderId, MessageType type, String content, LocalDateTime createdAt) {
+        CompletableFuture<Void> persisted = enqueue(roomId, senderId, type, content, createdAt);
+
+        if (durability == Durability.SYNC) {
+            await(persisted);
+        }
+    }
+
+    // 큐에 넣기만 하고 저장 완료 future 반환 (대기는 호출자가 결정), 큐가 가득 찼으면 SERVER_BUSY
+    // createdAt 은 브로드캐스트한 메시지와 같은 값을 저장해야 이력 커서가 어긋나지 않는다.
+    public CompletableFuture<Void> enqueue(Long roomId, Long senderId, MessageType type, String content,
+                                           LocalDateTime createdAt) {
+        PendingMessage message = new PendingMessage(roomId, senderId, type, content,
+                createdAt, new CompletableFuture<>());
+
+        boolean queued;
+        synchronized (enqueueLock) {
+            // 번호 순서 = 큐 순서가 되도록 offer 와 카운트를 함께 처리
+            queued = running && queue.offer(message);
+            if (queued) enqueuedCount++;
+        }
+
+        if (!queued) {
+            rejected.increment();
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        }
+        return message.persisted();
+    }
+
+    // 지금까지 큐에 들어간 메시지가 모두 처리(저장/실패)될 때까지 대기
+    // DB 에서 최근 메시지를 읽기 전에 아직 큐에 남은 메시지를 놓치지 않기 위해 사용
+    public void awaitFlushed() {
+        long target;
+        synchronized (enqueueLock) {
+            target = enqueuedCount;
+        }
+
+        long deadline = System.currentTimeMillis() + syncTimeoutMillis;
+        synchronized (processedLock) {
+            while (processedCount < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    log.warn("채팅 writer flush 대기 시간 초과: processed={}, target={}", processedCount, target);
+                    return;
+                }
+                try {
+                    processedLock.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    // 저장 완료 future 에 SYNC 대기 시간 상한을 건다 (기다리지 않고 이어서 처리할 때, 원래 future 는 그대로)
+    public CompletableFuture<Void> withTimeout(CompletableFuture<Void> persisted) {
+        return persisted.copy().orTimeout(syncTimeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void await(CompletableFuture<Void> persisted) {
+        try {
+            persisted.get(syncTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("채팅 저장 대기 중 인터럽트", e);
+        } catch (TimeoutException e) {
+            throw new IllegalStateException("채팅 저장 대기 시간 초과", e);
+        } catch (Exception e) {
+            throw new IllegalStateException("채팅 저장 실패", e);
+        }
+    }
+
+    private void runWriter() {
+        List<PendingMessage> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingMessage first = queue.poll(flushMillis, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushMillis);
+
+                // batchSize 가 차거나 flushMillis 가 지날 때까지 모은다
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    if (batch.size() >= batchSize) break;
+
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0 || !running) break;
+
+                    PendingMessage next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+
+                flushQueued(batch);
+            } catch (InterruptedException e) {
+                // 종료 신호: 남은 메시지는 아래에서 모두 저장
+                // (인터럽트 플래그를 다시 세우면 커넥션 획득이 실패하므로 세우지 않는다)
+                flushQueued(batch);
+                break;
+            } catch (Exception e) {
+                log.error("채팅 writer 오류", e);
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // 인터럽트로 빠져나온 경우에도 큐에 남은 메시지는 저장
+        List<PendingMessage> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        for (int i = 0; i < rest.size(); i += batchSize) {
+            flushQueued(rest.subList(i, Math.min(i + batchSize, rest.size())));
+        }
+    }
+
+    private void flushQueued(List<PendingMessage> batch) {
+        try {
+            flush(batch);
+        } finally {
+            synchronized (processedLock) {
+                processedCount += batch.size();
+                processedLock.notifyAll();
+            }
+        }
+    }
+
+    // 배치 INSERT, 실패하면 원인 메시지를 찾기 위해 한 건씩 재시도
+    private void flush(List<PendingMessage> batch) {
+        if (batch.isEmpty()) return;
+
+        try {
+            flushTimer.record(() -> insert(batch));
+            batchSizes.record(batch.size());
+            persisted.increment(batch.size());
+            batch.forEach(m -> m.persisted().complete(null));
+        } catch (Exception batchError) {
+            log.warn("채팅 배치 저장 실패, 개별 저장으로 재시도: size={}", batch.size(), batchError);
+
+            for (PendingMessage message : batch) {
+                try {
+                    insert(List.of(message));
+                    persisted.increment();
+                    message.persisted().complete(null);
+                } catch (Exception rowError) {
+                    log.error("채팅 메시지 저장 실패: roomId={}, senderId={}", message.roomId(), message.senderId(), rowError);
+                    failed.increment();
+                    message.persisted().completeExceptionally(rowError);
+                }
+            }
+        }
+    }
+
+    // 배치 하나 = 트랜잭션 하나 (개별 재시도도 건마다 커밋)
+    private void insert(List<PendingMessage> batch) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX.length() + batch.size() * (ROW.length() + 2));
+        sql.append(INSERT_PREFIX);
+
+        Object[] args = new Object[batch.size() * 6];
+        int i = 0;
+        for (PendingMessage m : batch) {
+            if (i > 0) sql.append(", ");
+            sql.append(ROW);
+
+            Timestamp createdAt = Timestamp.valueOf(m.createdAt());
+            args[i++] = m.roomId();
+            args[i++] = m.senderId();
+            args[i++] = m.type().name();
+            args[i++] = m.content();
+            args[i++] = createdAt;
+            args[i++] = createdAt;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(sql.toString(), args));
+    }
+
+
+    @Override
+    public void start() {
+        running = true;
+        writerThread = new Thread(this::runWriter, "chat-writer");
+        writerThread.start();
+    }
+
+    // 종료 시 큐에 남은 메시지를 모두 저장한 뒤 반환
+    @Override
+    public void stop() {
+        running = false;
+        if (writerThread == null) return;
+
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(30));
+            if (writerThread.isAlive()) {
+                log.warn("채팅 writer 종료 대기 시간 초과: 남은 메시지={}", queue.size());
+                writerThread.interrupt();
+                writerThread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버(STOMP 수신)가 멈춘 뒤, DataSource 가 닫히기 전에 종료
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
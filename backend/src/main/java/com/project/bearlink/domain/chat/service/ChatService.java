@@ -1,71 +1,223 @@
 package com.project.bearlink.domain.chat.service;
 
-import com.project.bearlink.domain.chat.entity.ChatMessage;
+import com.project.bearlink.domain.chat.dto.ChatCursor;
+import com.project.bearlink.domain.chat.dto.ChatHistoryPage;
 import com.project.bearlink.domain.chat.entity.MessageType;
 import com.project.bearlink.domain.chat.repository.ChatMessageRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.bearlink.domain.room.dto.RoomEventReplayDto;
 import com.project.bearlink.domain.room.dto.RoomMessageDto;
-import com.project.bearlink.domain.room.entity.LinkRoom;
-import com.project.bearlink.domain.room.repository.LinkRoomRepository;
-import com.project.bearlink.domain.user.user.entity.User;
-import com.project.bearlink.domain.user.user.repository.UserRepository;
+import com.project.bearlink.domain.room.repository.RoomMemberRepository;
+import com.project.bearlink.domain.room.service.RoomUnreadCounters;
 import com.project.bearlink.global.exception.ApiException;
 import com.project.bearlink.global.exception.ErrorCode;
+import com.project.bearlink.global.response.ApiResponse;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
+import com.project.bearlink.global.websocket.RoomEventBus;
+import com.project.bearlink.global.websocket.StompPrincipal;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
 public class ChatService {
-    private final SimpMessagingTemplate messagingTemplate;
+    private final RoomBroadcaster roomBroadcaster;
+    private final ChatMessageWriter chatMessageWriter;
+    private final RoomMessageBuffers roomMessageBuffers;
     private final ChatMessageRepository chatMessageRepository;
-    private final LinkRoomRepository linkRoomRepository;
-    private final UserRepository userRepository;
+    private final RoomLanes roomLanes;
+    private final RoomUnreadCounters roomUnreadCounters;
+    private final RoomMemberRepository roomMemberRepository;
+    private final ObjectMapper objectMapper;
+    private final SimpMessagingTemplate messagingTemplate;
 
-    @Transactional(readOnly = false)
-    public void handleRoomMessage(Long roomId, RoomMessageDto messageDto){
-        LinkRoom room = linkRoomRepository.findById(roomId)
-                .orElseThrow(() -> new ApiException(ErrorCode.ROOM_NOT_FOUND));
+    // 보낸 세션에만 전달되는 오류 목적지 (/user/queue/errors 구독)
+    public static final String ERROR_QUEUE = "/queue/errors";
+    private static final String SEND_FAILED = "메시지를 전송하지 못했습니다.";
+    private static final CompletableFuture<Void> COMPLETED = CompletableFuture.completedFuture(null);
 
-        User sender = userRepository.findById(messageDto.getSenderId())
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+    // SYNC: 방별 마지막 메시지의 브로드캐스트 완료 (다음 메시지는 이 뒤에 나간다)
+    private final Map<Long, CompletableFuture<Void>> syncTails = new ConcurrentHashMap<>();
 
+    @Value("${custom.chat.history.defaultSize:50}")
+    private int defaultHistorySize;
 
-        if (messageDto.getType() == MessageType.TALK ||
-                messageDto.getType() == MessageType.ENTER ||
-                messageDto.getType() == MessageType.LEAVE) {
+    @Value("${custom.chat.history.maxSize:100}")
+    private int maxHistorySize;
 
-            ChatMessage chatMessage = ChatMessage.builder()
-                    .room(room)
-                    .sender(sender)
-                    .type(messageDto.getType())
-                    .content(messageDto.getContent())
-                    .build();
+    // 방 접근 권한은 STOMP 인터셉터에서 이미 확인됨, 보낸 사람은 클라이언트 값이 아닌 세션 principal 로 덮어쓴다.
+    // 저장은 ChatMessageWriter 가 모아서 처리하므로 여기서는 트랜잭션을 열지 않는다.
+    // lane 에서 실패하면 보낸 세션에 오류를 보낸다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void handleRoomMessage(Long roomId, RoomMessageDto messageDto, StompPrincipal sender, String sessionId){
+        MessageType type = messageDto.getType();
+        // 입장/퇴장은 방 topic 구독 기반 presence 로 대체 (RoomPresenceService) → 저장/브로드캐스트하지 않음
+        if (type == MessageType.ENTER || type == MessageType.LEAVE) return;
+        if (type != MessageType.TALK) {
+            throw new ApiException(ErrorCode.BAD_REQUEST); // 링크 이벤트는 REST 를 통해서만 발행
+        }
 
-            chatMessageRepository.save(chatMessage);
+        messageDto.setRoomId(roomId);
+        messageDto.setSenderId(sender.userId());
+        messageDto.setSenderName(sender.nickname());
+        messageDto.setId(null);
+
+        // 이후 처리는 방 lane 에서 → 같은 방의 순번/저장/브로드캐스트 순서가 일치한다
+        Consumer<Throwable> onFailure = error -> sendError(sender, sessionId, error);
+        roomLanes.execute(roomId, () -> publish(roomId, messageDto, onFailure), onFailure);
+    }
+
+    // 방 lane 스레드에서만 실행
+    private void publish(Long roomId, RoomMessageDto messageDto, Consumer<Throwable> onFailure) {
+        messageDto.setSeq(null);
+        // DB 컬럼 정밀도(마이크로초)에 맞춰야 버퍼에서 만든 커서와 DB 값이 일치한다
+        messageDto.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+
+        // 방 버퍼에 추가 + 저장 요청 (WRITE_BEHIND: 큐에 넣기만 함)
+        CompletableFuture<Void> persisted = roomMessageBuffers.append(roomId, messageDto,
+                () -> chatMessageWriter.enqueue(roomId, messageDto.getSenderId(), messageDto.getType(),
+                        messageDto.getContent(), messageDto.getCreatedAt()));
+
+        if (chatMessageWriter.durability() != ChatMessageWriter.Durability.SYNC) {
+            broadcast(roomId, messageDto);
+            return;
         }
 
+        // SYNC: 배치 커밋 후 브로드캐스트. 커밋을 lane 스레드에서 기다리면 같은 lane 의 다른 방이 모두 멈추므로
+        // 커밋되면 같은 lane 에 브로드캐스트 작업을 다시 넣는다. 같은 방의 앞선 메시지 뒤에 이어 붙여 순서를 지킨다.
+        CompletableFuture<Void> committed = chatMessageWriter.withTimeout(persisted);
+        CompletableFuture<Void> previous = syncTails.getOrDefault(roomId, COMPLETED);
+        CompletableFuture<Void> tail = new CompletableFuture<>();
+        syncTails.put(roomId, tail);
 
-        messagingTemplate.convertAndSend("/topic/room/" + roomId, messageDto);
+        previous.thenCompose(v -> committed).whenComplete((v, error) -> {
+            try {
+                roomLanes.execute(roomId, () -> {
+                    try {
+                        if (error != null) onFailure.accept(error); // 저장 실패/시간 초과 → 브로드캐스트하지 않음
+                        else broadcast(roomId, messageDto);
+                    } finally {
+                        release(roomId, tail);
+                    }
+                }, onFailure);
+            } catch (RuntimeException e) {
+                release(roomId, tail); // lane 포화: 뒤따르는 메시지가 멈추지 않도록 순서만 넘긴다
+                onFailure.accept(e);
+            }
+        });
+    }
 
+    private void broadcast(Long roomId, RoomMessageDto messageDto) {
+        // 버퍼에 넣은 복사본은 건드리지 않는다 (다른 스레드가 이력 응답으로 직렬화 중일 수 있음)
+        long seq = roomBroadcaster.broadcast(roomId, messageDto);
+
+        // 안 읽은 수는 순번 기준 (읽음 처리한 위치 이후 메시지만 센다)
+        roomUnreadCounters.increment(roomId, messageDto.getSenderId(), seq);
+    }
+
+    private void release(Long roomId, CompletableFuture<Void> tail) {
+        syncTails.remove(roomId, tail);
+        tail.complete(null);
+    }
+
+    // 실패 응답 본문 (STOMP 오류 목적지용)
+    public static ApiResponse<Void> errorResponse(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return ApiResponse.fail(cause instanceof ApiException api ? api.getErrorCode().getMessage() : SEND_FAILED);
+    }
+
+    // 해당 세션에만 전달 (같은 사용자의 다른 탭/기기에는 보내지 않음)
+    private void sendError(StompPrincipal sender, String sessionId, Throwable error) {
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setSessionId(sessionId);
+        headers.setLeaveMutable(true);
+        messagingTemplate.convertAndSendToUser(sender.getName(), ERROR_QUEUE, errorResponse(error),
+                headers.getMessageHeaders());
     }
 
-    public List<RoomMessageDto> getChatHistory(Long roomId){
-        LinkRoom room = linkRoomRepository.findById(roomId)
-                .orElseThrow(() -> new ApiException(ErrorCode.ROOM_NOT_FOUND));
-
-        return chatMessageRepository.findTop50ByRoomOrderByCreatedAtDesc(room).stream()
-                .map(entity -> RoomMessageDto.builder()
-                        .roomId(roomId)
-                        .senderId(entity.getSender().getId())
-                        .senderName(entity.getSender().getNickname())
-                        .type(entity.getType())
-                        .content(entity.getContent())
-                        .build())
-                .toList();
+    // 재연결한 클라이언트가 놓친 방 이벤트 (채팅 + 링크), 보관 범위를 넘었으면 resync=true
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public RoomEventReplayDto getRoomEvents(Long roomId, long afterSeq, Long userId) {
+        if (!roomMemberRepository.existsAcceptedMember(roomId, userId)) {
+            throw new ApiException(ErrorCode.ACCESS_DENIED);
+        }
+
+        RoomEventBus.Replay replay = roomBroadcaster.replay(roomId, afterSeq);
+        List<JsonNode> events = new ArrayList<>(replay.events().size());
+        try {
+            for (String event : replay.events()) events.add(objectMapper.readTree(event));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 이벤트 로그 파싱 실패: roomId=" + roomId, e);
+        }
+        return new RoomEventReplayDto(replay.latestSeq(), replay.resync(), events);
+    }
+
+    // 채팅 이력 (최신 → 오래된 순) keyset 페이지
+    //  - 첫 페이지: 활성 방은 메모리 버퍼에서 바로 응답 (버퍼 적중 시 커넥션을 잡지 않음)
+    //  - 이후 페이지: (createdAt, id) < cursor 로 인덱스를 탐색하므로 OFFSET 과 달리 깊이와 무관하게 일정 비용
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ChatHistoryPage getChatHistory(Long roomId, String cursor, Integer size){
+        int pageSize = Math.min(size == null || size <= 0 ? defaultHistorySize : size, maxHistorySize);
+
+        List<RoomMessageDto> messages;
+        if (cursor == null || cursor.isBlank()) {
+            messages = firstPage(roomId, pageSize);
+        } else {
+            ChatCursor before = ChatCursor.decode(cursor);
+            // 커서 이전 메시지가 아직 writer 큐에 있을 수 있으므로 반영된 뒤 읽는다
+            chatMessageWriter.awaitFlushed();
+            messages = chatMessageRepository.findMessagesBefore(roomId, before.createdAt(), cursorId(roomId, before),
+                    PageRequest.of(0, pageSize));
+        }
+
+        // 요청한 크기만큼 채워졌을 때만 다음 페이지가 있을 수 있다
+        String nextCursor = null;
+        if (messages.size() == pageSize) {
+            RoomMessageDto last = messages.get(messages.size() - 1);
+            nextCursor = ChatCursor.of(last.getCreatedAt(), last.getId(), last.getSenderId()).encode();
+        }
+        return new ChatHistoryPage(messages, nextCursor);
+    }
+
+    // 버퍼 메시지로 만든 커서는 저장된 행(방+작성자+시각)의 id 로 바꾼다
+    // 저장되지 않은 메시지면 0 → 그 시각 이전 메시지부터
+    private long cursorId(Long roomId, ChatCursor cursor) {
+        if (!cursor.unresolved()) return cursor.id();
+        if (cursor.senderId() == null) return 0L;
+
+        Long id = chatMessageRepository.findIdAt(roomId, cursor.senderId(), cursor.createdAt());
+        return id == null ? 0L : id;
+    }
+
+    private List<RoomMessageDto> firstPage(Long roomId, int pageSize) {
+        List<RoomMessageDto> buffered = roomMessageBuffers.recent(roomId);
+
+        // 버퍼가 요청 크기를 덮거나, 버퍼가 덜 찼다면(= 방의 메시지가 그게 전부) 버퍼로 응답
+        if (buffered.size() >= pageSize || buffered.size() < roomMessageBuffers.capacity()) {
+            return buffered.size() > pageSize ? buffered.subList(0, pageSize) : buffered;
+        }
+
+        chatMessageWriter.awaitFlushed();
+        return chatMessageRepository.findRecentMessages(roomId, PageRequest.of(0, pageSize));
     }
 }
@@ -0,0 +1,143 @@
+package com.project.bearlink.domain.chat.service;
+
+import com.project.bearlink.global.exception.ApiException;
+import com.project.bearlink.global.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+// 방별 단일 writer lane
+// roomId 로 고정 개수의 단일 스레드 lane 중 하나를 고르고, 그 방의 작업은 항상 같은 lane 에서 순서대로 실행한다.
+//  - 같은 방: 한 스레드만 처리 → 버퍼 추가/저장/브로드캐스트 순서가 도착 순서와 같음 (lock 없음)
+//  - 다른 방: lane 수(기본 CPU 수)만큼 병렬, roomId 를 섞어서 배정해 연속된 id 의 활성 방이 한 lane 에 몰리지 않음
+@Slf4j
+@Component
+public class RoomLanes implements SmartLifecycle {
+
+    private static final class Lane {
+        final ThreadPoolExecutor executor;
+
+        Lane(int index, int queueCapacity) {
+            this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                    new ArrayBlockingQueue<>(queueCapacity),
+                    runnable -> {
+                        Thread t = new Thread(runnable, "room-lane-" + index);
+                        t.setDaemon(true);
+                        return t;
+                    },
+                    new ThreadPoolExecutor.AbortPolicy());
+        }
+    }
+
+    private final Lane[] lanes;
+    private final Counter rejected;
+    private volatile boolean running;
+
+    public RoomLanes(@Value("${custom.chat.lanes.count:0}") int count,
+                     @Value("${custom.chat.lanes.queueCapacity:10000}") int queueCapacity,
+                     MeterRegistry meterRegistry) {
+        int laneCount = count > 0 ? count : Runtime.getRuntime().availableProcessors();
+
+        this.lanes = new Lane[laneCount];
+        for (int i = 0; i < laneCount; i++) {
+            Lane lane = new Lane(i, queueCapacity);
+            lanes[i] = lane;
+            Gauge.builder("chat.lane.queue", lane.executor, e -> e.getQueue().size())
+                    .tag("lane", String.valueOf(i))
+                    .register(meterRegistry);
+        }
+        this.rejected = Counter.builder("chat.lane.rejected").register(meterRegistry);
+    }
+
+    // 방 작업을 해당 lane 에 넣는다, lane 이 밀려 있으면 SERVER_BUSY
+    public void execute(Long roomId, Runnable task) {
+        execute(roomId, task, error -> { });
+    }
+
+    // 작업이 실패하면 lane 스레드에서 onFailure 호출 (요청한 세션에 알리는 용도)
+    public void execute(Long roomId, Runnable task, Consumer<Throwable> onFailure) {
+        try {
+            laneOf(roomId).executor.execute(() -> {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    log.error("방 작업 실패: roomId={}", roomId, e);
+                    notifyFailure(roomId, onFailure, e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ApiException(ErrorCode.SERVER_BUSY);
+        }
+    }
+
+    private static void notifyFailure(Long roomId, Consumer<Throwable> onFailure, Throwable error) {
+        try {
+            onFailure.accept(error);
+        } catch (Exception e) {
+            log.warn("방 작업 실패 알림 실패: roomId={}", roomId, e);
+        }
+    }
+
+    public int laneCount() {
+        return lanes.length;
+    }
+
+    int laneIndex(Long roomId) {
+        // 64bit mix (splitmix64 finalizer) → 연속된 id 도 고르게 분산
+        long z = roomId;
+        z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        z = z ^ (z >>> 31);
+        return (int) Math.floorMod(z, (long) lanes.length);
+    }
+
+    private Lane laneOf(Long roomId) {
+        return lanes[laneIndex(roomId)];
+    }
+
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 종료 시 lane 에 남은 작업을 모두 처리한 뒤 반환 (writer 보다 먼저 멈춤)
+    @Override
+    public void stop() {
+        running = false;
+        for (Lane lane : lanes) lane.executor.shutdown();
+
+        try {
+            for (Lane lane : lanes) {
+                if (!lane.executor.awaitTermination(30, TimeUnit.SECONDS)) {
+                    log.warn("방 lane 종료 대기 시간 초과: 남은 작업={}", lane.executor.getQueue().size());
+                    lane.executor.shutdownNow();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버가 멈춘 뒤, ChatMessageWriter 보다 먼저 종료
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 3072;
+    }
+}
@@ -0,0 +1,90 @@
+package com.project.bearlink.domain.chat.service;
+
+import com.project.bearlink.domain.room.dto.RoomMessageDto;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// 방 하나의 최근 메시지 ring buffer (고정 크기, 가장 오래된 것부터 덮어씀)
+final class RoomMessageBuffer {
+
+    private final RoomMessageDto[] ring;
+    private int next;   // 다음에 쓸 위치
+    private int size;
+
+    // 아래 두 값은 RoomMessageBuffers 의 캐시 맵 compute 안에서만 바꾼다
+    private long lastSeq;                 // 반영을 마친 마지막 방 버스 순번 (이후 이벤트는 버스 로그에서 따라잡음)
+    private volatile Object syncedEpoch;  // 이 구독 epoch 동안 빈틈없이 이벤트를 받고 있음 (null 이면 조회 때 따라잡기)
+
+    RoomMessageBuffer(int capacity, long lastSeq) {
+        this.ring = new RoomMessageDto[capacity];
+        this.lastSeq = lastSeq;
+    }
+
+    long lastSeq() {
+        return lastSeq;
+    }
+
+    Object syncedEpoch() {
+        return syncedEpoch;
+    }
+
+    // 버스 로그에서 latestSeq 까지 따라잡음, epoch 가 null 이 아니면 이후 이벤트는 구독으로 받는다
+    void caughtUp(long latestSeq, Object epoch) {
+        this.lastSeq = latestSeq;
+        this.syncedEpoch = epoch;
+    }
+
+    // 구독으로 받은 이벤트: 순번이 바로 다음일 때만 반영, 빈틈이 보이면 다음 조회에서 로그로 따라잡는다
+    void onEvent(long seq, RoomMessageDto talk) {
+        if (seq <= lastSeq) return;
+        if (seq != lastSeq + 1) {
+            syncedEpoch = null;
+            return;
+        }
+        lastSeq = seq;
+        if (talk != null) addIfAbsent(talk);
+    }
+
+    // 이 노드에서 append 로 이미 넣은 메시지는 다시 넣지 않는다
+    synchronized void addIfAbsent(RoomMessageDto message) {
+        if (!contains(message.getSenderId(), message.getCreatedAt())) add(message);
+    }
+
+    synchronized void add(RoomMessageDto message) {
+        ring[next] = message;
+        next = (next + 1) % ring.length;
+        if (size < ring.length) size++;
+    }
+
+    // 오래된 것 → 최신 순서로 채울 때 사용
+    synchronized void addAll(List<RoomMessageDto> oldestFirst) {
+        for (RoomMessageDto message : oldestFirst) add(message);
+    }
+
+    // 최신 → 오래된 순서 (기존 history API 와 같은 순서)
+    synchronized List<RoomMessageDto> newestFirst() {
+        List<RoomMessageDto> result = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            result.add(ring[(next - i + ring.length) % ring.length]);
+        }
+        return result;
+    }
+
+    // 같은 사람이 같은 시각(마이크로초)에 보낸 메시지가 이미 있는지
+    synchronized boolean contains(Long senderId, LocalDateTime createdAt) {
+        for (int i = 1; i <= size; i++) {
+            RoomMessageDto message = ring[(next - i + ring.length) % ring.length];
+            if (Objects.equals(message.getSenderId(), senderId) && Objects.equals(message.getCreatedAt(), createdAt)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    synchronized int size() {
+        return size;
+    }
+}
@@ -0,0 +1,189 @@
+package com.project.bearlink.domain.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.bearlink.domain.chat.entity.MessageType;
+import com.project.bearlink.domain.chat.repository.ChatMessageRepository;
+import com.project.bearlink.domain.room.dto.RoomMessageDto;
+import com.project.bearlink.domain.room.repository.LinkRoomRepository;
+import com.project.bearlink.global.exception.ApiException;
+import com.project.bearlink.global.exception.ErrorCode;
+import com.project.bearlink.global.websocket.RoomDeliveryListener;
+import com.project.bearlink.global.websocket.RoomEventBus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// 방별 최근 메시지 ring buffer 모음
+// 활성 방의 채팅 이력은 MySQL 을 거치지 않고 여기서 바로 응답한다.
+//  - 처음 접근할 때만 DB 에서 채움 (sender 닉네임은 join fetch 로 함께 조회)
+//  - 이후에는 메시지가 들어올 때마다 추가
+//  - 방 개수 상한 + 일정 시간 접근이 없으면 제거
+// 같은 방의 "채우기" 와 "추가 + 저장 요청" 은 캐시 맵의 compute 로 직렬화되어 누락/중복이 없다.
+// 다른 노드에서 발행한 채팅은 방 버스로 받아 추가한다 (RoomDeliveryListener).
+// 버스는 이 노드에 방 구독자가 있을 때만 이벤트를 주므로, 버퍼는 반영한 마지막 버스 순번(lastSeq)을 기억하고
+// 구독이 없거나 끊겼던 방, 순번에 빈틈이 보인 방은 조회할 때 버스 로그(replay)에서 그 이후 이벤트만 따라잡는다.
+// → 소켓 구독 전에 REST 로 먼저 이력을 읽어도 MySQL 은 처음 한 번만 읽고, 로그 보관 범위를 벗어난 경우에만 다시 채운다.
+@Component
+public class RoomMessageBuffers implements RoomDeliveryListener {
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final LinkRoomRepository linkRoomRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final RoomEventBus roomEventBus;
+    private final int capacity;
+    private final ObjectMapper objectMapper;
+    private final Cache<Long, RoomMessageBuffer> buffers;
+
+    // 이 노드가 방 버스를 구독 중인 방 → 구독 epoch
+    private final Map<Long, Object> liveRooms = new ConcurrentHashMap<>();
+
+    public RoomMessageBuffers(ChatMessageRepository chatMessageRepository,
+                              LinkRoomRepository linkRoomRepository,
+                              ChatMessageWriter chatMessageWriter,
+                              RoomEventBus roomEventBus,
+                              @Value("${custom.chat.buffer.capacity:50}") int capacity,
+                              @Value("${custom.chat.buffer.maxRooms:10000}") long maxRooms,
+                              @Value("${custom.chat.buffer.idleMinutes:30}") long idleMinutes,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.chatMessageRepository = chatMessageRepository;
+        this.linkRoomRepository = linkRoomRepository;
+        this.chatMessageWriter = chatMessageWriter;
+        this.roomEventBus = roomEventBus;
+        this.capacity = capacity;
+        this.buffers = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, buffers, "chat.roomBuffer");
+    }
+
+    // 최근 메시지 (최신 → 오래된 순), 버퍼가 없으면 DB 에서 채운다
+    // 지금 구독으로 빈틈없이 받고 있는 버퍼가 아니면 버스 로그에서 놓친 이벤트를 따라잡은 뒤 응답한다.
+    public List<RoomMessageDto> recent(Long roomId) {
+        Object epoch = liveRooms.get(roomId);
+        RoomMessageBuffer buffer = buffers.getIfPresent(roomId);
+        if (buffer == null || epoch == null || buffer.syncedEpoch() != epoch) {
+            buffer = buffers.asMap().compute(roomId, (id, current) -> catchUp(id, current, epoch));
+        }
+        return buffer.newestFirst();
+    }
+
+    // 버퍼가 있으면 메시지를 추가하고 persist 실행 (같은 방의 load 와 겹치지 않음)
+    // 버퍼가 없으면 persist 만 실행 → 다음 load 가 DB 에서 읽어간다.
+    // 버퍼에는 복사본을 넣는다: 호출한 쪽이 이후 DTO 를 바꿔도 이력 조회 스레드가 보는 값은 그대로다.
+    public <T> T append(Long roomId, RoomMessageDto message, Supplier<T> persist) {
+        List<T> result = new ArrayList<>(1);
+        buffers.asMap().compute(roomId, (id, buffer) -> {
+            result.add(persist.get());
+            if (buffer != null) buffer.add(message.toBuilder().build());
+            return buffer;
+        });
+        return result.get(0);
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public void evict(Long roomId) {
+        buffers.invalidate(roomId);
+    }
+
+    @Override
+    public void onRoomSubscribed(Long roomId) {
+        liveRooms.put(roomId, new Object());
+    }
+
+    // 이 노드에서 보낸 메시지는 append 로 이미 들어가 있으므로 다른 노드의 채팅만 추가된다
+    // 버퍼를 채우는 중이면 computeIfPresent 가 끝날 때까지 기다렸다 반영하고,
+    // 그 전에 도착해 버려진 이벤트는 채우기가 시작된 뒤 읽는 버스 로그에 들어 있다.
+    @Override
+    public void onRoomEvent(Long roomId, String event) {
+        try {
+            JsonNode node = objectMapper.readTree(event);
+            if (!node.has("seq")) return; // presence 등 순번 없는 일시적 이벤트
+
+            long seq = node.get("seq").asLong();
+            RoomMessageDto talk = toTalk(node);
+            buffers.asMap().computeIfPresent(roomId, (id, buffer) -> {
+                buffer.onEvent(seq, talk);
+                return buffer;
+            });
+        } catch (JsonProcessingException e) {
+            buffers.invalidate(roomId); // 반영하지 못한 메시지가 생기므로 다음 조회에서 DB 로 다시 채움
+        }
+    }
+
+    @Override
+    public void onRoomReleased(Long roomId) {
+        liveRooms.remove(roomId); // 남은 버퍼는 epoch 가 맞지 않아 다음 조회 때 버스 로그로 따라잡는다
+    }
+
+    // 버퍼의 lastSeq 이후 이벤트를 버스 로그에서 반영, 로그 보관 범위를 벗어났으면 DB 에서 다시 채운다
+    // epoch 는 로그를 읽기 전에 잡은 값: 그 사이 구독이 바뀌었으면 다음 조회에서 한 번 더 따라잡는다.
+    // 로그를 읽은 뒤 구독이 실제로 시작되기 전에 발행된 이벤트는 다음 이벤트의 순번 빈틈으로 드러난다.
+    private RoomMessageBuffer catchUp(Long roomId, RoomMessageBuffer current, Object epoch) {
+        RoomMessageBuffer buffer = current != null ? current : load(roomId);
+        RoomEventBus.Replay replay = roomEventBus.replay(roomId, buffer.lastSeq());
+        if (replay.resync() && current != null) {
+            buffer = load(roomId);
+            replay = roomEventBus.replay(roomId, buffer.lastSeq());
+        }
+
+        try {
+            for (String event : replay.events()) {
+                RoomMessageDto talk = toTalk(objectMapper.readTree(event));
+                if (talk != null) buffer.addIfAbsent(talk);
+            }
+        } catch (JsonProcessingException e) {
+            buffer = load(roomId); // 로그를 반영하지 못했으므로 DB 기준으로 시작 (이후 이벤트는 다음 조회에서)
+            buffer.caughtUp(buffer.lastSeq(), null);
+            return buffer;
+        }
+        buffer.caughtUp(replay.latestSeq(), epoch);
+        return buffer;
+    }
+
+    private RoomMessageDto toTalk(JsonNode node) throws JsonProcessingException {
+        if (!MessageType.TALK.name().equals(node.path("type").asText())) return null;
+        return objectMapper.treeToValue(node, RoomMessageDto.class);
+    }
+
+    // lastSeq 는 DB 를 읽기 전의 버스 순번: 읽는 동안 발행된 이벤트는 로그에서 다시 반영된다 (중복은 addIfAbsent 가 거름)
+    private RoomMessageBuffer load(Long roomId) {
+        if (!linkRoomRepository.existsById(roomId)) {
+            throw new ApiException(ErrorCode.ROOM_NOT_FOUND);
+        }
+
+        long latestSeq = roomEventBus.replay(roomId, Long.MAX_VALUE).latestSeq();
+
+        // 아직 writer 큐에 있는 메시지까지 DB 에 반영된 뒤 읽는다
+        chatMessageWriter.awaitFlushed();
+
+        List<RoomMessageDto> newestFirst = chatMessageRepository.findRecentMessages(roomId, PageRequest.of(0, capacity));
+        List<RoomMessageDto> oldestFirst = new ArrayList<>(newestFirst);
+        Collections.reverse(oldestFirst);
+
+        RoomMessageBuffer buffer = new RoomMessageBuffer(capacity, latestSeq);
+        buffer.addAll(oldestFirst);
+        return buffer;
+    }
+}
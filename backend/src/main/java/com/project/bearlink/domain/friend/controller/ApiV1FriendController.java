@@ -3,6 +3,7 @@ package com.project.bearlink.domain.friend.controller;
 import com.project.bearlink.domain.friend.dto.FindFriendDto;
 import com.project.bearlink.domain.friend.dto.FriendRequestDto;
 import com.project.bearlink.domain.friend.dto.FriendResponseDto;
+import com.project.bearlink.domain.friend.dto.RecommendedFriendDto;
 import com.project.bearlink.domain.friend.service.FriendService;
 import com.project.bearlink.domain.user.user.entity.User;
 import com.project.bearlink.global.response.ApiResponse;
@@ -53,6 +54,12 @@ public class ApiV1FriendController {
         return ResponseEntity.ok(ApiResponse.ok(friendService.getReceived(user.getId())));
     }
 
+    @GetMapping("/recommendations")
+    public ResponseEntity<ApiResponse<List<RecommendedFriendDto>>> getRecommendations(
+            @AuthenticationPrincipal SecurityUser user) {
+        return ResponseEntity.ok(ApiResponse.ok(friendService.getRecommendations(user.getId())));
+    }
+
     @GetMapping("/find-friend")
     public ResponseEntity<ApiResponse<Page<FindFriendDto>>> findFriend(
             @RequestParam String keyword,
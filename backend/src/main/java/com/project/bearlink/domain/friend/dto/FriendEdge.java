@@ -0,0 +1,6 @@
+package com.project.bearlink.domain.friend.dto;
+
+import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+
+// 친구 그래프 적재용 간선 (요청자 → 수신자, PENDING/ACCEPTED)
+public record FriendEdge(Long requesterId, Long receiverId, FriendRequestStatus status) {}
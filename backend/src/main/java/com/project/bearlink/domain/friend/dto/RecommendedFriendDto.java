@@ -0,0 +1,4 @@
+package com.project.bearlink.domain.friend.dto;
+
+// 친구 추천 (mutualCount: 함께 아는 친구 수)
+public record RecommendedFriendDto(Long id, String nickname, String imageUrl, int mutualCount) {}
@@ -19,9 +19,10 @@ import java.time.LocalDateTime;
 @Table(
         name = "friend_request",
         uniqueConstraints = {
+                // 방향과 무관하게 두 사용자 쌍마다 행 하나 (친구 요청 upsert 의 충돌 키)
                 @UniqueConstraint(
-                        name = "uk_friend_request_pair",
-                        columnNames = {"requester_id", "receiver_id"}
+                        name = "uk_friend_request_canonical_pair",
+                        columnNames = {"pair_low", "pair_high"}
                 )
         }
 )
@@ -43,4 +44,17 @@ public class FriendRequest extends BaseEntity {
     private LocalDateTime requestedAt = LocalDateTime.now();
     private LocalDateTime respondedAt;
 
+    // 두 사용자 id 중 작은 값 / 큰 값
+    @Column(name = "pair_low")
+    private Long pairLow;
+
+    @Column(name = "pair_high")
+    private Long pairHigh;
+
+    @PrePersist
+    void fillPair() {
+        pairLow = Math.min(requester.getId(), receiver.getId());
+        pairHigh = Math.max(requester.getId(), receiver.getId());
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.project.bearlink.domain.friend.event;
+
+import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+
+// 친구 요청 간선의 상태가 바뀜 (PENDING: 요청, ACCEPTED: 수락, REJECTED: 거절) → 커밋 후 양쪽 친구 그래프에 반영
+// remote: 다른 노드에서 커밋된 변경을 FriendshipEventRelay 가 받아 다시 발행한 것 (다시 중계하지 않음)
+public record FriendshipChangedEvent(Long requesterId, Long receiverId, FriendRequestStatus status, boolean remote) {
+
+    public FriendshipChangedEvent(Long requesterId, Long receiverId, FriendRequestStatus status) {
+        this(requesterId, receiverId, status, false);
+    }
+}
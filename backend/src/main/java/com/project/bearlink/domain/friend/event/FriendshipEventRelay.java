@@ -0,0 +1,102 @@
+package com.project.bearlink.domain.friend.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+// 친구 관계 변경을 다른 노드로 중계 (Redis pub/sub, custom.store.type=redis)
+// 친구 그래프/추천은 노드 메모리에 있으므로, 이 노드에서 커밋된 FriendshipChangedEvent 를 채널 하나로 발행하고
+// 다른 노드가 보낸 변경은 remote=true 로 다시 발행해 로컬 변경과 같은 리스너가 반영한다.
+// 수신은 단일 스레드에서 처리해 발행 순서를 유지한다. pub/sub 은 유실될 수 있으므로 친구 그래프 ttl 이 마지막 보정이다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "redis", matchIfMissing = true)
+public class FriendshipEventRelay {
+
+    static final String CHANNEL = "friend:events";
+
+    record Relayed(String origin, Long requesterId, Long receiverId, FriendRequestStatus status) {}
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private RedisMessageListenerContainer container;
+    private ThreadPoolTaskExecutor dispatcher;
+
+    public FriendshipEventRelay(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory,
+                                ObjectMapper objectMapper, ApplicationEventPublisher eventPublisher) {
+        this.redisTemplate = redisTemplate;
+        this.connectionFactory = connectionFactory;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        dispatcher = new ThreadPoolTaskExecutor();
+        dispatcher.setCorePoolSize(1);
+        dispatcher.setMaxPoolSize(1);
+        dispatcher.setThreadNamePrefix("friend-relay-");
+        dispatcher.initialize();
+
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(dispatcher);
+        container.addMessageListener((message, pattern) -> receive(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    // 커밋된 로컬 변경만 중계 (트랜잭션 밖에서 발행된 이벤트도 바로 처리)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        if (event.remote()) return;
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(
+                    new Relayed(nodeId, event.requesterId(), event.receiverId(), event.status())));
+        } catch (Exception e) {
+            // 커밋은 이미 끝났으므로 요청을 실패시키지 않는다 → 다른 노드는 ttl 안에 반영
+            log.warn("친구 관계 변경 중계 실패: requesterId={}, receiverId={}", event.requesterId(), event.receiverId(), e);
+        }
+    }
+
+    // 다른 노드에서 받은 변경 (자기 노드가 보낸 것은 이미 반영됨)
+    public void receive(String body) {
+        Relayed relayed;
+        try {
+            relayed = objectMapper.readValue(body, Relayed.class);
+        } catch (JsonProcessingException e) {
+            log.warn("친구 관계 변경 메시지 파싱 실패: {}", body, e);
+            return;
+        }
+        if (nodeId.equals(relayed.origin())) return;
+
+        eventPublisher.publishEvent(
+                new FriendshipChangedEvent(relayed.requesterId(), relayed.receiverId(), relayed.status(), true));
+    }
+
+    @PreDestroy
+    void close() throws Exception {
+        if (container != null) container.destroy();
+        if (dispatcher != null) dispatcher.shutdown();
+    }
+}
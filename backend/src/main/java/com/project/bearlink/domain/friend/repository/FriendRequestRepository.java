@@ -1,14 +1,20 @@
 package com.project.bearlink.domain.friend.repository;
 
+import com.project.bearlink.domain.friend.dto.FriendEdge;
 import com.project.bearlink.domain.friend.entity.FriendRequest;
 import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+import com.project.bearlink.domain.room.dto.InviteFriendWithStatusResponse;
 import com.project.bearlink.domain.user.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,6 +23,46 @@ public interface FriendRequestRepository extends JpaRepository<FriendRequest, Lo
 
     boolean existsByRequesterIdAndReceiverIdAndStatus(Long requesterId, Long receiverId, FriendRequestStatus status);
 
+    // 쌍에 행이 없을 때만 대기 요청 생성 (있으면 유니크 키 충돌을 무시하고 0)
+    // 엔티티 조회/프록시 없이 id 로 바로 넣는다, MySQL 은 수신자 FK 오류도 무시하고 0
+    @Transactional
+    @Modifying
+    @Query(value = """
+    INSERT IGNORE INTO friend_request (requester_id, receiver_id, pair_low, pair_high, status, requested_at, created_at, updated_at)
+    VALUES (:requesterId, :receiverId, :pairLow, :pairHigh, 'PENDING', :now, :now, :now)
+""", nativeQuery = true)
+    int insertPendingIfAbsent(@Param("requesterId") Long requesterId, @Param("receiverId") Long receiverId,
+                              @Param("pairLow") Long pairLow, @Param("pairHigh") Long pairHigh,
+                              @Param("now") LocalDateTime now);
+
+    // 상대가 먼저 보낸 대기 요청이 있으면 수락 (맞요청)
+    @Transactional
+    @Modifying
+    @Query(value = """
+    UPDATE friend_request SET status = 'ACCEPTED', responded_at = :now, updated_at = :now
+    WHERE pair_low = :pairLow AND pair_high = :pairHigh AND requester_id = :otherUserId AND status = 'PENDING'
+""", nativeQuery = true)
+    int acceptReverse(@Param("otherUserId") Long otherUserId,
+                      @Param("pairLow") Long pairLow, @Param("pairHigh") Long pairHigh,
+                      @Param("now") LocalDateTime now);
+
+    // 거절된 요청이면 이번 방향의 대기 요청으로 다시 연다
+    @Transactional
+    @Modifying
+    @Query(value = """
+    UPDATE friend_request
+    SET requester_id = :requesterId, receiver_id = :receiverId, status = 'PENDING',
+        requested_at = :now, responded_at = NULL, updated_at = :now
+    WHERE pair_low = :pairLow AND pair_high = :pairHigh AND status = 'REJECTED'
+""", nativeQuery = true)
+    int reopenRejected(@Param("requesterId") Long requesterId, @Param("receiverId") Long receiverId,
+                       @Param("pairLow") Long pairLow, @Param("pairHigh") Long pairHigh,
+                       @Param("now") LocalDateTime now);
+
+    @Query(value = "SELECT status FROM friend_request WHERE pair_low = :pairLow AND pair_high = :pairHigh",
+            nativeQuery = true)
+    Optional<String> findStatusByPair(@Param("pairLow") Long pairLow, @Param("pairHigh") Long pairHigh);
+
     @Query("""
 SELECT fr FROM FriendRequest fr
 JOIN FETCH fr.requester
@@ -36,6 +82,46 @@ AND fr.status = :status
     List<FriendRequest> findAcceptedFriendsWithUsers(@Param("userId") Long userId);
 
 
+    // 사용자에게 걸린 대기/수락 간선만 (친구 그래프 적재용, 엔티티/사용자 로딩 없음)
+    @Query("""
+    SELECT new com.project.bearlink.domain.friend.dto.FriendEdge(fr.requester.id, fr.receiver.id, fr.status)
+    FROM FriendRequest fr
+    WHERE (fr.requester.id = :userId OR fr.receiver.id = :userId)
+    AND fr.status IN ('PENDING', 'ACCEPTED')
+""")
+    List<FriendEdge> findEdges(@Param("userId") Long userId);
+
+    // 여러 사용자의 대기/수락 간선을 한 번에 (친구 추천 적재 시 친구들의 그래프 일괄 적재)
+    @Query("""
+    SELECT new com.project.bearlink.domain.friend.dto.FriendEdge(fr.requester.id, fr.receiver.id, fr.status)
+    FROM FriendRequest fr
+    WHERE (fr.requester.id IN :userIds OR fr.receiver.id IN :userIds)
+    AND fr.status IN ('PENDING', 'ACCEPTED')
+""")
+    List<FriendEdge> findEdgesOfUsers(@Param("userIds") Collection<Long> userIds);
+
+    // 친구 요청을 거절했거나 거절당한 상대 (추천에서 제외)
+    @Query("""
+    SELECT CASE WHEN fr.requester.id = :userId THEN fr.receiver.id ELSE fr.requester.id END
+    FROM FriendRequest fr
+    WHERE (fr.requester.id = :userId OR fr.receiver.id = :userId)
+    AND fr.status = 'REJECTED'
+""")
+    List<Long> findRejectedCounterpartIds(@Param("userId") Long userId);
+
+    // 초대 다이얼로그: 수락된 친구 + 해당 방의 초대 상태를 한 번에 (방 멤버가 아니면 status = null)
+    @Query("""
+    SELECT new com.project.bearlink.domain.room.dto.InviteFriendWithStatusResponse(u.id, u.nickname, u.email, rm.status)
+    FROM FriendRequest fr
+    JOIN User u ON (fr.requester.id = :userId AND u.id = fr.receiver.id)
+                OR (fr.receiver.id = :userId AND u.id = fr.requester.id)
+    LEFT JOIN RoomMember rm ON rm.user.id = u.id AND rm.room.id = :roomId
+    WHERE (fr.requester.id = :userId OR fr.receiver.id = :userId)
+    AND fr.status = 'ACCEPTED'
+""")
+    List<InviteFriendWithStatusResponse> findAcceptedFriendsWithRoomStatus(@Param("userId") Long userId,
+                                                                           @Param("roomId") Long roomId);
+
     Optional<FriendRequest> findByRequesterAndReceiverAndStatus(User requester, User receiver, FriendRequestStatus status);
 
     List<FriendRequest> findByRequesterOrReceiverAndStatus(User requester, User receiver, FriendRequestStatus status);
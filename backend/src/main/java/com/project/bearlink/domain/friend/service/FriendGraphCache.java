@@ -0,0 +1,195 @@
+package com.project.bearlink.domain.friend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.bearlink.domain.friend.dto.FriendEdge;
+import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+import com.project.bearlink.domain.friend.event.FriendshipChangedEvent;
+import com.project.bearlink.domain.friend.repository.FriendRequestRepository;
+import com.project.bearlink.global.util.LongHashSet;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// 노드 로컬 친구 그래프 (사용자 → 친구 / 보낸 요청 / 받은 요청 id 집합)
+// 사용자 단위로 처음 쓸 때 간선 쿼리 한 번으로 적재하고, 크기 제한(W-TinyLFU) + TTL 로 유지한다.
+// 집합은 박싱 없는 LongHashSet 이라 관계 확인이 O(1) 이고 친구 수백 명도 수 KB.
+// 요청/수락/거절은 FriendshipChangedEvent 로 커밋 이후 적재된 양쪽 인접 목록에 바로 반영한다.
+// 다른 노드의 변경도 FriendshipEventRelay 가 같은 이벤트(remote)로 전달하고, 중계가 유실되면 ttl 안에 맞춰진다.
+@Component
+public class FriendGraphCache {
+
+    private static final int LOAD_CHUNK = 500; // IN 절 하나에 넣는 최대 사용자 수
+
+    private final FriendRequestRepository friendRequestRepository;
+    private final Cache<Long, Adjacency> cache;
+
+    public FriendGraphCache(FriendRequestRepository friendRequestRepository,
+                            @Value("${custom.friend.graphCache.maxSize:10000}") long maxSize,
+                            @Value("${custom.friend.graphCache.ttlSeconds:300}") long ttlSeconds,
+                            MeterRegistry meterRegistry) {
+        this.friendRequestRepository = friendRequestRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "friend.graph");
+    }
+
+    // 사용자 한 명의 간선 (모든 접근은 인스턴스 락 안에서)
+    static final class Adjacency {
+        private final LongHashSet friends = new LongHashSet();
+        private final LongHashSet sent = new LongHashSet();     // 내가 보낸 대기 요청의 수신자
+        private final LongHashSet received = new LongHashSet(); // 나에게 온 대기 요청의 요청자
+
+        synchronized void apply(long other, boolean outgoing, FriendRequestStatus status) {
+            switch (status) {
+                case PENDING -> (outgoing ? sent : received).add(other);
+                case ACCEPTED -> {
+                    sent.remove(other);
+                    received.remove(other);
+                    friends.add(other);
+                }
+                case REJECTED -> (outgoing ? sent : received).remove(other);
+            }
+        }
+
+        synchronized boolean isFriend(long other) {
+            return friends.contains(other);
+        }
+
+        synchronized boolean hasSent(long other) {
+            return sent.contains(other);
+        }
+
+        synchronized boolean isRelated(long other) {
+            return friends.contains(other) || sent.contains(other) || received.contains(other);
+        }
+
+        synchronized long[] friends() {
+            return friends.toSortedArray();
+        }
+
+        synchronized long[] received() {
+            return received.toSortedArray();
+        }
+
+        // 친구 + 대기 중인 요청 상대 전부
+        synchronized long[] related() {
+            LongHashSet all = new LongHashSet(friends.size() + sent.size() + received.size());
+            for (long id : friends.toSortedArray()) all.add(id);
+            for (long id : sent.toSortedArray()) all.add(id);
+            for (long id : received.toSortedArray()) all.add(id);
+            return all.toSortedArray();
+        }
+    }
+
+    // 수락된 친구 id (정렬된 복사본)
+    public long[] friendsOf(Long userId) {
+        return adjacency(userId).friends();
+    }
+
+    // 여러 사용자의 친구 id (캐시에 없는 사용자만 IN 쿼리로 한 번에 적재)
+    public Map<Long, long[]> friendsOfAll(long[] userIds) {
+        Map<Long, Adjacency> adjacencies = cache.getAll(Arrays.stream(userIds).boxed().toList(), this::loadAll);
+
+        Map<Long, long[]> result = new HashMap<>(adjacencies.size());
+        adjacencies.forEach((id, adjacency) -> result.put(id, adjacency.friends()));
+        return result;
+    }
+
+    // 캐시에 있을 때만 (없으면 null)
+    public long[] friendsIfPresent(Long userId) {
+        Adjacency adjacency = cache.getIfPresent(userId);
+        return adjacency == null ? null : adjacency.friends();
+    }
+
+    // 나에게 친구 요청을 보내고 대기 중인 사용자 id
+    public long[] pendingRequestersOf(Long userId) {
+        return adjacency(userId).received();
+    }
+
+    // 친구이거나 어느 쪽이든 대기 중인 요청이 있는 사용자 id
+    public long[] relatedTo(Long userId) {
+        return adjacency(userId).related();
+    }
+
+    public boolean areFriends(Long userId, Long otherUserId) {
+        return adjacency(userId).isFriend(otherUserId);
+    }
+
+    public boolean hasPendingRequest(Long requesterId, Long receiverId) {
+        return adjacency(requesterId).hasSent(receiverId);
+    }
+
+    public boolean isRelated(Long userId, Long otherUserId) {
+        return adjacency(userId).isRelated(otherUserId);
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트도 바로 처리
+    // computeIfPresent 는 같은 키의 적재가 끝날 때까지 기다리므로, 커밋 전 상태로 적재 중이던 목록에도 간선이 빠지지 않는다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        long requesterId = event.requesterId();
+        long receiverId = event.receiverId();
+
+        cache.asMap().computeIfPresent(requesterId, (id, adjacency) -> {
+            adjacency.apply(receiverId, true, event.status());
+            return adjacency;
+        });
+        cache.asMap().computeIfPresent(receiverId, (id, adjacency) -> {
+            adjacency.apply(requesterId, false, event.status());
+            return adjacency;
+        });
+    }
+
+    private Adjacency adjacency(Long userId) {
+        return cache.get(userId, this::load);
+    }
+
+    private Map<Long, Adjacency> loadAll(Set<? extends Long> userIds) {
+        Map<Long, Adjacency> result = new HashMap<>(userIds.size());
+        for (Long userId : userIds) result.put(userId, new Adjacency());
+
+        // 두 사용자가 다른 묶음에 있으면 같은 간선을 두 번 읽지만 집합이라 결과는 같다
+        List<Long> ids = List.copyOf(userIds);
+        for (int from = 0; from < ids.size(); from += LOAD_CHUNK) {
+            List<Long> chunk = ids.subList(from, Math.min(from + LOAD_CHUNK, ids.size()));
+            for (FriendEdge edge : friendRequestRepository.findEdgesOfUsers(chunk)) {
+                Adjacency requester = result.get(edge.requesterId());
+                if (requester != null) requester.apply(edge.receiverId(), true, edge.status());
+
+                Adjacency receiver = result.get(edge.receiverId());
+                if (receiver != null) receiver.apply(edge.requesterId(), false, edge.status());
+            }
+        }
+        return result;
+    }
+
+    private Adjacency load(Long userId) {
+        List<FriendEdge> edges = friendRequestRepository.findEdges(userId);
+
+        Adjacency adjacency = new Adjacency();
+        for (FriendEdge edge : edges) {
+            boolean outgoing = edge.requesterId().equals(userId);
+            long other = outgoing ? edge.receiverId() : edge.requesterId();
+            adjacency.apply(other, outgoing, edge.status());
+        }
+        return adjacency;
+    }
+}
@@ -0,0 +1,107 @@
+package com.project.bearlink.domain.friend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.bearlink.domain.friend.event.FriendshipChangedEvent;
+import com.project.bearlink.domain.friend.repository.FriendRequestRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+
+// 친구의 친구 추천 (함께 아는 친구 수 순)
+// 추천을 조회한 사용자만 "활성" 으로 보고 후보별 수를 노드 메모리에 유지한다 (사용자 수 maxUsers, 조회가 없으면 idleMinutes 후 제거).
+// 처음 조회할 때 친구들의 친구 목록을 친구 그래프에서 한 번에 읽어 세고, 이후에는 FriendshipChangedEvent 로 바뀐 만큼만 더한다.
+//  - 수락(a, b): 활성인 a 는 b 를 후보에서 빼고 b 의 친구들을 +1, a 의 활성 친구들은 b 를 +1 (b 쪽도 대칭)
+//  - 거절(a, b): 서로 후보에서 영구 제외
+//  - 대기 중인 요청 상대는 조회 시 친구 그래프로 거른다
+// 다른 노드의 수락/거절도 FriendshipEventRelay 가 같은 이벤트(remote)로 전달해 반영된다.
+@Component
+public class FriendRecommender {
+
+    public record Candidate(long userId, int mutualCount) {}
+
+    private final FriendGraphCache friendGraphCache;
+    private final FriendRequestRepository friendRequestRepository;
+    private final Cache<Long, MutualFriendCounts> active;
+    private final int topK;
+    private final int maxCandidates;
+
+    public FriendRecommender(FriendGraphCache friendGraphCache,
+                             FriendRequestRepository friendRequestRepository,
+                             @Value("${custom.friend.recommend.maxUsers:10000}") long maxUsers,
+                             @Value("${custom.friend.recommend.idleMinutes:30}") long idleMinutes,
+                             @Value("${custom.friend.recommend.topK:20}") int topK,
+                             @Value("${custom.friend.recommend.maxCandidates:2000}") int maxCandidates,
+                             MeterRegistry meterRegistry) {
+        this.friendGraphCache = friendGraphCache;
+        this.friendRequestRepository = friendRequestRepository;
+        this.topK = topK;
+        this.maxCandidates = maxCandidates;
+        this.active = Caffeine.newBuilder()
+                .maximumSize(maxUsers)
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, active, "friend.recommend");
+    }
+
+    public List<Candidate> recommend(Long userId) {
+        return active.get(userId, this::build)
+                .top(topK, id -> friendGraphCache.isRelated(userId, id));
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트도 바로 처리
+    // 친구 그래프에 이 변경이 먼저 반영되었는지와 무관하도록 변경된 간선의 상대는 직접 건너뛴다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onFriendshipChanged(FriendshipChangedEvent event) {
+        long requesterId = event.requesterId();
+        long receiverId = event.receiverId();
+
+        switch (event.status()) {
+            case ACCEPTED -> {
+                befriend(requesterId, receiverId);
+                befriend(receiverId, requesterId);
+            }
+            case REJECTED -> {
+                dismiss(requesterId, receiverId);
+                dismiss(receiverId, requesterId);
+            }
+            case PENDING -> { }
+        }
+    }
+
+    // user 에게 새 친구 friend 가 생김
+    private void befriend(long user, long friend) {
+        MutualFriendCounts mine = active.getIfPresent(user);
+        if (mine != null) mine.addFriend(friend, friendGraphCache.friendsOf(friend)); // friend 의 친구 목록에 있는 user 자신은 제외 대상
+
+        // user 의 다른 친구들에게 friend 는 user 를 함께 아는 후보가 된다
+        for (long other : friendGraphCache.friendsOf(user)) {
+            if (other == friend) continue;
+
+            MutualFriendCounts theirs = active.getIfPresent(other);
+            if (theirs != null) theirs.increment(friend);
+        }
+    }
+
+    private void dismiss(long user, long other) {
+        MutualFriendCounts mine = active.getIfPresent(user);
+        if (mine != null) mine.exclude(other);
+    }
+
+    private MutualFriendCounts build(Long userId) {
+        long[] friends = friendGraphCache.friendsOf(userId);
+
+        MutualFriendCounts counts = new MutualFriendCounts(userId, friends, maxCandidates);
+        friendGraphCache.friendsOfAll(friends).values().forEach(counts::addAll);
+        friendRequestRepository.findRejectedCounterpartIds(userId).forEach(counts::exclude);
+        counts.trim();
+        return counts;
+    }
+}
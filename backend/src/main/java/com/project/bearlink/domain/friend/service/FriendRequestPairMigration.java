@@ -0,0 +1,138 @@
+package com.project.bearlink.domain.friend.service;
+
+import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+// pair_low / pair_high 도입 이전에 쌓인 friend_request 행 정리 (기동 시, 요청을 받기 전에 한 번)
+// 이전 유니크 키는 (requester_id, receiver_id) 라 같은 두 사용자 사이에 방향별 행이 따로 있을 수 있다.
+// 한 트랜잭션에서
+//   1. 같은 쌍의 행을 하나로 합친다: ACCEPTED > PENDING > REJECTED, 같으면 최근 행(id 가 큰 행)을 남긴다
+//   2. pair 컬럼이 비어 있는 행을 채운다
+// 그 뒤 uk_friend_request_canonical_pair 가 없으면 추가한다. (ddl-auto 가 이미 만든 경우가 대부분)
+// pair 컬럼이 빈 행이 남으면 upsert 가 그 쌍을 보지 못해 중복 행이 생기므로 기동을 실패시킨다.
+// 트랜잭션 매니저(= EntityManagerFactory, 스키마 갱신 완료)에 의존하므로 컬럼이 추가된 뒤에 실행된다.
+@Slf4j
+@Component
+public class FriendRequestPairMigration {
+
+    static final String UNIQUE_KEY = "uk_friend_request_canonical_pair";
+
+    private static final String DUPLICATE_PAIRS = """
+            SELECT LEAST(requester_id, receiver_id) AS low_id, GREATEST(requester_id, receiver_id) AS high_id
+            FROM friend_request
+            GROUP BY LEAST(requester_id, receiver_id), GREATEST(requester_id, receiver_id)
+            HAVING COUNT(*) > 1
+            """;
+
+    // 이전 유니크 키 (requester_id, receiver_id) 인덱스로 두 방향을 찾는다
+    private static final String ROWS_OF_PAIR = """
+            SELECT id, status FROM friend_request
+            WHERE (requester_id = ? AND receiver_id = ?) OR (requester_id = ? AND receiver_id = ?)
+            """;
+
+    private static final String BACKFILL = """
+            UPDATE friend_request
+            SET pair_low = LEAST(requester_id, receiver_id), pair_high = GREATEST(requester_id, receiver_id)
+            WHERE pair_low IS NULL OR pair_high IS NULL
+            """;
+
+    private record Row(long id, FriendRequestStatus status) {}
+
+    // 남길 행: 상태 우선순위 → 최근 행
+    private static final Comparator<Row> KEEP_ORDER = Comparator
+            .comparingInt((Row row) -> priority(row.status()))
+            .thenComparingLong(Row::id);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public FriendRequestPairMigration(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @PostConstruct
+    public void migrate() {
+        int[] result = transactionTemplate.execute(status -> new int[]{mergeDuplicates(), backfill()});
+        if (result[0] > 0 || result[1] > 0) {
+            log.info("친구 요청 pair 정리: 합쳐서 지운 행={}, 채운 행={}", result[0], result[1]);
+        }
+
+        Integer missing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM friend_request WHERE pair_low IS NULL OR pair_high IS NULL", Integer.class);
+        if (missing != null && missing > 0) {
+            throw new IllegalStateException("pair 컬럼이 비어 있는 friend_request 행이 남아 있습니다: " + missing);
+        }
+
+        if (!uniqueKeyExists()) {
+            jdbcTemplate.execute("ALTER TABLE friend_request ADD CONSTRAINT " + UNIQUE_KEY
+                    + " UNIQUE (pair_low, pair_high)");
+            log.info("친구 요청 유니크 키 추가: {}", UNIQUE_KEY);
+        }
+    }
+
+    // 같은 쌍의 행 중 하나만 남기고 지운 행 수 반환
+    private int mergeDuplicates() {
+        List<Map<String, Object>> pairs = jdbcTemplate.queryForList(DUPLICATE_PAIRS);
+
+        List<Object[]> losers = new ArrayList<>();
+        for (Map<String, Object> pair : pairs) {
+            long low = ((Number) pair.get("low_id")).longValue();
+            long high = ((Number) pair.get("high_id")).longValue();
+
+            List<Row> rows = jdbcTemplate.query(ROWS_OF_PAIR,
+                    (rs, i) -> new Row(rs.getLong("id"), FriendRequestStatus.valueOf(rs.getString("status"))),
+                    low, high, high, low);
+            Row keep = rows.stream().max(KEEP_ORDER).orElseThrow();
+            for (Row row : rows) {
+                if (row.id() != keep.id()) losers.add(new Object[]{row.id()});
+            }
+        }
+
+        if (!losers.isEmpty()) jdbcTemplate.batchUpdate("DELETE FROM friend_request WHERE id = ?", losers);
+        return losers.size();
+    }
+
+    private int backfill() {
+        return jdbcTemplate.update(BACKFILL);
+    }
+
+    private boolean uniqueKeyExists() {
+        Boolean exists = jdbcTemplate.execute((Connection connection) -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            // 식별자 대소문자는 DB 마다 다르므로 둘 다 확인, H2 는 제약 이름 뒤에 접미사를 붙인 인덱스를 만든다
+            for (String table : new String[]{"friend_request", "FRIEND_REQUEST"}) {
+                try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, table, true, false)) {
+                    while (indexes.next()) {
+                        String name = indexes.getString("INDEX_NAME");
+                        if (name != null && name.toLowerCase(Locale.ROOT).startsWith(UNIQUE_KEY)) return true;
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+
+    private static int priority(FriendRequestStatus status) {
+        return switch (status) {
+            case ACCEPTED -> 3;
+            case PENDING -> 2;
+            case REJECTED -> 1;
+        };
+    }
+}
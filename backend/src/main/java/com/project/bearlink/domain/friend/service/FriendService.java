@@ -3,21 +3,33 @@ package com.project.bearlink.domain.friend.service;
 import com.project.bearlink.domain.friend.dto.FindFriendDto;
 import com.project.bearlink.domain.friend.dto.FriendRequestDto;
 import com.project.bearlink.domain.friend.dto.FriendResponseDto;
+import com.project.bearlink.domain.friend.dto.RecommendedFriendDto;
 import com.project.bearlink.domain.friend.entity.FriendRequest;
 import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+import com.project.bearlink.domain.friend.event.FriendshipChangedEvent;
 import com.project.bearlink.domain.friend.repository.FriendRequestRepository;
+import com.project.bearlink.domain.user.user.dto.UserSnapshot;
 import com.project.bearlink.domain.user.user.entity.User;
 import com.project.bearlink.domain.user.user.repository.UserRepository;
+import com.project.bearlink.domain.user.user.service.NicknameIndex;
+import com.project.bearlink.domain.user.user.service.UserSnapshotCache;
 import com.project.bearlink.global.exception.ApiException;
 import com.project.bearlink.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,32 +39,55 @@ public class FriendService {
 
     private final UserRepository userRepository;
     private final FriendRequestRepository friendRequestRepository;
-
+    private final ApplicationEventPublisher eventPublisher;
+    private final FriendGraphCache friendGraphCache;
+    private final UserSnapshotCache userSnapshotCache;
+    private final NicknameIndex nicknameIndex;
+    private final FriendRecommender friendRecommender;
+
+    // 쌍(작은 id, 큰 id) 유니크 키에 기대어 사전 조회 없이 처리, 새 요청이면 INSERT 한 번으로 끝난다
+    //  - 상대가 보낸 대기 요청이 있으면 바로 수락 (맞요청)
+    //  - 거절된 요청이면 이번 방향으로 다시 대기
+    //  - 그 외(같은 방향 대기, 이미 친구)는 거절
+    // 동시에 같은 쌍을 보내도 유니크 키 때문에 행은 하나만 생긴다.
     @Transactional(readOnly = false)
     public void sendRequest(Long requesterId, FriendRequestDto dto) {
-
-        if(requesterId.equals(dto.getReceiverId())){
+        Long receiverId = dto.getReceiverId();
+        if(requesterId.equals(receiverId)){
             throw new ApiException(ErrorCode.SELF_REQUEST_NOT_ALLOWED);
         }
 
-        if(friendRequestRepository.existsByRequesterIdAndReceiverIdAndStatus(
-                requesterId,dto.getReceiverId(),FriendRequestStatus.PENDING)){
+        Long pairLow = Math.min(requesterId, receiverId);
+        Long pairHigh = Math.max(requesterId, receiverId);
+        LocalDateTime now = LocalDateTime.now();
+
+        try {
+            if (friendRequestRepository.insertPendingIfAbsent(requesterId, receiverId, pairLow, pairHigh, now) == 1) {
+                eventPublisher.publishEvent(new FriendshipChangedEvent(requesterId, receiverId, FriendRequestStatus.PENDING));
+                return;
+            }
+        } catch (DataIntegrityViolationException e) {
+            // 수신자 FK 오류, 또는 같은 쌍을 동시에 넣다가 충돌 (MySQL 은 둘 다 무시하고 0 을 돌려준다)
+            if (!userRepository.existsById(receiverId)) throw new ApiException(ErrorCode.RECEIVER_NOT_FOUND);
             throw new ApiException(ErrorCode.DUPLICATE_REQUEST_PENDING);
         }
 
-        User requester = userRepository.findById(requesterId)
-                .orElseThrow(()-> new ApiException(ErrorCode.REQUESTER_NOT_FOUND));
-
-        User receiver = userRepository.findById(dto.getReceiverId())
-                .orElseThrow(()-> new ApiException(ErrorCode.RECEIVER_NOT_FOUND));
+        if (friendRequestRepository.acceptReverse(receiverId, pairLow, pairHigh, now) == 1) {
+            eventPublisher.publishEvent(new FriendshipChangedEvent(receiverId, requesterId, FriendRequestStatus.ACCEPTED));
+            return;
+        }
 
-        FriendRequest friendRequest = FriendRequest.builder()
-                .requester(requester)
-                .receiver(receiver)
-                .status(FriendRequestStatus.PENDING)
-                .build();
+        if (friendRequestRepository.reopenRejected(requesterId, receiverId, pairLow, pairHigh, now) == 1) {
+            eventPublisher.publishEvent(new FriendshipChangedEvent(requesterId, receiverId, FriendRequestStatus.PENDING));
+            return;
+        }
 
-        friendRequestRepository.save(friendRequest);
+        // 행이 없으면 INSERT 가 수신자 FK 오류로 무시된 것
+        String status = friendRequestRepository.findStatusByPair(pairLow, pairHigh)
+                .orElseThrow(() -> new ApiException(ErrorCode.RECEIVER_NOT_FOUND));
+        throw new ApiException(FriendRequestStatus.ACCEPTED.name().equals(status)
+                ? ErrorCode.ALREADY_FRIENDS
+                : ErrorCode.DUPLICATE_REQUEST_PENDING);
     }
 
     @Transactional(readOnly = false)
@@ -68,6 +103,7 @@ public class FriendService {
         friendRequest.setStatus(FriendRequestStatus.ACCEPTED);
         friendRequest.setRespondedAt(LocalDateTime.now());
         friendRequestRepository.save(friendRequest);
+        eventPublisher.publishEvent(new FriendshipChangedEvent(requesterId, receiverId, FriendRequestStatus.ACCEPTED)); // 커밋 후 친구 그래프에 반영
     }
 
     @Transactional(readOnly = false)
@@ -82,30 +118,73 @@ public class FriendService {
         request.setStatus(FriendRequestStatus.REJECTED);
         request.setRespondedAt(LocalDateTime.now());
         friendRequestRepository.save(request);
+        eventPublisher.publishEvent(new FriendshipChangedEvent(request.getRequester().getId(), receiverId, FriendRequestStatus.REJECTED));
     }
 
+    // 친구 그래프 + 사용자 스냅샷 캐시로 응답 (둘 다 적재되어 있으면 DB 조회 없음)
     public List<FriendResponseDto> getReceived(Long userId){
-        return friendRequestRepository.findByReceiverIdAndStatusWithRequester(userId,FriendRequestStatus.PENDING).stream()
-                .map(friendRequest -> {
-                    User sender = friendRequest.getRequester();
-                    return new FriendResponseDto(sender.getId(),sender.getNickname(),sender.getImageUrl());
-                })
-                .toList();
+        return toResponses(friendGraphCache.pendingRequestersOf(userId));
     }
 
     public List<FriendResponseDto> getFriends(Long userId) {
-        return friendRequestRepository.findAcceptedFriendsWithUsers(userId).stream()
-                .map(req -> {
-                    User other = req.getRequester().getId().equals(userId)
-                            ? req.getReceiver()
-                            : req.getRequester();
-                    return new FriendResponseDto(other.getId(), other.getNickname(), other.getImageUrl());
+        return toResponses(friendGraphCache.friendsOf(userId));
+    }
+
+
+    // 닉네임 인덱스로 후보를 찾고 친구 그래프로 관계가 있는 사용자를 거른다 (둘 다 메모리)
+    // 인덱스 적재 전에는 관계 id 를 제외하는 DB 검색으로 대신한다.
+    public Page<FindFriendDto> findFriends(String keyword, Long userId, Pageable pageable) {
+        long[] related = friendGraphCache.relatedTo(userId);
+
+        long[] candidates = nicknameIndex.search(keyword,
+                id -> id != userId && Arrays.binarySearch(related, id) < 0);
+        if (candidates == null) {
+            List<Long> excludedIds = new ArrayList<>();
+            excludedIds.add(userId);
+            for (long id : related) excludedIds.add(id);
+            return userRepository.searchOnlyUnrelatedUsers(keyword, excludedIds, pageable);
+        }
+
+        int from = (int) Math.min(pageable.isPaged() ? pageable.getOffset() : 0, candidates.length);
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), candidates.length) : candidates.length;
+        long[] pageIds = Arrays.copyOfRange(candidates, from, to);
+
+        Map<Long, UserSnapshot> users = pageIds.length == 0
+                ? Map.of()
+                : userSnapshotCache.getAll(Arrays.stream(pageIds).boxed().toList());
+        List<FindFriendDto> content = Arrays.stream(pageIds)
+                .mapToObj(users::get)
+                .filter(Objects::nonNull)
+                .map(user -> new FindFriendDto(user.id(), user.nickname(), user.imageUrl(), "NONE"))
+                .toList();
+
+        return new PageImpl<>(content, pageable, candidates.length);
+    }
+
+    // 친구의 친구 중 함께 아는 친구가 많은 순
+    public List<RecommendedFriendDto> getRecommendations(Long userId) {
+        List<FriendRecommender.Candidate> candidates = friendRecommender.recommend(userId);
+        if (candidates.isEmpty()) return List.of();
+
+        Map<Long, UserSnapshot> users = userSnapshotCache.getAll(
+                candidates.stream().map(FriendRecommender.Candidate::userId).toList());
+        return candidates.stream()
+                .filter(candidate -> users.containsKey(candidate.userId()))
+                .map(candidate -> {
+                    UserSnapshot user = users.get(candidate.userId());
+                    return new RecommendedFriendDto(user.id(), user.nickname(), user.imageUrl(), candidate.mutualCount());
                 })
                 .toList();
     }
 
+    private List<FriendResponseDto> toResponses(long[] userIds) {
+        if (userIds.length == 0) return List.of();
 
-    public Page<FindFriendDto> findFriends(String keyword, Long userId, Pageable pageable) {
-        return userRepository.searchOnlyUnrelatedUsers(keyword, userId, pageable);
+        Map<Long, UserSnapshot> users = userSnapshotCache.getAll(Arrays.stream(userIds).boxed().toList());
+        return Arrays.stream(userIds)
+                .mapToObj(users::get)
+                .filter(Objects::nonNull) // 탈퇴 등으로 사라진 사용자
+                .map(user -> new FriendResponseDto(user.id(), user.nickname(), user.imageUrl()))
+                .toList();
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+package com.project.bearlink.domain.friend.service;
+
+import com.project.bearlink.global.util.LongHashSet;
+import com.project.bearlink.global.util.LongIntHashMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.LongPredicate;
+
+// 사용자 한 명의 친구의 친구 후보 → 함께 아는 친구 수 (친구 추천)
+// 후보 수는 maxCandidates 로 제한: 넘치면 수가 적은 후보부터 버린다 (버려진 후보가 다시 들어오면 1 부터 세므로 근사치).
+// 모든 접근은 인스턴스 락 안에서.
+final class MutualFriendCounts {
+
+    private final int maxCandidates;
+    private final LongHashSet excluded = new LongHashSet(); // 나, 친구, 거절한/거절당한 상대
+    private final LongIntHashMap counts = new LongIntHashMap();
+
+    MutualFriendCounts(long self, long[] friends, int maxCandidates) {
+        this.maxCandidates = maxCandidates;
+        excluded.add(self);
+        for (long friend : friends) excluded.add(friend);
+    }
+
+    // 친구 한 명의 친구 목록을 한꺼번에 센다 (적재용, trim 은 호출자가)
+    synchronized void addAll(long[] friendsOfFriend) {
+        for (long candidate : friendsOfFriend) {
+            if (!excluded.contains(candidate)) counts.addTo(candidate, 1);
+        }
+    }
+
+    // candidate 와 함께 아는 친구가 한 명 늘었다
+    synchronized void increment(long candidate) {
+        if (excluded.contains(candidate)) return;
+
+        counts.addTo(candidate, 1);
+        if (counts.size() > maxCandidates * 2) trim(); // 매번 자르지 않도록 두 배까지 허용
+    }
+
+    // 새 친구가 생겼다: 후보에서 빼고 그 친구의 친구들을 하나씩 센다
+    synchronized void addFriend(long friend, long[] friendsOfFriend) {
+        exclude(friend);
+        addAll(friendsOfFriend);
+        if (counts.size() > maxCandidates * 2) trim();
+    }
+
+    synchronized void exclude(long userId) {
+        excluded.add(userId);
+        counts.remove(userId);
+    }
+
+    synchronized int size() {
+        return counts.size();
+    }
+
+    // 함께 아는 친구가 많은 순 최대 k 명 (skip 이 true 인 후보 제외), 크기 k 최소 힙으로 한 번 훑는다
+    synchronized List<FriendRecommender.Candidate> top(int k, LongPredicate skip) {
+        if (k <= 0) return List.of();
+
+        long[] ids = new long[k];
+        int[] values = new int[k];
+        int[] size = {0};
+
+        counts.forEach((id, count) -> {
+            if (size[0] == k && count <= values[0]) return; // 힙 최솟값보다 작으면 skip 확인도 하지 않는다
+            if (skip.test(id)) return;
+
+            if (size[0] < k) {
+                ids[size[0]] = id;
+                values[size[0]] = count;
+                siftUp(ids, values, size[0]++);
+            } else {
+                ids[0] = id;
+                values[0] = count;
+                siftDown(ids, values, size[0]);
+            }
+        });
+
+        List<FriendRecommender.Candidate> result = new ArrayList<>(size[0]);
+        for (int i = 0; i < size[0]; i++) {
+            result.add(new FriendRecommender.Candidate(ids[i], values[i]));
+        }
+        result.sort(Comparator.comparingInt(FriendRecommender.Candidate::mutualCount).reversed()
+                .thenComparingLong(FriendRecommender.Candidate::userId));
+        return result;
+    }
+
+    // 수가 적은 후보부터 버려 maxCandidates 개 안팎만 남긴다 (경계 값과 같은 후보는 함께 남는다)
+    synchronized void trim() {
+        if (counts.size() <= maxCandidates) return;
+
+        int[] all = new int[counts.size()];
+        int[] n = {0};
+        counts.forEach((id, count) -> all[n[0]++] = count);
+        Arrays.sort(all);
+        int threshold = all[all.length - maxCandidates];
+
+        long[] dropped = new long[all.length];
+        int[] d = {0};
+        counts.forEach((id, count) -> {
+            if (count < threshold) dropped[d[0]++] = id;
+        });
+        for (int i = 0; i < d[0]; i++) counts.remove(dropped[i]);
+    }
+
+    private static void siftUp(long[] ids, int[] values, int i) {
+        while (i > 0) {
+            int parent = (i - 1) / 2;
+            if (values[parent] <= values[i]) return;
+            swap(ids, values, parent, i);
+            i = parent;
+        }
+    }
+
+    private static void siftDown(long[] ids, int[] values, int size) {
+        int i = 0;
+        while (true) {
+            int smallest = i;
+            int left = 2 * i + 1;
+            int right = left + 1;
+            if (left < size && values[left] < values[smallest]) smallest = left;
+            if (right < size && values[right] < values[smallest]) smallest = right;
+            if (smallest == i) return;
+            swap(ids, values, smallest, i);
+            i = smallest;
+        }
+    }
+
+    private static void swap(long[] ids, int[] values, int a, int b) {
+        long id = ids[a];
+        ids[a] = ids[b];
+        ids[b] = id;
+        int value = values[a];
+        values[a] = values[b];
+        values[b] = value;
+    }
+}
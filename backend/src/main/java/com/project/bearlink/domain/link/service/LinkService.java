@@ -37,8 +37,9 @@ public class LinkService {
 
     @Transactional(readOnly = false)
     public Link createLink(LinkRequestDto req, Long userId, Long categoryId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+        // FK 용 프록시 (존재만 확인)
+        if (!userRepository.existsById(userId)) throw new ApiException(ErrorCode.USER_NOT_FOUND);
+        User user = userRepository.getReferenceById(userId);
 
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new ApiException(ErrorCode.CATEGORY_NOT_FOUND));
@@ -2,12 +2,14 @@ package com.project.bearlink.domain.myPage.service;
 
 import com.project.bearlink.domain.myPage.dto.UpdateProfileDto;
 import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.event.UserChangedEvent;
 import com.project.bearlink.domain.user.user.repository.UserRepository;
 import com.project.bearlink.global.exception.ApiException;
 import com.project.bearlink.global.exception.ErrorCode;
 import com.project.bearlink.global.security.auth.SecurityUser;
 import lombok.AllArgsConstructor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,7 @@ import org.springframework.transaction.annotation.Transactional;
 @Transactional(readOnly = true)
 public class MyPageService {
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional(readOnly = false)
     public void updateProfile(Long userId, UpdateProfileDto dto) {
@@ -30,5 +33,6 @@ public class MyPageService {
         }
 
         userRepository.save(user);
+        eventPublisher.publishEvent(new UserChangedEvent(userId)); // 커밋 후 스냅샷 캐시 무효화
     }
 }
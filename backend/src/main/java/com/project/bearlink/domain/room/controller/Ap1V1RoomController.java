@@ -1,12 +1,7 @@
 package com.project.bearlink.domain.room.controller;
 
 import com.project.bearlink.domain.room.dto.*;
-import com.project.bearlink.domain.room.entity.LinkRoom;
 import com.project.bearlink.domain.room.service.RoomService;
-import com.project.bearlink.domain.user.user.entity.User;
-import com.project.bearlink.domain.user.user.repository.UserRepository;
-import com.project.bearlink.global.exception.ApiException;
-import com.project.bearlink.global.exception.ErrorCode;
 import com.project.bearlink.global.response.ApiResponse;
 import com.project.bearlink.global.security.auth.SecurityUser;
 import lombok.RequiredArgsConstructor;
@@ -22,17 +17,13 @@ import java.util.List;
 @RequestMapping("/api/v1/room")
 public class Ap1V1RoomController {
     private final RoomService linkRoomService;
-    private final UserRepository userRepository;
 
     @PostMapping
     public ResponseEntity<ApiResponse<CreateLinkRoomResponse>> createRoom(
             @RequestBody CreateLinkRoomRequest request,
             @AuthenticationPrincipal SecurityUser securityUser
     ) {
-        User user = userRepository.findById(securityUser.getId())
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-
-        CreateLinkRoomResponse response = linkRoomService.createRoom(request, user);
+        CreateLinkRoomResponse response = linkRoomService.createRoom(request, securityUser.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.ok(response));
     }
 
@@ -42,6 +33,14 @@ public class Ap1V1RoomController {
         return ResponseEntity.ok(ApiResponse.ok(linkRoomService.getRooms(user.getId())));
     }
 
+    // 방을 읽음 처리 (안 읽은 수 0)
+    @PostMapping("/{roomId}/read")
+    public ResponseEntity<ApiResponse<Void>> markRead(@PathVariable Long roomId,
+                                                      @AuthenticationPrincipal SecurityUser user) {
+        linkRoomService.markRead(roomId, user.getId());
+        return ResponseEntity.ok(ApiResponse.ok());
+    }
+
     @GetMapping("/links")
     public ResponseEntity<ApiResponse<List<RoomLinkListDto>>> getRoomLinks(@AuthenticationPrincipal SecurityUser user,
                                                               @RequestParam Long roomId){
@@ -62,10 +61,7 @@ public class Ap1V1RoomController {
             @RequestBody RoomInviteRequest request,
             @AuthenticationPrincipal SecurityUser securityUser
     ) {
-        User user = userRepository.findById(securityUser.getId())
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-
-        linkRoomService.inviteUser(roomId, request.userId(), user);
+        linkRoomService.inviteUser(roomId, request.userId(), securityUser.getId());
         return ResponseEntity.ok(ApiResponse.ok());
     }
 
@@ -73,10 +69,7 @@ public class Ap1V1RoomController {
     public ResponseEntity<ApiResponse<List<InvitationResponse>>> getMyInvitations(
             @AuthenticationPrincipal SecurityUser securityUser
     ) {
-        User user = userRepository.findById(securityUser.getId())
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-
-        List<InvitationResponse> invitations = linkRoomService.getMyInvitations(user);
+        List<InvitationResponse> invitations = linkRoomService.getMyInvitations(securityUser.getId());
         return ResponseEntity.ok(ApiResponse.ok(invitations));
     }
 
@@ -85,10 +78,7 @@ public class Ap1V1RoomController {
             @PathVariable Long roomMemberId,
             @AuthenticationPrincipal SecurityUser securityUser
     ) {
-        User user = userRepository.findById(securityUser.getId())
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-
-        linkRoomService.acceptInvitation(roomMemberId, user);
+        linkRoomService.acceptInvitation(roomMemberId, securityUser.getId());
         return ResponseEntity.ok(ApiResponse.ok());
     }
 
@@ -98,10 +88,7 @@ public class Ap1V1RoomController {
             @PathVariable Long roomMemberId,
             @AuthenticationPrincipal SecurityUser securityUser
     ) {
-        User user = userRepository.findById(securityUser.getId())
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-
-        linkRoomService.declineInvitation(roomMemberId, user);
+        linkRoomService.declineInvitation(roomMemberId, securityUser.getId());
         return ResponseEntity.ok(ApiResponse.ok());
     }
 
@@ -111,10 +98,7 @@ public class Ap1V1RoomController {
             @AuthenticationPrincipal SecurityUser securityUser,
             @PathVariable Long roomId
     ) {
-        User user = userRepository.findById(securityUser.getId())
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-
-        List<InviteFriendWithStatusResponse> friends = linkRoomService.getInviteFriendsWithStatus(user, roomId);
+        List<InviteFriendWithStatusResponse> friends = linkRoomService.getInviteFriendsWithStatus(securityUser.getId(), roomId);
         return ResponseEntity.ok(ApiResponse.ok(friends));
     }
 
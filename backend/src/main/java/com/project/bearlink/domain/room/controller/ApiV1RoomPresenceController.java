@@ -0,0 +1,27 @@
+package com.project.bearlink.domain.room.controller;
+
+import com.project.bearlink.domain.room.dto.RoomPresenceDto;
+import com.project.bearlink.domain.room.service.RoomPresenceService;
+import com.project.bearlink.global.response.ApiResponse;
+import com.project.bearlink.global.security.auth.SecurityUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/api/rooms/{roomId}/presence")
+public class ApiV1RoomPresenceController {
+    private final RoomPresenceService roomPresenceService;
+
+    // 지금 방에 접속해 있는 멤버
+    @GetMapping
+    public ResponseEntity<ApiResponse<RoomPresenceDto>> getPresence(@PathVariable Long roomId,
+                                                                    @AuthenticationPrincipal SecurityUser currentUser) {
+        return ResponseEntity.ok(ApiResponse.ok(roomPresenceService.getPresence(roomId, currentUser.getId())));
+    }
+}
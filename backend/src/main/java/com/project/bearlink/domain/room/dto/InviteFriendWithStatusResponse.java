@@ -1,8 +1,15 @@
 package com.project.bearlink.domain.room.dto;
 
+import com.project.bearlink.domain.room.entity.InvitationStatus;
+
 public record InviteFriendWithStatusResponse(
         Long userId,
         String nickname,
         String email,
         String invitationStatus // NOT_INVITED, INVITED, ACCEPTED, DECLINED
-) {}
\ No newline at end of file
+) {
+    // JPQL 프로젝션용: 방 멤버 행이 없으면(null) NOT_INVITED
+    public InviteFriendWithStatusResponse(Long userId, String nickname, String email, InvitationStatus status) {
+        this(userId, nickname, email, status == null ? "NOT_INVITED" : status.name());
+    }
+}
@@ -0,0 +1,10 @@
+package com.project.bearlink.domain.room.dto;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+// 재연결 복구 응답
+//  - resync=false: events 가 afterSeq 다음부터 latestSeq 까지 빠짐없이 (오래된 → 최신 순)
+//  - resync=true: 보관 범위를 벗어남 → 링크 목록/채팅 이력을 다시 조회하고 latestSeq 부터 이어받기
+public record RoomEventReplayDto(long latestSeq, boolean resync, List<JsonNode> events) {}
@@ -1,13 +1,17 @@
 package com.project.bearlink.domain.room.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.project.bearlink.domain.chat.entity.MessageType;
 import lombok.*;
 
+import java.time.LocalDateTime;
+import java.util.List;
+
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class RoomMessageDto {
 
     private Long roomId;           // 방 ID
@@ -21,4 +25,24 @@ public class RoomMessageDto {
     // (선택) 링크 작업시 사용할 데이터
     private String linkTitle;
     private String linkUrl;
+
+    // 채팅 메시지 id (write-behind 로 아직 저장 전이면 null) / 작성 시각 → 이력 커서에 사용
+    private Long id;
+    private LocalDateTime createdAt;
+
+    // 방별 이벤트 순번 (RoomEventBus 가 발행 시 부여, 빈틈 없이 증가 → 재연결 시 replay 기준)
+    // 발행 전에는 비어 있어야 하므로 null 이면 직렬화하지 않음
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long seq;
+
+    // LINK_BATCH 일 때 합쳐진 링크 이벤트들
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<RoomMessageDto> events;
+
+
+    // 채팅 이력 조회용 (JPQL 생성자 projection)
+    public RoomMessageDto(Long id, Long roomId, Long senderId, String senderName, MessageType type,
+                          String content, LocalDateTime createdAt) {
+        this(roomId, senderId, senderName, type, content, null, null, id, createdAt, null, null);
+    }
 }
\ No newline at end of file
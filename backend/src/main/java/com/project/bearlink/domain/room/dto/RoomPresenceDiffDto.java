@@ -0,0 +1,17 @@
+package com.project.bearlink.domain.room.dto;
+
+import com.project.bearlink.domain.chat.entity.MessageType;
+
+import java.util.List;
+
+// 방 topic 으로 보내는 presence 변경분 (type = PRESENCE, 순번 없음)
+// 재연결한 클라이언트는 변경분을 복구하지 않고 GET /api/rooms/{roomId}/presence 로 다시 조회한다.
+public record RoomPresenceDiffDto(MessageType type, Long roomId,
+                                  List<RoomPresenceDto.PresenceUser> joined,
+                                  List<RoomPresenceDto.PresenceUser> left) {
+
+    public static RoomPresenceDiffDto of(Long roomId, List<RoomPresenceDto.PresenceUser> joined,
+                                         List<RoomPresenceDto.PresenceUser> left) {
+        return new RoomPresenceDiffDto(MessageType.PRESENCE, roomId, joined, left);
+    }
+}
@@ -0,0 +1,9 @@
+package com.project.bearlink.domain.room.dto;
+
+import java.util.List;
+
+// 현재 방에 접속해 있는 사용자 (여러 노드 합산, 세션이 여러 개여도 한 번만)
+public record RoomPresenceDto(Long roomId, List<PresenceUser> users) {
+
+    public record PresenceUser(Long userId, String nickname) {}
+}
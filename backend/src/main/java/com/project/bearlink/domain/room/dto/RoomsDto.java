@@ -1,5 +1,6 @@
 package com.project.bearlink.domain.room.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -8,4 +9,12 @@ import lombok.Getter;
 public class RoomsDto {
     private Long id;
     private String name;
+
+    // 방 목록에서만 채움 (room_member.unread_count)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer unreadCount;
+
+    public RoomsDto(Long id, String name) {
+        this(id, name, null);
+    }
 }
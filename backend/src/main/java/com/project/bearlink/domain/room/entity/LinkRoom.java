@@ -4,16 +4,19 @@ package com.project.bearlink.domain.room.entity;
 import com.project.bearlink.domain.chat.entity.ChatMessage;
 import com.project.bearlink.domain.user.user.entity.User;
 import com.project.bearlink.global.jpa.BaseEntity;
-import jakarta.persistence.CascadeType;
 import jakarta.persistence.Entity;
+import jakarta.persistence.Index;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.SQLRestriction;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,17 +26,23 @@ import java.util.List;
 @AllArgsConstructor
 @SuperBuilder
 @Entity
+@Table(indexes = @Index(name = "idx_link_room_deleted", columnList = "deleted_at"))
+@SQLRestriction("deleted_at IS NULL") // 삭제 표시된 방은 엔티티 조회에서 제외 (RoomPurger 가 정리)
 public class LinkRoom extends BaseEntity {
 
     private String name;
 
+    // 삭제 요청 시각 (tombstone), 하위 데이터는 RoomPurger 가 나눠서 지운 뒤 행 자체를 지운다
+    private LocalDateTime deletedAt;
+
     @ManyToOne
     private User owner;
 
-    @OneToMany(mappedBy = "room", cascade = CascadeType.REMOVE, orphanRemoval = true)
+    // cascade 를 두지 않는다: 방 삭제 시 하위 행을 한 건씩 읽어 지우지 않도록 RoomPurger 의 bulk DELETE 로만 정리
+    @OneToMany(mappedBy = "room")
     private List<RoomMember> members = new ArrayList<>();
 
-    @OneToMany(mappedBy = "room", cascade = CascadeType.ALL, orphanRemoval = true)
+    @OneToMany(mappedBy = "room")
     private List<ChatMessage> messages = new ArrayList<>();
 
 }
\ No newline at end of file
@@ -42,4 +42,20 @@ public class RoomMember extends BaseEntity {
     private LocalDateTime invitedAt;
     private LocalDateTime respondedAt;
 
+    // 읽음 커서 / 안 읽은 메시지 수: RoomUnreadCounters 와 읽음 처리 쿼리만 갱신한다.
+    // (엔티티 저장 시 덮어쓰지 않도록 updatable = false)
+    @Column(name = "last_read_at", updatable = false)
+    private LocalDateTime lastReadAt;
+
+    // 마지막으로 읽은 방 이벤트 순번, 이후 순번의 메시지만 안 읽은 수에 더한다
+    @Column(name = "last_read_seq", nullable = false, updatable = false, columnDefinition = "bigint default 0 not null")
+    private long lastReadSeq;
+
+    // 안 읽은 수에 더해진 메시지 중 가장 큰 순번
+    @Column(name = "counted_seq", nullable = false, updatable = false, columnDefinition = "bigint default 0 not null")
+    private long countedSeq;
+
+    @Column(name = "unread_count", nullable = false, updatable = false, columnDefinition = "int default 0 not null")
+    private int unreadCount;
+
 }
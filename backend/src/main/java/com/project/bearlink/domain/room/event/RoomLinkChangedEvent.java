@@ -0,0 +1,6 @@
+package com.project.bearlink.domain.room.event;
+
+import com.project.bearlink.domain.room.dto.RoomMessageDto;
+
+// 방 링크 추가/수정/삭제 (커밋 후 RoomLinkEventCoalescer 가 모아서 브로드캐스트)
+public record RoomLinkChangedEvent(Long roomId, Long linkId, RoomMessageDto message) {}
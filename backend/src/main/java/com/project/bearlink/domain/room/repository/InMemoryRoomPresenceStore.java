@@ -0,0 +1,83 @@
+package com.project.bearlink.domain.room.repository;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+// 단일 노드/테스트용 presence 저장소 (custom.store.type=memory)
+// 구조는 Redis 구현과 같고, 모든 변경은 하나의 lock 안에서 처리한다.
+@Repository
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "memory")
+public class InMemoryRoomPresenceStore implements RoomPresenceStore {
+
+    // 방 id → (userId:sessionId → 만료 시각)
+    private final Map<Long, Map<String, Long>> rooms = new HashMap<>();
+
+    @Override
+    public synchronized boolean join(Long roomId, PresenceSession session, long expiresAtMillis, long nowMillis) {
+        Map<String, Long> members = rooms.computeIfAbsent(roomId, k -> new HashMap<>());
+        boolean present = isPresent(members, session.userId(), nowMillis);
+        members.put(session.member(), expiresAtMillis);
+        return !present;
+    }
+
+    @Override
+    public synchronized boolean leave(Long roomId, PresenceSession session, long nowMillis) {
+        Map<String, Long> members = rooms.get(roomId);
+        if (members == null || members.remove(session.member()) == null) return false;
+
+        boolean present = isPresent(members, session.userId(), nowMillis);
+        if (members.isEmpty()) rooms.remove(roomId);
+        return !present;
+    }
+
+    @Override
+    public synchronized void refresh(Long roomId, Collection<PresenceSession> sessions, long expiresAtMillis) {
+        if (sessions.isEmpty()) return;
+
+        Map<String, Long> members = rooms.computeIfAbsent(roomId, k -> new HashMap<>());
+        for (PresenceSession session : sessions) members.put(session.member(), expiresAtMillis);
+    }
+
+    @Override
+    public synchronized Set<Long> sweep(Long roomId, long nowMillis) {
+        Map<String, Long> members = rooms.get(roomId);
+        if (members == null) return Set.of();
+
+        Set<Long> expired = new LinkedHashSet<>();
+        members.entrySet().removeIf(e -> {
+            if (e.getValue() > nowMillis) return false;
+            expired.add(RoomPresenceStore.userIdOf(e.getKey()));
+            return true;
+        });
+        if (members.isEmpty()) rooms.remove(roomId);
+
+        expired.removeIf(userId -> members.keySet().stream()
+                .anyMatch(member -> RoomPresenceStore.userIdOf(member).equals(userId)));
+        return expired;
+    }
+
+    @Override
+    public synchronized Set<Long> users(Long roomId, long nowMillis) {
+        Map<String, Long> members = rooms.get(roomId);
+        if (members == null) return Set.of();
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        members.forEach((member, expiresAt) -> {
+            if (expiresAt > nowMillis) userIds.add(RoomPresenceStore.userIdOf(member));
+        });
+        return userIds;
+    }
+
+    private static boolean isPresent(Map<String, Long> members, Long userId, long nowMillis) {
+        for (Map.Entry<String, Long> e : members.entrySet()) {
+            if (e.getValue() > nowMillis && RoomPresenceStore.userIdOf(e.getKey()).equals(userId)) return true;
+        }
+        return false;
+    }
+}
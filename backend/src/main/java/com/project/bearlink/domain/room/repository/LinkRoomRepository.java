@@ -3,9 +3,12 @@ package com.project.bearlink.domain.room.repository;
 import com.project.bearlink.domain.room.dto.RoomsDto;
 import com.project.bearlink.domain.room.entity.LinkRoom;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 public interface LinkRoomRepository extends JpaRepository<LinkRoom, Long> {
@@ -18,4 +21,16 @@ public interface LinkRoomRepository extends JpaRepository<LinkRoom, Long> {
     List<LinkRoom> findAllRoomsParticipatedByUser(@Param("userId") Long userId);
 
     List<LinkRoom> findByOwnerId(Long userId);
+
+    // 삭제 표시 (행 하나만 갱신, 이미 삭제 표시된 방이면 0)
+    @Transactional
+    @Modifying
+    @Query(value = "UPDATE link_room SET deleted_at = :deletedAt WHERE id = :roomId AND deleted_at IS NULL",
+            nativeQuery = true)
+    int tombstone(@Param("roomId") Long roomId, @Param("deletedAt") LocalDateTime deletedAt);
+
+    // 정리 대기 중인 방 (엔티티의 deleted_at IS NULL 조건을 피하기 위해 native)
+    @Query(value = "SELECT id FROM link_room WHERE deleted_at IS NOT NULL ORDER BY deleted_at LIMIT :limit",
+            nativeQuery = true)
+    List<Long> findTombstonedIds(@Param("limit") int limit);
 }
@@ -0,0 +1,124 @@
+package com.project.bearlink.domain.room.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Redis 기반 presence 저장소
+//   room:{id}:presence → zset (member = userId:sessionId, score = 만료 시각 ms), 키 자체도 TTL
+// 입장/퇴장/정리는 Lua 스크립트로 처리 → 여러 노드가 동시에 바꿔도 사용자 입장/퇴장 판단이 한 번만 난다.
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisRoomPresenceStore implements RoomPresenceStore {
+
+    // KEYS[1]=presence / ARGV[1]=member, ARGV[2]=userId, ARGV[3]=expiresAt, ARGV[4]=now, ARGV[5]=ttlSeconds
+    private static final RedisScript<Long> JOIN = new DefaultRedisScript<>("""
+            local present = 0
+            for _, m in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. ARGV[4], '+inf')) do
+              if string.match(m, '^(%d+):') == ARGV[2] then present = 1 break end
+            end
+            redis.call('ZADD', KEYS[1], ARGV[3], ARGV[1])
+            redis.call('EXPIRE', KEYS[1], ARGV[5])
+            return 1 - present
+            """, Long.class);
+
+    // KEYS[1]=presence / ARGV[1]=member, ARGV[2]=userId, ARGV[3]=now
+    private static final RedisScript<Long> LEAVE = new DefaultRedisScript<>("""
+            if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then return 0 end
+            for _, m in ipairs(redis.call('ZRANGEBYSCORE', KEYS[1], '(' .. ARGV[3], '+inf')) do
+              if string.match(m, '^(%d+):') == ARGV[2] then return 0 end
+            end
+            return 1
+            """, Long.class);
+
+    // KEYS[1]=presence / ARGV[1]=expiresAt, ARGV[2]=ttlSeconds, ARGV[3..]=member
+    private static final RedisScript<Long> REFRESH = new DefaultRedisScript<>("""
+            for i = 3, #ARGV do redis.call('ZADD', KEYS[1], ARGV[1], ARGV[i]) end
+            redis.call('EXPIRE', KEYS[1], ARGV[2])
+            return #ARGV - 2
+            """, Long.class);
+
+    // KEYS[1]=presence / ARGV[1]=now → 방에서 사라진 userId 목록
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SWEEP = new DefaultRedisScript<>("""
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            if #expired == 0 then return {} end
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[1])
+            local live = {}
+            for _, m in ipairs(redis.call('ZRANGE', KEYS[1], 0, -1)) do live[string.match(m, '^(%d+):')] = true end
+            local gone = {}
+            for _, m in ipairs(expired) do
+              local uid = string.match(m, '^(%d+):')
+              if not live[uid] then live[uid] = true table.insert(gone, uid) end
+            end
+            return gone
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${custom.room.presence.ttlSeconds:30}")
+    private long ttlSeconds;
+
+    @Override
+    public boolean join(Long roomId, PresenceSession session, long expiresAtMillis, long nowMillis) {
+        Long joined = redisTemplate.execute(JOIN, key(roomId), session.member(), session.userId().toString(),
+                String.valueOf(expiresAtMillis), String.valueOf(nowMillis), String.valueOf(ttlSeconds));
+        return joined != null && joined == 1L;
+    }
+
+    @Override
+    public boolean leave(Long roomId, PresenceSession session, long nowMillis) {
+        Long left = redisTemplate.execute(LEAVE, key(roomId), session.member(), session.userId().toString(),
+                String.valueOf(nowMillis));
+        return left != null && left == 1L;
+    }
+
+    @Override
+    public void refresh(Long roomId, Collection<PresenceSession> sessions, long expiresAtMillis) {
+        if (sessions.isEmpty()) return;
+
+        Object[] args = new Object[sessions.size() + 2];
+        args[0] = String.valueOf(expiresAtMillis);
+        args[1] = String.valueOf(ttlSeconds);
+        int i = 2;
+        for (PresenceSession session : sessions) args[i++] = session.member();
+
+        redisTemplate.execute(REFRESH, key(roomId), args);
+    }
+
+    @Override
+    public Set<Long> sweep(Long roomId, long nowMillis) {
+        List<?> gone = redisTemplate.execute(SWEEP, key(roomId), String.valueOf(nowMillis));
+        if (gone == null || gone.isEmpty()) return Set.of();
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (Object userId : gone) userIds.add(Long.valueOf(userId.toString()));
+        return userIds;
+    }
+
+    @Override
+    public Set<Long> users(Long roomId, long nowMillis) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .rangeByScore(key(roomId).get(0), nowMillis + 1, Double.POSITIVE_INFINITY);
+        if (members == null || members.isEmpty()) return Set.of();
+
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (String member : members) userIds.add(RoomPresenceStore.userIdOf(member));
+        return userIds;
+    }
+
+    // 방 이벤트 키(room:{id}:seq, room:{id}:log)와 같은 hash slot
+    private static List<String> key(Long roomId) {
+        return List.of("room:{" + roomId + "}:presence");
+    }
+}
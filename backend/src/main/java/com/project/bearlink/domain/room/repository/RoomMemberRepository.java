@@ -1,14 +1,20 @@
 package com.project.bearlink.domain.room.repository;
 
 
+import com.project.bearlink.domain.room.dto.InviteFriendWithStatusResponse;
+import com.project.bearlink.domain.room.dto.RoomsDto;
 import com.project.bearlink.domain.room.entity.InvitationStatus;
 import com.project.bearlink.domain.room.entity.LinkRoom;
 import com.project.bearlink.domain.room.entity.RoomMember;
 import com.project.bearlink.domain.user.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 
@@ -18,13 +24,62 @@ public interface RoomMemberRepository extends JpaRepository<RoomMember, Long> {
     List<RoomMember> findByRoomId(Long roomId);
     List<RoomMember> findByRoomAndStatus(LinkRoom room, InvitationStatus status);
 
-    @Query("SELECT DISTINCT rm.room FROM RoomMember rm WHERE rm.user.id = :userId AND rm.status = 'ACCEPTED'")
+    @Query("SELECT DISTINCT rm.room FROM RoomMember rm WHERE rm.user.id = :userId AND rm.status = 'ACCEPTED' AND rm.room.deletedAt IS NULL")
     List<LinkRoom> findAcceptedRoomsByUserId(@Param("userId") Long userId);
 
+    // 방 목록 + 안 읽은 수 (멤버 행 하나씩, 메시지 수와 무관)
+    @Query("""
+    SELECT new com.project.bearlink.domain.room.dto.RoomsDto(r.id, r.name, rm.unreadCount)
+    FROM RoomMember rm
+    JOIN rm.room r
+    WHERE rm.user.id = :userId AND rm.status = 'ACCEPTED' AND r.deletedAt IS NULL
+""")
+    List<RoomsDto> findAcceptedRoomsWithUnread(@Param("userId") Long userId);
+
+    // 친구 그래프 캐시에서 얻은 친구 id 들의 이 방 초대 상태 (한 번에)
+    @Query("""
+    SELECT new com.project.bearlink.domain.room.dto.InviteFriendWithStatusResponse(u.id, u.nickname, u.email, rm.status)
+    FROM User u
+    LEFT JOIN RoomMember rm ON rm.user.id = u.id AND rm.room.id = :roomId
+    WHERE u.id IN :userIds
+""")
+    List<InviteFriendWithStatusResponse> findInviteStatuses(@Param("roomId") Long roomId,
+                                                            @Param("userIds") Collection<Long> userIds);
+
+    // 읽음 처리: 순번 readSeq 까지 읽음 (unread_count 는 엔티티로 갱신하지 않으므로 native)
+    // 0 으로 덮지 않고, 이미 더해진 readSeq 이후 메시지 수(최대 counted_seq - readSeq)는 남긴다.
+    // 커서는 뒤로 가지 않는다 (더 앞선 읽음이 먼저 반영된 경우 안 읽은 수도 그대로).
+    @Transactional
+    @Modifying
+    @Query(value = """
+    UPDATE room_member
+    SET unread_count = CASE
+            WHEN last_read_seq >= :readSeq THEN unread_count
+            WHEN counted_seq <= :readSeq THEN 0
+            ELSE LEAST(unread_count, counted_seq - :readSeq)
+        END,
+        last_read_seq = GREATEST(last_read_seq, :readSeq),
+        last_read_at = :readAt
+    WHERE room_id = :roomId AND user_id = :userId AND status = 'ACCEPTED'
+""", nativeQuery = true)
+    int markRead(@Param("roomId") Long roomId, @Param("userId") Long userId,
+                 @Param("readSeq") long readSeq, @Param("readAt") LocalDateTime readAt);
+
+    // STOMP 세션 인가용 (엔티티 대신 id 만)
+    @Query("SELECT rm.room.id FROM RoomMember rm WHERE rm.user.id = :userId AND rm.status = 'ACCEPTED' AND rm.room.deletedAt IS NULL")
+    List<Long> findAcceptedRoomIdsByUserId(@Param("userId") Long userId);
+
+    @Query("""
+    SELECT COUNT(rm) > 0 FROM RoomMember rm
+    WHERE rm.room.id = :roomId AND rm.user.id = :userId AND rm.status = 'ACCEPTED'
+      AND rm.room.deletedAt IS NULL
+""")
+    boolean existsAcceptedMember(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
     @Query("""
     SELECT m FROM RoomMember m
     JOIN FETCH m.room
-    WHERE m.user = :user AND m.status = :status
+    WHERE m.user = :user AND m.status = :status AND m.room.deletedAt IS NULL
 """)
     List<RoomMember> findWithRoomByUserAndStatus(
             @Param("user") User user,
@@ -0,0 +1,37 @@
+package com.project.bearlink.domain.room.repository;
+
+import java.util.Collection;
+import java.util.Set;
+
+// 방 presence 저장소 (노드 간 공유)
+// 방마다 STOMP 세션 단위 항목(userId:sessionId → 만료 시각)을 두고, 노드가 주기적으로 만료를 연장한다.
+// 노드가 죽어 연장이 멈추면 항목이 만료되어 다음 sweep 에서 퇴장 처리된다.
+// 한 사용자가 여러 세션(탭/기기)으로 들어와 있을 수 있으므로 입장/퇴장 여부는 사용자 단위로 판단한다.
+public interface RoomPresenceStore {
+
+    record PresenceSession(Long userId, String sessionId) {
+        public String member() {
+            return userId + ":" + sessionId;
+        }
+    }
+
+    // 세션 입장, 이 사용자가 방에 새로 나타났으면 true
+    boolean join(Long roomId, PresenceSession session, long expiresAtMillis, long nowMillis);
+
+    // 세션 퇴장, 이 사용자의 마지막 세션이었으면 true
+    boolean leave(Long roomId, PresenceSession session, long nowMillis);
+
+    // 살아 있는 세션들의 만료 연장
+    void refresh(Long roomId, Collection<PresenceSession> sessions, long expiresAtMillis);
+
+    // 만료된 세션 정리, 방에서 사라진 사용자 id
+    Set<Long> sweep(Long roomId, long nowMillis);
+
+    // 현재 방에 있는 사용자 id
+    Set<Long> users(Long roomId, long nowMillis);
+
+
+    static Long userIdOf(String member) {
+        return Long.valueOf(member.substring(0, member.indexOf(':')));
+    }
+}
@@ -0,0 +1,162 @@
+package com.project.bearlink.domain.room.service;
+
+import com.project.bearlink.domain.chat.entity.MessageType;
+import com.project.bearlink.domain.room.dto.RoomMessageDto;
+import com.project.bearlink.domain.room.event.RoomLinkChangedEvent;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 방 링크 이벤트 합치기
+// 같은 방의 링크 이벤트를 windowMillis 동안 모은 뒤 한 번에 내보낸다. (첫 이벤트 기준 고정 창 → 지연 상한 = window)
+//  - 같은 링크의 UPDATE 여러 번 → 마지막 UPDATE 하나
+//  - ADD 후 UPDATE → 최신 제목/URL 을 담은 ADD 하나
+//  - UPDATE 후 DELETE → DELETE 하나 / ADD 후 DELETE → 둘 다 버림 (구독자는 본 적 없는 링크)
+// 남은 이벤트가 하나면 그대로, 여러 개면 LINK_BATCH 프레임 하나로 보낸다.
+@Slf4j
+@Component
+public class RoomLinkEventCoalescer implements SmartLifecycle {
+
+    private final RoomBroadcaster roomBroadcaster;
+    private final long windowMillis;
+
+    // 방 → (linkId → 합쳐진 이벤트), 방 단위로 lock
+    private final Map<Long, Map<Long, RoomMessageDto>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread t = new Thread(runnable, "room-link-coalescer");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Counter received;
+    private final Counter sent;
+
+    private volatile boolean running;
+
+    public RoomLinkEventCoalescer(RoomBroadcaster roomBroadcaster,
+                                  @Value("${custom.room.linkCoalesce.windowMillis:200}") long windowMillis,
+                                  MeterRegistry meterRegistry) {
+        this.roomBroadcaster = roomBroadcaster;
+        this.windowMillis = windowMillis;
+
+        this.received = Counter.builder("room.linkEvents.received").register(meterRegistry);
+        this.sent = Counter.builder("room.linkEvents.sent").register(meterRegistry);
+    }
+
+    @EventListener
+    public void onLinkChanged(RoomLinkChangedEvent event) {
+        received.increment();
+        if (windowMillis <= 0 || !running) {
+            send(event.roomId(), List.of(event.message()));
+            return;
+        }
+
+        boolean[] opened = new boolean[1];
+        pending.compute(event.roomId(), (roomId, links) -> {
+            if (links == null) {
+                links = new LinkedHashMap<>();
+                opened[0] = true;
+            }
+            merge(links, event.linkId(), event.message());
+            return links;
+        });
+
+        // 방의 첫 이벤트가 창을 연다
+        if (opened[0]) {
+            scheduler.schedule(() -> flush(event.roomId()), windowMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static void merge(Map<Long, RoomMessageDto> links, Long linkId, RoomMessageDto next) {
+        RoomMessageDto previous = links.get(linkId);
+        if (previous == null) {
+            links.put(linkId, next);
+            return;
+        }
+
+        boolean added = previous.getType() == MessageType.LINK_ADD;
+        switch (next.getType()) {
+            case LINK_UPDATE -> {
+                if (added) {
+                    // 받은 이벤트는 다른 리스너와 공유하므로 고치지 않고 새로 만든다
+                    links.put(linkId, previous.toBuilder()
+                            .linkTitle(next.getLinkTitle())
+                            .linkUrl(next.getLinkUrl())
+                            .build());
+                } else {
+                    links.put(linkId, next);
+                }
+            }
+            case LINK_DELETE -> {
+                if (added) links.remove(linkId);
+                else links.put(linkId, next);
+            }
+            default -> links.put(linkId, next);
+        }
+    }
+
+    private void flush(Long roomId) {
+        Map<Long, RoomMessageDto> links = pending.remove(roomId);
+        if (links == null || links.isEmpty()) return;
+
+        try {
+            send(roomId, new ArrayList<>(links.values()));
+        } catch (Exception e) {
+            log.error("링크 이벤트 전송 실패: roomId={}, size={}", roomId, links.size(), e);
+        }
+    }
+
+    private void send(Long roomId, List<RoomMessageDto> events) {
+        if (events.size() == 1) {
+            roomBroadcaster.broadcast(roomId, events.get(0));
+        } else {
+            RoomMessageDto last = events.get(events.size() - 1);
+            roomBroadcaster.broadcast(roomId, RoomMessageDto.builder()
+                    .roomId(roomId)
+                    .senderId(last.getSenderId())
+                    .senderName(last.getSenderName())
+                    .type(MessageType.LINK_BATCH)
+                    .events(events)
+                    .build());
+        }
+        sent.increment();
+    }
+
+
+    @Override
+    public void start() {
+        running = true;
+    }
+
+    // 종료 시 모아 둔 이벤트를 바로 내보냄 (커밋 후 이벤트 전달기가 비워진 뒤)
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdownNow();
+        for (Long roomId : List.copyOf(pending.keySet())) flush(roomId);
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 3584;
+    }
+}
@@ -5,16 +5,17 @@ import com.project.bearlink.domain.room.dto.RoomLinkDto;
 import com.project.bearlink.domain.room.dto.RoomLinkListDto;
 import com.project.bearlink.domain.room.dto.RoomMessageDto;
 import com.project.bearlink.domain.room.entity.LinkRoom;
+import com.project.bearlink.domain.room.event.RoomLinkChangedEvent;
 import com.project.bearlink.domain.room.entity.RoomLink;
 import com.project.bearlink.domain.room.repository.LinkRoomRepository;
 import com.project.bearlink.domain.room.repository.RoomLinkRepository;
 import com.project.bearlink.domain.user.user.entity.User;
 import com.project.bearlink.domain.user.user.repository.UserRepository;
+import com.project.bearlink.global.event.AfterCommitEventDispatcher;
 import com.project.bearlink.global.exception.ApiException;
 import com.project.bearlink.global.exception.ErrorCode;
 import com.project.bearlink.global.security.auth.SecurityUser;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,15 +30,16 @@ public class RoomLinkService {
     private final LinkRoomRepository linkRoomRepository;
     private final UserRepository userRepository;
     private final RoomLinkRepository roomLinkRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final AfterCommitEventDispatcher afterCommitEventDispatcher;
 
     @Transactional(readOnly = false)
     public Long addLink(Long roomId, RoomLinkDto dto,SecurityUser currentUser){
         LinkRoom room = linkRoomRepository.findById(roomId)
                 .orElseThrow(() -> new ApiException(ErrorCode.ROOM_NOT_FOUND));
 
-        User user = userRepository.findById(currentUser.getId())
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+        // creator FK 만 필요 (존재만 확인)
+        if (!userRepository.existsById(currentUser.getId())) throw new ApiException(ErrorCode.USER_NOT_FOUND);
+        User user = userRepository.getReferenceById(currentUser.getId());
 
 
         RoomLink saved = roomLinkRepository.save(RoomLink.builder()
@@ -57,7 +59,7 @@ public class RoomLinkService {
                 .linkUrl(saved.getUrl())
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/room/" + roomId, message);
+        afterCommitEventDispatcher.publish(new RoomLinkChangedEvent(roomId, saved.getId(), message)); // 커밋 후 브로드캐스트
 
         return saved.getId();
     }
@@ -81,7 +83,7 @@ public class RoomLinkService {
                 .linkUrl(dto.getUrl())
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/room/" + roomId, message);
+        afterCommitEventDispatcher.publish(new RoomLinkChangedEvent(roomId, linkId, message)); // 커밋 후 브로드캐스트
     }
 
     @Transactional(readOnly = false)
@@ -96,7 +98,7 @@ public class RoomLinkService {
                 .content(linkId.toString())
                 .build();
 
-        messagingTemplate.convertAndSend("/topic/room/" + roomId, message);
+        afterCommitEventDispatcher.publish(new RoomLinkChangedEvent(roomId, linkId, message)); // 커밋 후 브로드캐스트
     }
 
     public List<RoomLinkListDto> getLinks(Long roomId){
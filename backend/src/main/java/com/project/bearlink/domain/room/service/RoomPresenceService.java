@@ -0,0 +1,191 @@
+package com.project.bearlink.domain.room.service;
+
+import com.project.bearlink.domain.room.dto.RoomPresenceDiffDto;
+import com.project.bearlink.domain.room.dto.RoomPresenceDto;
+import com.project.bearlink.domain.room.repository.RoomMemberRepository;
+import com.project.bearlink.domain.room.repository.RoomPresenceStore;
+import com.project.bearlink.domain.room.repository.RoomPresenceStore.PresenceSession;
+import com.project.bearlink.domain.user.user.service.UserSnapshotCache;
+import com.project.bearlink.global.exception.ApiException;
+import com.project.bearlink.global.exception.ErrorCode;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
+import com.project.bearlink.global.websocket.StompPrincipal;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 방 presence (누가 지금 방을 보고 있는지)
+// 방 topic 구독 = 입장, 구독 해제/연결 종료 = 퇴장. ENTER/LEAVE 채팅 메시지는 더 이상 저장하지 않는다.
+//  - 노드: 방마다 로컬 세션 집합을 들고 있다가 refreshMillis 마다 저장소의 만료 시각을 연장
+//  - 응답 없는 클라이언트는 STOMP heartbeat 가 끊기면 broker 가 세션을 닫아 연결 종료로 처리
+//  - 노드가 죽으면 연장이 멈춰 ttl 뒤 만료 → 다른 노드의 sweep 이 퇴장을 알린다
+// 입장/퇴장은 사용자 단위(첫 세션 입장, 마지막 세션 퇴장)로만 PRESENCE 프레임을 보낸다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RoomPresenceService {
+
+    private final RoomPresenceStore roomPresenceStore;
+    private final RoomBroadcaster roomBroadcaster;
+    private final RoomMemberRepository roomMemberRepository;
+    private final UserSnapshotCache userSnapshotCache;
+
+    @Value("${custom.room.presence.ttlSeconds:30}")
+    private long ttlSeconds;
+
+    private static final class SessionState {
+        final StompPrincipal principal;
+        final Map<String, Long> subscriptions = new HashMap<>(); // subscriptionId → roomId
+        boolean closed;
+
+        SessionState(StompPrincipal principal) {
+            this.principal = principal;
+        }
+    }
+
+    private final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    // 방 → 이 노드에서 방을 보고 있는 세션 (sessionId → principal)
+    private final Map<Long, Map<String, StompPrincipal>> rooms = new ConcurrentHashMap<>();
+
+    public RoomPresenceDto getPresence(Long roomId, Long userId) {
+        if (!roomMemberRepository.existsAcceptedMember(roomId, userId)) {
+            throw new ApiException(ErrorCode.ACCESS_DENIED);
+        }
+
+        Set<Long> userIds = roomPresenceStore.users(roomId, System.currentTimeMillis());
+        List<RoomPresenceDto.PresenceUser> users = new ArrayList<>(userIds.size());
+        for (Long id : userIds) users.add(user(id));
+        return new RoomPresenceDto(roomId, users);
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Long roomId = RoomBroadcaster.roomIdOf(accessor.getDestination());
+        if (roomId == null || !(event.getUser() instanceof StompPrincipal principal)) return;
+
+        String sessionId = accessor.getSessionId();
+        SessionState state = sessions.computeIfAbsent(sessionId, k -> new SessionState(principal));
+
+        boolean entered;
+        synchronized (state) {
+            if (state.closed) return;
+            entered = !state.subscriptions.containsValue(roomId);
+            state.subscriptions.put(accessor.getSubscriptionId(), roomId);
+        }
+        if (entered) enter(roomId, sessionId, principal);
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        SessionState state = sessions.get(accessor.getSessionId());
+        if (state == null) return;
+
+        Long roomId;
+        synchronized (state) {
+            roomId = state.subscriptions.remove(accessor.getSubscriptionId());
+            if (roomId == null || state.subscriptions.containsValue(roomId)) return;
+        }
+        exit(roomId, accessor.getSessionId(), state.principal);
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        SessionState state = sessions.remove(event.getSessionId());
+        if (state == null) return;
+
+        Set<Long> roomIds;
+        synchronized (state) {
+            state.closed = true;
+            roomIds = Set.copyOf(state.subscriptions.values());
+            state.subscriptions.clear();
+        }
+        roomIds.forEach(roomId -> exit(roomId, event.getSessionId(), state.principal));
+    }
+
+    // 로컬 세션의 만료 연장 + 만료된(죽은 노드의) 세션 정리
+    @Scheduled(fixedDelayString = "${custom.room.presence.refreshMillis:10000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        long expiresAt = now + ttlSeconds * 1000;
+
+        rooms.forEach((roomId, local) -> {
+            try {
+                List<PresenceSession> alive = new ArrayList<>(local.size());
+                local.forEach((sessionId, principal) -> alive.add(new PresenceSession(principal.userId(), sessionId)));
+                roomPresenceStore.refresh(roomId, alive, expiresAt);
+
+                Set<Long> gone = roomPresenceStore.sweep(roomId, now);
+                if (!gone.isEmpty()) {
+                    signal(roomId, List.of(), gone.stream().map(this::user).toList());
+                }
+            } catch (Exception e) {
+                log.warn("presence 갱신 실패: roomId={}", roomId, e);
+            }
+        });
+    }
+
+    private void enter(Long roomId, String sessionId, StompPrincipal principal) {
+        rooms.computeIfAbsent(roomId, k -> new ConcurrentHashMap<>()).put(sessionId, principal);
+
+        long now = System.currentTimeMillis();
+        try {
+            if (roomPresenceStore.join(roomId, new PresenceSession(principal.userId(), sessionId),
+                    now + ttlSeconds * 1000, now)) {
+                signal(roomId, List.of(user(principal)), List.of());
+            }
+        } catch (Exception e) {
+            // 다음 refresh 에서 저장소에 다시 반영된다
+            log.warn("presence 입장 처리 실패: roomId={}, userId={}", roomId, principal.userId(), e);
+        }
+    }
+
+    private void exit(Long roomId, String sessionId, StompPrincipal principal) {
+        rooms.computeIfPresent(roomId, (id, local) -> {
+            local.remove(sessionId);
+            return local.isEmpty() ? null : local;
+        });
+
+        try {
+            if (roomPresenceStore.leave(roomId, new PresenceSession(principal.userId(), sessionId),
+                    System.currentTimeMillis())) {
+                signal(roomId, List.of(), List.of(user(principal)));
+            }
+        } catch (Exception e) {
+            // 연장이 멈췄으므로 ttl 뒤 sweep 에서 정리된다
+            log.warn("presence 퇴장 처리 실패: roomId={}, userId={}", roomId, principal.userId(), e);
+        }
+    }
+
+    private void signal(Long roomId, List<RoomPresenceDto.PresenceUser> joined, List<RoomPresenceDto.PresenceUser> left) {
+        roomBroadcaster.signal(roomId, RoomPresenceDiffDto.of(roomId, joined, left));
+    }
+
+    private RoomPresenceDto.PresenceUser user(StompPrincipal principal) {
+        return new RoomPresenceDto.PresenceUser(principal.userId(), principal.nickname());
+    }
+
+    // 탈퇴 등으로 사용자가 없으면 닉네임 없이
+    private RoomPresenceDto.PresenceUser user(Long userId) {
+        try {
+            return new RoomPresenceDto.PresenceUser(userId, userSnapshotCache.get(userId).nickname());
+        } catch (ApiException e) {
+            return new RoomPresenceDto.PresenceUser(userId, null);
+        }
+    }
+}
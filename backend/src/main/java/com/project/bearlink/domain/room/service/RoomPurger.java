@@ -0,0 +1,106 @@
+package com.project.bearlink.domain.room.service;
+
+import com.project.bearlink.domain.room.repository.LinkRoomRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 삭제 표시된 방의 하위 데이터 정리
+// 엔티티를 읽지 않고 DELETE ... WHERE room_id = ? LIMIT n 을 반복한다.
+// chunk 마다 TransactionTemplate 으로 따로 커밋 → 락/undo 가 chunkSize 로 제한된다.
+// (prod 는 hikari auto-commit=false 라 트랜잭션 없이 실행하면 커넥션 반납 시 롤백되어 아무것도 지워지지 않는다)
+// FK 순서대로 (링크 → 채팅 → 멤버) 지운 뒤 방 행을 지운다. 중간에 멈춰도 다음 주기에 이어서 지운다.
+// 여러 노드가 같은 방을 동시에 정리해도 DELETE 가 멱등이라 결과는 같다.
+@Slf4j
+@Component
+public class RoomPurger {
+
+    private static final List<String> CHILD_TABLES = List.of("room_link", "chat_message", "room_member");
+
+    private final LinkRoomRepository linkRoomRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final int roomsPerRun;
+
+    private final Map<String, Counter> deletedRows;
+    private final Counter purgedRooms;
+    private final Timer purgeTimer;
+    private final AtomicInteger backlog = new AtomicInteger();
+
+    public RoomPurger(LinkRoomRepository linkRoomRepository,
+                      JdbcTemplate jdbcTemplate,
+                      PlatformTransactionManager transactionManager,
+                      @Value("${custom.room.purge.chunkSize:1000}") int chunkSize,
+                      @Value("${custom.room.purge.roomsPerRun:10}") int roomsPerRun,
+                      MeterRegistry meterRegistry) {
+        this.linkRoomRepository = linkRoomRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.roomsPerRun = roomsPerRun;
+
+        this.deletedRows = Map.of(
+                "room_link", rowCounter(meterRegistry, "room_link"),
+                "chat_message", rowCounter(meterRegistry, "chat_message"),
+                "room_member", rowCounter(meterRegistry, "room_member"));
+        this.purgedRooms = Counter.builder("room.purge.rooms").register(meterRegistry);
+        this.purgeTimer = Timer.builder("room.purge.duration").register(meterRegistry);
+        Gauge.builder("room.purge.backlog", backlog, AtomicInteger::get).register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${custom.room.purge.intervalMillis:5000}")
+    public void purgeTombstoned() {
+        List<Long> roomIds = linkRoomRepository.findTombstonedIds(roomsPerRun);
+        backlog.set(roomIds.size());
+
+        for (Long roomId : roomIds) {
+            try {
+                purgeTimer.record(() -> purge(roomId));
+                purgedRooms.increment();
+            } catch (Exception e) {
+                log.warn("방 정리 실패, 다음 주기에 재시도: roomId={}", roomId, e);
+            }
+            backlog.decrementAndGet();
+        }
+    }
+
+    // 방 하나의 하위 행을 모두 지우고 방 행 삭제
+    void purge(Long roomId) {
+        long total = 0;
+        for (String table : CHILD_TABLES) {
+            String sql = "DELETE FROM " + table + " WHERE room_id = ? LIMIT ?";
+            int deleted;
+            do {
+                deleted = update(sql, roomId, chunkSize);
+                deletedRows.get(table).increment(deleted);
+                total += deleted;
+            } while (deleted == chunkSize);
+        }
+
+        update("DELETE FROM link_room WHERE id = ? AND deleted_at IS NOT NULL", roomId);
+        log.info("방 정리 완료: roomId={}, rows={}", roomId, total);
+    }
+
+    // 문장 하나 = 트랜잭션 하나
+    private int update(String sql, Object... args) {
+        Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update(sql, args));
+        return updated == null ? 0 : updated;
+    }
+
+    private static Counter rowCounter(MeterRegistry meterRegistry, String table) {
+        return Counter.builder("room.purge.rows").tag("table", table).register(meterRegistry);
+    }
+}
@@ -1,9 +1,8 @@
 package com.project.bearlink.domain.room.service;
 
 
-import com.project.bearlink.domain.friend.entity.FriendRequest;
-import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
 import com.project.bearlink.domain.friend.repository.FriendRequestRepository;
+import com.project.bearlink.domain.friend.service.FriendGraphCache;
 import com.project.bearlink.domain.room.dto.*;
 import com.project.bearlink.domain.room.entity.InvitationStatus;
 import com.project.bearlink.domain.room.entity.LinkRoom;
@@ -17,14 +16,16 @@ import com.project.bearlink.domain.user.user.entity.User;
 import com.project.bearlink.domain.user.user.repository.UserRepository;
 import com.project.bearlink.global.exception.ApiException;
 import com.project.bearlink.global.exception.ErrorCode;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -37,9 +38,14 @@ public class RoomService {
     private final RoomMemberRepository roomMemberRepository;
     private final RoomLinkRepository roomLinkRepository;
     private final FriendRequestRepository friendRequestRepository;
+    private final RoomBroadcaster roomBroadcaster;
+    private final FriendGraphCache friendGraphCache;
 
     @Transactional(readOnly = false)
-    public CreateLinkRoomResponse createRoom(CreateLinkRoomRequest request, User currentUser) {
+    public CreateLinkRoomResponse createRoom(CreateLinkRoomRequest request, Long userId) {
+        // FK 용 프록시 (엔티티는 읽지 않고 존재만 확인, 없으면 insert 시 FK 오류 대신 USER_NOT_FOUND)
+        if (!userRepository.existsById(userId)) throw new ApiException(ErrorCode.USER_NOT_FOUND);
+        User currentUser = userRepository.getReferenceById(userId);
 
         LinkRoom room = LinkRoom.builder()
                 .name(request.name())
@@ -60,33 +66,35 @@ public class RoomService {
         return new CreateLinkRoomResponse(room.getId(), room.getName());
     }
 
+    // 안 읽은 수는 멤버 행에 미리 집계되어 있으므로 방 수만큼만 읽는다
     public List<RoomsDto> getRooms(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-
-        List<LinkRoom> linkRooms = roomMemberRepository.findAcceptedRoomsByUserId(userId);
-
+        return roomMemberRepository.findAcceptedRoomsWithUnread(userId);
+    }
 
-        return linkRooms.stream()
-                .map(room -> new RoomsDto(room.getId(), room.getName()))
-                .collect(Collectors.toList());
+    // 방을 읽음 처리: 지금까지 발행된 방 이벤트 순번까지 읽은 것으로 기록
+    // 아직 반영되지 않은 증분(이 노드/다른 노드)은 순번으로 걸러지므로 먼저 flush 할 필요가 없다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void markRead(Long roomId, Long userId) {
+        long readSeq = roomBroadcaster.latestSeq(roomId);
+        if (roomMemberRepository.markRead(roomId, userId, readSeq, LocalDateTime.now()) == 0) {
+            throw new ApiException(ErrorCode.ACCESS_DENIED);
+        }
     }
 
+    // 삭제 표시만 하고 바로 반환 (하위 링크/메시지/멤버는 RoomPurger 가 나눠서 삭제)
+    // 표시된 방은 조회/입장/목록에서 즉시 빠진다.
     @Transactional(readOnly = false)
     public void deleteRooms(Long roomId){
-        LinkRoom linkRoom= linkRoomRepository.findById(roomId)
-                .orElseThrow(()-> new ApiException(ErrorCode.ROOM_NOT_FOUND));
-        List<RoomLink> links = roomLinkRepository.findByRoomId(roomId);
-
-        roomLinkRepository.deleteAll(links);
-        linkRoomRepository.delete(linkRoom);
+        if (linkRoomRepository.tombstone(roomId, LocalDateTime.now()) == 0) {
+            throw new ApiException(ErrorCode.ROOM_NOT_FOUND);
+        }
     }
 
     @Transactional(readOnly = false)
-    public void inviteUser(Long roomId, Long userId, User inviter) {
+    public void inviteUser(Long roomId, Long userId, Long inviterId) {
         LinkRoom room = linkRoomRepository.findById(roomId)
                 .orElseThrow(() -> new ApiException(ErrorCode.ROOM_NOT_FOUND));
-        if (!room.getOwner().getId().equals(inviter.getId())) {
+        if (!room.getOwner().getId().equals(inviterId)) {
             throw new ApiException(ErrorCode.ROOM_INVITE_FORBIDDEN);
         }
 
@@ -107,7 +115,8 @@ public class RoomService {
         roomMemberRepository.save(member);
     }
 
-    public List<InvitationResponse> getMyInvitations(User user) {
+    public List<InvitationResponse> getMyInvitations(Long userId) {
+        User user = userRepository.getReferenceById(userId);
         List<RoomMember> invitedMembers = roomMemberRepository.findWithRoomByUserAndStatus(user, InvitationStatus.INVITED);
 
         return invitedMembers.stream()
@@ -121,10 +130,10 @@ public class RoomService {
 
 
     @Transactional(readOnly = false)
-    public void acceptInvitation(Long roomMemberId, User user) {
+    public void acceptInvitation(Long roomMemberId, Long userId) {
         RoomMember member = roomMemberRepository.findById(roomMemberId)
                 .orElseThrow(() -> new ApiException(ErrorCode.ROOM_MEMBER_NOT_FOUND));
-        if (!member.getUser().getId().equals(user.getId())) {
+        if (!member.getUser().getId().equals(userId)) {
             throw new ApiException(ErrorCode.INVITATION_ACCESS_DENIED);
         }
         if (member.getStatus() != InvitationStatus.INVITED) {
@@ -137,10 +146,10 @@ public class RoomService {
     }
 
     @Transactional(readOnly = false)
-    public void declineInvitation(Long roomMemberId, User user) {
+    public void declineInvitation(Long roomMemberId, Long userId) {
         RoomMember member = roomMemberRepository.findById(roomMemberId)
                 .orElseThrow(() -> new ApiException(ErrorCode.ROOM_MEMBER_NOT_FOUND));
-        if (!member.getUser().getId().equals(user.getId())) {
+        if (!member.getUser().getId().equals(userId)) {
             throw new ApiException(ErrorCode.INVITATION_ACCESS_DENIED);
         }
         if (member.getStatus() != InvitationStatus.INVITED) {
@@ -164,51 +173,17 @@ public class RoomService {
     }
 
 
-    public List<InviteFriendWithStatusResponse> getInviteFriendsWithStatus(User currentUser, Long roomId) {
-        LinkRoom room = linkRoomRepository.findById(roomId)
-                .orElseThrow(() -> new ApiException(ErrorCode.ROOM_NOT_FOUND));
-
-        List<FriendRequest> acceptedFriends = friendRequestRepository.findByRequesterOrReceiverAndStatus(
-                currentUser,
-                currentUser,
-                FriendRequestStatus.ACCEPTED
-        );
+    // 초대 다이얼로그: 친구 목록 + 방 초대 상태를 한 번의 쿼리로
+    //  - 이 노드의 친구 그래프 캐시에 있으면 친구 id 로 방 상태만 조회
+    //  - 없으면 친구/방 멤버를 join 한 프로젝션 하나로 응답 (그래프는 대기 요청까지 함께 적재해야 하므로 채우지 않는다)
+    public List<InviteFriendWithStatusResponse> getInviteFriendsWithStatus(Long userId, Long roomId) {
+        long[] friendIds = friendGraphCache.friendsIfPresent(userId);
+        if (friendIds != null) {
+            if (friendIds.length == 0) return List.of();
+            return roomMemberRepository.findInviteStatuses(roomId, Arrays.stream(friendIds).boxed().toList());
+        }
 
-        List<RoomMember> roomMembers = roomMemberRepository.findByRoomId(roomId);
-
-        Map<Long, InvitationStatus> memberStatusMap = roomMembers.stream()
-                .collect(Collectors.toMap(
-                        rm -> rm.getUser().getId(),
-                        RoomMember::getStatus
-                ));
-
-        return acceptedFriends.stream()
-                .map(fr -> {
-                    User friend = fr.getRequester().getId().equals(currentUser.getId())
-                            ? fr.getReceiver()
-                            : fr.getRequester();
-
-                    InvitationStatus status = memberStatusMap.getOrDefault(friend.getId(), null);
-
-                    String invitationStatus;
-                    if (status == null) {
-                        invitationStatus = "NOT_INVITED";
-                    } else if (status == InvitationStatus.INVITED) {
-                        invitationStatus = "INVITED";
-                    } else if (status == InvitationStatus.ACCEPTED) {
-                        invitationStatus = "ACCEPTED";
-                    } else {
-                        invitationStatus = "DECLINED";
-                    }
-
-                    return new InviteFriendWithStatusResponse(
-                            friend.getId(),
-                            friend.getNickname(),
-                            friend.getEmail(),
-                            invitationStatus
-                    );
-                })
-                .toList();
+        return friendRequestRepository.findAcceptedFriendsWithRoomStatus(userId, roomId);
     }
 
 
@@ -0,0 +1,184 @@
+package com.project.bearlink.domain.room.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 방 멤버별 안 읽은 메시지 수 (room_member.unread_count) 증분 관리
+// 메시지마다 멤버 행을 갱신하지 않고, (방, 보낸 사람) 별로 메시지 순번(seq)을 메모리에 모았다가 flushMillis 마다 한 번에 반영한다.
+// 읽음 처리는 카운터를 0 으로 덮지 않고 읽은 위치(last_read_seq)를 기록하며, 증분은 그 위치 이후 메시지만 더한다.
+//   UPDATE room_member SET unread_count = unread_count + (seq 중 last_read_seq 보다 큰 것의 수)
+//   WHERE room_id = ? AND user_id <> 보낸 사람 AND last_read_seq < 가장 큰 seq
+// → 이미 꺼내 반영 중인 증분이나 다른 노드에 남은 증분이 읽음 처리 뒤에 도착해도 읽은 메시지를 다시 세지 않는다.
+// 집계 map 은 ConcurrentHashMap 의 bin 단위 lock 으로 나뉘어 있어 방 lane 스레드끼리 거의 경합하지 않는다.
+// 목록 조회는 DB 값만 읽으므로 최대 flushMillis 만큼 늦게 보일 수 있다.
+// 반영은 매번 TransactionTemplate 으로 커밋한다. (prod 는 hikari auto-commit=false)
+@Slf4j
+@Component
+public class RoomUnreadCounters implements SmartLifecycle {
+
+    private record Key(Long roomId, Long senderId) {}
+
+    // 문장 하나에 넣는 최대 seq 수 (CASE 분기 수)
+    private static final int MAX_SEQS_PER_STATEMENT = 32;
+
+    // seq 수 n 별 증분 SQL: 읽은 위치보다 큰 seq 의 수만큼 더하고, 센 seq 중 가장 큰 값을 counted_seq 에 남긴다
+    private static final String[] INCREMENT_SQL = new String[MAX_SEQS_PER_STATEMENT + 1];
+
+    static {
+        for (int n = 1; n <= MAX_SEQS_PER_STATEMENT; n++) {
+            StringBuilder sql = new StringBuilder("UPDATE room_member SET unread_count = unread_count + CASE");
+            for (int i = 0; i < n; i++) sql.append(" WHEN last_read_seq < ? THEN ").append(n - i);
+            sql.append(" ELSE 0 END, counted_seq = GREATEST(counted_seq, ?)")
+                    .append(" WHERE room_id = ? AND user_id <> ? AND status = 'ACCEPTED' AND last_read_seq < ?");
+            INCREMENT_SQL[n] = sql.toString();
+        }
+    }
+
+    // 한 (방, 보낸 사람) 의 반영 대기 seq (map 의 compute 안에서만 추가)
+    private static final class Seqs {
+        private long[] values = new long[4];
+        private int size;
+
+        Seqs add(long seq) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = seq;
+            return this;
+        }
+
+        long[] sorted() {
+            long[] sorted = Arrays.copyOf(values, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final long flushMillis;
+    private final Map<Key, Seqs> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread t = new Thread(runnable, "room-unread-flusher");
+        t.setDaemon(true);
+        return t;
+    });
+
+    private final Timer flushTimer;
+    private final Counter failed;
+
+    private volatile boolean running;
+
+    public RoomUnreadCounters(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${custom.room.unread.flushMillis:1000}") long flushMillis,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.flushMillis = flushMillis;
+
+        this.flushTimer = Timer.builder("room.unread.flush").register(meterRegistry);
+        this.failed = Counter.builder("room.unread.failed").register(meterRegistry);
+        Gauge.builder("room.unread.pending", pending, Map::size).register(meterRegistry);
+    }
+
+    // 순번 seq 가 부여된 메시지 한 건 (보낸 사람을 제외한, seq 이전까지 읽은 방 멤버의 안 읽은 수 +1)
+    public void increment(Long roomId, Long senderId, long seq) {
+        pending.compute(new Key(roomId, senderId), (key, seqs) -> (seqs == null ? new Seqs() : seqs).add(seq));
+    }
+
+    // 모아 둔 증가분 전체 반영
+    public void flush() {
+        List<Key> keys = new ArrayList<>(pending.keySet());
+        if (keys.isEmpty()) return;
+
+        Map<Key, Seqs> drained = new HashMap<>();
+        for (Key key : keys) {
+            Seqs seqs = pending.remove(key); // 꺼낸 뒤 들어온 증가는 새 항목으로 다음 flush 에 반영
+            if (seqs != null) drained.put(key, seqs);
+        }
+        if (drained.isEmpty()) return;
+
+        // seq 수가 같은 문장끼리 묶어 batch 로 보낸다
+        Map<Integer, List<Object[]>> batches = new HashMap<>();
+        drained.forEach((key, seqs) -> {
+            long[] sorted = seqs.sorted();
+            for (int from = 0; from < sorted.length; from += MAX_SEQS_PER_STATEMENT) {
+                int n = Math.min(MAX_SEQS_PER_STATEMENT, sorted.length - from);
+                Object[] args = new Object[n + 4];
+                for (int i = 0; i < n; i++) args[i] = sorted[from + i];
+                long last = sorted[from + n - 1];
+                args[n] = last;
+                args[n + 1] = key.roomId();
+                args[n + 2] = key.senderId();
+                args[n + 3] = last;
+                batches.computeIfAbsent(n, k -> new ArrayList<>()).add(args);
+            }
+        });
+
+        try {
+            flushTimer.record(() -> transactionTemplate.executeWithoutResult(status ->
+                    batches.forEach((n, rows) -> jdbcTemplate.batchUpdate(INCREMENT_SQL[n], rows))));
+        } catch (Exception e) {
+            // 다시 넣어 다음 주기에 재시도 (읽음 위치 조건 덕분에 늦게 반영돼도 결과는 같다)
+            log.warn("안 읽은 수 반영 실패, 다음 주기에 재시도: size={}", drained.size(), e);
+            failed.increment();
+            drained.forEach((key, seqs) -> {
+                for (long seq : seqs.sorted()) increment(key.roomId(), key.senderId(), seq);
+            });
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (Exception e) {
+                log.error("안 읽은 수 flush 오류", e);
+            }
+        }, flushMillis, flushMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 종료 시 남은 증가분을 반영한 뒤 반환
+    @Override
+    public void stop() {
+        running = false;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 방 lane(메시지 발행)이 멈춘 뒤, DataSource 가 닫히기 전에 종료
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 4096;
+    }
+}
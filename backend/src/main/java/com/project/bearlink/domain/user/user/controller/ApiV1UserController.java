@@ -4,21 +4,24 @@ import com.project.bearlink.domain.user.user.dto.LoginRequestDto;
 import com.project.bearlink.domain.user.user.dto.SignupRequestDto;
 import com.project.bearlink.domain.user.user.dto.TokenResponseDto;
 import com.project.bearlink.domain.user.user.dto.UserResponseDto;
-import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.dto.UserSnapshot;
 import com.project.bearlink.domain.user.user.service.AuthLoginService;
 import com.project.bearlink.domain.user.user.service.UserService;
 import com.project.bearlink.global.response.ApiResponse;
 import com.project.bearlink.global.rq.Rq;
 import io.swagger.v3.oas.annotations.Operation;
-import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/users")
@@ -32,10 +35,10 @@ public class ApiV1UserController {
 
     @Operation(summary = "회원가입", description = "새로운 사용자를 등록합니다.")
     @PostMapping("/signup")
-    public ResponseEntity<ApiResponse<UserResponseDto>> signup(@Valid @RequestBody SignupRequestDto request) {
-        User user = userService.signup(request);
-        return ResponseEntity.status(HttpStatus.CREATED)
-                .body(ApiResponse.ok(UserResponseDto.fromEntity(user)));
+    public CompletableFuture<ResponseEntity<ApiResponse<UserResponseDto>>> signup(@Valid @RequestBody SignupRequestDto request) {
+        return userService.signup(request)
+                .thenApply(user -> ResponseEntity.status(HttpStatus.CREATED)
+                        .body(ApiResponse.ok(UserResponseDto.fromEntity(user))));
     }
 
     @GetMapping("/check-email")
@@ -64,29 +67,31 @@ public class ApiV1UserController {
 
     @Operation(summary = "로그인", description = "로그인 ID 또는 이메일과 비밀번호를 입력해 accessToken을 발급받습니다.")
     @PostMapping("/login")
-    public ResponseEntity<ApiResponse<TokenResponseDto>> login(
+    public CompletableFuture<ResponseEntity<ApiResponse<TokenResponseDto>>> login(
             @Valid @RequestBody LoginRequestDto request,
-            HttpServletResponse response) {
-        TokenResponseDto tokenDto = authLoginService.login(request);
-
-        //ResponseCookie 대신 직접 Set-Cookie 헤더 문자열 작성
-        String accessCookie = "accessToken=" + tokenDto.getAccessToken()
-                + "; HttpOnly; Path=/; Max-Age=3600; SameSite=Lax"; // accessToken 1시간
-
-        String refreshCookie = "refreshToken=" + tokenDto.getRefreshToken()
-                + "; HttpOnly; Path=/; Max-Age=" + (60 * 60 * 24 * 7) + "; SameSite=Lax"; // refreshToken 7일
-
-        response.addHeader("Set-Cookie", accessCookie);
-        response.addHeader("Set-Cookie", refreshCookie);
-
-        return ResponseEntity.ok(ApiResponse.ok(tokenDto));
+            HttpServletRequest httpRequest) {
+        // 비밀번호 검증이 끝날 때까지 요청 스레드를 반납 (비동기 응답)
+        // getRemoteAddr(): 프록시가 넘긴 X-Forwarded-For 기준 클라이언트 IP (server.forward-headers-strategy)
+        return authLoginService.login(request, httpRequest.getRemoteAddr())
+                .thenApply(tokenDto -> {
+                    //ResponseCookie 대신 직접 Set-Cookie 헤더 문자열 작성
+                    String accessCookie = "accessToken=" + tokenDto.getAccessToken()
+                            + "; HttpOnly; Path=/; Max-Age=3600; SameSite=Lax"; // accessToken 1시간
+
+                    String refreshCookie = "refreshToken=" + tokenDto.getRefreshToken()
+                            + "; HttpOnly; Path=/; Max-Age=" + (60 * 60 * 24 * 7) + "; SameSite=Lax"; // refreshToken 7일
+
+                    return ResponseEntity.ok()
+                            .header(HttpHeaders.SET_COOKIE, accessCookie, refreshCookie)
+                            .body(ApiResponse.ok(tokenDto));
+                });
     }
 
     @Operation(summary = "로그아웃", description = "로그아웃 처리를 합니다.")
     @PostMapping("/logout")
     public ResponseEntity<ApiResponse<String>> logout() {
-        User user = rq.getActor();
-        if (user != null) authLoginService.logout(user); // 저장 필요 시
+        // 현재 기기 family + 사용 중이던 accessToken 폐기
+        authLoginService.logout(rq.getCookieValue("refreshToken"), resolveAccessToken());
 
         rq.deleteCookie("accessToken");
         rq.deleteCookie("refreshToken");
@@ -107,21 +112,26 @@ public class ApiV1UserController {
     @GetMapping("/me")
     public ResponseEntity<ApiResponse<?>> getMyProfile() {
         try{
-            User user = rq.getActor(); // 현재 로그인한 사용자 가져오기
+            UserSnapshot user = rq.getActor(); // 현재 로그인한 사용자 가져오기 (스냅샷 캐시)
 
             if (user == null) {
                 System.out.println("user is null from rq.getActor()");
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build(); // 인증 안 된 경우
             }
 
-            System.out.println("user id: " + user.getId());
-            System.out.println("imageUrl: " + user.getImageUrl());
-
-            return ResponseEntity.ok(ApiResponse.ok(UserResponseDto.fromEntity(user))); // DTO 변환 후 반환
+            return ResponseEntity.ok(ApiResponse.ok(UserResponseDto.from(user))); // DTO 변환 후 반환
         } catch (Exception e) {
             log.error("사용자 정보 조회 중 예외 발생", e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(ApiResponse.ok("서버 에러 발생: " + e.getMessage()));
         }
     }
-}
\ No newline at end of file
+
+    private String resolveAccessToken() {
+        String authorization = rq.getHeader("Authorization");
+        if (authorization != null && authorization.startsWith("Bearer ")) {
+            return authorization.substring("Bearer ".length());
+        }
+        return rq.getCookieValue("accessToken");
+    }
+}
@@ -29,4 +29,16 @@ public class UserResponseDto {
                 .bio(user.getBio())
                 .build();
     }
+
+    public static UserResponseDto from(UserSnapshot user) {
+        return UserResponseDto.builder()
+                .id(user.id())
+                .loginId(user.loginId())
+                .nickname(user.nickname())
+                .email(user.email())
+                .imageUrl(user.imageUrl())
+                .role(user.role())
+                .bio(user.bio())
+                .build();
+    }
 }
@@ -0,0 +1,27 @@
+package com.project.bearlink.domain.user.user.dto;
+
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+
+// 캐시에 보관하는 불변 사용자 스냅샷 (영속성 컨텍스트와 무관)
+public record UserSnapshot(
+        Long id,
+        String loginId,
+        String nickname,
+        String email,
+        String imageUrl,
+        UserRole role,
+        String bio
+) {
+    public static UserSnapshot from(User user) {
+        return new UserSnapshot(
+                user.getId(),
+                user.getLoginId(),
+                user.getNickname(),
+                user.getEmail(),
+                user.getImageUrl(),
+                user.getRole(),
+                user.getBio()
+        );
+    }
+}
@@ -19,7 +19,7 @@ import java.util.List;
 @SuperBuilder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_updated_at", columnList = "updated_at")) // 닉네임 인덱스 동기화
 public class User extends BaseEntity {
 
     @Column(name = "login_id", nullable = false, unique = true, length = 50)
@@ -42,9 +42,6 @@ public class User extends BaseEntity {
     @Column(name = "image_url", length = 255)
     private String imageUrl;
 
-    @Column(name = "refresh_token", length = 255)
-    private String refreshToken;
-
     @OneToOne(mappedBy = "user", cascade = CascadeType.ALL, orphanRemoval = true)
     private MyPage myPage;
 
@@ -60,12 +57,4 @@ public class User extends BaseEntity {
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return List.of(new SimpleGrantedAuthority("ROLE_" + this.role.name()));
     }
-
-    public String getRefreshToken() {
-        return this.refreshToken;
-    }
-
-    public void setRefreshToken(String refreshToken) {
-        this.refreshToken = refreshToken;
-    }
 }
\ No newline at end of file
@@ -0,0 +1,4 @@
+package com.project.bearlink.domain.user.user.event;
+
+// 사용자 정보(프로필, 세션)가 바뀌었음을 알리는 이벤트 → 사용자 스냅샷 캐시 무효화
+public record UserChangedEvent(Long userId) {}
@@ -0,0 +1,134 @@
+package com.project.bearlink.domain.user.user.repository;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+// 단일 노드/테스트용 refreshToken 저장소 (custom.store.type=memory)
+// 구조는 Redis 구현과 같고, 모든 변경은 하나의 lock 안에서 처리한다.
+// Redis 의 키 만료 대신 purgeExpired 가 주기적으로 만료 항목(교체된 토큰 포함)을 지운다.
+@Slf4j
+@Repository
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final class Entry {
+        final Long userId;
+        final String familyId;
+        final long expiresAtMillis;
+        boolean rotated;
+
+        Entry(Long userId, String familyId, long expiresAtMillis) {
+            this.userId = userId;
+            this.familyId = familyId;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        boolean isExpired(long now) {
+            return expiresAtMillis <= now;
+        }
+    }
+
+    private final Map<String, Entry> tokens = new HashMap<>();
+    private final Map<String, Set<String>> families = new HashMap<>();
+    private final Map<Long, Set<String>> userFamilies = new HashMap<>();
+
+
+    @Override
+    public synchronized void issue(String familyId, Long userId, String refreshToken, Duration ttl) {
+        put(RefreshTokenStore.hash(refreshToken), new Entry(userId, familyId, System.currentTimeMillis() + ttl.toMillis()));
+        userFamilies.computeIfAbsent(userId, k -> new HashSet<>()).add(familyId);
+    }
+
+    @Override
+    public synchronized Optional<RefreshTokenSession> rotate(String oldToken, String newToken, Duration ttl) {
+        long now = System.currentTimeMillis();
+        Entry old = tokens.get(RefreshTokenStore.hash(oldToken));
+        if (old == null || old.isExpired(now)) return Optional.empty();
+
+        if (old.rotated) {
+            log.warn("교체된 refreshToken 재사용 감지 → family 폐기: userId={}, family={}", old.userId, old.familyId);
+            removeFamily(old.userId, old.familyId);
+            return Optional.empty();
+        }
+
+        old.rotated = true;
+        put(RefreshTokenStore.hash(newToken), new Entry(old.userId, old.familyId, now + ttl.toMillis()));
+        return Optional.of(new RefreshTokenSession(old.userId, old.familyId));
+    }
+
+    @Override
+    public synchronized Optional<RefreshTokenSession> find(String refreshToken) {
+        Entry entry = tokens.get(RefreshTokenStore.hash(refreshToken));
+        if (entry == null || entry.rotated || entry.isExpired(System.currentTimeMillis())) return Optional.empty();
+
+        return Optional.of(new RefreshTokenSession(entry.userId, entry.familyId));
+    }
+
+    @Override
+    public synchronized void revokeFamily(String refreshToken) {
+        Entry entry = tokens.get(RefreshTokenStore.hash(refreshToken));
+        if (entry == null) return;
+
+        removeFamily(entry.userId, entry.familyId);
+    }
+
+    @Override
+    public synchronized void revokeAll(Long userId) {
+        Set<String> owned = userFamilies.get(userId);
+        if (owned == null) return;
+
+        for (String familyId : Set.copyOf(owned)) {
+            removeFamily(userId, familyId);
+        }
+    }
+
+
+    // 만료된 토큰을 지우고, 토큰이 남지 않은 family 는 사용자 목록에서도 뺀다. 지운 토큰 수 반환
+    @Scheduled(fixedDelayString = "${custom.auth.refreshToken.purgeMillis:60000}")
+    public synchronized int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int removed = 0;
+
+        for (Iterator<Map.Entry<String, Entry>> it = tokens.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, Entry> next = it.next();
+            Entry entry = next.getValue();
+            if (!entry.isExpired(now)) continue;
+
+            it.remove();
+            removed++;
+
+            Set<String> hashes = families.get(entry.familyId);
+            if (hashes == null) continue;
+            hashes.remove(next.getKey());
+            if (hashes.isEmpty()) removeFamily(entry.userId, entry.familyId);
+        }
+        return removed;
+    }
+
+
+    private void put(String hash, Entry entry) {
+        tokens.put(hash, entry);
+        families.computeIfAbsent(entry.familyId, k -> new HashSet<>()).add(hash);
+    }
+
+    private void removeFamily(Long userId, String familyId) {
+        Set<String> hashes = families.remove(familyId);
+        if (hashes != null) hashes.forEach(tokens::remove);
+
+        Set<String> owned = userFamilies.get(userId);
+        if (owned != null) {
+            owned.remove(familyId);
+            if (owned.isEmpty()) userFamilies.remove(userId);
+        }
+    }
+}
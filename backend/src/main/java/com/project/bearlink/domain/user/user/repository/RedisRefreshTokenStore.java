@@ -0,0 +1,136 @@
+package com.project.bearlink.domain.user.user.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Redis 기반 refreshToken 저장소
+//   auth:rt:{hash}      → hash {uid, fam, state(A: 사용 가능, R: 교체됨)}, TTL = refreshToken 수명
+//   auth:rt:fam:{fam}   → family 에 속한 토큰 해시 set
+//   auth:rt:user:{uid}  → 사용자의 family id set
+// 교체/폐기는 Lua 스크립트로 원자적으로 처리한다.
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String PREFIX = "auth:rt:";
+
+    // ARGV: prefix, hash, uid, fam, ttl
+    private static final RedisScript<Long> ISSUE = new DefaultRedisScript<>("""
+            local p = ARGV[1]
+            redis.call('HSET', p .. ARGV[2], 'uid', ARGV[3], 'fam', ARGV[4], 'state', 'A')
+            redis.call('EXPIRE', p .. ARGV[2], ARGV[5])
+            redis.call('SADD', p .. 'fam:' .. ARGV[4], ARGV[2])
+            redis.call('EXPIRE', p .. 'fam:' .. ARGV[4], ARGV[5])
+            redis.call('SADD', p .. 'user:' .. ARGV[3], ARGV[4])
+            redis.call('EXPIRE', p .. 'user:' .. ARGV[3], ARGV[5])
+            return 1
+            """, Long.class);
+
+    // ARGV: prefix, oldHash, newHash, ttl
+    // 반환: {'OK'|'REUSED', uid, fam} 또는 nil(없는 토큰)
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> ROTATE = new DefaultRedisScript<>("""
+            local p = ARGV[1]
+            local old = p .. ARGV[2]
+            local state = redis.call('HGET', old, 'state')
+            if not state then return nil end
+            local uid = redis.call('HGET', old, 'uid')
+            local fam = redis.call('HGET', old, 'fam')
+            local famKey = p .. 'fam:' .. fam
+            if state ~= 'A' then
+              for _, h in ipairs(redis.call('SMEMBERS', famKey)) do redis.call('DEL', p .. h) end
+              redis.call('DEL', famKey)
+              redis.call('SREM', p .. 'user:' .. uid, fam)
+              return {'REUSED', uid, fam}
+            end
+            redis.call('HSET', old, 'state', 'R')
+            redis.call('HSET', p .. ARGV[3], 'uid', uid, 'fam', fam, 'state', 'A')
+            redis.call('EXPIRE', p .. ARGV[3], ARGV[4])
+            redis.call('SADD', famKey, ARGV[3])
+            redis.call('EXPIRE', famKey, ARGV[4])
+            redis.call('EXPIRE', p .. 'user:' .. uid, ARGV[4])
+            return {'OK', uid, fam}
+            """, List.class);
+
+    // ARGV: prefix, uid, fam...
+    private static final RedisScript<Long> REVOKE_FAMILIES = new DefaultRedisScript<>("""
+            local p = ARGV[1]
+            for i = 3, #ARGV do
+              local famKey = p .. 'fam:' .. ARGV[i]
+              for _, h in ipairs(redis.call('SMEMBERS', famKey)) do redis.call('DEL', p .. h) end
+              redis.call('DEL', famKey)
+              redis.call('SREM', p .. 'user:' .. ARGV[2], ARGV[i])
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Override
+    public void issue(String familyId, Long userId, String refreshToken, Duration ttl) {
+        redisTemplate.execute(ISSUE, List.of(),
+                PREFIX, RefreshTokenStore.hash(refreshToken), userId.toString(), familyId, Long.toString(ttl.toSeconds()));
+    }
+
+    @Override
+    public Optional<RefreshTokenSession> rotate(String oldToken, String newToken, Duration ttl) {
+        List<?> result = redisTemplate.execute(ROTATE, List.of(),
+                PREFIX, RefreshTokenStore.hash(oldToken), RefreshTokenStore.hash(newToken), Long.toString(ttl.toSeconds()));
+        if (result == null || result.isEmpty()) return Optional.empty();
+
+        Long userId = Long.valueOf(result.get(1).toString());
+        String familyId = result.get(2).toString();
+
+        if ("REUSED".equals(result.get(0))) {
+            log.warn("교체된 refreshToken 재사용 감지 → family 폐기: userId={}, family={}", userId, familyId);
+            return Optional.empty();
+        }
+        return Optional.of(new RefreshTokenSession(userId, familyId));
+    }
+
+    @Override
+    public Optional<RefreshTokenSession> find(String refreshToken) {
+        Map<Object, Object> entry = redisTemplate.opsForHash().entries(PREFIX + RefreshTokenStore.hash(refreshToken));
+        if (entry.isEmpty() || !"A".equals(entry.get("state"))) return Optional.empty();
+
+        return Optional.of(new RefreshTokenSession(
+                Long.valueOf(entry.get("uid").toString()),
+                entry.get("fam").toString()
+        ));
+    }
+
+    @Override
+    public void revokeFamily(String refreshToken) {
+        Map<Object, Object> entry = redisTemplate.opsForHash().entries(PREFIX + RefreshTokenStore.hash(refreshToken));
+        if (entry.isEmpty()) return;
+
+        redisTemplate.execute(REVOKE_FAMILIES, List.of(),
+                PREFIX, entry.get("uid").toString(), entry.get("fam").toString());
+    }
+
+    @Override
+    public void revokeAll(Long userId) {
+        var families = redisTemplate.opsForSet().members(PREFIX + "user:" + userId);
+        if (families == null || families.isEmpty()) return;
+
+        Object[] args = new Object[families.size() + 2];
+        args[0] = PREFIX;
+        args[1] = userId.toString();
+        int i = 2;
+        for (String family : families) args[i++] = family;
+
+        redisTemplate.execute(REVOKE_FAMILIES, List.of(), args);
+    }
+}
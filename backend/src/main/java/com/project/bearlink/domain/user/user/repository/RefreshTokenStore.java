@@ -0,0 +1,41 @@
+package com.project.bearlink.domain.user.user.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Optional;
+
+// refreshToken 저장소
+// 토큰 원문 대신 SHA-256 해시만 저장하고, 로그인(기기)마다 rotation family 를 하나씩 둔다.
+// 이미 교체된 토큰이 다시 들어오면 탈취로 보고 family 전체를 폐기한다.
+public interface RefreshTokenStore {
+
+    record RefreshTokenSession(Long userId, String familyId) {}
+
+    // 새 로그인 → 새 family 시작
+    void issue(String familyId, Long userId, String refreshToken, Duration ttl);
+
+    // oldToken 을 newToken 으로 교체, 유효하지 않거나 재사용된 토큰이면 empty
+    Optional<RefreshTokenSession> rotate(String oldToken, String newToken, Duration ttl);
+
+    // 현재 유효한(교체되지 않은) 토큰의 세션
+    Optional<RefreshTokenSession> find(String refreshToken);
+
+    // 해당 토큰이 속한 family(기기) 로그아웃
+    void revokeFamily(String refreshToken);
+
+    // 사용자의 모든 기기 로그아웃
+    void revokeAll(Long userId);
+
+
+    static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+}
@@ -5,9 +5,12 @@ import com.project.bearlink.domain.user.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -20,7 +23,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
 
     boolean existsByLoginId(String loginId);
 
-    Optional<User> findByRefreshToken(String refreshToken);
+    // 해시가 그대로일 때만 교체 (cost 업그레이드용)
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.password = :newHash WHERE u.id = :id AND u.password = :oldHash")
+    int updatePasswordHash(@Param("id") Long id, @Param("oldHash") String oldHash, @Param("newHash") String newHash);
 
     @Query("""
     SELECT u FROM User u
@@ -36,21 +43,12 @@ SELECT new com.project.bearlink.domain.friend.dto.FindFriendDto(
     'NONE'
 )
 FROM User u
-WHERE u.id != :currentUserId
+WHERE u.id NOT IN :excludedIds
 AND u.nickname LIKE CONCAT('%', :keyword, '%')
-AND NOT EXISTS (
-    SELECT 1 FROM FriendRequest fr
-    WHERE (
-        (fr.requester.id = :currentUserId AND fr.receiver.id = u.id)
-        OR
-        (fr.requester.id = u.id AND fr.receiver.id = :currentUserId)
-    )
-    AND fr.status IN ('PENDING', 'ACCEPTED')
-)
 """)
     Page<FindFriendDto> searchOnlyUnrelatedUsers(
             @Param("keyword") String keyword,
-            @Param("currentUserId") Long currentUserId,
+            @Param("excludedIds") Collection<Long> excludedIds,
             Pageable pageable
     );
 }
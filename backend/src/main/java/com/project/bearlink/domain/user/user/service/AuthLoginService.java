@@ -3,18 +3,27 @@ package com.project.bearlink.domain.user.user.service;
 import com.project.bearlink.domain.user.user.dto.LoginRequestDto;
 import com.project.bearlink.domain.user.user.dto.TokenResponseDto;
 import com.project.bearlink.domain.user.user.entity.User;
-import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.event.UserChangedEvent;
+import com.project.bearlink.domain.user.user.repository.RefreshTokenStore;
+import com.project.bearlink.domain.user.user.repository.RefreshTokenStore.RefreshTokenSession;
 import com.project.bearlink.domain.user.user.repository.UserRepository;
 import com.project.bearlink.global.exception.ApiException;
 import com.project.bearlink.global.exception.ErrorCode;
+import com.project.bearlink.global.security.password.LoginRateLimiter;
+import com.project.bearlink.global.security.password.PasswordHasher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Slf4j
 @Service
@@ -23,14 +32,24 @@ import java.util.Optional;
 public class AuthLoginService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final LoginRateLimiter loginRateLimiter;
     private final AuthTokenService authTokenService;
+    private final RefreshTokenStore refreshTokenStore;
+    private final ApplicationEventPublisher eventPublisher;
 
+    @Value("${custom.refreshToken.expirationSeconds}")
+    private long refreshTokenExpirationSeconds;
 
-    @Transactional(readOnly = false)
-    public TokenResponseDto login(LoginRequestDto request) {
+
+    // 비밀번호 검증은 PasswordHasher 전용 스레드에서 진행되고, 그동안 트랜잭션/커넥션은 잡지 않는다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<TokenResponseDto> login(LoginRequestDto request, String clientIp) {
         String identifier = request.getLoginId();
 
+        // BCrypt 에 도달하기 전에 계정/IP 별 시도 횟수 제한
+        loginRateLimiter.acquire(identifier, clientIp);
+
         Optional<User> userOptional = identifier.contains("@")
                 ? userRepository.findByEmail(identifier)
                 : userRepository.findByLoginId(identifier);
@@ -38,75 +57,99 @@ public class AuthLoginService {
         User user = userOptional
                 .orElseThrow(() -> new ApiException(ErrorCode.INVALID_CREDENTIALS));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new ApiException(ErrorCode.INVALID_PASSWORD);
-        }
+        String rawPassword = request.getPassword();
+        String encodedPassword = user.getPassword();
 
-        String accessToken = authTokenService.genAccessToken(user);
-        String refreshToken = authTokenService.genRefreshToken(user);
+        // 토큰 서명 + refreshToken 저장은 해싱 스레드가 아닌 후속 실행기에서
+        return passwordHasher.matches(rawPassword, encodedPassword)
+                .thenApplyAsync(matched -> {
+                    if (!matched) {
+                        throw new ApiException(ErrorCode.INVALID_PASSWORD);
+                    }
 
-        user.setRefreshToken(refreshToken); // dirty checking
+                    if (passwordHasher.needsUpgrade(encodedPassword)) {
+                        upgradePasswordHash(user.getId(), rawPassword, encodedPassword);
+                    }
 
+                    String accessToken = authTokenService.genAccessToken(user);
+                    String refreshToken = authTokenService.genRefreshToken(user);
 
-        return new TokenResponseDto(accessToken, refreshToken);
+                    // 로그인(기기)마다 새 rotation family → 다른 기기의 세션을 덮어쓰지 않는다
+                    refreshTokenStore.issue(UUID.randomUUID().toString(), user.getId(), refreshToken, refreshTokenTtl());
+
+                    return new TokenResponseDto(accessToken, refreshToken);
+                }, passwordHasher.completionExecutor());
     }
 
 
-    @Transactional(readOnly = false)
-    public void logout(User user) {
-        user.setRefreshToken(null);
+    // cost 가 바뀐 해시를 새 cost 로 교체 (로그인 응답은 기다리지 않음)
+    // 그 사이 비밀번호가 바뀌었으면 조건부 UPDATE 가 0건이 되어 덮어쓰지 않는다.
+    private void upgradePasswordHash(Long userId, String rawPassword, String oldHash) {
+        try {
+            passwordHasher.encode(rawPassword)
+                    .thenAcceptAsync(newHash -> userRepository.updatePasswordHash(userId, oldHash, newHash),
+                            passwordHasher.completionExecutor())
+                    .exceptionally(e -> {
+                        log.warn("비밀번호 재해싱 실패: userId={}", userId, e);
+                        return null;
+                    });
+        } catch (ApiException e) {
+            // 대기열이 가득 차면 다음 로그인 때 다시 시도
+            log.debug("비밀번호 재해싱 보류: userId={}", userId);
+        }
+    }
+
+
+    // 현재 기기(family)만 로그아웃 + 사용 중이던 accessToken 폐기
+    public void logout(String refreshToken, String accessToken) {
+        if (accessToken != null) authTokenService.revoke(accessToken);
+        if (refreshToken == null) return;
+
+        refreshTokenStore.find(refreshToken)
+                .ifPresent(session -> eventPublisher.publishEvent(new UserChangedEvent(session.userId())));
+        refreshTokenStore.revokeFamily(refreshToken);
+    }
+
 
+    // 모든 기기 로그아웃 (비밀번호 변경, 강제 로그아웃)
+    public void revokeAllSessions(Long userId) {
+        refreshTokenStore.revokeAll(userId);
+        authTokenService.revokeAll(userId);
+        eventPublisher.publishEvent(new UserChangedEvent(userId));
     }
 
 
-    @Transactional(readOnly = false)
     public TokenResponseDto refreshToken(String refreshToken) {
-        if (!authTokenService.isValid(refreshToken)) {
+        Map<String, Object> payload = authTokenService.payload(refreshToken);
+        if (payload == null) {
             throw new ApiException(ErrorCode.INVALID_TOKEN);
         }
 
-        User user = userRepository.findByRefreshToken(refreshToken)
-                .filter(u -> u.getRefreshToken().equals(refreshToken)) // 재확인
+        long userId = ((Number) payload.get("userId")).longValue();
+        String newRefreshToken = authTokenService.genRefreshToken(userId, (String) payload.get("email"));
+
+        // 해시 인덱스로 조회 + 교체 (이미 교체된 토큰이면 family 전체 폐기)
+        RefreshTokenSession session = refreshTokenStore.rotate(refreshToken, newRefreshToken, refreshTokenTtl())
+                .filter(s -> s.userId() == userId)
                 .orElseThrow(() -> new ApiException(ErrorCode.INVALID_TOKEN));
 
-        String newAccessToken = authTokenService.genAccessToken(user);
-        String newRefreshToken = authTokenService.genRefreshToken(user);
+        User user = userRepository.findById(session.userId())
+                .orElseThrow(() -> new ApiException(ErrorCode.INVALID_TOKEN));
 
-        user.setRefreshToken(newRefreshToken);
-        // save() 생략 가능
+        String newAccessToken = authTokenService.genAccessToken(user);
 
         return new TokenResponseDto(newAccessToken, newRefreshToken);
     }
 
-    public User getUserFromAccessToken(String accessToken) {
-        log.info("accessToken 파싱 시도 중");
-
-        if (!authTokenService.isValid(accessToken)) {
-            log.warn("accessToken 유효하지 않음");
-            return null;
-        }
-
-        Map<String, Object> payload = authTokenService.payload(accessToken);
-        if (payload == null) return null;
+    public Optional<User> findByRefreshToken(String refreshToken) {
+        if (!authTokenService.isValid(refreshToken)) return Optional.empty();
 
-        long userId = ((Number) payload.get("userId")).longValue();
-        String email = (String) payload.get("email");
-        String nickname = (String) payload.get("nickname");
-        String roleString = (String) payload.get("role");
-        UserRole role = UserRole.valueOf(roleString);
-
-        log.info("token payload userId: {}", userId);
-
-        return User.builder()
-                .id(userId)
-                .email(email)
-                .nickname(nickname)
-                .role(role)
-                .build();
+        return refreshTokenStore.find(refreshToken)
+                .flatMap(session -> userRepository.findById(session.userId()));
     }
 
 
-    public Optional<User> findByRefreshToken(String refreshToken) {
-        return userRepository.findByRefreshToken(refreshToken);
+    private Duration refreshTokenTtl() {
+        return Duration.ofSeconds(refreshTokenExpirationSeconds);
     }
-}
\ No newline at end of file
+}
@@ -2,19 +2,27 @@ package com.project.bearlink.domain.user.user.service;
 
 import com.project.bearlink.domain.user.user.entity.User;
 import com.project.bearlink.domain.user.user.entity.UserRole;
-import com.project.bearlink.global.security.jwt.JwtUtil;
+import com.project.bearlink.global.security.auth.SecurityUser;
+import com.project.bearlink.global.security.jwt.AccessTokenDenylist;
+import com.project.bearlink.global.security.jwt.JwtKeyRing;
+import com.project.bearlink.global.security.jwt.VerifiedTokenCache;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.UUID;
 
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class AuthTokenService {
 
-    @Value("${custom.jwt.secretKey}")
-    private String jwtSecret;
+    private final JwtKeyRing jwtKeyRing;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Value("${custom.accessToken.expirationSeconds}")
     private long accessTokenExpirationSeconds;
@@ -23,48 +31,98 @@ public class AuthTokenService {
     private long refreshTokenExpirationSeconds;
 
 
+    // 키가 폐기되면(다른 노드에서 폐기한 경우 포함) 그 키로 검증해 둔 토큰이 캐시에 남아있지 않도록 비움
+    @PostConstruct
+    void invalidateCacheOnKeyChange() {
+        jwtKeyRing.addListener(verifiedTokenCache::invalidateAll);
+    }
+
+
     public String genAccessToken(User user) {
         long id = user.getId();
         String email = user.getEmail();
         String nickname = user.getNickname();
         UserRole role = user.getRole();
-        return JwtUtil.generateToken(
-                jwtSecret,
-                accessTokenExpirationSeconds,
-                Map.of("userId", id, "email", email, "nickname", nickname, "role", role)
+        return jwtKeyRing.sign(
+                Map.of("userId", id, "email", email, "nickname", nickname, "role", role,
+                        "jti", UUID.randomUUID().toString(), // 개별 폐기(로그아웃)용 식별자
+                        AccessTokenDenylist.ISSUED_AT_MILLIS, System.currentTimeMillis()), // 사용자 단위 폐기 비교용
+                accessTokenExpirationSeconds
         );
     }
 
 
     public String genRefreshToken(User user) {
-        long id = user.getId();
-        String email = user.getEmail();
+        return genRefreshToken(user.getId(), user.getEmail());
+    }
 
-        return JwtUtil.generateToken(
-                jwtSecret,
-                refreshTokenExpirationSeconds,
-                Map.of("userId", id, "email", email)
+    // jti 로 같은 초에 발급된 토큰끼리도 해시가 겹치지 않게 한다
+    public String genRefreshToken(long userId, String email) {
+        return jwtKeyRing.sign(
+                Map.of("userId", userId, "email", email, "jti", UUID.randomUUID().toString()),
+                refreshTokenExpirationSeconds
         );
     }
 
-    public String genRefreshTokenByEmail(String email) {
+    public Map<String, Object> payload(String token) {
+        return jwtKeyRing.verify(token);
+    }
 
-        return JwtUtil.generateToken(
-                jwtSecret,
-                refreshTokenExpirationSeconds,
-                Map.of("email", email)
-        );
+
+    public boolean isValid(String token) {
+        return jwtKeyRing.verify(token) != null;
     }
 
 
-    public Map<String, Object> payload(String token) {
-        log.info("jwtSecret from AuthTokenService: {}", jwtSecret);
-        return JwtUtil.getPayload(jwtSecret, token);
+    // accessToken 검증 + payload 추출을 한 번에 처리 (검증된 토큰은 캐시에서 바로 반환)
+    // 유효하지 않은 토큰이면 null
+    public Map<String, Object> verifiedPayload(String token) {
+        return verifiedTokenCache.get(token, () -> jwtKeyRing.verify(token));
     }
 
 
-    public boolean isValid(String token) {
-        log.info("isValid() - jwtSecret: {}", jwtSecret);
-        return JwtUtil.isValid(jwtSecret, token);
+    // accessToken → 인증 principal (DB 조회 없이 토큰 claims 로 구성), 유효하지 않으면 null
+    // 트랜잭션 밖에서 호출되므로 요청마다 커넥션을 잡지 않는다.
+    public SecurityUser authenticate(String accessToken) {
+        Map<String, Object> payload = verifiedPayload(accessToken);
+        if (payload == null) return null;
+
+        // 대부분은 로컬 Bloom filter 에서 끝나고, 양성일 때만 저장소 확인
+        if (accessTokenDenylist.isRevoked(payload)) return null;
+
+        // refreshToken 등 accessToken 이 아닌 토큰은 role/nickname claim 이 없다 → 인증하지 않음
+        if (!(payload.get("userId") instanceof Number userId)
+                || !(payload.get("nickname") instanceof String nickname)
+                || !(payload.get("role") instanceof String role)
+                || !isRole(role)) {
+            return null;
+        }
+        String email = (String) payload.get("email");
+
+        return SecurityUser.of(userId.longValue(), email, nickname, UserRole.valueOf(role));
+    }
+
+
+    // accessToken 하나 폐기 (로그아웃), 이미 무효한 토큰이면 무시
+    public void revoke(String accessToken) {
+        Map<String, Object> payload = verifiedPayload(accessToken);
+        if (payload == null) return;
+
+        accessTokenDenylist.revoke(payload);
+        verifiedTokenCache.invalidate(accessToken);
+    }
+
+
+    // 해당 사용자에게 지금까지 발급된 accessToken 전부 폐기
+    public void revokeAll(Long userId) {
+        accessTokenDenylist.revokeAll(userId);
+    }
+
+
+    private static boolean isRole(String name) {
+        for (UserRole role : UserRole.values()) {
+            if (role.name().equals(name)) return true;
+        }
+        return false;
     }
-}
\ No newline at end of file
+}
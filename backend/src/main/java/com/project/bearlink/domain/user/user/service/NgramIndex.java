@@ -0,0 +1,140 @@
+package com.project.bearlink.domain.user.user.service;
+
+import com.project.bearlink.global.util.LongHashSet;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.LongPredicate;
+
+// 닉네임 부분 일치 검색용 메모리 인덱스 (소문자 기준)
+//  - 3글자 이상: 키워드의 trigram posting 을 작은 것부터 교집합 → 닉네임에 실제로 포함되는지 확인
+//  - 1~2글자: 닉네임 사전순 prefix 범위 (자동완성)
+// posting 은 박싱 없는 LongHashSet. 스레드 안전하지 않음, NicknameIndex 가 읽기/쓰기 락으로 감싼다.
+final class NgramIndex {
+
+    private static final long[] EMPTY = new long[0];
+    private static final int GRAM = 3;
+
+    private final Map<Long, String> nicknames = new HashMap<>();
+    private final Map<Long, LongHashSet> trigrams = new HashMap<>();
+    private final TreeMap<String, LongHashSet> byNickname = new TreeMap<>();
+
+    int size() {
+        return nicknames.size();
+    }
+
+    void put(long userId, String nickname) {
+        String normalized = normalize(nickname);
+        String previous = nicknames.put(userId, normalized);
+        if (normalized.equals(previous)) return;
+
+        if (previous != null) unlink(userId, previous);
+        link(userId, normalized);
+    }
+
+    void remove(long userId) {
+        String previous = nicknames.remove(userId);
+        if (previous != null) unlink(userId, previous);
+    }
+
+    // filter 를 통과한 사용자 id 를 최대 limit 개 (trigram: id 순, prefix: 닉네임 순)
+    // 일치가 limit 보다 많으면 어떤 limit 개가 뽑힐지는 정해져 있지 않다.
+    long[] search(String keyword, LongPredicate filter, int limit) {
+        String key = normalize(keyword);
+        return key.length() < GRAM
+                ? searchPrefix(key, filter, limit)
+                : searchTrigrams(key, filter, limit);
+    }
+
+    private long[] searchPrefix(String prefix, LongPredicate filter, int limit) {
+        Result result = new Result(limit);
+        for (Map.Entry<String, LongHashSet> entry : byNickname.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) break;
+
+            boolean more = entry.getValue().forEachWhile(userId -> !filter.test(userId) || !result.add(userId));
+            if (!more) break;
+        }
+        return result.toArray();
+    }
+
+    private long[] searchTrigrams(String key, LongPredicate filter, int limit) {
+        LongHashSet[] postings = new LongHashSet[key.length() - GRAM + 1];
+        for (int i = 0; i < postings.length; i++) {
+            postings[i] = trigrams.get(gram(key, i));
+            if (postings[i] == null) return EMPTY; // 없는 trigram 이 하나라도 있으면 일치 없음
+        }
+        Arrays.sort(postings, Comparator.comparingInt(LongHashSet::size));
+
+        // 가장 작은 posting 만 돌고 나머지는 포함 여부만 본다, limit 개가 모이면 멈춘다
+        Result result = new Result(limit);
+        postings[0].forEachWhile(userId -> {
+            for (int i = 1; i < postings.length; i++) {
+                if (!postings[i].contains(userId)) return true;
+            }
+            // trigram 이 모두 있어도 연속으로 이어진다는 보장은 없으므로 원문 확인
+            if (!nicknames.get(userId).contains(key) || !filter.test(userId)) return true;
+            return !result.add(userId);
+        });
+
+        long[] ids = result.toArray();
+        Arrays.sort(ids);
+        return ids;
+    }
+
+    private void link(long userId, String nickname) {
+        byNickname.computeIfAbsent(nickname, n -> new LongHashSet()).add(userId);
+        for (int i = 0; i + GRAM <= nickname.length(); i++) {
+            trigrams.computeIfAbsent(gram(nickname, i), g -> new LongHashSet()).add(userId);
+        }
+    }
+
+    private void unlink(long userId, String nickname) {
+        removeFrom(byNickname, nickname, userId);
+        for (int i = 0; i + GRAM <= nickname.length(); i++) {
+            removeFrom(trigrams, gram(nickname, i), userId);
+        }
+    }
+
+    private static <K> void removeFrom(Map<K, LongHashSet> postings, K key, long userId) {
+        LongHashSet ids = postings.get(key);
+        if (ids == null) return;
+
+        ids.remove(userId);
+        if (ids.isEmpty()) postings.remove(key);
+    }
+
+    // UTF-16 문자 3개를 long 하나로 (박싱된 문자열 키보다 작다)
+    private static long gram(String s, int i) {
+        return ((long) s.charAt(i) << 32) | ((long) s.charAt(i + 1) << 16) | s.charAt(i + 2);
+    }
+
+    static String normalize(String s) {
+        return s == null ? "" : s.toLowerCase(Locale.ROOT);
+    }
+
+    // limit 개까지만 모으는 가변 배열
+    private static final class Result {
+        private final int limit;
+        private long[] ids = new long[16];
+        private int size;
+
+        Result(int limit) {
+            this.limit = limit;
+        }
+
+        // 가득 차면 true
+        boolean add(long userId) {
+            if (size == ids.length) ids = Arrays.copyOf(ids, size * 2);
+            ids[size++] = userId;
+            return size >= limit;
+        }
+
+        long[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.project.bearlink.domain.user.user.service;
+
+import com.project.bearlink.domain.user.user.event.UserChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+// 노드 로컬 닉네임 검색 인덱스 (LIKE '%keyword%' 풀 스캔 대체)
+//  - 기동 시 users 를 id 순 keyset 페이지로 끝까지 읽어 적재
+//  - 이 노드의 가입/프로필 수정은 UserChangedEvent 로 커밋 직후 반영
+//  - 다른 노드의 변경은 syncMillis 마다 updated_at 이후 행만 다시 읽어 반영 (같은 값 재적용은 무해)
+// 적재 전에는 search 가 null 을 돌려주고, 호출자가 DB 검색으로 대신한다.
+@Slf4j
+@Component
+public class NicknameIndex {
+
+    // 커밋이 늦게 보이는 행을 놓치지 않도록 마지막 updated_at 보다 조금 앞에서부터 다시 읽는다
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+    private final int maxCandidates;
+
+    private final NgramIndex index = new NgramIndex();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready;
+    private volatile LocalDateTime watermark;
+
+    private final Timer searchTimer;
+
+    public NicknameIndex(JdbcTemplate jdbcTemplate,
+                         @Value("${custom.user.nicknameIndex.chunkSize:5000}") int chunkSize,
+                         @Value("${custom.user.nicknameIndex.maxCandidates:1000}") int maxCandidates,
+                         MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+        this.maxCandidates = maxCandidates;
+
+        this.searchTimer = Timer.builder("user.nicknameIndex.search").register(meterRegistry);
+        Gauge.builder("user.nicknameIndex.size", this, NicknameIndex::size).register(meterRegistry);
+    }
+
+    private record Row(long id, String nickname, LocalDateTime updatedAt) {}
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 닉네임에 keyword 가 들어간 사용자 중 filter 를 통과한 id (최대 maxCandidates 개), 적재 전이면 null
+    public long[] search(String keyword, LongPredicate filter) {
+        if (!ready) return null;
+
+        return searchTimer.record(() -> {
+            lock.readLock().lock();
+            try {
+                return index.search(keyword.strip(), filter, maxCandidates);
+            } finally {
+                lock.readLock().unlock();
+            }
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void build() {
+        if (ready) return;
+
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime buildStartedAt = LocalDateTime.now();
+        try {
+            long lastId = 0;
+            int total = 0;
+            List<Row> rows;
+            do {
+                rows = jdbcTemplate.query(
+                        "SELECT id, nickname, updated_at FROM users WHERE id > ? ORDER BY id LIMIT ?",
+                        NicknameIndex::row, lastId, chunkSize);
+                apply(rows);
+                if (!rows.isEmpty()) lastId = rows.get(rows.size() - 1).id();
+                total += rows.size();
+            } while (rows.size() == chunkSize);
+
+            if (watermark == null) watermark = buildStartedAt;
+            ready = true;
+            log.info("닉네임 인덱스 적재 완료: users={}, {}ms", total, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            // DB 에 연결할 수 없어도 기동은 계속, 다음 동기화 주기에 재시도
+            log.warn("닉네임 인덱스 적재 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${custom.user.nicknameIndex.syncMillis:10000}")
+    public synchronized void sync() {
+        if (!ready) {
+            build();
+            return;
+        }
+
+        apply(jdbcTemplate.query(
+                "SELECT id, nickname, updated_at FROM users WHERE updated_at >= ?",
+                NicknameIndex::row, Timestamp.valueOf(watermark.minus(SYNC_OVERLAP))));
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트(가입)도 바로 처리
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        List<String> nickname = jdbcTemplate.queryForList(
+                "SELECT nickname FROM users WHERE id = ?", String.class, event.userId());
+
+        lock.writeLock().lock();
+        try {
+            if (nickname.isEmpty()) index.remove(event.userId());
+            else index.put(event.userId(), nickname.get(0));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void apply(List<Row> rows) {
+        if (rows.isEmpty()) return;
+
+        lock.writeLock().lock();
+        try {
+            for (Row row : rows) {
+                index.put(row.id(), row.nickname());
+                if (row.updatedAt() != null && (watermark == null || row.updatedAt().isAfter(watermark))) {
+                    watermark = row.updatedAt();
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static Row row(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return new Row(rs.getLong("id"), rs.getString("nickname"),
+                updatedAt == null ? null : updatedAt.toLocalDateTime());
+    }
+}
@@ -3,40 +3,53 @@ package com.project.bearlink.domain.user.user.service;
 import com.project.bearlink.domain.user.user.dto.SignupRequestDto;
 import com.project.bearlink.domain.user.user.entity.User;
 import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.event.UserChangedEvent;
 import com.project.bearlink.domain.user.user.repository.UserRepository;
 import com.project.bearlink.global.exception.ApiException;
 import com.project.bearlink.global.exception.ErrorCode;
+import com.project.bearlink.global.security.password.PasswordHasher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.concurrent.CompletableFuture;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true) // 기본은 조회 전용
 public class UserService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
+    private final ApplicationEventPublisher eventPublisher;
 
-    @Transactional(readOnly = false)
-    public User signup(SignupRequestDto request) {
+    // 해싱은 PasswordHasher 전용 스레드에서, 저장은 해싱이 끝난 뒤 후속 실행기에서 save() 자체 트랜잭션으로 처리
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<User> signup(SignupRequestDto request) {
 
         if (userRepository.findByEmail(request.getEmail()).isPresent()) {
             throw new ApiException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
-        User user = User.builder()
-                .loginId(request.getLoginId())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .nickname(request.getNickname())
-                .email(request.getEmail())
-                .imageUrl(request.getImageUrl())
-                .bio(request.getNickname() + "님의 프로필 입니다.")
-                .role(UserRole.USER)
-                .build();
-
-        return userRepository.save(user);
+        return passwordHasher.encode(request.getPassword())
+                .thenApplyAsync(encodedPassword -> {
+                    User user = User.builder()
+                            .loginId(request.getLoginId())
+                            .password(encodedPassword)
+                            .nickname(request.getNickname())
+                            .email(request.getEmail())
+                            .imageUrl(request.getImageUrl())
+                            .bio(request.getNickname() + "님의 프로필 입니다.")
+                            .role(UserRole.USER)
+                            .build();
+
+                    User saved = userRepository.save(user);
+                    eventPublisher.publishEvent(new UserChangedEvent(saved.getId()));
+
+                    return saved;
+                }, passwordHasher.completionExecutor());
     }
 
 
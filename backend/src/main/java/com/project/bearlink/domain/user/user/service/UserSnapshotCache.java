@@ -0,0 +1,71 @@
+package com.project.bearlink.domain.user.user.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.bearlink.domain.user.user.dto.UserSnapshot;
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.event.UserChangedEvent;
+import com.project.bearlink.domain.user.user.repository.UserRepository;
+import com.project.bearlink.global.exception.ApiException;
+import com.project.bearlink.global.exception.ErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+// 노드 로컬 사용자 스냅샷 캐시 (크기 제한 + TTL)
+// 프로필 수정, 회원가입, 로그아웃 시 UserChangedEvent 로 커밋 이후에 무효화한다.
+@Slf4j
+@Component
+public class UserSnapshotCache {
+
+    private final UserRepository userRepository;
+    private final Cache<Long, UserSnapshot> cache;
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             @Value("${custom.user.snapshotCache.maxSize:10000}") long maxSize,
+                             @Value("${custom.user.snapshotCache.ttlSeconds:300}") long ttlSeconds,
+                             MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds)) // 다른 노드에서 바뀐 정보의 최대 지연
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "user.snapshot");
+    }
+
+    public UserSnapshot get(Long userId) {
+        UserSnapshot snapshot = cache.get(userId, id -> userRepository.findById(id)
+                .map(UserSnapshot::from)
+                .orElse(null));
+
+        if (snapshot == null) throw new ApiException(ErrorCode.USER_NOT_FOUND);
+        return snapshot;
+    }
+
+    // 여러 명을 한 번에 (캐시에 없는 사용자만 IN 쿼리 한 번), 없는 사용자는 결과에서 빠진다
+    public Map<Long, UserSnapshot> getAll(Collection<Long> userIds) {
+        return cache.getAll(userIds, missing -> userRepository.findAllById(List.copyOf(missing)).stream()
+                .collect(Collectors.toMap(User::getId, UserSnapshot::from)));
+    }
+
+    public void evict(Long userId) {
+        cache.invalidate(userId);
+    }
+
+    // 트랜잭션 밖에서 발행된 이벤트도 바로 처리
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        evict(event.userId());
+    }
+}
@@ -1,19 +1,81 @@
 package com.project.bearlink.global.config;
 
+import com.project.bearlink.global.websocket.AuthCookieHandshakeInterceptor;
+import com.project.bearlink.global.websocket.SessionOutboundExecutor;
+import com.project.bearlink.global.websocket.StompAuthChannelInterceptor;
+import com.project.bearlink.global.websocket.WebSocketSessionRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.util.concurrent.Executor;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final StompAuthChannelInterceptor stompAuthChannelInterceptor;
+    private final WebSocketSessionRegistry webSocketSessionRegistry;
+    private final MeterRegistry meterRegistry;
+
+    // 채널 executor: 가상 스레드 사용 여부 / 일반 스레드 풀 크기
+    @Value("${custom.websocket.virtualThreads:false}")
+    private boolean virtualThreads;
+
+    @Value("${custom.websocket.inbound.poolSize:0}")
+    private int inboundPoolSize;
+
+    @Value("${custom.websocket.inbound.queueCapacity:10000}")
+    private int inboundQueueCapacity;
+
+    @Value("${custom.websocket.outbound.poolSize:0}")
+    private int outboundPoolSize;
+
+    // 세션마다 쌓일 수 있는 전송 대기 메시지 수 / 한 번에 보내고 차례를 넘기는 수
+    @Value("${custom.websocket.outbound.maxSessionQueue:1000}")
+    private int maxSessionQueue;
+
+    @Value("${custom.websocket.outbound.burst:32}")
+    private int outboundBurst;
+
+    // 소켓 전송 제한 (넘으면 Spring 이 세션을 끊음)
+    @Value("${custom.websocket.sendTimeLimitMillis:10000}")
+    private int sendTimeLimitMillis;
+
+    @Value("${custom.websocket.sendBufferSizeLimitBytes:524288}")
+    private int sendBufferSizeLimitBytes;
+
+    @Value("${custom.websocket.messageSizeLimitBytes:65536}")
+    private int messageSizeLimitBytes;
+
+    // STOMP heartbeat 주기 (클라이언트가 3 주기 동안 조용하면 broker 가 세션을 닫음 → presence 퇴장)
+    @Value("${custom.websocket.heartbeatMillis:10000}")
+    private long heartbeatMillis;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
 
-        config.enableSimpleBroker("/topic", "/queue");
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("stomp-heartbeat-");
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+
+        config.enableSimpleBroker("/topic", "/queue")
+                .setHeartbeatValue(new long[]{heartbeatMillis, heartbeatMillis})
+                .setTaskScheduler(heartbeatScheduler);
 
 
         config.setApplicationDestinationPrefixes("/app");
@@ -23,6 +85,48 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
     public void registerStompEndpoints(StompEndpointRegistry registry) {
         registry.addEndpoint("/ws")
                 .setAllowedOriginPatterns("http://localhost:3000", "https://www.bearlink.kr")
+                .addInterceptors(new AuthCookieHandshakeInterceptor())
                 .withSockJS();
     }
-}
\ No newline at end of file
+
+    // 느린 클라이언트 제한 + 세션 목록 등록 (서버 쪽 강제 종료용)
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration.setSendTimeLimit(sendTimeLimitMillis)
+                .setSendBufferSizeLimit(sendBufferSizeLimitBytes)
+                .setMessageSizeLimit(messageSizeLimitBytes)
+                .addDecoratorFactory(webSocketSessionRegistry);
+    }
+
+    // CONNECT 인증, SUBSCRIBE/SEND 방 인가
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(stompAuthChannelInterceptor);
+        registration.executor(channelExecutor("stomp-in-", inboundPoolSize, inboundQueueCapacity));
+    }
+
+    // 세션별 전송 큐 → 한 세션이 밀려도 다른 세션은 지연 없이 받음
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        Executor backing = channelExecutor("stomp-out-", outboundPoolSize, Integer.MAX_VALUE);
+        registration.executor(new SessionOutboundExecutor(backing, maxSessionQueue, outboundBurst,
+                sessionId -> webSocketSessionRegistry.close(sessionId, CloseStatus.SESSION_NOT_RELIABLE),
+                meterRegistry));
+    }
+
+    private Executor channelExecutor(String prefix, int poolSize, int queueCapacity) {
+        if (virtualThreads) {
+            return new VirtualThreadTaskExecutor(prefix);
+        }
+
+        int size = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors() * 2;
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(size);
+        executor.setMaxPoolSize(size);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(prefix);
+        executor.setDaemon(true);
+        executor.initialize();
+        return executor;
+    }
+}
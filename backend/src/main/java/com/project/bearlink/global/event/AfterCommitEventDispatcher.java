@@ -0,0 +1,172 @@
+package com.project.bearlink.global.event;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+// 커밋 이후 이벤트 전달기
+// 트랜잭션 안에서 publish 한 이벤트는 트랜잭션에 묶어 두었다가
+//  - 커밋되면 dispatcher 큐로 넘기고 (롤백되면 버림 → 없는 데이터에 대한 이벤트가 나가지 않음)
+//  - 전용 dispatcher 스레드가 모아서 ApplicationEventPublisher 로 순서대로 전달한다.
+// 트랜잭션은 브로드캐스트(Redis 왕복)를 기다리지 않고 바로 끝난다.
+// 이벤트는 @EventListener 로 받으며, 실행 스레드는 dispatcher 스레드다.
+// 큐는 메모리에만 있으므로 커밋 후 전달 전에 노드가 죽으면 이벤트는 사라진다 (transactional outbox 와 달리 전달을 보장하지 않음).
+// 실시간 알림처럼 유실되어도 클라이언트가 다시 조회해 맞출 수 있는 이벤트에만 쓴다.
+@Slf4j
+@Component
+public class AfterCommitEventDispatcher implements SmartLifecycle {
+
+    private record Entry(Object event, long committedAtNanos) {}
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<Entry> queue = new LinkedBlockingQueue<>();
+    private final int batchSize;
+
+    private final Timer dispatchLag;
+    private final DistributionSummary batchSizes;
+    private final Counter discarded;
+    private final Counter failed;
+
+    private volatile boolean running;
+    private Thread dispatcherThread;
+
+    public AfterCommitEventDispatcher(ApplicationEventPublisher eventPublisher,
+                               @Value("${custom.afterCommit.batchSize:100}") int batchSize,
+                               MeterRegistry meterRegistry) {
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+
+        this.dispatchLag = Timer.builder("aftercommit.dispatch.lag")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("aftercommit.dispatch.batchSize").register(meterRegistry);
+        this.discarded = Counter.builder("aftercommit.discarded").register(meterRegistry);
+        this.failed = Counter.builder("aftercommit.failed").register(meterRegistry);
+        Gauge.builder("aftercommit.queue", queue, BlockingQueue::size).register(meterRegistry);
+    }
+
+    // 트랜잭션 안이면 커밋 후, 밖이면 바로 dispatcher 로 전달
+    public void publish(Object event) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            enqueue(List.of(event));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        List<Object> pending = (List<Object>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Object> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(events);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(AfterCommitEventDispatcher.this);
+                    if (status != STATUS_COMMITTED) discarded.increment(events.size());
+                }
+            });
+            pending = events;
+        }
+        pending.add(event);
+    }
+
+    private void enqueue(List<Object> events) {
+        long now = System.nanoTime();
+        for (Object event : events) queue.add(new Entry(event, now));
+    }
+
+    private void runDispatcher() {
+        List<Entry> batch = new ArrayList<>(batchSize);
+
+        while (running || !queue.isEmpty()) {
+            try {
+                Entry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                dispatch(batch);
+            } catch (InterruptedException e) {
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        // 종료 중 인터럽트로 빠져나와도 남은 이벤트는 전달
+        queue.drainTo(batch);
+        dispatch(batch);
+    }
+
+    private void dispatch(List<Entry> batch) {
+        if (batch.isEmpty()) return;
+        batchSizes.record(batch.size());
+
+        for (Entry entry : batch) {
+            dispatchLag.record(System.nanoTime() - entry.committedAtNanos(), TimeUnit.NANOSECONDS);
+            try {
+                eventPublisher.publishEvent(entry.event());
+            } catch (Exception e) {
+                // 한 이벤트 실패가 뒤 이벤트 전달을 막지 않도록 기록만 한다
+                failed.increment();
+                log.error("커밋 후 이벤트 전달 실패: {}", entry.event().getClass().getSimpleName(), e);
+            }
+        }
+    }
+
+
+    @Override
+    public void start() {
+        running = true;
+        dispatcherThread = new Thread(this::runDispatcher, "after-commit-dispatcher");
+        dispatcherThread.start();
+    }
+
+    // 종료 시 큐에 남은 이벤트를 모두 전달한 뒤 반환
+    @Override
+    public void stop() {
+        running = false;
+        if (dispatcherThread == null) return;
+
+        try {
+            dispatcherThread.join(TimeUnit.SECONDS.toMillis(10));
+            if (dispatcherThread.isAlive()) {
+                log.warn("커밋 후 이벤트 전달기 종료 대기 시간 초과: 남은 이벤트={}", queue.size());
+                dispatcherThread.interrupt();
+                dispatcherThread.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    // 웹 서버가 멈춘 뒤 (남은 요청이 만든 이벤트까지 전달), 이벤트를 받는 RoomLinkEventCoalescer 와 RoomLanes 보다 먼저 종료
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2560;
+    }
+}
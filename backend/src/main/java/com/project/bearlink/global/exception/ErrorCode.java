@@ -13,11 +13,13 @@ public enum ErrorCode {
 
     SELF_REQUEST_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "본인에게 친구 요청을 보낼 수 없습니다."),
     DUPLICATE_REQUEST_PENDING(HttpStatus.BAD_REQUEST, "이미 친구 요청을 보냈습니다."),
+    ALREADY_FRIENDS(HttpStatus.BAD_REQUEST, "이미 친구입니다."),
     REQUESTER_NOT_FOUND(HttpStatus.BAD_REQUEST, "요청자 정보를 찾을 수 없습니다."),
     RECEIVER_NOT_FOUND(HttpStatus.BAD_REQUEST, "수신자 정보를 찾을 수 없습니다."),
     FRIEND_REQUEST_NOT_FOUND(HttpStatus.BAD_REQUEST, "해당 친구 요청이 존재하지 않습니다."),
     ALREADY_INVITED_MEMBER(HttpStatus.BAD_REQUEST, "이미 초대된 멤버입니다."),
     INVITATION_ALREADY_ACCEPTED(HttpStatus.BAD_REQUEST, "이미 초대가 수락되었습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 페이지 커서입니다."),
 
     // 401 UNAUTHORIZED
     INVALID_CREDENTIALS(HttpStatus.UNAUTHORIZED, "아이디 또는 비밀번호가 올바르지 않습니다."),
@@ -47,8 +49,13 @@ public enum ErrorCode {
     EMAIL_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 등록된 이메일입니다."),
     NICKNAME_ALREADY_EXISTS(HttpStatus.CONFLICT, "이미 사용 중인 닉네임입니다."),
 
+    // 429 TOO_MANY_REQUESTS
+    TOO_MANY_LOGIN_ATTEMPTS(HttpStatus.TOO_MANY_REQUESTS, "로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요."),
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
     // 500 INTERNAL_SERVER_ERROR
     INTERNAL_SERVER_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "서버 오류가 발생했습니다."),
+    SERVER_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
     INVALID_INPUT_VALUE(HttpStatus.BAD_REQUEST, "파일 형식이 올바르지 않습니다.");
 
     private final HttpStatus httpStatus;
@@ -0,0 +1,14 @@
+package com.project.bearlink.global.exception;
+
+import lombok.Getter;
+
+// 429 응답 + Retry-After 헤더로 내려가는 예외
+@Getter
+public class RateLimitedException extends ApiException {
+    private final long retryAfterSeconds;
+
+    public RateLimitedException(ErrorCode errorCode, long retryAfterSeconds) {
+        super(errorCode);
+        this.retryAfterSeconds = Math.max(retryAfterSeconds, 1);
+    }
+}
@@ -1,27 +1,22 @@
 package com.project.bearlink.global.rq;
 
-import com.project.bearlink.domain.user.user.entity.User;
-import com.project.bearlink.domain.user.user.service.AuthLoginService;
-import com.project.bearlink.domain.user.user.service.AuthTokenService;
-import com.project.bearlink.domain.user.user.service.UserService;
+import com.project.bearlink.domain.user.user.dto.UserSnapshot;
+import com.project.bearlink.domain.user.user.service.UserSnapshotCache;
+import com.project.bearlink.global.security.auth.AuthCookies;
 import com.project.bearlink.global.security.auth.SecurityUser;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.ResponseCookie;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.annotation.RequestScope;
 
-import java.util.Arrays;
 import java.util.Optional;
 
+// 컨트롤러에서 쓰는 요청 단위 헬퍼 (인증 필터는 Rq 를 사용하지 않는다)
 @Slf4j
 @RequestScope
 @Component
@@ -29,114 +24,45 @@ import java.util.Optional;
 public class Rq {
     private final HttpServletRequest req;
     private final HttpServletResponse resp;
-    private final AuthTokenService authTokenService;
-    private final AuthLoginService authLoginService;
-    private final UserService userService;
+    private final AuthCookies authCookies;
+    private final UserSnapshotCache userSnapshotCache;
 
+    // 요청 안에서는 한 번만 조회 (request scope 빈이므로 필드에 보관)
+    private UserSnapshot actor;
 
-    @Value("${custom.site.cookie.secure}")
-    private boolean cookieSecure;
 
-    @Value("${custom.site.cookie.sameSite}")
-    private String cookieSameSite;
+    public UserSnapshot getActor() {
+        if (actor != null) return actor;
 
-    {
-        log.info("Rq 생성됨");
-    }
-
-
-    public User getUserFromAccessToken(String accessToken) {
-        log.info("getUserFromAccessToken() 호출됨");
-        log.info("전달받은 accessToken: {}", accessToken);
-
-        try {
-            User user = authLoginService.getUserFromAccessToken(accessToken);
-            log.info("user 반환됨: {}", user != null ? user.getEmail() : "null");
-            return user;
-        } catch (Exception e) {
-            log.error("getUserFromAccessToken() 예외 발생", e);
-            return null;
-        }
-    }
-
-
-    public void setLogin(User user) {
-        try {
-            UserDetails userDetails = new SecurityUser(
-                    user.getId(),
-                    user.getEmail(),
-                    "", // password는 사용하지 않음
-                    user.getNickname(),
-                    user.getRole(),
-                    user.getAuthorities()
-            );
-
-            Authentication auth = new UsernamePasswordAuthenticationToken(
-                    userDetails,
-                    null,
-                    userDetails.getAuthorities()
-            );
-
-            SecurityContextHolder.getContext().setAuthentication(auth);
-        } catch (Exception e) {
-            log.error("Login set error", e);
-        }
-    }
-
-
-    public User getActor() {
-        return Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
+        actor = Optional.ofNullable(SecurityContextHolder.getContext().getAuthentication())
                 .map(Authentication::getPrincipal)
                 .filter(p -> p instanceof SecurityUser)
                 .map(p -> (SecurityUser) p)
-                .map(su -> userService.findById(su.getId())) // 전체 유저 객체 fetch
+                .map(su -> userSnapshotCache.get(su.getId()))
                 .orElse(null);
+
+        return actor;
     }
 
 
     public String getCookieValue(String name) {
-        return Optional.ofNullable(req.getCookies())
-                .stream()
-                .flatMap(Arrays::stream)
-                .filter(cookie -> cookie.getName().equals(name))
-                .map(Cookie::getValue)
-                .findFirst()
-                .orElse(null);
+        Cookie[] cookies = req.getCookies();
+        if (cookies == null) return null;
+
+        for (Cookie cookie : cookies) {
+            if (cookie.getName().equals(name)) return cookie.getValue();
+        }
+        return null;
     }
 
 
     public void setCookie(String name, String value) {
-        ResponseCookie cookie = ResponseCookie.from(name, value)
-                .path("/")
-                .secure(cookieSecure)   // 환경별 설정값 적용
-                .sameSite(cookieSameSite)   // 환경별 설정값 적용
-                .httpOnly(true)
-                .build();
-
-        resp.addHeader("Set-Cookie", cookie.toString());
+        authCookies.set(resp, name, value);
     }
 
 
     public void deleteCookie(String name) {
-        ResponseCookie cookie = ResponseCookie.from(name, null)
-                .path("/")
-                .maxAge(0)
-                .secure(cookieSecure)  // 환경별 설정값 적용
-                .sameSite(cookieSameSite)  // 환경별 설정값 적용
-                .httpOnly(true)
-                .build();
-
-        resp.addHeader("Set-Cookie", cookie.toString());
-    }
-
-
-    public String makeAuthCookies(User user) {
-        String accessToken = authTokenService.genAccessToken(user);
-
-        setCookie("accessToken", accessToken);
-        setCookie("refreshToken", user.getRefreshToken());
-
-        return accessToken;
+        authCookies.delete(resp, name);
     }
 
 
@@ -148,21 +74,4 @@ public class Rq {
     public String getHeader(String name) {
         return req.getHeader(name);
     }
-
-
-    public void refreshAccessToken(User user) {
-        String newToken = authTokenService.genAccessToken(user);
-        setHeader("Authorization", "Bearer " + newToken);
-        setCookie("accessToken", newToken);
-    }
-
-
-    public User refreshAccessTokenByRefreshToken(String refreshToken) {
-        return authLoginService.findByRefreshToken(refreshToken)
-                .map(user -> {
-                    refreshAccessToken(user);
-                    return user;
-                })
-                .orElse(null);
-    }
 }
@@ -0,0 +1,42 @@
+package com.project.bearlink.global.security.auth;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+// 인증 쿠키 작성 (singleton 이라 필터에서도 바로 사용 가능)
+@Component
+public class AuthCookies {
+
+    @Value("${custom.site.cookie.secure}")
+    private boolean cookieSecure;
+
+    @Value("${custom.site.cookie.sameSite}")
+    private String cookieSameSite;
+
+
+    public void set(HttpServletResponse resp, String name, String value) {
+        ResponseCookie cookie = ResponseCookie.from(name, value)
+                .path("/")
+                .secure(cookieSecure)   // 환경별 설정값 적용
+                .sameSite(cookieSameSite)   // 환경별 설정값 적용
+                .httpOnly(true)
+                .build();
+
+        resp.addHeader("Set-Cookie", cookie.toString());
+    }
+
+
+    public void delete(HttpServletResponse resp, String name) {
+        ResponseCookie cookie = ResponseCookie.from(name, null)
+                .path("/")
+                .maxAge(0)
+                .secure(cookieSecure)  // 환경별 설정값 적용
+                .sameSite(cookieSameSite)  // 환경별 설정값 적용
+                .httpOnly(true)
+                .build();
+
+        resp.addHeader("Set-Cookie", cookie.toString());
+    }
+}
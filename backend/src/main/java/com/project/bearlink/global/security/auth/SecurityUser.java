@@ -4,14 +4,27 @@ import com.project.bearlink.domain.user.user.entity.UserRole;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 
 @Getter
 @AllArgsConstructor
 public class SecurityUser implements UserDetails {
 
+    // role 별 권한 목록은 고정값이므로 미리 만들어 공유
+    private static final Map<UserRole, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRole.class);
+
+    static {
+        for (UserRole role : UserRole.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority("ROLE_" + role.name())));
+        }
+    }
+
     private final Long id;
     private final String email;
     private final String password;
@@ -19,6 +32,11 @@ public class SecurityUser implements UserDetails {
     private final UserRole role;
     private final Collection<? extends GrantedAuthority> authorities;
 
+    // 토큰 기반 인증용 principal (password 없음)
+    public static SecurityUser of(Long id, String email, String nickname, UserRole role) {
+        return new SecurityUser(id, email, "", nickname, role, AUTHORITIES.get(role));
+    }
+
     @Override
     public String getUsername() {
         return email;
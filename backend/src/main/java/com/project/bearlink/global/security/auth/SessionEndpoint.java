@@ -0,0 +1,24 @@
+package com.project.bearlink.global.security.auth;
+
+import com.project.bearlink.domain.user.user.service.AuthLoginService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+// 운영용 강제 로그아웃 endpoint: DELETE /actuator/sessions/{userId}
+// refreshToken family 전체 + 기존 accessToken 전체를 폐기한다.
+// ADMIN 만 호출할 수 있다 (SecurityConfig)
+@Component
+@Endpoint(id = "sessions")
+@RequiredArgsConstructor
+public class SessionEndpoint {
+
+    private final AuthLoginService authLoginService;
+
+    @DeleteOperation
+    public void revokeAll(@Selector Long userId) {
+        authLoginService.revokeAllSessions(userId);
+    }
+}
@@ -1,8 +1,11 @@
 package com.project.bearlink.global.security.config;
 
-import com.project.bearlink.global.rq.Rq;
 import com.project.bearlink.global.security.filter.CustomAuthenticationFilter;
-import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
+import org.springframework.boot.actuate.health.HealthEndpoint;
+import org.springframework.boot.actuate.info.InfoEndpoint;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -24,25 +27,28 @@ import java.util.List;
 @Configuration
 @EnableWebSecurity  // Spring Security 활성화
 @EnableMethodSecurity
-@RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final Rq rq;
-
+    // strength 를 올리면 기존 해시는 다음 로그인 때 새 cost 로 재해싱된다 (PasswordHasher.needsUpgrade)
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${custom.auth.bcryptStrength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
 
+    // 시큐리티 체인 안에서만 실행되도록 서블릿 필터 자동 등록은 끈다.
     @Bean
-    public CustomAuthenticationFilter customAuthenticationFilter() {
-        return new CustomAuthenticationFilter(rq);
+    public FilterRegistrationBean<CustomAuthenticationFilter> customAuthenticationFilterRegistration(
+            CustomAuthenticationFilter customAuthenticationFilter) {
+        FilterRegistrationBean<CustomAuthenticationFilter> registration = new FilterRegistrationBean<>(customAuthenticationFilter);
+        registration.setEnabled(false);
+        return registration;
     }
 
 
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http,
+                                           CustomAuthenticationFilter customAuthenticationFilter) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable) // CSRF 비활성화 (세션사용 X : JWT 방식이므로 꺼도 됨)
                 .cors(cors -> cors.configurationSource(corsConfigurationSource()))
@@ -56,8 +62,10 @@ public class SecurityConfig {
                                 "/api/v1/users/refresh",
                                 "/api/v1/link/**"
                         ).permitAll() // 회원가입, 로그인, 토큰 재발급 : 허용✔️
-                        .requestMatchers("/actuator/health")
+                        // health/info 외의 actuator(jwtkeys, sessions 등 운영용) : ADMIN 만⚠️ (관리 포트 여부와 무관)
+                        .requestMatchers(EndpointRequest.to(HealthEndpoint.class, InfoEndpoint.class))
                         .permitAll()
+                        .requestMatchers(EndpointRequest.toAnyEndpoint()).hasRole("ADMIN")
                         .requestMatchers(HttpMethod.GET, "/api/**").permitAll() // GET 요청 : 모두 허용✔️
                         .requestMatchers("/api/**").authenticated() // 그 외 /api/** 요청 : 인증 필요⚠️
                         .anyRequest().permitAll() // 나머지 요청 : 모두 허용✔️
@@ -65,7 +73,7 @@ public class SecurityConfig {
 
                 // 커스텀 인증 필터를 UsernamePasswordAuthenticationFilter 앞에 넣음
                 // → 요청마다 JWT 토큰 확인 → 인증되면 SecurityContext 로그인 상태 저장
-                .addFilterBefore(customAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(customAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -1,42 +1,68 @@
 package com.project.bearlink.global.security.filter;
 
-import com.project.bearlink.domain.user.user.entity.User;
-import com.project.bearlink.global.rq.Rq;
+import com.project.bearlink.domain.user.user.service.AuthLoginService;
+import com.project.bearlink.domain.user.user.service.AuthTokenService;
+import com.project.bearlink.global.security.auth.AuthCookies;
+import com.project.bearlink.global.security.auth.SecurityUser;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
+import java.util.Set;
 
+// 요청마다 JWT 를 확인해 SecurityContext 에 principal 을 넣는 singleton 필터
+// request scope 빈(Rq)에 의존하지 않고 request/response 를 직접 다룬다.
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CustomAuthenticationFilter extends OncePerRequestFilter {
 
-    private final Rq rq;
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    // 인증 필요 없는 엔드포인트
+    private static final Set<String> PUBLIC_PATHS = Set.of(
+            "/api/v1/users/signup",
+            "/api/v1/users/login",
+            "/api/v1/users/refresh"
+    );
+
+    private final AuthTokenService authTokenService;
+    private final AuthLoginService authLoginService;
+    private final AuthCookies authCookies;
 
     private record AuthTokens(String refreshToken, String accessToken) {}
 
     // 요청에서 토큰 꺼내기 (헤더 또는 쿠키)
-    private AuthTokens getAuthTokensFromRequest() {
-        String authorization = rq.getHeader("Authorization");
+    private AuthTokens getAuthTokensFromRequest(HttpServletRequest request) {
+        String authorization = request.getHeader("Authorization");
 
-        if (authorization != null && authorization.startsWith("Bearer ")) {
-            String accessToken = authorization.substring("Bearer ".length());
-            return new AuthTokens(null, accessToken);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return new AuthTokens(null, authorization.substring(BEARER_PREFIX.length()));
         }
 
-        String refreshToken = rq.getCookieValue("refreshToken");
-        String accessToken = rq.getCookieValue("accessToken");
-
-        log.info(" accessToken from cookie: {}", accessToken);
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) return null;
+
+        // 쿠키 배열은 한 번만 순회
+        String accessToken = null;
+        String refreshToken = null;
+        for (Cookie cookie : cookies) {
+            switch (cookie.getName()) {
+                case "accessToken" -> accessToken = cookie.getValue();
+                case "refreshToken" -> refreshToken = cookie.getValue();
+                default -> { }
+            }
+        }
 
         if (accessToken != null) {
             return new AuthTokens(refreshToken, accessToken);
@@ -45,73 +71,54 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
         return null;
     }
 
-    // accessToken → 유저 객체
-    private User getUserFromAccessToken(String accessToken) {
-        return rq.getUserFromAccessToken(accessToken);
-    }
-
     // refreshToken → 유저 & accessToken 재발급
-    private User refreshAccessTokenByRefreshToken(String refreshToken) {
-        return rq.refreshAccessTokenByRefreshToken(refreshToken);
+    private SecurityUser refreshAccessTokenByRefreshToken(String refreshToken, HttpServletResponse response) {
+        return authLoginService.findByRefreshToken(refreshToken)
+                .map(user -> {
+                    String newToken = authTokenService.genAccessToken(user);
+                    response.setHeader("Authorization", BEARER_PREFIX + newToken);
+                    authCookies.set(response, "accessToken", newToken);
+                    return SecurityUser.of(user.getId(), user.getEmail(), user.getNickname(), user.getRole());
+                })
+                .orElse(null);
     }
 
-    // 토큰이 있는지 먼저 검증
     @Override
     protected void doFilterInternal(@NonNull HttpServletRequest request,
                                     @NonNull HttpServletResponse response,
                                     @NonNull FilterChain filterChain)
             throws ServletException, IOException {
 
-        log.info("요청 URI: {}", request.getRequestURI());
-
-        // API 요청이 아니면 통과
-        if (!request.getRequestURI().startsWith("/api/")) {
-            filterChain.doFilter(request, response);
-            return;
-        }
+        String uri = request.getRequestURI();
 
-        // 인증 필요 없는 엔드포인트는 통과
-        if (List.of(
-                "/api/v1/users/signup",
-                "/api/v1/users/login",
-                "/api/v1/users/refresh"
-        ).contains(request.getRequestURI())) {
+        // API/actuator 요청이 아니거나 인증 필요 없는 엔드포인트는 통과
+        if (!(uri.startsWith("/api/") || uri.startsWith("/actuator/")) || PUBLIC_PATHS.contains(uri)) {
             filterChain.doFilter(request, response);
             return;
         }
 
-
         try {
-            AuthTokens authTokens = getAuthTokensFromRequest();
+            AuthTokens authTokens = getAuthTokensFromRequest(request);
             if (authTokens == null) {
                 filterChain.doFilter(request, response);
                 return;
             }
 
-            String refreshToken = authTokens.refreshToken();
-            String accessToken = authTokens.accessToken();
-
-            User user = getUserFromAccessToken(accessToken);
-            log.info("토큰 기반 사용자 확인 결과: {}", user != null ? user.getEmail() : "유저 없음");
-
+            SecurityUser principal = authTokenService.authenticate(authTokens.accessToken());
 
-            if (user == null && refreshToken != null) {
-                user = refreshAccessTokenByRefreshToken(refreshToken);
+            if (principal == null && authTokens.refreshToken() != null) {
+                principal = refreshAccessTokenByRefreshToken(authTokens.refreshToken(), response);
             }
 
-
-            if (user != null) {
-                log.info("로그인 인증 완료: {}", user.getEmail());
-                rq.setLogin(user);
-                log.info("SecurityContext에 로그인 설정 완료");
+            if (principal != null) {
+                SecurityContextHolder.getContext().setAuthentication(
+                        UsernamePasswordAuthenticationToken.authenticated(principal, null, principal.getAuthorities())
+                );
             } else {
-
-
                 log.warn("로그인 인증 실패: 유효한 토큰이 아님");
 
-
-                rq.deleteCookie("accessToken");
-                rq.deleteCookie("refreshToken");
+                authCookies.delete(response, "accessToken");
+                authCookies.delete(response, "refreshToken");
             }
         } catch (Exception e) {
             log.error("CustomAuthenticationFilter 예외 발생", e);
@@ -0,0 +1,165 @@
+package com.project.bearlink.global.security.jwt;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 폐기된 accessToken 판별기
+// 요청마다 Redis 를 조회하지 않도록 로컬 Bloom filter 를 먼저 확인하고,
+// "있을 수 있음" 으로 나온 경우에만 RevokedTokenStore 에서 확인한다.
+// 다른 노드의 폐기는 저장소의 폐기 알림(pub/sub)으로 바로 필터에 넣는다.
+// 필터는 기동 시와 긴 주기(rebuildMillis)로만 저장소 전체를 읽어 다시 만든다 (만료 항목 정리 + 알림 유실 보정).
+// 사용자 단위 폐기는 발급 시각을 ms 로 비교한다 (같은 초에 폐기 후 재발급된 토큰을 막지 않도록).
+@Slf4j
+@Component
+public class AccessTokenDenylist {
+
+    private static final String JTI_KEY = "j:";
+    private static final String USER_KEY = "u:";
+
+    // accessToken 발급 시각 (epoch millis), 표준 iat 는 초 단위라 따로 둔다
+    public static final String ISSUED_AT_MILLIS = "iatMs";
+
+    private final RevokedTokenStore revokedTokenStore;
+    private final long accessTokenExpirationSeconds;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final long rebuildMillis;
+
+    private volatile BloomFilter filter;
+
+    // 재구성 도중 알림으로 받은 폐기 항목 (새 필터에 다시 넣기 위해 잠시 보관)
+    private final Map<String, Long> recentRevocations = new ConcurrentHashMap<>();
+
+    private final Counter filterHits;
+    private final Counter confirmedRevoked;
+
+    public AccessTokenDenylist(RevokedTokenStore revokedTokenStore,
+                               @Value("${custom.accessToken.expirationSeconds}") long accessTokenExpirationSeconds,
+                               @Value("${custom.jwt.denylist.expectedInsertions:100000}") long expectedInsertions,
+                               @Value("${custom.jwt.denylist.falsePositiveRate:0.001}") double falsePositiveRate,
+                               @Value("${custom.jwt.denylist.rebuildMillis:600000}") long rebuildMillis,
+                               MeterRegistry meterRegistry) {
+        this.revokedTokenStore = revokedTokenStore;
+        this.accessTokenExpirationSeconds = accessTokenExpirationSeconds;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.rebuildMillis = rebuildMillis;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        this.filterHits = Counter.builder("auth.denylist.filterHit").register(meterRegistry);
+        this.confirmedRevoked = Counter.builder("auth.denylist.revoked").register(meterRegistry);
+
+        revokedTokenStore.addListener(new RevokedTokenStore.RevocationListener() {
+            @Override
+            public void onJtiRevoked(String jti) {
+                mark(JTI_KEY + jti);
+            }
+
+            @Override
+            public void onUserRevoked(Long userId) {
+                mark(USER_KEY + userId);
+            }
+        });
+    }
+
+    @PostConstruct
+    void init() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            // 저장소에 연결할 수 없어도 기동은 계속, 다음 주기에 재시도
+            log.warn("폐기 토큰 필터 초기화 실패", e);
+        }
+    }
+
+    // 검증이 끝난 accessToken claims 기준으로 폐기 여부 판단
+    public boolean isRevoked(Map<String, Object> claims) {
+        BloomFilter current = filter;
+
+        Object jti = claims.get("jti");
+        if (jti != null && current.mightContain(JTI_KEY + jti)) {
+            filterHits.increment();
+            if (revokedTokenStore.isRevoked(jti.toString())) {
+                confirmedRevoked.increment();
+                return true;
+            }
+        }
+
+        Object userId = claims.get("userId");
+        if (userId != null && current.mightContain(USER_KEY + userId)) {
+            filterHits.increment();
+            Long revokedBefore = revokedTokenStore.userRevokedBefore(((Number) userId).longValue());
+            if (revokedBefore != null && issuedAtMillis(claims) <= revokedBefore) {
+                confirmedRevoked.increment();
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    // 토큰 하나 폐기 (로그아웃), 남은 수명만큼만 보관
+    public void revoke(Map<String, Object> claims) {
+        Object jti = claims.get("jti");
+        if (jti == null) return;
+
+        long remainingSeconds = epochSeconds(claims.get("exp")) - System.currentTimeMillis() / 1000;
+        if (remainingSeconds <= 0) return;
+
+        revokedTokenStore.revoke(jti.toString(), Duration.ofSeconds(remainingSeconds));
+        mark(JTI_KEY + jti); // 알림이 유실돼도 이 노드에는 바로 반영
+    }
+
+    // 지금까지 발급된 해당 사용자의 accessToken 전부 폐기 (비밀번호 변경, 강제 로그아웃)
+    public void revokeAll(Long userId) {
+        revokedTokenStore.revokeUser(userId, System.currentTimeMillis(), Duration.ofSeconds(accessTokenExpirationSeconds));
+        mark(USER_KEY + userId);
+    }
+
+    // 저장소 전체로 새 필터를 만들고 원자적으로 교체
+    @Scheduled(fixedDelayString = "${custom.jwt.denylist.rebuildMillis:600000}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        RevokedTokenStore.Snapshot snapshot = revokedTokenStore.snapshot();
+
+        long size = snapshot.jtis().size() + snapshot.userIds().size();
+        BloomFilter next = new BloomFilter(Math.max(expectedInsertions, size * 2), falsePositiveRate);
+        snapshot.jtis().forEach(jti -> next.put(JTI_KEY + jti));
+        snapshot.userIds().forEach(id -> next.put(USER_KEY + id));
+
+        // snapshot 이후에 들어온 폐기가 빠지지 않도록 최근 항목을 다시 넣는다 (교체 직전 항목까지 교체 후 한 번 더)
+        recentRevocations.forEach((key, at) -> next.put(key));
+        filter = next;
+        recentRevocations.forEach((key, at) -> next.put(key));
+
+        recentRevocations.values().removeIf(at -> at < startedAt - rebuildMillis);
+    }
+
+    private void mark(String key) {
+        recentRevocations.put(key, System.currentTimeMillis());
+        filter.put(key);
+    }
+
+    // iatMs 가 없는 이전 토큰은 iat 초의 시작으로 본다 (그 초에 폐기됐으면 폐기)
+    // 초 단위 값은 모두 폐기 쪽으로 올림/내림: 발급 시각은 초의 시작, 저장소의 폐기 시각은 초의 끝 (RedisRevokedTokenStore)
+    private static long issuedAtMillis(Map<String, Object> claims) {
+        if (claims.get(ISSUED_AT_MILLIS) instanceof Number millis) return millis.longValue();
+        return epochSeconds(claims.get("iat")) * 1000;
+    }
+
+    private static long epochSeconds(Object value) {
+        if (value instanceof Date date) return date.getTime() / 1000;
+        if (value instanceof Number seconds) return seconds.longValue();
+        return 0L;
+    }
+}
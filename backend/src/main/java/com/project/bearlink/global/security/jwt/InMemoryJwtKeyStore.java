@@ -0,0 +1,52 @@
+package com.project.bearlink.global.security.jwt;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 단일 노드/테스트용 JWT 키 저장소 (custom.store.type=memory)
+// 재시작하면 교체한 키는 사라지고 설정의 secret 으로 돌아간다. 변경 알림은 호출한 스레드에서 바로 전달한다.
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "memory")
+public class InMemoryJwtKeyStore implements JwtKeyStore {
+
+    private final Map<String, String> secrets = new HashMap<>();
+    private final Set<String> retiredKids = new HashSet<>();
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+    private String activeKid;
+
+    @Override
+    public synchronized Keys load() {
+        return new Keys(activeKid, Map.copyOf(secrets), Set.copyOf(retiredKids));
+    }
+
+    @Override
+    public void rotate(String kid, String secret) {
+        synchronized (this) {
+            secrets.put(kid, secret);
+            retiredKids.remove(kid);
+            activeKid = kid;
+        }
+        listeners.forEach(Runnable::run);
+    }
+
+    @Override
+    public void retire(String kid) {
+        synchronized (this) {
+            secrets.remove(kid);
+            retiredKids.add(kid);
+        }
+        listeners.forEach(Runnable::run);
+    }
+
+    @Override
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,63 @@
+package com.project.bearlink.global.security.jwt;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// 단일 노드/테스트용 폐기 토큰 저장소 (custom.store.type=memory)
+// 만료된 항목은 snapshot() 때 정리하고, 폐기 알림은 호출한 스레드에서 바로 전달한다.
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "memory")
+public class InMemoryRevokedTokenStore implements RevokedTokenStore {
+
+    private record Entry(long value, long expiresAtMillis) {}
+
+    private final Map<String, Entry> jtis = new ConcurrentHashMap<>();
+    private final Map<Long, Entry> users = new ConcurrentHashMap<>();
+    private final List<RevocationListener> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void revoke(String jti, Duration ttl) {
+        jtis.put(jti, new Entry(1L, System.currentTimeMillis() + ttl.toMillis()));
+        listeners.forEach(listener -> listener.onJtiRevoked(jti));
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        Entry entry = jtis.get(jti);
+        return entry != null && entry.expiresAtMillis() > System.currentTimeMillis();
+    }
+
+    @Override
+    public void revokeUser(Long userId, long issuedBeforeEpochMillis, Duration ttl) {
+        users.put(userId, new Entry(issuedBeforeEpochMillis, System.currentTimeMillis() + ttl.toMillis()));
+        listeners.forEach(listener -> listener.onUserRevoked(userId));
+    }
+
+    @Override
+    public Long userRevokedBefore(Long userId) {
+        Entry entry = users.get(userId);
+        if (entry == null || entry.expiresAtMillis() <= System.currentTimeMillis()) return null;
+        return entry.value();
+    }
+
+    @Override
+    public void addListener(RevocationListener listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public Snapshot snapshot() {
+        long now = System.currentTimeMillis();
+        jtis.values().removeIf(e -> e.expiresAtMillis() <= now);
+        users.values().removeIf(e -> e.expiresAtMillis() <= now);
+
+        return new Snapshot(new HashSet<>(jtis.keySet()), new HashSet<>(users.keySet()));
+    }
+}
@@ -0,0 +1,184 @@
+package com.project.bearlink.global.security.jwt;
+
+import io.jsonwebtoken.Header;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.ProtectedHeader;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// JWT 서명/검증 키 관리
+// 키와 parser 는 한 번만 만들어 재사용하고, 토큰 헤더의 kid 로 검증 키를 고른다.
+// kid 는 secret 의 SHA-256 앞 8바이트라서 같은 secret 을 쓰는 모든 노드에서 동일하다.
+// 교체/폐기한 키는 JwtKeyStore 에 저장되어 모든 노드가 변경 알림을 받아 다시 읽고, 재시작해도 유지된다.
+// 알림을 놓친 노드도 주기적으로 다시 읽어 맞춘다.
+@Slf4j
+@Component
+public class JwtKeyRing {
+
+    private record SigningKey(String kid, SecretKey key) {}
+
+    // 한 번에 바꿔 끼우는 키 목록 (검증 중에 반쯤 바뀐 상태를 보지 않도록)
+    private record KeySet(SigningKey active, Map<String, SecretKey> verification, Set<String> retired) {}
+
+    private final JwtKeyStore keyStore;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    // 설정의 secret: 교체된 키가 없을 때의 서명 키이자, kid 헤더가 없는 기존 토큰의 검증 키
+    private final SigningKey configuredKey;
+    private final JwtParser parser;
+
+    private volatile KeySet keys;
+
+    public JwtKeyRing(@Value("${custom.jwt.secretKey}") String secret, JwtKeyStore keyStore) {
+        this.keyStore = keyStore;
+        this.configuredKey = toSigningKey(secret);
+        this.parser = Jwts.parser()
+                .keyLocator(this::locate)
+                .build();
+
+        reload();
+        keyStore.addListener(this::reload);
+    }
+
+
+    public String sign(Map<String, Object> claims, long expireSeconds) {
+        SigningKey signingKey = keys.active();
+        Date issuedAt = new Date();
+        Date expiration = new Date(issuedAt.getTime() + 1000L * expireSeconds);
+
+        return Jwts.builder()
+                .header().keyId(signingKey.kid()).and()
+                .claims(claims)
+                .issuedAt(issuedAt)
+                .expiration(expiration)
+                .signWith(signingKey.key())
+                .compact();
+    }
+
+
+    // 서명 검증 후 payload 반환, 실패하면 null
+    public Map<String, Object> verify(String token) {
+        if (token == null || token.isBlank()) return null;
+
+        try {
+            return parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("Invalid JWT token: {}", e.getMessage());
+            return null;
+        }
+    }
+
+
+    // 새 secret 을 서명 키로 등록, 이전 키는 retire 전까지 검증용으로 남는다.
+    public synchronized String rotate(String secret) {
+        SigningKey next = toSigningKey(secret);
+        keyStore.rotate(next.kid(), secret);
+        reload();
+        log.info("JWT 서명 키 교체: kid={}", next.kid());
+        return next.kid();
+    }
+
+
+    // 해당 kid 로 서명된 토큰은 더 이상 통과하지 않는다.
+    public synchronized void retire(String kid) {
+        if (keys.active().kid().equals(kid)) {
+            throw new IllegalStateException("현재 서명 키는 폐기할 수 없습니다: " + kid);
+        }
+        keyStore.retire(kid);
+        reload();
+        log.info("JWT 키 폐기: kid={}", kid);
+    }
+
+
+    // 저장소의 키 목록을 다시 읽는다 (변경 알림, 주기 실행, rotate/retire 직후)
+    @Scheduled(fixedDelayString = "${custom.jwt.keys.reloadMillis:60000}")
+    public synchronized void reload() {
+        JwtKeyStore.Keys stored = keyStore.load();
+
+        Map<String, SecretKey> verification = new HashMap<>();
+        verification.put(configuredKey.kid(), configuredKey.key());
+        stored.secrets().forEach((kid, secret) -> verification.put(kid, toSigningKey(secret).key()));
+        stored.retiredKids().forEach(verification::remove);
+
+        SigningKey active = configuredKey;
+        if (stored.activeKid() != null && verification.containsKey(stored.activeKid())) {
+            active = new SigningKey(stored.activeKid(), verification.get(stored.activeKid()));
+        }
+
+        KeySet previous = keys;
+        KeySet next = new KeySet(active, Map.copyOf(verification), Set.copyOf(stored.retiredKids()));
+        keys = next;
+
+        if (previous != null && !previous.equals(next)) {
+            listeners.forEach(Runnable::run);
+        }
+    }
+
+    // 키 목록이 바뀐 뒤 호출 (예: 폐기된 키로 검증해 둔 캐시 비우기)
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+
+    public String activeKid() {
+        return keys.active().kid();
+    }
+
+    public Set<String> verificationKids() {
+        return keys.verification().keySet();
+    }
+
+    public Set<String> retiredKids() {
+        return keys.retired();
+    }
+
+
+    private Key locate(Header header) {
+        String kid = header instanceof ProtectedHeader protectedHeader ? protectedHeader.getKeyId() : null;
+        if (kid == null) kid = configuredKey.kid();
+
+        KeySet current = keys;
+        if (current.retired().contains(kid)) {
+            throw new JwtException("폐기된 키로 서명된 토큰입니다: kid=" + kid);
+        }
+
+        SecretKey key = current.verification().get(kid);
+        if (key == null) {
+            throw new JwtException("알 수 없는 키로 서명된 토큰입니다: kid=" + kid);
+        }
+        return key;
+    }
+
+    private static SigningKey toSigningKey(String secret) {
+        byte[] raw = secret.getBytes(StandardCharsets.UTF_8);
+        return new SigningKey(kidOf(raw), Keys.hmacShaKeyFor(raw));
+    }
+
+    private static String kidOf(byte[] secret) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(secret);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(hash, 8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+}
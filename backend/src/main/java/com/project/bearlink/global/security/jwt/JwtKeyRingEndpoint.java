@@ -0,0 +1,40 @@
+package com.project.bearlink.global.security.jwt;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// 재시작 없이 JWT 키를 교체/폐기하기 위한 운영용 actuator endpoint
+// 변경은 JwtKeyStore 를 거쳐 모든 노드에 반영되고, ADMIN 만 호출할 수 있다 (SecurityConfig)
+@Component
+@Endpoint(id = "jwtkeys")
+@RequiredArgsConstructor
+public class JwtKeyRingEndpoint {
+
+    private final JwtKeyRing jwtKeyRing;
+
+    @ReadOperation
+    public Map<String, Object> keys() {
+        return Map.of(
+                "active", jwtKeyRing.activeKid(),
+                "verification", jwtKeyRing.verificationKids(),
+                "retired", jwtKeyRing.retiredKids()
+        );
+    }
+
+    @WriteOperation
+    public Map<String, String> rotate(String secretKey) {
+        return Map.of("active", jwtKeyRing.rotate(secretKey));
+    }
+
+    @DeleteOperation
+    public void retire(@Selector String kid) {
+        jwtKeyRing.retire(kid);
+    }
+}
@@ -0,0 +1,23 @@
+package com.project.bearlink.global.security.jwt;
+
+import java.util.Map;
+import java.util.Set;
+
+// JWT 서명 키 저장소 (모든 노드가 같은 키 목록을 보고, 재시작해도 유지)
+// 설정의 secret(custom.jwt.secretKey) 은 여기 없어도 항상 검증 키이고, 교체된 키가 없으면 서명 키다.
+// 교체/폐기할 때마다 모든 노드에 알려 각 노드의 JwtKeyRing 이 다시 읽어가게 한다.
+public interface JwtKeyStore {
+
+    // activeKid: 교체된 서명 키 (없으면 null), secrets: kid → secret, retiredKids: 폐기된 kid
+    record Keys(String activeKid, Map<String, String> secrets, Set<String> retiredKids) {}
+
+    Keys load();
+
+    // secret 을 등록하고 서명 키로 지정 (폐기된 kid 였다면 폐기 해제)
+    void rotate(String kid, String secret);
+
+    void retire(String kid);
+
+    // 키 변경 알림 (이 노드와 다른 노드의 변경 모두), 알림 스레드에서 호출
+    void addListener(Runnable listener);
+}
@@ -0,0 +1,119 @@
+package com.project.bearlink.global.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Redis 기반 JWT 키 저장소 (만료 없음)
+//   auth:jwt:secrets  → hash, kid → secret
+//   auth:jwt:active   → 서명 kid
+//   auth:jwt:retired  → set, 폐기된 kid
+// 변경할 때마다 auth:jwt:keys 채널에 kid 를 발행해 모든 노드가 키 목록을 다시 읽게 한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisJwtKeyStore implements JwtKeyStore {
+
+    static final String CHANNEL = "auth:jwt:keys";
+
+    private static final String SECRETS_KEY = "auth:jwt:secrets";
+    private static final String ACTIVE_KEY = "auth:jwt:active";
+    private static final String RETIRED_KEY = "auth:jwt:retired";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final List<Runnable> listeners = new CopyOnWriteArrayList<>();
+
+    private RedisMessageListenerContainer container;
+    private ThreadPoolTaskExecutor dispatcher;
+
+    public RedisJwtKeyStore(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.connectionFactory = connectionFactory;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        dispatcher = new ThreadPoolTaskExecutor();
+        dispatcher.setCorePoolSize(1);
+        dispatcher.setMaxPoolSize(1);
+        dispatcher.setThreadNamePrefix("jwt-keys-");
+        dispatcher.initialize();
+
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(dispatcher);
+        container.addMessageListener((message, pattern) -> receive(), new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public Keys load() {
+        Map<String, String> secrets = new HashMap<>();
+        redisTemplate.<String, String>opsForHash().entries(SECRETS_KEY).forEach(secrets::put);
+
+        Set<String> retired = redisTemplate.opsForSet().members(RETIRED_KEY);
+        return new Keys(redisTemplate.opsForValue().get(ACTIVE_KEY), secrets, retired == null ? Set.of() : retired);
+    }
+
+    // secret 을 먼저 저장해야 active 를 읽은 노드가 항상 그 secret 도 찾는다
+    @Override
+    public void rotate(String kid, String secret) {
+        redisTemplate.opsForHash().put(SECRETS_KEY, kid, secret);
+        redisTemplate.opsForSet().remove(RETIRED_KEY, kid);
+        redisTemplate.opsForValue().set(ACTIVE_KEY, kid);
+        publish(kid);
+    }
+
+    @Override
+    public void retire(String kid) {
+        redisTemplate.opsForSet().add(RETIRED_KEY, kid);
+        redisTemplate.opsForHash().delete(SECRETS_KEY, kid);
+        publish(kid);
+    }
+
+    @Override
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    // 자기 노드가 보낸 알림도 그대로 처리 (다시 읽어도 무해)
+    void receive() {
+        for (Runnable listener : listeners) {
+            try {
+                listener.run();
+            } catch (Exception e) {
+                log.warn("JWT 키 변경 알림 처리 실패", e);
+            }
+        }
+    }
+
+    // 저장은 끝났으므로 알림 실패로 요청을 실패시키지 않는다 → 다른 노드는 JwtKeyRing 의 주기적 reload 때 반영
+    private void publish(String kid) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, kid);
+        } catch (Exception e) {
+            log.warn("JWT 키 변경 알림 발행 실패: kid={}", kid, e);
+        }
+    }
+
+    @PreDestroy
+    void close() throws Exception {
+        if (container != null) container.destroy();
+        if (dispatcher != null) dispatcher.shutdown();
+    }
+}
@@ -0,0 +1,155 @@
+package com.project.bearlink.global.security.jwt;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+// Redis 기반 폐기 토큰 저장소
+//   auth:revoked:jti:{jti}   → "1", TTL = 토큰 남은 수명
+//   auth:revoked:user:{uid}  → 폐기 기준 시각(epoch millis), TTL = accessToken 수명
+// 폐기할 때마다 auth:revoked 채널에 "j:{jti}" / "u:{uid}" 를 발행해 모든 노드의 필터에 바로 반영한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisRevokedTokenStore implements RevokedTokenStore {
+
+    static final String CHANNEL = "auth:revoked";
+
+    private static final String JTI_PREFIX = "auth:revoked:jti:";
+    private static final String USER_PREFIX = "auth:revoked:user:";
+    private static final String JTI_MESSAGE = "j:";
+    private static final String USER_MESSAGE = "u:";
+
+    // 이보다 작은 값은 이전 형식(epoch seconds)으로 저장된 항목
+    private static final long MIN_EPOCH_MILLIS = 100_000_000_000L;
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisConnectionFactory connectionFactory;
+    private final List<RevocationListener> listeners = new CopyOnWriteArrayList<>();
+
+    private RedisMessageListenerContainer container;
+    private ThreadPoolTaskExecutor dispatcher;
+
+    public RedisRevokedTokenStore(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory) {
+        this.redisTemplate = redisTemplate;
+        this.connectionFactory = connectionFactory;
+    }
+
+    @PostConstruct
+    void subscribe() {
+        dispatcher = new ThreadPoolTaskExecutor();
+        dispatcher.setCorePoolSize(1);
+        dispatcher.setMaxPoolSize(1);
+        dispatcher.setThreadNamePrefix("revoked-token-");
+        dispatcher.initialize();
+
+        container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(dispatcher);
+        container.addMessageListener((message, pattern) -> receive(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public void revoke(String jti, Duration ttl) {
+        redisTemplate.opsForValue().set(JTI_PREFIX + jti, "1", ttl);
+        publish(JTI_MESSAGE + jti);
+    }
+
+    @Override
+    public boolean isRevoked(String jti) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(JTI_PREFIX + jti));
+    }
+
+    @Override
+    public void revokeUser(Long userId, long issuedBeforeEpochMillis, Duration ttl) {
+        redisTemplate.opsForValue().set(USER_PREFIX + userId, Long.toString(issuedBeforeEpochMillis), ttl);
+        publish(USER_MESSAGE + userId);
+    }
+
+    @Override
+    public Long userRevokedBefore(Long userId) {
+        String value = redisTemplate.opsForValue().get(USER_PREFIX + userId);
+        if (value == null) return null;
+
+        long revokedBefore = Long.parseLong(value);
+        // 초 단위면 그 초 끝까지 (그 초에 발급된 토큰도 폐기, AccessTokenDenylist 의 iat 내림과 같은 방향)
+        return revokedBefore < MIN_EPOCH_MILLIS ? revokedBefore * 1000 + 999 : revokedBefore;
+    }
+
+    @Override
+    public void addListener(RevocationListener listener) {
+        listeners.add(listener);
+    }
+
+    // 기동 시 한 번과 필터 정리 주기에만 호출된다
+    @Override
+    public Snapshot snapshot() {
+        Set<String> jtis = new HashSet<>();
+        scan(JTI_PREFIX, jtis);
+
+        Set<String> users = new HashSet<>();
+        scan(USER_PREFIX, users);
+
+        Set<Long> userIds = new HashSet<>();
+        for (String id : users) userIds.add(Long.valueOf(id));
+
+        return new Snapshot(jtis, userIds);
+    }
+
+    // 자기 노드가 보낸 알림도 그대로 처리 (필터에 다시 넣어도 무해)
+    void receive(String message) {
+        try {
+            if (message.startsWith(JTI_MESSAGE)) {
+                String jti = message.substring(JTI_MESSAGE.length());
+                listeners.forEach(listener -> listener.onJtiRevoked(jti));
+            } else if (message.startsWith(USER_MESSAGE)) {
+                Long userId = Long.valueOf(message.substring(USER_MESSAGE.length()));
+                listeners.forEach(listener -> listener.onUserRevoked(userId));
+            }
+        } catch (Exception e) {
+            log.warn("폐기 알림 처리 실패: {}", message, e);
+        }
+    }
+
+    // 저장은 끝났으므로 알림 실패로 요청을 실패시키지 않는다 → 다른 노드는 다음 필터 정리 때 반영
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, message);
+        } catch (Exception e) {
+            log.warn("폐기 알림 발행 실패: {}", message, e);
+        }
+    }
+
+    // KEYS 대신 SCAN 으로 prefix 이하 키를 모은다
+    private void scan(String prefix, Set<String> out) {
+        ScanOptions options = ScanOptions.scanOptions().match(prefix + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            cursor.forEachRemaining(key -> out.add(key.substring(prefix.length())));
+        }
+    }
+
+    @PreDestroy
+    void close() throws Exception {
+        if (container != null) container.destroy();
+        if (dispatcher != null) dispatcher.shutdown();
+    }
+}
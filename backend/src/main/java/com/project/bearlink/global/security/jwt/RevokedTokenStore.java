@@ -0,0 +1,34 @@
+package com.project.bearlink.global.security.jwt;
+
+import java.time.Duration;
+import java.util.Set;
+
+// 폐기된 accessToken 저장소 (Bloom filter 의 양성 판정을 확인하는 용도)
+//  - jti 단위 폐기: 로그아웃한 accessToken
+//  - 사용자 단위 폐기: 비밀번호 변경/강제 로그아웃 → 해당 시각(ms) 이전에 발급된 토큰 전부
+// 모든 항목은 accessToken 의 남은 수명만큼만 보관하고, 폐기될 때마다 모든 노드에 알린다.
+public interface RevokedTokenStore {
+
+    // 폐기 알림 (이 노드와 다른 노드의 폐기 모두), 알림 스레드에서 호출
+    interface RevocationListener {
+        void onJtiRevoked(String jti);
+
+        void onUserRevoked(Long userId);
+    }
+
+    void revoke(String jti, Duration ttl);
+
+    boolean isRevoked(String jti);
+
+    void revokeUser(Long userId, long issuedBeforeEpochMillis, Duration ttl);
+
+    // 사용자 단위 폐기 기준 시각 (epoch millis), 없으면 null
+    Long userRevokedBefore(Long userId);
+
+    void addListener(RevocationListener listener);
+
+    // Bloom filter 재구성용 현재 항목 전체
+    Snapshot snapshot();
+
+    record Snapshot(Set<String> jtis, Set<Long> userIds) {}
+}
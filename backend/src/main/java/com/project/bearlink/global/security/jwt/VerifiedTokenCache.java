@@ -0,0 +1,112 @@
+package com.project.bearlink.global.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// 서명 검증이 끝난 토큰의 payload 캐시
+// 같은 accessToken 이 반복해서 들어와도 HMAC 검증은 한 번만 수행한다.
+// 키는 토큰 원문이 아닌 SHA-256 digest 이고, 토큰의 exp 가 지나면 자동으로 제거된다.
+@Slf4j
+@Component
+public class VerifiedTokenCache {
+
+    private final Cache<String, Entry> cache;
+
+    private record Entry(Map<String, Object> claims, long expiresAtMillis) {}
+
+    public VerifiedTokenCache(@Value("${custom.jwt.verifiedCache.maxSize:10000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return remainingNanos(entry);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return remainingNanos(entry);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.verifiedToken");
+    }
+
+    // 캐시에 있으면 검증 없이 claims 반환, 없으면 verifier 로 검증 후 저장
+    // verifier 가 null 을 반환하면(검증 실패) 캐시하지 않는다.
+    public Map<String, Object> get(String token, Supplier<Map<String, Object>> verifier) {
+        if (token == null || token.isBlank()) return null;
+
+        String key = digest(token);
+        Entry entry = cache.getIfPresent(key);
+
+        if (entry != null && entry.expiresAtMillis() > System.currentTimeMillis()) {
+            return entry.claims();
+        }
+
+        Map<String, Object> claims = verifier.get();
+        if (claims == null) return null;
+
+        long expiresAtMillis = expirationMillis(claims);
+        if (expiresAtMillis > System.currentTimeMillis()) {
+            cache.put(key, new Entry(Collections.unmodifiableMap(claims), expiresAtMillis));
+        }
+
+        return claims;
+    }
+
+    public void invalidate(String token) {
+        if (token == null) return;
+        cache.invalidate(digest(token));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static long remainingNanos(Entry entry) {
+        long remainingMillis = entry.expiresAtMillis() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+    }
+
+    // exp claim 이 없으면 0 → 캐시하지 않음
+    private static long expirationMillis(Map<String, Object> claims) {
+        Object exp = claims.get("exp");
+        if (exp instanceof Date date) return date.getTime();
+        if (exp instanceof Number seconds) return seconds.longValue() * 1000L;
+        return 0L;
+    }
+
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.bearlink.global.security.password;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.project.bearlink.global.exception.ErrorCode;
+import com.project.bearlink.global.exception.RateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 시도 admission control
+// 계정별/IP별 토큰 버킷으로 무차별 대입을 BCrypt 에 도달하기 전에 걸러낸다.
+@Slf4j
+@Component
+public class LoginRateLimiter {
+
+    private final Cache<String, TokenBucket> accountBuckets;
+    private final Cache<String, TokenBucket> ipBuckets;
+
+    private final int accountCapacity;
+    private final double accountRefillPerSecond;
+    private final int ipCapacity;
+    private final double ipRefillPerSecond;
+
+    private final Counter rejectedByAccount;
+    private final Counter rejectedByIp;
+
+    public LoginRateLimiter(@Value("${custom.auth.rateLimit.account.capacity:5}") int accountCapacity,
+                            @Value("${custom.auth.rateLimit.account.refillPerMinute:5}") double accountRefillPerMinute,
+                            @Value("${custom.auth.rateLimit.ip.capacity:20}") int ipCapacity,
+                            @Value("${custom.auth.rateLimit.ip.refillPerMinute:60}") double ipRefillPerMinute,
+                            MeterRegistry meterRegistry) {
+        this.accountCapacity = accountCapacity;
+        this.accountRefillPerSecond = accountRefillPerMinute / 60d;
+        this.ipCapacity = ipCapacity;
+        this.ipRefillPerSecond = ipRefillPerMinute / 60d;
+
+        // 오래 안 쓰인 버킷은 가득 찬 상태와 같으므로 버려도 된다
+        this.accountBuckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+        this.ipBuckets = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .build();
+
+        this.rejectedByAccount = Counter.builder("auth.login.rejected").tag("reason", "account").register(meterRegistry);
+        this.rejectedByIp = Counter.builder("auth.login.rejected").tag("reason", "ip").register(meterRegistry);
+    }
+
+    // 허용되지 않으면 RateLimitedException(429)
+    public void acquire(String identifier, String clientIp) {
+        if (clientIp != null) {
+            long waitNanos = ipBuckets.get(clientIp, k -> new TokenBucket(ipCapacity, ipRefillPerSecond)).tryConsume();
+            if (waitNanos > 0) {
+                rejectedByIp.increment();
+                throw new RateLimitedException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, toSeconds(waitNanos));
+            }
+        }
+
+        if (identifier != null) {
+            String account = identifier.trim().toLowerCase(Locale.ROOT);
+            long waitNanos = accountBuckets.get(account, k -> new TokenBucket(accountCapacity, accountRefillPerSecond)).tryConsume();
+            if (waitNanos > 0) {
+                log.warn("로그인 시도 제한: account={}", account);
+                rejectedByAccount.increment();
+                throw new RateLimitedException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, toSeconds(waitNanos));
+            }
+        }
+    }
+
+    private static long toSeconds(long nanos) {
+        return TimeUnit.NANOSECONDS.toSeconds(nanos) + 1;
+    }
+}
@@ -0,0 +1,118 @@
+package com.project.bearlink.global.security.password;
+
+import com.project.bearlink.global.exception.ErrorCode;
+import com.project.bearlink.global.exception.RateLimitedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// 비밀번호 해싱/검증 전용 실행기
+// BCrypt 는 CPU 를 오래 쓰므로 Tomcat 요청 스레드가 아닌 CPU 코어 수만큼의 전용 스레드에서 처리한다.
+// 대기열이 가득 차면 기다리지 않고 바로 429 + Retry-After 로 거절한다.
+// 해싱 뒤의 I/O(토큰 저장, DB 저장)는 호출자가 completionExecutor() 에서 이어서 실행해 해싱 스레드를 CPU 작업에만 쓴다.
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor completionExecutor;
+    private final long retryAfterSeconds;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(PasswordEncoder passwordEncoder,
+                          @Value("${custom.auth.hasher.threads:0}") int threads,
+                          @Value("${custom.auth.hasher.queueCapacity:64}") int queueCapacity,
+                          @Value("${custom.auth.hasher.retryAfterSeconds:1}") long retryAfterSeconds,
+                          @Value("${custom.auth.hasher.completionThreads:0}") int completionThreads,
+                          MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.retryAfterSeconds = retryAfterSeconds;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                daemonThreads("password-hasher-"),
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+
+        // 들어오는 작업 수는 해싱 대기열이 이미 제한하므로 대기열은 따로 제한하지 않는다
+        int completionSize = completionThreads > 0 ? completionThreads : poolSize * 2;
+        this.completionExecutor = new ThreadPoolExecutor(
+                completionSize, completionSize,
+                0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                daemonThreads("password-after-hash-")
+        );
+
+        this.encodeTimer = Timer.builder("auth.password.hash").tag("op", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("auth.password.hash").tag("op", "matches").register(meterRegistry);
+        this.rejected = Counter.builder("auth.password.rejected").register(meterRegistry);
+        Gauge.builder("auth.password.queue", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+    }
+
+    public CompletableFuture<String> encode(String rawPassword) {
+        return submit(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    public CompletableFuture<Boolean> matches(String rawPassword, String encodedPassword) {
+        return submit(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    // 해싱 결과를 받아 I/O 를 하는 후속 작업용 (thenApplyAsync 등에 넘긴다)
+    public Executor completionExecutor() {
+        return completionExecutor;
+    }
+
+    // 저장된 해시의 cost 가 현재 설정보다 낮으면 true → 로그인 성공 시 재해싱
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new RateLimitedException(ErrorCode.TOO_MANY_REQUESTS, retryAfterSeconds);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        completionExecutor.shutdown();
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger seq = new AtomicInteger();
+        return r -> {
+            Thread t = new Thread(r, prefix + seq.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        };
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.bearlink.global.security.password;
+
+// 단순 토큰 버킷 (capacity 만큼 연속 허용, 이후 초당 refillPerSecond 개씩 회복)
+final class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerNano;
+
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(int capacity, double refillPerSecond) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    // 토큰 1개 소비, 성공하면 0 / 부족하면 다음 토큰까지 남은 나노초
+    synchronized long tryConsume() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * refillPerNano);
+        lastRefillNanos = now;
+
+        if (tokens >= 1d) {
+            tokens -= 1d;
+            return 0L;
+        }
+        return (long) Math.ceil((1d - tokens) / refillPerNano);
+    }
+}
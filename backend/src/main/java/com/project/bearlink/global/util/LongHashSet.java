@@ -0,0 +1,124 @@
+package com.project.bearlink.global.util;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+// long 전용 open addressing 집합 (친구 그래프 인접 목록, 닉네임 인덱스 posting 용)
+// 값은 사용자 id (1 이상) 라 0 을 빈 칸 표시로 쓴다. 선형 탐사 + 삭제 시 뒤 원소를 당겨 와서 묘비가 없다.
+// 원소 하나에 8 바이트 (적재율 0.5 이하) → HashSet<Long> 의 노드 + Long 박싱(원소당 50 바이트 안팎)보다 작고 포인터 추적이 없다.
+// 스레드 안전하지 않음, 호출자가 동기화한다.
+public final class LongHashSet {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 4;
+
+    private long[] table;
+    private int mask;
+    private int size;
+
+    public LongHashSet() {
+        this(0);
+    }
+
+    public LongHashSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public boolean contains(long value) {
+        if (value == EMPTY) return false;
+
+        for (int i = indexOf(value); ; i = (i + 1) & mask) {
+            long current = table[i];
+            if (current == value) return true;
+            if (current == EMPTY) return false;
+        }
+    }
+
+    public boolean add(long value) {
+        if (value <= EMPTY) throw new IllegalArgumentException("id 는 1 이상이어야 합니다: " + value);
+
+        int i = indexOf(value);
+        for (long current = table[i]; current != EMPTY; current = table[i]) {
+            if (current == value) return false;
+            i = (i + 1) & mask;
+        }
+
+        table[i] = value;
+        if (++size * 2 > table.length) rehash(table.length * 2);
+        return true;
+    }
+
+    public boolean remove(long value) {
+        if (value == EMPTY) return false;
+
+        int gap = indexOf(value);
+        for (long current = table[gap]; current != value; current = table[gap]) {
+            if (current == EMPTY) return false;
+            gap = (gap + 1) & mask;
+        }
+
+        // 빈 칸을 만나기 전까지, 원래 자리(home)에서 gap 을 지나쳐 온 원소를 gap 으로 당긴다
+        for (int i = (gap + 1) & mask; table[i] != EMPTY; i = (i + 1) & mask) {
+            int home = indexOf(table[i]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                table[gap] = table[i];
+                gap = i;
+            }
+        }
+
+        table[gap] = EMPTY;
+        size--;
+        return true;
+    }
+
+    // 원소를 순서 없이 돌다가 action 이 false 를 돌려주면 멈춘다 (끝까지 돌았으면 true)
+    public boolean forEachWhile(LongPredicate action) {
+        for (long value : table) {
+            if (value != EMPTY && !action.test(value)) return false;
+        }
+        return true;
+    }
+
+    // 정렬된 복사본
+    public long[] toSortedArray() {
+        long[] result = new long[size];
+        int n = 0;
+        for (long value : table) {
+            if (value != EMPTY) result[n++] = value;
+        }
+        Arrays.sort(result);
+        return result;
+    }
+
+    private int indexOf(long value) {
+        long h = value * 0x9E3779B97F4A7C15L; // 연속된 id 도 고르게 흩어지도록
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] old = table;
+        allocate(capacity);
+        size = 0;
+        for (long value : old) {
+            if (value != EMPTY) add(value);
+        }
+    }
+
+    private void allocate(int capacity) {
+        table = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = Math.max(MIN_CAPACITY, expectedSize * 2 + 1);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+}
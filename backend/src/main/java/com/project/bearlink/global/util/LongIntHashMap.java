@@ -0,0 +1,116 @@
+package com.project.bearlink.global.util;
+
+// long → int open addressing 맵 (친구 추천의 후보별 함께 아는 친구 수용)
+// LongHashSet 과 같은 방식: 키 0 은 빈 칸, 선형 탐사, 삭제 시 뒤 원소를 당겨 온다.
+// 항목 하나에 12 바이트 (적재율 0.5 이하) → HashMap<Long, Integer> 의 노드 + 박싱(항목당 60 바이트 안팎)보다 작다.
+// 스레드 안전하지 않음, 호출자가 동기화한다.
+public final class LongIntHashMap {
+
+    private static final long EMPTY = 0L;
+    private static final int MIN_CAPACITY = 4;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    @FunctionalInterface
+    public interface EntryConsumer {
+        void accept(long key, int value);
+    }
+
+    public LongIntHashMap() {
+        this(0);
+    }
+
+    public LongIntHashMap(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 없으면 0
+    public int get(long key) {
+        if (key == EMPTY) return 0;
+
+        for (int i = indexOf(key); ; i = (i + 1) & mask) {
+            long current = keys[i];
+            if (current == key) return values[i];
+            if (current == EMPTY) return 0;
+        }
+    }
+
+    // 값에 delta 를 더하고 결과를 돌려준다 (없던 키는 0 에서 시작)
+    public int addTo(long key, int delta) {
+        if (key <= EMPTY) throw new IllegalArgumentException("id 는 1 이상이어야 합니다: " + key);
+
+        int i = indexOf(key);
+        for (long current = keys[i]; current != EMPTY; current = keys[i]) {
+            if (current == key) return values[i] += delta;
+            i = (i + 1) & mask;
+        }
+
+        keys[i] = key;
+        values[i] = delta;
+        if (++size * 2 > keys.length) rehash(keys.length * 2);
+        return delta;
+    }
+
+    public boolean remove(long key) {
+        if (key == EMPTY) return false;
+
+        int gap = indexOf(key);
+        for (long current = keys[gap]; current != key; current = keys[gap]) {
+            if (current == EMPTY) return false;
+            gap = (gap + 1) & mask;
+        }
+
+        for (int i = (gap + 1) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+            int home = indexOf(keys[i]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+
+        keys[gap] = EMPTY;
+        values[gap] = 0;
+        size--;
+        return true;
+    }
+
+    public void forEach(EntryConsumer action) {
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) action.accept(keys[i], values[i]);
+        }
+    }
+
+    private int indexOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        size = 0;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) addTo(oldKeys[i], oldValues[i]);
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int needed = Math.max(MIN_CAPACITY, expectedSize * 2 + 1);
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+}
@@ -0,0 +1,39 @@
+package com.project.bearlink.global.websocket;
+
+import jakarta.servlet.http.Cookie;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+
+import java.util.Map;
+
+// 브라우저는 STOMP CONNECT 헤더에 HttpOnly 쿠키를 넣을 수 없으므로
+// 핸드셰이크 요청의 accessToken 쿠키를 세션 속성으로 옮겨 CONNECT 에서 검증한다.
+public class AuthCookieHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String ACCESS_TOKEN_ATTR = "accessToken";
+
+    @Override
+    public boolean beforeHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                                   WebSocketHandler wsHandler, Map<String, Object> attributes) {
+        if (request instanceof ServletServerHttpRequest servletRequest) {
+            Cookie[] cookies = servletRequest.getServletRequest().getCookies();
+            if (cookies != null) {
+                for (Cookie cookie : cookies) {
+                    if (ACCESS_TOKEN_ATTR.equals(cookie.getName())) {
+                        attributes.put(ACCESS_TOKEN_ATTR, cookie.getValue());
+                        break;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response,
+                               WebSocketHandler wsHandler, Exception exception) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.project.bearlink.global.websocket;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 단일 노드/테스트용 방 이벤트 버스 (custom.store.type=memory)
+// 같은 Hub 를 공유하는 버스들이 Redis 서버를 사이에 둔 여러 노드처럼 동작한다.
+// 전달은 Hub lock 안에서 동기로 처리 → 모든 노드가 같은 순서로 받는다.
+// 순번/이벤트 로그도 Hub 에 보관 (Redis 구현의 room:{id}:seq, room:{id}:log 역할, 만료 없음)
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "memory")
+public class InMemoryRoomEventBus implements RoomEventBus {
+
+    // Redis 서버 역할: 방 id → 구독 중인 버스(노드)
+    public static final class Hub {
+        private final Map<Long, List<InMemoryRoomEventBus>> subscribers = new HashMap<>();
+        private final Map<Long, Long> sequences = new HashMap<>();
+        private final Map<Long, ArrayDeque<String>> logs = new HashMap<>();
+        private final int logCapacity;
+
+        public Hub() {
+            this(500);
+        }
+
+        public Hub(int logCapacity) {
+            this.logCapacity = logCapacity;
+        }
+
+        synchronized long publish(Long roomId, String payload) {
+            long seq = sequences.merge(roomId, 1L, Long::sum);
+            String event = RoomEventBus.withSeq(seq, payload);
+
+            ArrayDeque<String> log = logs.computeIfAbsent(roomId, k -> new ArrayDeque<>());
+            log.addLast(event);
+            if (log.size() > logCapacity) log.removeFirst();
+
+            for (InMemoryRoomEventBus bus : subscribers.getOrDefault(roomId, List.of())) {
+                bus.deliver(roomId, event);
+            }
+            return seq;
+        }
+
+        synchronized void signal(Long roomId, String payload) {
+            for (InMemoryRoomEventBus bus : subscribers.getOrDefault(roomId, List.of())) {
+                bus.deliver(roomId, payload);
+            }
+        }
+
+        synchronized Replay replay(Long roomId, long afterSeq) {
+            long latest = sequences.getOrDefault(roomId, 0L);
+            if (afterSeq > latest) return new Replay(latest, List.of(), true);
+            if (afterSeq == latest) return new Replay(latest, List.of(), false);
+
+            ArrayDeque<String> log = logs.getOrDefault(roomId, new ArrayDeque<>());
+            long first = latest - log.size() + 1;
+            if (afterSeq + 1 < first) return new Replay(latest, List.of(), true);
+
+            List<String> events = new ArrayList<>(log).subList((int) (afterSeq - first + 1), log.size());
+            return new Replay(latest, List.copyOf(events), false);
+        }
+
+        synchronized void subscribe(Long roomId, InMemoryRoomEventBus bus) {
+            List<InMemoryRoomEventBus> buses = subscribers.computeIfAbsent(roomId, k -> new ArrayList<>());
+            if (!buses.contains(bus)) buses.add(bus);
+        }
+
+        synchronized void unsubscribe(Long roomId, InMemoryRoomEventBus bus) {
+            List<InMemoryRoomEventBus> buses = subscribers.get(roomId);
+            if (buses == null) return;
+
+            buses.remove(bus);
+            if (buses.isEmpty()) subscribers.remove(roomId);
+        }
+    }
+
+    private final Hub hub;
+    private final Map<Long, Consumer<String>> handlers = new HashMap<>();
+
+    @Autowired
+    public InMemoryRoomEventBus(@Value("${custom.room.eventLog.capacity:500}") int logCapacity) {
+        this(new Hub(logCapacity));
+    }
+
+    public InMemoryRoomEventBus(Hub hub) {
+        this.hub = hub;
+    }
+
+    @Override
+    public long publish(Long roomId, String payload) {
+        return hub.publish(roomId, payload);
+    }
+
+    @Override
+    public void signal(Long roomId, String payload) {
+        hub.signal(roomId, payload);
+    }
+
+    @Override
+    public Replay replay(Long roomId, long afterSeq) {
+        return hub.replay(roomId, afterSeq);
+    }
+
+    @Override
+    public void subscribe(Long roomId, Consumer<String> handler) {
+        synchronized (handlers) {
+            handlers.put(roomId, handler);
+        }
+        hub.subscribe(roomId, this);
+    }
+
+    @Override
+    public void unsubscribe(Long roomId) {
+        hub.unsubscribe(roomId, this);
+        synchronized (handlers) {
+            handlers.remove(roomId);
+        }
+    }
+
+    private void deliver(Long roomId, String payload) {
+        Consumer<String> handler;
+        synchronized (handlers) {
+            handler = handlers.get(roomId);
+        }
+        if (handler != null) handler.accept(payload);
+    }
+}
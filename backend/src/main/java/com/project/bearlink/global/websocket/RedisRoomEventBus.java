@@ -0,0 +1,148 @@
+package com.project.bearlink.global.websocket;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+// Redis pub/sub 기반 방 이벤트 버스 (custom.store.type=redis)
+// 방마다 채널 하나(room:events:{roomId}) → 노드는 로컬 세션이 보고 있는 방의 채널만 구독한다.
+// 수신 메시지는 단일 스레드에서 처리해 Redis 가 보장하는 채널 내 순서를 그대로 유지한다.
+// 발행은 Lua 스크립트 하나로 INCR(seq) + 로그 추가 + PUBLISH 를 원자적으로 처리 → 순번에 빈틈/역전이 없다.
+//   room:{id}:seq  → 마지막 순번 (만료 없음, 재시작 후에도 이어서 증가)
+//   room:{id}:log  → 최근 이벤트 list (capacity 개, ttl 동안 유지)
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.store.type", havingValue = "redis", matchIfMissing = true)
+public class RedisRoomEventBus implements RoomEventBus {
+
+    private static final String CHANNEL_PREFIX = "room:events:";
+
+    // KEYS[1]=seq, KEYS[2]=log / ARGV[1]=payload, ARGV[2]=capacity, ARGV[3]=ttlSeconds, ARGV[4]=channel
+    private static final RedisScript<Long> PUBLISH = new DefaultRedisScript<>("""
+            local seq = redis.call('INCR', KEYS[1])
+            local body = string.sub(ARGV[1], 2)
+            local sep = ','
+            if body == '}' then sep = '' end
+            local event = '{"seq":' .. seq .. sep .. body
+            redis.call('RPUSH', KEYS[2], event)
+            redis.call('LTRIM', KEYS[2], -tonumber(ARGV[2]), -1)
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            redis.call('PUBLISH', ARGV[4], event)
+            return seq
+            """, Long.class);
+
+    // KEYS[1]=seq, KEYS[2]=log / ARGV[1]=afterSeq → {latestSeq, resync(0|1), events...}
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> REPLAY = new DefaultRedisScript<>("""
+            local latest = tonumber(redis.call('GET', KEYS[1]) or '0')
+            local after = tonumber(ARGV[1])
+            if after > latest then return {tostring(latest), '1'} end
+            if after == latest then return {tostring(latest), '0'} end
+            local first = latest - redis.call('LLEN', KEYS[2]) + 1
+            if after + 1 < first then return {tostring(latest), '1'} end
+            local events = redis.call('LRANGE', KEYS[2], after - first + 1, -1)
+            table.insert(events, 1, '0')
+            table.insert(events, 1, tostring(latest))
+            return events
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer container;
+    private final ThreadPoolTaskExecutor dispatcher;
+    private final Map<Long, MessageListener> listeners = new ConcurrentHashMap<>();
+    private final String logCapacity;
+    private final String logTtlSeconds;
+
+    public RedisRoomEventBus(StringRedisTemplate redisTemplate, RedisConnectionFactory connectionFactory,
+                             @Value("${custom.room.eventLog.capacity:500}") int logCapacity,
+                             @Value("${custom.room.eventLog.ttlHours:24}") long logTtlHours) {
+        this.redisTemplate = redisTemplate;
+        this.logCapacity = String.valueOf(logCapacity);
+        this.logTtlSeconds = String.valueOf(Duration.ofHours(logTtlHours).toSeconds());
+
+        this.dispatcher = new ThreadPoolTaskExecutor();
+        dispatcher.setCorePoolSize(1);
+        dispatcher.setMaxPoolSize(1);
+        dispatcher.setThreadNamePrefix("room-relay-");
+        dispatcher.initialize();
+
+        this.container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.setTaskExecutor(dispatcher);
+        container.afterPropertiesSet();
+        container.start();
+    }
+
+    @Override
+    public long publish(Long roomId, String payload) {
+        RoomEventBus.withSeq(0, payload); // 형식 검증 (seq 는 스크립트에서 붙임)
+        Long seq = redisTemplate.execute(PUBLISH, keys(roomId), payload, logCapacity, logTtlSeconds, channel(roomId));
+        return seq == null ? 0L : seq;
+    }
+
+    // 같은 채널로 보내므로 순번 이벤트와의 순서도 유지된다
+    @Override
+    public void signal(Long roomId, String payload) {
+        redisTemplate.convertAndSend(channel(roomId), payload);
+    }
+
+    @Override
+    public Replay replay(Long roomId, long afterSeq) {
+        @SuppressWarnings("unchecked")
+        List<Object> result = redisTemplate.execute(REPLAY, keys(roomId), String.valueOf(afterSeq));
+        if (result == null || result.size() < 2) return new Replay(0L, List.of(), true);
+
+        long latestSeq = Long.parseLong(result.get(0).toString());
+        boolean resync = "1".equals(result.get(1).toString());
+        List<String> events = result.subList(2, result.size()).stream().map(Object::toString).toList();
+        return new Replay(latestSeq, events, resync);
+    }
+
+    @Override
+    public void subscribe(Long roomId, Consumer<String> handler) {
+        MessageListener listener = (message, pattern) ->
+                handler.accept(new String(message.getBody(), StandardCharsets.UTF_8));
+
+        MessageListener previous = listeners.put(roomId, listener);
+        if (previous != null) container.removeMessageListener(previous);
+        container.addMessageListener(listener, new ChannelTopic(channel(roomId)));
+    }
+
+    @Override
+    public void unsubscribe(Long roomId) {
+        MessageListener listener = listeners.remove(roomId);
+        if (listener != null) container.removeMessageListener(listener, new ChannelTopic(channel(roomId)));
+    }
+
+    @PreDestroy
+    void close() throws Exception {
+        container.destroy();
+        dispatcher.shutdown();
+    }
+
+    private static String channel(Long roomId) {
+        return CHANNEL_PREFIX + roomId;
+    }
+
+    // 같은 hash slot 에 들어가도록 hash tag 사용
+    private static List<String> keys(Long roomId) {
+        return List.of("room:{" + roomId + "}:seq", "room:{" + roomId + "}:log");
+    }
+}
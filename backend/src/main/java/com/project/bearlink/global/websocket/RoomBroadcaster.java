@@ -0,0 +1,164 @@
+package com.project.bearlink.global.websocket;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 방 브로드캐스트 진입점 (/topic/room/{roomId})
+// 이벤트를 로컬 브로커로 바로 보내지 않고 RoomEventBus 로 발행한 뒤,
+// 버스에서 받은 이벤트만 로컬 simple broker 로 전달한다 → 모든 노드가 같은 순서로 한 번씩 받는다.
+// 버스 구독은 이 노드의 STOMP 세션이 해당 방을 구독하고 있는 동안에만 유지한다.
+// 모든 방 이벤트에는 버스가 방별 순번(seq)을 붙이므로, 재연결한 클라이언트는 replay 로 놓친 이벤트만 받는다.
+// 받은 이벤트는 RoomDeliveryListener 에도 전달한다 (다른 노드에서 발행한 채팅을 이 노드의 이력 버퍼에 반영).
+@Slf4j
+@Component
+public class RoomBroadcaster {
+
+    public static final String ROOM_TOPIC_PREFIX = "/topic/room/";
+
+    private final RoomEventBus roomEventBus;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<RoomDeliveryListener> deliveryListeners;
+
+    // 세션 → (subscriptionId → roomId), 방 → 로컬 구독 수
+    private final Map<String, Map<String, Long>> sessionSubscriptions = new HashMap<>();
+    private final Map<Long, Integer> localSubscribers = new HashMap<>();
+
+    public RoomBroadcaster(RoomEventBus roomEventBus, SimpMessagingTemplate messagingTemplate, ObjectMapper objectMapper,
+                           List<RoomDeliveryListener> deliveryListeners) {
+        this.roomEventBus = roomEventBus;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.deliveryListeners = deliveryListeners;
+    }
+
+    // 방 이벤트 발행, 부여된 seq 반환 (payload 는 seq 필드가 없는 JSON 객체로 직렬화되어야 함)
+    public long broadcast(Long roomId, Object payload) {
+        try {
+            return roomEventBus.publish(roomId, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 이벤트 직렬화 실패: roomId=" + roomId, e);
+        }
+    }
+
+    // 순번 없이 전달만 (로그에 남지 않으므로 재연결 후에는 클라이언트가 현재 상태를 다시 조회)
+    public void signal(Long roomId, Object payload) {
+        try {
+            roomEventBus.signal(roomId, objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("방 이벤트 직렬화 실패: roomId=" + roomId, e);
+        }
+    }
+
+    // 트랜잭션 안에서 발생한 방 이벤트는 AfterCommitEventDispatcher 를 거쳐 커밋 후 dispatcher 스레드에서 도착
+    @EventListener
+    public void onRoomEvent(RoomEvent event) {
+        broadcast(event.roomId(), event.payload());
+    }
+
+    // afterSeq 이후 놓친 이벤트 (보관 범위를 벗어났으면 resync)
+    public RoomEventBus.Replay replay(Long roomId, long afterSeq) {
+        return roomEventBus.replay(roomId, afterSeq);
+    }
+
+    // 이 방에 마지막으로 부여된 순번 (이벤트가 없으면 0)
+    public long latestSeq(Long roomId) {
+        return roomEventBus.replay(roomId, Long.MAX_VALUE).latestSeq(); // 최신보다 큰 afterSeq → 이벤트 없이 최신 순번만
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        subscribed(accessor.getSessionId(), accessor.getSubscriptionId(), accessor.getDestination());
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        unsubscribed(accessor.getSessionId(), accessor.getSubscriptionId());
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        disconnected(event.getSessionId());
+    }
+
+    public synchronized void subscribed(String sessionId, String subscriptionId, String destination) {
+        Long roomId = roomIdOf(destination);
+        if (roomId == null || sessionId == null || subscriptionId == null) return;
+
+        Long previous = sessionSubscriptions.computeIfAbsent(sessionId, k -> new HashMap<>()).put(subscriptionId, roomId);
+        if (previous != null) release(previous);
+
+        if (localSubscribers.merge(roomId, 1, Integer::sum) == 1) {
+            // 리스너가 먼저 준비돼야 구독 직후 도착한 이벤트를 놓치지 않는다
+            deliveryListeners.forEach(listener -> listener.onRoomSubscribed(roomId));
+            roomEventBus.subscribe(roomId, payload -> deliver(roomId, payload));
+        }
+    }
+
+    public synchronized void unsubscribed(String sessionId, String subscriptionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.get(sessionId);
+        if (subscriptions == null) return;
+
+        Long roomId = subscriptions.remove(subscriptionId);
+        if (roomId != null) release(roomId);
+        if (subscriptions.isEmpty()) sessionSubscriptions.remove(sessionId);
+    }
+
+    public synchronized void disconnected(String sessionId) {
+        Map<String, Long> subscriptions = sessionSubscriptions.remove(sessionId);
+        if (subscriptions != null) subscriptions.values().forEach(this::release);
+    }
+
+    // 이 노드에서 방 topic 을 구독 중인 수
+    public synchronized int localSubscribers(Long roomId) {
+        return localSubscribers.getOrDefault(roomId, 0);
+    }
+
+    private void release(Long roomId) {
+        Integer remaining = localSubscribers.computeIfPresent(roomId, (id, count) -> count == 1 ? null : count - 1);
+        if (remaining == null) {
+            roomEventBus.unsubscribe(roomId);
+            deliveryListeners.forEach(listener -> listener.onRoomReleased(roomId));
+        }
+    }
+
+    // 버스에서 받은 JSON 을 다시 직렬화하지 않고 그대로 로컬 구독자에게 전달
+    private void deliver(Long roomId, String payload) {
+        for (RoomDeliveryListener listener : deliveryListeners) {
+            try {
+                listener.onRoomEvent(roomId, payload);
+            } catch (RuntimeException e) {
+                log.warn("방 이벤트 리스너 실패: roomId={}, listener={}", roomId, listener.getClass().getSimpleName(), e);
+            }
+        }
+        messagingTemplate.convertAndSend(ROOM_TOPIC_PREFIX + roomId, payload.getBytes(StandardCharsets.UTF_8),
+                Map.of(MessageHeaders.CONTENT_TYPE, MimeTypeUtils.APPLICATION_JSON));
+    }
+
+    // "/topic/room/12" → 12, 방 topic 이 아니면 null
+    public static Long roomIdOf(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) return null;
+        try {
+            return Long.parseLong(destination.substring(ROOM_TOPIC_PREFIX.length()));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.project.bearlink.global.websocket;
+
+// 버스에서 받은 방 이벤트를 로컬 broker 말고도 반영해야 하는 컴포넌트 (예: 채팅 이력 버퍼)
+// RoomBroadcaster 가 방 버스 구독을 시작/종료할 때와 이벤트를 받을 때 호출한다.
+public interface RoomDeliveryListener {
+
+    // 이 노드가 방 이벤트를 받기 시작함 (이후 발행되는 이벤트는 onRoomEvent 로 모두 도착)
+    void onRoomSubscribed(Long roomId);
+
+    // 버스에서 받은 이벤트 (seq 가 붙은 JSON, 다른 노드에서 발행한 것 포함), 버스 수신 스레드에서 호출
+    void onRoomEvent(Long roomId, String event);
+
+    // 이 노드가 더 이상 방 이벤트를 받지 않음 (RoomBroadcaster 잠금 안에서 호출되므로 가볍게 처리)
+    void onRoomReleased(Long roomId);
+}
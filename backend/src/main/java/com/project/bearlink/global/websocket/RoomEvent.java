@@ -0,0 +1,4 @@
+package com.project.bearlink.global.websocket;
+
+// 방 구독자에게 보낼 이벤트 (AfterCommitEventDispatcher 로 발행 → 커밋 후 RoomBroadcaster 가 전달)
+public record RoomEvent(Long roomId, Object payload) {}
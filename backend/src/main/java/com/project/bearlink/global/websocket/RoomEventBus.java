@@ -0,0 +1,36 @@
+package com.project.bearlink.global.websocket;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+// 노드 간 방 이벤트 전달 채널 (방 id 별로 분리된 채널)
+// 한 노드에서 publish 한 이벤트는 해당 방을 구독 중인 모든 노드(자기 자신 포함)에 한 번씩, 발행 순서대로 전달된다.
+// 발행 시 방별 순번(seq)을 빈틈없이 부여하고, 최근 이벤트를 방별 로그에 보관해 재연결 시 놓친 이벤트만 돌려준다.
+public interface RoomEventBus {
+
+    // 재연결 복구 결과: resync 면 보관 범위를 벗어났으므로 전체 다시 조회
+    record Replay(long latestSeq, List<String> events, boolean resync) {}
+
+    // payload 는 "seq" 필드가 없는 JSON 객체, 맨 앞에 seq 를 붙여 발행하고 부여한 seq 반환
+    long publish(Long roomId, String payload);
+
+    // 순번/로그 없이 전달만 하는 일시적 이벤트 (presence 등, 재연결 시 복구 대상 아님)
+    void signal(Long roomId, String payload);
+
+    // afterSeq 이후 이벤트 (오래된 → 최신 순)
+    Replay replay(Long roomId, long afterSeq);
+
+    // 이 노드에서 방 이벤트 수신 시작 (이미 구독 중이면 handler 교체)
+    void subscribe(Long roomId, Consumer<String> handler);
+
+    void unsubscribe(Long roomId);
+
+    // seq 를 붙인 최종 이벤트 JSON ({"seq":N, ...payload})
+    static String withSeq(long seq, String payload) {
+        if (payload.length() < 2 || payload.charAt(0) != '{') {
+            throw new IllegalArgumentException("방 이벤트는 JSON 객체여야 합니다.");
+        }
+        String body = payload.substring(1).trim();
+        return "{\"seq\":" + seq + (body.equals("}") ? "" : ",") + body;
+    }
+}
@@ -0,0 +1,214 @@
+package com.project.bearlink.global.websocket;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+// clientOutboundChannel 용 executor (webSocketMessageBrokerStats 가 TaskExecutor 로 주입받음): 세션마다 전송 큐를 따로 두고 순서대로 한 작업씩 처리
+//  - 같은 세션의 메시지는 FIFO (방 seq 순서 유지), 다른 세션끼리는 backing executor 에서 병렬
+//  - 느린 클라이언트는 자기 큐만 쌓이고 다른 세션의 스레드를 오래 잡지 않는다 (한 번에 burst 개만 처리 후 양보)
+//  - 큐가 maxQueue 를 넘으면 남은 메시지를 버리고 onEvict 로 세션을 끊는다
+// 세션별 지표는 태그 수가 세션 수만큼 늘지 않도록 묶어서 낸다.
+//  - stomp.session.queue.top{rank=1..TOP_RANKS}: 현재 가장 긴 큐 순위별 길이
+//  - 큐가 maxQueue 의 절반을 넘은 세션은 최고 길이(high-water mark)를 최근 HIGH_WATER_SESSIONS 개까지 기록하고 처음 넘을 때 로그
+@Slf4j
+public class SessionOutboundExecutor implements TaskExecutor {
+
+    public record SessionDepth(String sessionId, int depth) {}
+
+    private static final int TOP_RANKS = 5;
+    private static final int HIGH_WATER_SESSIONS = 1000;
+
+    private final class SessionQueue implements Runnable {
+        final String sessionId;
+        final ArrayDeque<Runnable> tasks = new ArrayDeque<>();
+        boolean scheduled;
+        boolean evicted;
+        boolean removed; // 맵에서 빠진 큐 → 새 큐를 만들어 다시 시도
+
+        SessionQueue(String sessionId) {
+            this.sessionId = sessionId;
+        }
+
+        @Override
+        public void run() {
+            for (int i = 0; i < burst; i++) {
+                Runnable task;
+                synchronized (this) {
+                    task = tasks.poll();
+                    if (task == null) {
+                        scheduled = false;
+                        release(this);
+                        return;
+                    }
+                }
+                runSafely(task);
+            }
+
+            // 다른 세션에 차례를 넘기고 다시 예약
+            backing.execute(this);
+        }
+    }
+
+    private final Executor backing;
+    private final int maxQueue;
+    private final int burst;
+    private final Consumer<String> onEvict;
+    private final Map<String, SessionQueue> queues = new ConcurrentHashMap<>();
+    private final int warnDepth;
+    private final Cache<String, Integer> highWaterMarks; // 밀린 적 있는 세션 → 최고 큐 길이
+
+    private final DistributionSummary queueDepth;
+    private final Counter evicted;
+
+    public SessionOutboundExecutor(Executor backing, int maxQueue, int burst, Consumer<String> onEvict,
+                                   MeterRegistry meterRegistry) {
+        this.backing = backing;
+        this.maxQueue = maxQueue;
+        this.burst = burst;
+        this.onEvict = onEvict;
+        this.warnDepth = Math.max(1, maxQueue / 2);
+        this.highWaterMarks = Caffeine.newBuilder()
+                .maximumSize(HIGH_WATER_SESSIONS)
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .build();
+
+        this.queueDepth = DistributionSummary.builder("stomp.session.queue")
+                .description("세션 전송 큐 길이 (메시지 추가 시점)")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+        this.evicted = Counter.builder("stomp.session.evicted").register(meterRegistry);
+        Gauge.builder("stomp.session.queues", queues, Map::size).register(meterRegistry);
+        Gauge.builder("stomp.session.queue.max", this, e -> e.depthAtRank(1)).register(meterRegistry);
+        for (int rank = 1; rank <= TOP_RANKS; rank++) {
+            int r = rank;
+            Gauge.builder("stomp.session.queue.top", this, e -> e.depthAtRank(r))
+                    .tag("rank", String.valueOf(rank))
+                    .register(meterRegistry);
+        }
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        String sessionId = sessionIdOf(task);
+        if (sessionId == null) {
+            backing.execute(task);
+            return;
+        }
+
+        while (true) {
+            SessionQueue queue = queues.computeIfAbsent(sessionId, SessionQueue::new);
+            boolean schedule;
+            int depth;
+            synchronized (queue) {
+                if (queue.removed) continue;
+                if (queue.evicted) return; // 끊기는 중인 세션 → 버림
+
+                if (queue.tasks.size() >= maxQueue) {
+                    evict(queue);
+                    return;
+                }
+
+                queue.tasks.add(task);
+                depth = queue.tasks.size();
+                queueDepth.record(depth);
+                schedule = !queue.scheduled;
+                queue.scheduled = true;
+            }
+
+            if (depth >= warnDepth) recordHighWater(sessionId, depth);
+            if (schedule) backing.execute(queue);
+            return;
+        }
+    }
+
+    // 큐가 가장 긴 세션 limit 개 (긴 순서, 운영 확인용)
+    public List<SessionDepth> topQueues(int limit) {
+        PriorityQueue<SessionDepth> top = new PriorityQueue<>(Comparator.comparingInt(SessionDepth::depth));
+        queues.forEach((id, queue) -> {
+            int depth;
+            synchronized (queue) {
+                depth = queue.tasks.size();
+            }
+            if (depth == 0) return;
+            if (top.size() < limit) {
+                top.add(new SessionDepth(id, depth));
+            } else if (limit > 0 && top.peek().depth() < depth) {
+                top.poll();
+                top.add(new SessionDepth(id, depth));
+            }
+        });
+
+        List<SessionDepth> result = new ArrayList<>(top);
+        result.sort(Comparator.comparingInt(SessionDepth::depth).reversed());
+        return result;
+    }
+
+    // 큐가 maxQueue 의 절반을 넘은 적 있는 세션의 최고 큐 길이 (최근 HIGH_WATER_SESSIONS 개)
+    public Map<String, Integer> highWaterMarks() {
+        return Map.copyOf(highWaterMarks.asMap());
+    }
+
+    private double depthAtRank(int rank) {
+        List<SessionDepth> top = topQueues(rank);
+        return top.size() < rank ? 0 : top.get(rank - 1).depth();
+    }
+
+    private void recordHighWater(String sessionId, int depth) {
+        boolean first = highWaterMarks.getIfPresent(sessionId) == null;
+        highWaterMarks.asMap().merge(sessionId, depth, Math::max);
+        if (first) {
+            log.warn("WebSocket 세션 전송 지연: sessionId={}, queue={}, maxQueue={}", sessionId, depth, maxQueue);
+        }
+    }
+
+    // queue lock 안에서 호출
+    private void evict(SessionQueue queue) {
+        queue.evicted = true;
+        queue.tasks.clear();
+        evicted.increment();
+        log.warn("전송이 밀린 WebSocket 세션 종료: sessionId={}, maxQueue={}, highWater={}",
+                queue.sessionId, maxQueue, highWaterMarks.getIfPresent(queue.sessionId));
+
+        backing.execute(() -> onEvict.accept(queue.sessionId));
+    }
+
+    // 비어 있는 세션 큐는 제거 (queue lock 안에서 호출)
+    private void release(SessionQueue queue) {
+        queue.removed = true;
+        queues.remove(queue.sessionId, queue);
+    }
+
+    private static void runSafely(Runnable task) {
+        try {
+            task.run();
+        } catch (Exception e) {
+            log.error("WebSocket 전송 작업 실패", e);
+        }
+    }
+
+    private static String sessionIdOf(Runnable task) {
+        if (task instanceof MessageHandlingRunnable handling) {
+            return SimpMessageHeaderAccessor.getSessionId(handling.getMessage().getHeaders());
+        }
+        return null;
+    }
+}
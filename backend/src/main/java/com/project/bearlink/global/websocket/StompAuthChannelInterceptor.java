@@ -0,0 +1,171 @@
+package com.project.bearlink.global.websocket;
+
+import com.project.bearlink.domain.room.repository.RoomMemberRepository;
+import com.project.bearlink.domain.user.user.service.AuthTokenService;
+import com.project.bearlink.global.security.auth.SecurityUser;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// STOMP 인바운드 인증/인가
+//  - CONNECT: JWT 를 한 번만 검증하고 principal 과 입장 가능한 방 id 목록을 세션 속성에 저장
+//  - SUBSCRIBE / SEND: 허용 목록에 있는 목적지만 받는다 (그 외, 와일드카드가 섞인 목적지는 거부)
+//      SUBSCRIBE /topic/room/{roomId} → 매번 DB 로 멤버 여부 확인 (구독은 드물고, 삭제된 방/빠진 멤버를 바로 막는다)
+//      SEND /app/room/{roomId}        → 세션에 저장된 방 목록으로 판단, 항목마다 roomAuthTtlSeconds 가 지나면 DB 로 다시 확인
+//      SUBSCRIBE /user/queue/errors   → 자기 세션에 보내는 오류만 받으므로 인증만 확인
+// simple broker 는 구독 목적지를 Ant 패턴으로 매칭하므로 /topic/** 같은 구독을 허용하면 모든 방 이벤트가 새어 나간다.
+// 방 topic 마다 이 노드의 구독자 수 상한을 둔다 (custom.websocket.maxSubscribersPerRoom).
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    public static final String PRINCIPAL_ATTR = "stompPrincipal";
+    public static final String ROOM_IDS_ATTR = "stompRoomIds";
+
+    private static final Pattern ROOM_TOPIC = Pattern.compile("^/topic/room/(\\d{1,18})$");
+    private static final Pattern ROOM_SEND = Pattern.compile("^/app/room/(\\d{1,18})$");
+    private static final String ERROR_QUEUE = "/user/queue/errors";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final AuthTokenService authTokenService;
+    private final RoomMemberRepository roomMemberRepository;
+    // RoomBroadcaster → SimpMessagingTemplate → WebSocketConfig → 이 인터셉터 순환을 피하기 위해 지연 조회
+    private final ObjectProvider<RoomBroadcaster> roomBroadcaster;
+
+    @Value("${custom.websocket.maxSubscribersPerRoom:500}")
+    private int maxSubscribersPerRoom;
+
+    @Value("${custom.websocket.roomAuthTtlSeconds:30}")
+    private long roomAuthTtlSeconds;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) return message;
+
+        switch (accessor.getCommand()) {
+            case CONNECT -> connect(accessor);
+            case SUBSCRIBE -> {
+                if (ERROR_QUEUE.equals(accessor.getDestination())) {
+                    principalOf(accessor);
+                } else {
+                    Long roomId = allowedRoom(accessor, ROOM_TOPIC);
+                    authorizeSubscribe(accessor, roomId);
+                    limitSubscribers(roomId);
+                }
+            }
+            case SEND -> authorizeSend(accessor, allowedRoom(accessor, ROOM_SEND));
+            default -> { }
+        }
+        return message;
+    }
+
+    private void connect(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        if (attributes == null) throw new AccessDeniedException("세션 정보가 없습니다.");
+
+        SecurityUser user = authTokenService.authenticate(resolveToken(accessor, attributes));
+        if (user == null) throw new AccessDeniedException("유효하지 않은 토큰입니다.");
+
+        StompPrincipal principal = new StompPrincipal(user.getId(), user.getNickname());
+
+        // 방 id → 다시 확인할 시각
+        Map<Long, Long> roomIds = new ConcurrentHashMap<>();
+        long expiresAt = expiresAt();
+        for (Long roomId : roomMemberRepository.findAcceptedRoomIdsByUserId(user.getId())) {
+            roomIds.put(roomId, expiresAt);
+        }
+
+        attributes.remove(AuthCookieHandshakeInterceptor.ACCESS_TOKEN_ATTR); // 토큰 원문은 세션에 남기지 않음
+        attributes.put(PRINCIPAL_ATTR, principal);
+        attributes.put(ROOM_IDS_ATTR, roomIds);
+        accessor.setUser(principal);
+    }
+
+    // 허용된 목적지의 방 id, 그 외 목적지는 거부
+    private Long allowedRoom(StompHeaderAccessor accessor, Pattern allowed) {
+        String destination = accessor.getDestination();
+        Matcher matcher = destination == null ? null : allowed.matcher(destination);
+        if (matcher == null || !matcher.matches()) {
+            log.warn("허용되지 않은 STOMP 목적지: command={}, destination={}", accessor.getCommand(), destination);
+            throw new AccessDeniedException("허용되지 않은 목적지입니다.");
+        }
+        return Long.valueOf(matcher.group(1));
+    }
+
+    private void authorizeSubscribe(StompHeaderAccessor accessor, Long roomId) {
+        StompPrincipal principal = principalOf(accessor);
+        if (!roomMemberRepository.existsAcceptedMember(roomId, principal.userId())) {
+            roomIdsOf(accessor).remove(roomId);
+            deny(principal, roomId, accessor);
+        }
+        roomIdsOf(accessor).put(roomId, expiresAt());
+    }
+
+    private void authorizeSend(StompHeaderAccessor accessor, Long roomId) {
+        StompPrincipal principal = principalOf(accessor);
+        Map<Long, Long> roomIds = roomIdsOf(accessor);
+
+        Long expiresAt = roomIds.get(roomId);
+        if (expiresAt != null && expiresAt > System.currentTimeMillis()) return;
+
+        // 연결 이후 수락한 방이거나, 확인한 지 오래된 방 (그 사이 삭제되었을 수 있다)
+        if (!roomMemberRepository.existsAcceptedMember(roomId, principal.userId())) {
+            roomIds.remove(roomId);
+            deny(principal, roomId, accessor);
+        }
+        roomIds.put(roomId, expiresAt());
+    }
+
+    private void deny(StompPrincipal principal, Long roomId, StompHeaderAccessor accessor) {
+        log.warn("방 접근 거부: userId={}, roomId={}, command={}", principal.userId(), roomId, accessor.getCommand());
+        throw new AccessDeniedException("방에 접근할 수 없습니다.");
+    }
+
+    private StompPrincipal principalOf(StompHeaderAccessor accessor) {
+        Map<String, Object> attributes = accessor.getSessionAttributes();
+        StompPrincipal principal = attributes == null ? null : (StompPrincipal) attributes.get(PRINCIPAL_ATTR);
+        if (principal == null) throw new AccessDeniedException("인증되지 않은 세션입니다.");
+        return principal;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<Long, Long> roomIdsOf(StompHeaderAccessor accessor) {
+        return (Map<Long, Long>) accessor.getSessionAttributes().get(ROOM_IDS_ATTR);
+    }
+
+    private long expiresAt() {
+        return System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(roomAuthTtlSeconds);
+    }
+
+    private void limitSubscribers(Long roomId) {
+        if (roomBroadcaster.getObject().localSubscribers(roomId) >= maxSubscribersPerRoom) {
+            log.warn("방 구독자 수 초과: roomId={}, max={}", roomId, maxSubscribersPerRoom);
+            throw new AccessDeniedException("방 구독자 수가 너무 많습니다.");
+        }
+    }
+
+    // CONNECT 헤더(Authorization) 우선, 없으면 핸드셰이크에서 옮겨둔 쿠키 값
+    private String resolveToken(StompHeaderAccessor accessor, Map<String, Object> attributes) {
+        String authorization = accessor.getFirstNativeHeader("Authorization");
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length());
+        }
+        return (String) attributes.get(AuthCookieHandshakeInterceptor.ACCESS_TOKEN_ATTR);
+    }
+}
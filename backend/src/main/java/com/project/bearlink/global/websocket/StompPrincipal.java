@@ -0,0 +1,13 @@
+package com.project.bearlink.global.websocket;
+
+import java.security.Principal;
+
+// CONNECT 시점에 확정되는 WebSocket 세션 사용자 (세션 동안 불변)
+// getName() 이 userId 이므로 /user/{userId}/... 목적지로도 쓸 수 있다.
+public record StompPrincipal(Long userId, String nickname) implements Principal {
+
+    @Override
+    public String getName() {
+        return userId.toString();
+    }
+}
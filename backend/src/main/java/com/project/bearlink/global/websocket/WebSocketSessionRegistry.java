@@ -0,0 +1,55 @@
+package com.project.bearlink.global.websocket;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketHandlerDecoratorFactory;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 연결된 WebSocket 세션 목록 (id = STOMP simpSessionId)
+// 뒤처진 클라이언트를 서버 쪽에서 끊을 때 사용한다.
+@Slf4j
+@Component
+public class WebSocketSessionRegistry implements WebSocketHandlerDecoratorFactory {
+
+    private final Map<String, WebSocketSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                sessions.put(session.getId(), session);
+                super.afterConnectionEstablished(session);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                sessions.remove(session.getId());
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    // 세션 종료 (이미 닫혔으면 무시), 정리는 afterConnectionClosed → SessionDisconnectEvent 흐름을 그대로 탄다
+    public void close(String sessionId, CloseStatus status) {
+        WebSocketSession session = sessions.get(sessionId);
+        if (session == null) return;
+
+        try {
+            session.close(status);
+        } catch (IOException e) {
+            log.debug("WebSocket 세션 종료 실패: sessionId={}", sessionId, e);
+        }
+    }
+
+    public int size() {
+        return sessions.size();
+    }
+}
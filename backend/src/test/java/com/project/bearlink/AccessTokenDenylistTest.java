@@ -0,0 +1,119 @@
+package com.project.bearlink;
+
+import com.project.bearlink.global.security.jwt.AccessTokenDenylist;
+import com.project.bearlink.global.security.jwt.InMemoryRevokedTokenStore;
+import com.project.bearlink.global.security.jwt.RedisRevokedTokenStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// accessToken 폐기가 ms 단위로 비교되고, 필터 재구성 없이 다른 노드에도 반영되는지 검증
+public class AccessTokenDenylistTest {
+
+    private static final long EXPIRATION_SECONDS = 600;
+
+    // 같은 저장소를 쓰는 두 노드
+    private final InMemoryRevokedTokenStore store = new InMemoryRevokedTokenStore();
+    private final AccessTokenDenylist nodeA = denylist();
+    private final AccessTokenDenylist nodeB = denylist();
+
+    @Test
+    @DisplayName("사용자 단위 폐기는 그 이전에 발급된 토큰만 막고, 같은 초라도 이후에 발급된 토큰은 통과한다")
+    void revokeAll_comparesMillis() throws InterruptedException {
+        Map<String, Object> before = claims(1L, "before", System.currentTimeMillis());
+        Thread.sleep(2);
+        nodeA.revokeAll(1L);
+        Thread.sleep(2);
+        Map<String, Object> after = claims(1L, "after", System.currentTimeMillis());
+
+        assertTrue(nodeA.isRevoked(before));
+        assertFalse(nodeA.isRevoked(after));
+        assertFalse(nodeA.isRevoked(claims(2L, "other", System.currentTimeMillis() - 1000)), "다른 사용자는 영향 없음");
+    }
+
+    @Test
+    @DisplayName("iatMs 가 없는 이전 토큰은 폐기한 초에 발급됐으면 폐기로 본다")
+    void revokeAll_legacyTokenWithoutMillis() {
+        long now = System.currentTimeMillis();
+        Map<String, Object> legacy = claims(1L, "legacy", now);
+        legacy.remove(AccessTokenDenylist.ISSUED_AT_MILLIS);
+
+        nodeA.revokeAll(1L);
+        assertTrue(nodeA.isRevoked(legacy));
+    }
+
+    @Test
+    @DisplayName("초 단위로 저장된 이전 폐기 항목과 iatMs 없는 토큰이 같은 초면 폐기로 본다")
+    void revokeAll_legacySecondsOnBothSides() {
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        @SuppressWarnings("unchecked")
+        ValueOperations<String, String> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        AccessTokenDenylist denylist = new AccessTokenDenylist(
+                new RedisRevokedTokenStore(redisTemplate, mock(RedisConnectionFactory.class)),
+                EXPIRATION_SECONDS, 1000, 0.001, 600_000, new SimpleMeterRegistry());
+
+        long second = System.currentTimeMillis() / 1000;
+        Map<String, Object> sameSecond = claims(1L, "legacy", second * 1000 + 999);
+        sameSecond.remove(AccessTokenDenylist.ISSUED_AT_MILLIS);
+        Map<String, Object> nextSecond = claims(1L, "next", (second + 1) * 1000);
+        nextSecond.remove(AccessTokenDenylist.ISSUED_AT_MILLIS);
+
+        denylist.revokeAll(1L);
+        when(values.get("auth:revoked:user:1")).thenReturn(String.valueOf(second)); // 이전 형식 (epoch seconds)
+
+        assertTrue(denylist.isRevoked(sameSecond));
+        assertFalse(denylist.isRevoked(nextSecond));
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 폐기한 토큰은 필터 재구성 없이 바로 거부된다")
+    void revocation_propagatesWithoutRebuild() {
+        Map<String, Object> token = claims(1L, "jti-1", System.currentTimeMillis());
+        Map<String, Object> other = claims(1L, "jti-2", System.currentTimeMillis());
+        assertFalse(nodeB.isRevoked(token));
+
+        nodeA.revoke(token);
+
+        assertTrue(nodeA.isRevoked(token));
+        assertTrue(nodeB.isRevoked(token));
+        assertFalse(nodeB.isRevoked(other));
+    }
+
+    @Test
+    @DisplayName("재구성한 필터에도 저장소의 폐기 항목이 남는다")
+    void rebuild_keepsStoredRevocations() {
+        Map<String, Object> token = claims(1L, "jti-1", System.currentTimeMillis());
+        nodeA.revoke(token);
+
+        AccessTokenDenylist restarted = denylist();
+        assertFalse(restarted.isRevoked(token), "기동 직후(재구성 전) 필터는 비어 있음");
+        restarted.rebuild();
+        assertTrue(restarted.isRevoked(token));
+    }
+
+    private AccessTokenDenylist denylist() {
+        return new AccessTokenDenylist(store, EXPIRATION_SECONDS, 1000, 0.001, 600_000, new SimpleMeterRegistry());
+    }
+
+    private static Map<String, Object> claims(Long userId, String jti, long issuedAtMillis) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("userId", userId);
+        claims.put("jti", jti);
+        claims.put("iat", new Date(issuedAtMillis / 1000 * 1000));
+        claims.put("exp", new Date(issuedAtMillis + EXPIRATION_SECONDS * 1000));
+        claims.put(AccessTokenDenylist.ISSUED_AT_MILLIS, issuedAtMillis);
+        return claims;
+    }
+}
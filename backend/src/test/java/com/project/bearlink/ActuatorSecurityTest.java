@@ -0,0 +1,65 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.service.AuthTokenService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 운영용 actuator endpoint(jwtkeys, sessions)는 노출돼 있어도 ADMIN 토큰으로만 호출되는지 검증
+@SpringBootTest(properties = {
+        "management.endpoints.web.exposure.include=health,jwtkeys,sessions",
+        "management.endpoint.health.probes.enabled=true"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ActuatorSecurityTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private AuthTokenService authTokenService;
+
+    @Test
+    @DisplayName("토큰이 없거나 USER 토큰이면 운영용 endpoint 를 거부한다")
+    void nonAdmin_forbidden() throws Exception {
+        mockMvc.perform(get("/actuator/jwtkeys")).andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/sessions/1")).andExpect(status().isForbidden());
+
+        String userToken = "Bearer " + accessToken(UserRole.USER);
+        mockMvc.perform(get("/actuator/jwtkeys").header("Authorization", userToken)).andExpect(status().isForbidden());
+        mockMvc.perform(delete("/actuator/sessions/1").header("Authorization", userToken)).andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("ADMIN 토큰이면 운영용 endpoint 를 호출할 수 있고, health 는 토큰 없이 열려 있다")
+    void admin_allowed() throws Exception {
+        mockMvc.perform(get("/actuator/jwtkeys").header("Authorization", "Bearer " + accessToken(UserRole.ADMIN)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.active").isNotEmpty());
+
+        mockMvc.perform(get("/actuator/health/liveness")).andExpect(status().isOk());
+    }
+
+    private String accessToken(UserRole role) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getEmail()).thenReturn("admin@test.com");
+        when(user.getNickname()).thenReturn("admin");
+        when(user.getRole()).thenReturn(role);
+        return authTokenService.genAccessToken(user);
+    }
+}
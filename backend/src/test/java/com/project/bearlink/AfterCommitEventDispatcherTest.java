@@ -0,0 +1,80 @@
+package com.project.bearlink;
+
+import com.project.bearlink.global.event.AfterCommitEventDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 트랜잭션 안에서 발행한 이벤트가 커밋된 경우에만, 발행 순서대로 전달되는지 검증
+public class AfterCommitEventDispatcherTest {
+
+    private final List<Object> delivered = Collections.synchronizedList(new ArrayList<>());
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AfterCommitEventDispatcher dispatcher = new AfterCommitEventDispatcher(delivered::add, 10, meterRegistry);
+
+    @BeforeEach
+    void setup() {
+        dispatcher.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        dispatcher.stop();
+    }
+
+    @Test
+    @DisplayName("커밋되면 발행 순서대로 전달하고, 롤백되면 버린다")
+    void deliversOnlyCommittedEvents() {
+        inTransaction(true, "a1", "a2");
+        inTransaction(false, "rolled-back");
+        inTransaction(true, "b1");
+        dispatcher.publish("outside"); // 트랜잭션 밖은 바로 전달
+
+        dispatcher.stop(); // 큐에 남은 이벤트까지 전달한 뒤 반환
+        assertEquals(List.of("a1", "a2", "b1", "outside"), delivered);
+        assertEquals(1, meterRegistry.counter("aftercommit.discarded").count());
+    }
+
+    @Test
+    @DisplayName("리스너 하나가 실패해도 뒤의 이벤트는 전달된다")
+    void failureDoesNotBlockLaterEvents() {
+        List<Object> received = Collections.synchronizedList(new ArrayList<>());
+        AfterCommitEventDispatcher failing = new AfterCommitEventDispatcher(event -> {
+            if ("boom".equals(event)) throw new IllegalStateException("listener failed");
+            received.add(event);
+        }, 10, meterRegistry);
+        failing.start();
+
+        failing.publish("boom");
+        failing.publish("after");
+        failing.stop();
+
+        assertEquals(List.of("after"), received);
+        assertEquals(1, meterRegistry.counter("aftercommit.failed").count());
+    }
+
+    // 트랜잭션 동기화를 직접 열고 커밋/롤백 콜백을 호출
+    private void inTransaction(boolean commit, String... events) {
+        TransactionSynchronizationManager.initSynchronization();
+        for (String event : events) dispatcher.publish(event);
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        if (commit) synchronizations.forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+        int status = commit ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK;
+        synchronizations.forEach(s -> s.afterCompletion(status));
+    }
+}
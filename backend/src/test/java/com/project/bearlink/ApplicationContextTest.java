@@ -0,0 +1,33 @@
+package com.project.bearlink;
+
+import com.project.bearlink.global.websocket.SessionOutboundExecutor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.socket.config.WebSocketMessageBrokerStats;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// MySQL/Redis 없이 (H2 + 메모리 저장소) 전체 애플리케이션 컨텍스트가 뜨는지 검증
+@SpringBootTest
+@ActiveProfiles("test")
+class ApplicationContextTest {
+
+    @Autowired
+    @Qualifier("clientOutboundChannelExecutor")
+    private TaskExecutor clientOutboundChannelExecutor;
+
+    @Autowired
+    private WebSocketMessageBrokerStats webSocketMessageBrokerStats;
+
+    @Test
+    @DisplayName("세션별 전송 executor 를 쓰는 STOMP 설정으로도 컨텍스트와 broker 통계 빈이 만들어진다")
+    void contextLoads() {
+        assertInstanceOf(SessionOutboundExecutor.class, clientOutboundChannelExecutor);
+        assertNotNull(webSocketMessageBrokerStats);
+    }
+}
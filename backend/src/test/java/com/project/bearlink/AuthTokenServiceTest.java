@@ -0,0 +1,66 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.service.AuthTokenService;
+import com.project.bearlink.global.security.auth.SecurityUser;
+import com.project.bearlink.global.security.jwt.AccessTokenDenylist;
+import com.project.bearlink.global.security.jwt.InMemoryRevokedTokenStore;
+import com.project.bearlink.global.security.jwt.InMemoryJwtKeyStore;
+import com.project.bearlink.global.security.jwt.JwtKeyRing;
+import com.project.bearlink.global.security.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// accessToken claims 만으로 principal 을 만들고, accessToken 이 아닌 토큰은 예외 없이 거부하는지 검증
+public class AuthTokenServiceTest {
+
+    private final JwtKeyRing jwtKeyRing = new JwtKeyRing("auth-token-service-test-secret-0123456789abcdef",
+            new InMemoryJwtKeyStore());
+    private AuthTokenService authTokenService;
+
+    @BeforeEach
+    void setup() {
+        AccessTokenDenylist denylist = new AccessTokenDenylist(new InMemoryRevokedTokenStore(), 600, 1000, 0.001,
+                600_000, new SimpleMeterRegistry());
+        authTokenService = new AuthTokenService(jwtKeyRing, new VerifiedTokenCache(100, new SimpleMeterRegistry()), denylist);
+        ReflectionTestUtils.setField(authTokenService, "accessTokenExpirationSeconds", 600L);
+        ReflectionTestUtils.setField(authTokenService, "refreshTokenExpirationSeconds", 3600L);
+    }
+
+    @Test
+    @DisplayName("accessToken 의 claims 로 인증 principal 을 만든다")
+    void accessToken_authenticates() {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getEmail()).thenReturn("user@test.com");
+        when(user.getNickname()).thenReturn("user");
+        when(user.getRole()).thenReturn(UserRole.ADMIN);
+
+        SecurityUser principal = authTokenService.authenticate(authTokenService.genAccessToken(user));
+
+        assertNotNull(principal);
+        assertEquals(1L, principal.getId());
+        assertEquals("user", principal.getNickname());
+        assertEquals(UserRole.ADMIN, principal.getRole());
+    }
+
+    @Test
+    @DisplayName("refreshToken 이나 role/nickname 이 없거나 잘못된 토큰은 예외 없이 인증하지 않는다")
+    void tokensWithoutAccessClaims_areRejected() {
+        assertNull(authTokenService.authenticate(authTokenService.genRefreshToken(1L, "user@test.com")));
+        assertNull(authTokenService.authenticate(jwtKeyRing.sign(Map.of("userId", 1L, "role", "USER"), 60)));
+        assertNull(authTokenService.authenticate(jwtKeyRing.sign(
+                Map.of("userId", 1L, "nickname", "user", "role", "ROOT"), 60)));
+        assertNull(authTokenService.authenticate("not-a-token"));
+    }
+}
@@ -0,0 +1,91 @@
+package com.project.bearlink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.bearlink.domain.chat.dto.ChatCursor;
+import com.project.bearlink.domain.chat.dto.ChatHistoryPage;
+import com.project.bearlink.domain.chat.entity.MessageType;
+import com.project.bearlink.domain.chat.repository.ChatMessageRepository;
+import com.project.bearlink.domain.chat.service.ChatMessageWriter;
+import com.project.bearlink.domain.chat.service.ChatService;
+import com.project.bearlink.domain.chat.service.RoomLanes;
+import com.project.bearlink.domain.chat.service.RoomMessageBuffers;
+import com.project.bearlink.domain.room.dto.RoomMessageDto;
+import com.project.bearlink.domain.room.repository.RoomMemberRepository;
+import com.project.bearlink.domain.room.service.RoomUnreadCounters;
+import com.project.bearlink.global.exception.ApiException;
+import com.project.bearlink.global.exception.ErrorCode;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 채팅 이력 커서 인코딩과, 버퍼(id 없는 메시지)로 끝난 페이지의 다음 페이지 조회 검증
+public class ChatCursorTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final LocalDateTime T = LocalDateTime.of(2024, 5, 1, 12, 0, 0, 123_456_000);
+
+    @Test
+    @DisplayName("저장된 메시지는 id, 버퍼 메시지는 작성자로 커서를 만들고 그대로 복원한다")
+    void encodeDecode() {
+        ChatCursor saved = ChatCursor.decode(ChatCursor.of(T, 42L, 7L).encode());
+        assertEquals(new ChatCursor(T, 42L, null), saved);
+        assertFalse(saved.unresolved());
+
+        ChatCursor buffered = ChatCursor.decode(ChatCursor.of(T, null, 7L).encode());
+        assertEquals(new ChatCursor(T, null, 7L), buffered);
+        assertTrue(buffered.unresolved());
+
+        assertEquals(ErrorCode.INVALID_CURSOR,
+                assertThrows(ApiException.class, () -> ChatCursor.decode("not-a-cursor")).getErrorCode());
+    }
+
+    @Test
+    @DisplayName("버퍼 메시지로 끝난 첫 페이지의 다음 페이지는 저장된 행 id 로 이어서 조회한다")
+    void bufferedPage_continuesFromSavedRow() {
+        ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+        RoomMessageBuffers roomMessageBuffers = mock(RoomMessageBuffers.class);
+        ChatService chatService = new ChatService(mock(RoomBroadcaster.class), mock(ChatMessageWriter.class),
+                roomMessageBuffers, chatMessageRepository, mock(RoomLanes.class), mock(RoomUnreadCounters.class),
+                mock(RoomMemberRepository.class), new ObjectMapper(), mock(SimpMessagingTemplate.class));
+        ReflectionTestUtils.setField(chatService, "defaultHistorySize", 2);
+        ReflectionTestUtils.setField(chatService, "maxHistorySize", 100);
+
+        when(roomMessageBuffers.capacity()).thenReturn(50);
+        when(roomMessageBuffers.recent(ROOM_ID)).thenReturn(List.of(
+                talk(10L, T.plusSeconds(2)), talk(20L, T), talk(10L, T.minusSeconds(1))));
+        when(chatMessageRepository.findIdAt(ROOM_ID, 20L, T)).thenReturn(42L);
+
+        ChatHistoryPage first = chatService.getChatHistory(ROOM_ID, null, null);
+        assertEquals(2, first.messages().size());
+        assertNotNull(first.nextCursor());
+
+        chatService.getChatHistory(ROOM_ID, first.nextCursor(), null);
+        verify(chatMessageRepository).findMessagesBefore(eq(ROOM_ID), eq(T), eq(42L), any(Pageable.class));
+
+        // 행을 찾지 못하면(저장 실패) 그 시각 이전부터
+        when(chatMessageRepository.findIdAt(ROOM_ID, 20L, T)).thenReturn(null);
+        chatService.getChatHistory(ROOM_ID, first.nextCursor(), null);
+        verify(chatMessageRepository).findMessagesBefore(eq(ROOM_ID), eq(T), eq(0L), any(Pageable.class));
+    }
+
+    private static RoomMessageDto talk(Long senderId, LocalDateTime createdAt) {
+        return RoomMessageDto.builder()
+                .roomId(ROOM_ID)
+                .senderId(senderId)
+                .type(MessageType.TALK)
+                .content("hi")
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.chat.entity.MessageType;
+import com.project.bearlink.domain.chat.service.ChatMessageWriter;
+import com.project.bearlink.global.exception.ApiException;
+import com.project.bearlink.global.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+// 큐가 가득 차면 호출 스레드(방 lane)에서 직접 저장하지 않고 SERVER_BUSY 로 거절하는지 검증
+public class ChatMessageWriterBackPressureTest {
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final CountDownLatch dbSlow = new CountDownLatch(1);
+    private final CountDownLatch writing = new CountDownLatch(1);
+    private final List<String> insertedOn = Collections.synchronizedList(new ArrayList<>());
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ChatMessageWriter writer = new ChatMessageWriter(jdbcTemplate, mock(PlatformTransactionManager.class),
+            2, 10, 1, ChatMessageWriter.Durability.WRITE_BEHIND, 2000, meterRegistry);
+
+    @AfterEach
+    void tearDown() {
+        dbSlow.countDown();
+        writer.stop();
+    }
+
+    @Test
+    @DisplayName("writer 가 밀려 큐가 가득 차면 SERVER_BUSY, 이미 받은 메시지는 writer 스레드에서 순서대로 저장된다")
+    void fullQueue_rejectsWithoutInlineWrite() throws Exception {
+        when(jdbcTemplate.update(anyString(), any(Object[].class))).thenAnswer(inv -> {
+            insertedOn.add(Thread.currentThread().getName());
+            writing.countDown();
+            dbSlow.await(5, TimeUnit.SECONDS);
+            return 1;
+        });
+        writer.start();
+
+        CompletableFuture<Void> first = enqueue("first");      // writer 가 꺼내 DB 에서 멈춤
+        assertTrue(writing.await(5, TimeUnit.SECONDS));
+        CompletableFuture<Void> second = enqueue("second");    // 큐 1/2
+        CompletableFuture<Void> third = enqueue("third");      // 큐 2/2
+
+        ApiException ex = assertThrows(ApiException.class, () -> enqueue("overflow"));
+        assertEquals(ErrorCode.SERVER_BUSY, ex.getErrorCode());
+        assertEquals(1, meterRegistry.counter("chat.writer.rejected").count());
+
+        dbSlow.countDown();
+        CompletableFuture.allOf(first, second, third).get(5, TimeUnit.SECONDS);
+        assertTrue(insertedOn.stream().allMatch("chat-writer"::equals), insertedOn.toString());
+    }
+
+    @Test
+    @DisplayName("시작 전이나 종료 후에는 받지 않는다")
+    void notRunning_rejects() {
+        ApiException ex = assertThrows(ApiException.class, () -> enqueue("early"));
+        assertEquals(ErrorCode.SERVER_BUSY, ex.getErrorCode());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    private CompletableFuture<Void> enqueue(String content) {
+        return writer.enqueue(1L, 1L, MessageType.TALK, content, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,100 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.chat.entity.MessageType;
+import com.project.bearlink.domain.chat.service.ChatMessageWriter;
+import com.project.bearlink.domain.room.entity.LinkRoom;
+import com.project.bearlink.domain.room.repository.LinkRoomRepository;
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// prod 와 같이 hikari auto-commit=false 인 상태에서 write-behind 저장이 실제로 커밋되는지 검증
+// (커밋되지 않은 작업은 커넥션 반납 시 롤백되므로, 별도 커넥션으로 센 행 수가 곧 커밋된 행 수)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:autocommitoff;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.auto-commit=false"
+})
+@ActiveProfiles("test")
+class ChatMessageWriterTest {
+
+    @Autowired
+    private ChatMessageWriter chatMessageWriter;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LinkRoomRepository linkRoomRepository;
+
+    private User sender;
+    private LinkRoom room;
+
+    @BeforeEach
+    void setup() {
+        String loginId = "writer" + System.nanoTime();
+        sender = userRepository.save(User.builder()
+                .loginId(loginId)
+                .password("test1234")
+                .nickname(loginId)
+                .email(loginId + "@test.com")
+                .role(UserRole.USER)
+                .build());
+        room = linkRoomRepository.save(LinkRoom.builder().name("room").owner(sender).build());
+    }
+
+    @Test
+    @DisplayName("배치로 모은 메시지가 auto-commit 없이도 커밋된다")
+    void batch_isCommitted() throws Exception {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            futures.add(enqueue(room.getId(), "message " + i));
+        }
+
+        for (CompletableFuture<Void> future : futures) future.get(5, TimeUnit.SECONDS);
+
+        assertEquals(500, committedRows(room.getId()));
+    }
+
+    @Test
+    @DisplayName("배치가 실패하면 한 건씩 다시 저장: 정상 메시지는 커밋되고 실패한 메시지만 예외로 끝난다")
+    void fallback_commitsValidRows() throws Exception {
+        CompletableFuture<Void> before = enqueue(room.getId(), "before");
+        CompletableFuture<Void> broken = enqueue(Long.MAX_VALUE, "없는 방"); // FK 위반
+        CompletableFuture<Void> after = enqueue(room.getId(), "after");
+
+        before.get(5, TimeUnit.SECONDS);
+        after.get(5, TimeUnit.SECONDS);
+        assertThrows(ExecutionException.class, () -> broken.get(5, TimeUnit.SECONDS));
+
+        assertEquals(2, committedRows(room.getId()));
+    }
+
+    private CompletableFuture<Void> enqueue(Long roomId, String content) {
+        return chatMessageWriter.enqueue(roomId, sender.getId(), MessageType.TALK, content,
+                LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    private int committedRows(Long roomId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_message WHERE room_id = ?", Integer.class, roomId);
+    }
+}
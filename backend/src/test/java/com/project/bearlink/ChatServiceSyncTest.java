@@ -0,0 +1,140 @@
+package com.project.bearlink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.bearlink.domain.chat.entity.MessageType;
+import com.project.bearlink.domain.chat.repository.ChatMessageRepository;
+import com.project.bearlink.domain.chat.service.ChatMessageWriter;
+import com.project.bearlink.domain.chat.service.ChatService;
+import com.project.bearlink.domain.chat.service.RoomLanes;
+import com.project.bearlink.domain.chat.service.RoomMessageBuffers;
+import com.project.bearlink.domain.room.dto.RoomMessageDto;
+import com.project.bearlink.domain.room.repository.RoomMemberRepository;
+import com.project.bearlink.domain.room.service.RoomUnreadCounters;
+import com.project.bearlink.global.response.ApiResponse;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
+import com.project.bearlink.global.websocket.StompPrincipal;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// SYNC 저장 모드에서 커밋 대기가 lane 을 막지 않는지, 실패가 보낸 세션으로 전달되는지 검증
+public class ChatServiceSyncTest {
+
+    private static final StompPrincipal SENDER = new StompPrincipal(7L, "sender");
+
+    private final RoomBroadcaster roomBroadcaster = mock(RoomBroadcaster.class);
+    private final ChatMessageWriter chatMessageWriter = mock(ChatMessageWriter.class);
+    private final RoomMessageBuffers roomMessageBuffers = mock(RoomMessageBuffers.class);
+    private final SimpMessagingTemplate messagingTemplate = mock(SimpMessagingTemplate.class);
+
+    // 메시지 하나당 저장 완료 future (테스트가 직접 완료시킨다)
+    private final List<CompletableFuture<Void>> commits = new ArrayList<>();
+
+    private RoomLanes roomLanes;
+    private ChatService chatService;
+
+    @BeforeEach
+    void setup() {
+        roomLanes = new RoomLanes(1, 100, new SimpleMeterRegistry()); // 모든 방이 같은 lane
+        chatService = new ChatService(roomBroadcaster, chatMessageWriter, roomMessageBuffers,
+                mock(ChatMessageRepository.class), roomLanes, mock(RoomUnreadCounters.class),
+                mock(RoomMemberRepository.class), new ObjectMapper(), messagingTemplate);
+
+        when(chatMessageWriter.durability()).thenReturn(ChatMessageWriter.Durability.SYNC);
+        when(chatMessageWriter.enqueue(any(), any(), any(), any(), any())).thenAnswer(inv -> {
+            CompletableFuture<Void> commit = new CompletableFuture<>();
+            synchronized (commits) {
+                commits.add(commit);
+            }
+            return commit;
+        });
+        when(chatMessageWriter.withTimeout(any())).thenAnswer(inv -> inv.getArgument(0));
+        when(roomMessageBuffers.append(any(), any(), any()))
+                .thenAnswer(inv -> ((Supplier<?>) inv.getArgument(2)).get());
+        when(roomBroadcaster.broadcast(anyLong(), any())).thenReturn(1L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        roomLanes.stop();
+    }
+
+    @Test
+    @DisplayName("커밋을 기다리는 방이 있어도 같은 lane 의 다른 방은 바로 처리되고, 같은 방은 보낸 순서대로 나간다")
+    void sync_doesNotBlockLane() {
+        send(1L, "room1-a");
+        send(1L, "room1-b");
+        send(2L, "room2");
+        awaitCommits(3);
+
+        commit(2); // room2 만 커밋 → room1 을 기다리지 않고 브로드캐스트
+        verify(roomBroadcaster, timeout(1000)).broadcast(eq(2L), any());
+        verify(roomBroadcaster, never()).broadcast(eq(1L), any());
+
+        commit(1); // 뒤의 메시지가 먼저 커밋돼도 앞 메시지보다 먼저 나가지 않는다
+        verify(roomBroadcaster, after(100).never()).broadcast(eq(1L), any());
+
+        commit(0);
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(roomBroadcaster, timeout(1000).times(2)).broadcast(eq(1L), payloads.capture());
+        assertEquals(List.of("room1-a", "room1-b"),
+                payloads.getAllValues().stream().map(p -> ((RoomMessageDto) p).getContent()).toList());
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 메시지는 브로드캐스트하지 않고 보낸 세션의 오류 목적지로 알린다")
+    void sync_failureNotifiesSession() {
+        send(1L, "lost");
+        send(1L, "kept");
+        awaitCommits(2);
+
+        commits.get(0).completeExceptionally(new IllegalStateException("db down"));
+        commit(1);
+
+        ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+        verify(roomBroadcaster, timeout(1000)).broadcast(eq(1L), payloads.capture());
+        assertEquals("kept", ((RoomMessageDto) payloads.getValue()).getContent());
+
+        ArgumentCaptor<Object> error = ArgumentCaptor.forClass(Object.class);
+        ArgumentCaptor<MessageHeaders> headers = ArgumentCaptor.forClass(MessageHeaders.class);
+        verify(messagingTemplate, timeout(1000)).convertAndSendToUser(eq("7"), eq(ChatService.ERROR_QUEUE),
+                error.capture(), headers.capture());
+        assertFalse(((ApiResponse<?>) error.getValue()).isSuccess());
+        assertEquals("session-1", SimpMessageHeaderAccessor.getSessionId(headers.getValue()));
+
+        InOrder order = inOrder(messagingTemplate, roomBroadcaster);
+        order.verify(messagingTemplate).convertAndSendToUser(any(), any(), any(), any(MessageHeaders.class));
+        order.verify(roomBroadcaster).broadcast(eq(1L), any());
+    }
+
+    private void send(Long roomId, String content) {
+        RoomMessageDto message = RoomMessageDto.builder().type(MessageType.TALK).content(content).build();
+        chatService.handleRoomMessage(roomId, message, SENDER, "session-1");
+    }
+
+    private void commit(int index) {
+        commits.get(index).complete(null);
+    }
+
+    private void awaitCommits(int count) {
+        verify(chatMessageWriter, timeout(1000).times(count)).enqueue(any(), any(), any(), any(), any());
+    }
+}
@@ -0,0 +1,124 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.service.AuthLoginService;
+import com.project.bearlink.domain.user.user.service.AuthTokenService;
+import com.project.bearlink.global.security.auth.AuthCookies;
+import com.project.bearlink.global.security.auth.SecurityUser;
+import com.project.bearlink.global.security.filter.CustomAuthenticationFilter;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 요청 범위 빈 없이 헤더/쿠키의 토큰으로 SecurityContext 를 채우는지 검증
+public class CustomAuthenticationFilterTest {
+
+    private static final SecurityUser PRINCIPAL = SecurityUser.of(1L, "user@test.com", "user", UserRole.USER);
+
+    private final AuthTokenService authTokenService = mock(AuthTokenService.class);
+    private final AuthLoginService authLoginService = mock(AuthLoginService.class);
+    private CustomAuthenticationFilter filter;
+
+    @BeforeEach
+    void setup() {
+        AuthCookies authCookies = new AuthCookies();
+        ReflectionTestUtils.setField(authCookies, "cookieSecure", false);
+        ReflectionTestUtils.setField(authCookies, "cookieSameSite", "Lax");
+        filter = new CustomAuthenticationFilter(authTokenService, authLoginService, authCookies);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Bearer 헤더의 유효한 accessToken 으로 인증한다")
+    void bearerHeader_authenticates() throws Exception {
+        when(authTokenService.authenticate("access")).thenReturn(PRINCIPAL);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/rooms");
+        request.addHeader("Authorization", "Bearer access");
+        MockFilterChain chain = run(request, new MockHttpServletResponse());
+
+        assertSame(PRINCIPAL, authenticatedPrincipal());
+        assertNotNull(chain.getRequest(), "다음 필터로 넘긴다");
+    }
+
+    @Test
+    @DisplayName("accessToken 이 무효하면 쿠키의 refreshToken 으로 재발급하고 새 토큰을 내려준다")
+    void expiredAccessToken_refreshedFromCookie() throws Exception {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getEmail()).thenReturn("user@test.com");
+        when(user.getNickname()).thenReturn("user");
+        when(user.getRole()).thenReturn(UserRole.USER);
+        when(authTokenService.authenticate("expired")).thenReturn(null);
+        when(authLoginService.findByRefreshToken("refresh")).thenReturn(Optional.of(user));
+        when(authTokenService.genAccessToken(user)).thenReturn("new-access");
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/rooms");
+        request.setCookies(new Cookie("accessToken", "expired"), new Cookie("refreshToken", "refresh"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        run(request, response);
+
+        assertEquals(1L, ((SecurityUser) authenticatedPrincipal()).getId());
+        assertEquals("Bearer new-access", response.getHeader("Authorization"));
+        assertTrue(response.getHeaders("Set-Cookie").stream().anyMatch(c -> c.startsWith("accessToken=new-access")));
+    }
+
+    @Test
+    @DisplayName("토큰이 모두 무효하면 인증하지 않고 인증 쿠키를 지운다")
+    void invalidTokens_clearCookies() throws Exception {
+        when(authLoginService.findByRefreshToken(any())).thenReturn(Optional.empty());
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/rooms");
+        request.setCookies(new Cookie("accessToken", "bad"), new Cookie("refreshToken", "bad"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = run(request, response);
+
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        assertEquals(2, response.getHeaders("Set-Cookie").stream().filter(c -> c.contains("Max-Age=0")).count());
+        assertNotNull(chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("공개 엔드포인트와 API 가 아닌 요청은 토큰을 보지 않는다")
+    void publicPaths_skipAuthentication() throws Exception {
+        for (String uri : new String[]{"/api/v1/users/login", "/ws/info"}) {
+            MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+            request.addHeader("Authorization", "Bearer access");
+            run(request, new MockHttpServletResponse());
+        }
+
+        verifyNoInteractions(authTokenService, authLoginService);
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    private MockFilterChain run(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, response, chain);
+        return chain;
+    }
+
+    private static Object authenticatedPrincipal() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertNotNull(authentication);
+        return authentication.getPrincipal();
+    }
+}
@@ -0,0 +1,82 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.friend.dto.FriendEdge;
+import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+import com.project.bearlink.domain.friend.event.FriendshipChangedEvent;
+import com.project.bearlink.domain.friend.repository.FriendRequestRepository;
+import com.project.bearlink.domain.friend.service.FriendGraphCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 친구 그래프가 간선 쿼리 한 번으로 적재되고, 변경 이벤트로 적재된 양쪽 목록이 바로 바뀌는지 검증
+public class FriendGraphCacheTest {
+
+    private final FriendRequestRepository friendRequestRepository = mock(FriendRequestRepository.class);
+    private final FriendGraphCache cache = new FriendGraphCache(friendRequestRepository, 100, 300, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("간선으로 친구/보낸 요청/받은 요청을 나누고, 한 번 적재한 사용자는 다시 읽지 않는다")
+    void load_splitsEdgesByDirection() {
+        when(friendRequestRepository.findEdges(1L)).thenReturn(List.of(
+                new FriendEdge(1L, 2L, FriendRequestStatus.ACCEPTED),
+                new FriendEdge(3L, 1L, FriendRequestStatus.ACCEPTED),
+                new FriendEdge(1L, 4L, FriendRequestStatus.PENDING),
+                new FriendEdge(5L, 1L, FriendRequestStatus.PENDING)));
+
+        assertArrayEquals(new long[]{2, 3}, cache.friendsOf(1L));
+        assertArrayEquals(new long[]{5}, cache.pendingRequestersOf(1L));
+        assertArrayEquals(new long[]{2, 3, 4, 5}, cache.relatedTo(1L));
+        assertTrue(cache.hasPendingRequest(1L, 4L));
+        assertFalse(cache.hasPendingRequest(1L, 5L));
+        assertTrue(cache.areFriends(1L, 3L));
+        assertFalse(cache.isRelated(1L, 6L));
+
+        verify(friendRequestRepository, times(1)).findEdges(1L);
+    }
+
+    @Test
+    @DisplayName("요청/수락 이벤트는 적재된 양쪽 목록에 반영하고, 적재되지 않은 사용자는 건드리지 않는다")
+    void event_updatesLoadedAdjacencies() {
+        when(friendRequestRepository.findEdges(any())).thenReturn(List.of());
+        cache.friendsOf(1L);
+        cache.friendsOf(2L);
+
+        cache.onFriendshipChanged(new FriendshipChangedEvent(1L, 2L, FriendRequestStatus.PENDING));
+        assertTrue(cache.hasPendingRequest(1L, 2L));
+        assertArrayEquals(new long[]{1}, cache.pendingRequestersOf(2L));
+
+        cache.onFriendshipChanged(new FriendshipChangedEvent(1L, 2L, FriendRequestStatus.ACCEPTED));
+        assertTrue(cache.areFriends(1L, 2L));
+        assertTrue(cache.areFriends(2L, 1L));
+        assertArrayEquals(new long[0], cache.pendingRequestersOf(2L));
+
+        cache.onFriendshipChanged(new FriendshipChangedEvent(1L, 9L, FriendRequestStatus.PENDING));
+        assertNull(cache.friendsIfPresent(9L));
+        verify(friendRequestRepository, times(2)).findEdges(any());
+    }
+
+    @Test
+    @DisplayName("여러 사용자는 캐시에 없는 사용자만 묶어서 한 번에 적재한다")
+    void friendsOfAll_loadsMissingInBulk() {
+        when(friendRequestRepository.findEdges(1L)).thenReturn(List.of(new FriendEdge(1L, 2L, FriendRequestStatus.ACCEPTED)));
+        when(friendRequestRepository.findEdgesOfUsers(any())).thenReturn(List.of(
+                new FriendEdge(2L, 3L, FriendRequestStatus.ACCEPTED),
+                new FriendEdge(3L, 4L, FriendRequestStatus.PENDING)));
+        cache.friendsOf(1L);
+
+        Map<Long, long[]> friends = cache.friendsOfAll(new long[]{1, 2, 3});
+
+        assertArrayEquals(new long[]{2}, friends.get(1L));
+        assertArrayEquals(new long[]{3}, friends.get(2L));
+        assertArrayEquals(new long[]{2}, friends.get(3L));
+        verify(friendRequestRepository).findEdgesOfUsers(argThat(ids -> ids.size() == 2 && !ids.contains(1L)));
+    }
+}
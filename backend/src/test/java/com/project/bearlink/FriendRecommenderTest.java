@@ -0,0 +1,123 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.friend.dto.FriendEdge;
+import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+import com.project.bearlink.domain.friend.event.FriendshipChangedEvent;
+import com.project.bearlink.domain.friend.repository.FriendRequestRepository;
+import com.project.bearlink.domain.friend.service.FriendGraphCache;
+import com.project.bearlink.domain.friend.service.FriendRecommender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+// 함께 아는 친구 수 집계(top/trim)와 수락/거절 이벤트의 증분 반영 검증
+// 1 의 친구: 2, 3, 4 / 2 의 친구: 5, 6 / 3 의 친구: 5, 7 / 4 의 친구: 5, 6, 8
+//  → 후보 5(3명), 6(2명), 7(1명), 8(1명)
+public class FriendRecommenderTest {
+
+    private final FriendRequestRepository friendRequestRepository = mock(FriendRequestRepository.class);
+    private final List<FriendEdge> edges = new ArrayList<>();
+    private FriendGraphCache friendGraphCache;
+
+    @BeforeEach
+    void setup() {
+        friend(1, 2);
+        friend(1, 3);
+        friend(4, 1);
+        friend(2, 5);
+        friend(2, 6);
+        friend(3, 5);
+        friend(3, 7);
+        friend(4, 5);
+        friend(4, 6);
+        friend(4, 8);
+
+        when(friendRequestRepository.findEdges(anyLong())).thenAnswer(inv -> edgesOf(List.of((Long) inv.getArgument(0))));
+        when(friendRequestRepository.findEdgesOfUsers(any())).thenAnswer(inv -> edgesOf(inv.getArgument(0)));
+        when(friendRequestRepository.findRejectedCounterpartIds(anyLong())).thenReturn(List.of());
+
+        friendGraphCache = new FriendGraphCache(friendRequestRepository, 100, 300, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("함께 아는 친구가 많은 순으로 topK 명, 친구/대기 요청 상대/거절한 상대는 빠진다")
+    void recommend_ordersByMutualCount() {
+        edges.add(new FriendEdge(1L, 6L, FriendRequestStatus.PENDING));
+        when(friendRequestRepository.findRejectedCounterpartIds(1L)).thenReturn(List.of(8L));
+
+        assertEquals(List.of(new FriendRecommender.Candidate(5, 3), new FriendRecommender.Candidate(7, 1)),
+                recommender(10, 100).recommend(1L));
+        assertEquals(List.of(new FriendRecommender.Candidate(5, 3)), recommender(1, 100).recommend(1L));
+    }
+
+    @Test
+    @DisplayName("후보가 maxCandidates 를 넘으면 수가 적은 후보부터 버린다")
+    void trim_dropsLowestCounts() {
+        assertEquals(List.of(new FriendRecommender.Candidate(5, 3), new FriendRecommender.Candidate(6, 2)),
+                recommender(10, 2).recommend(1L));
+    }
+
+    @Test
+    @DisplayName("수락은 새 친구를 후보에서 빼고 그 친구의 친구를 더하며, 거절한 상대는 후보에서 빠진다")
+    void events_updateCountsIncrementally() {
+        FriendRecommender recommender = recommender(10, 100);
+        recommender.recommend(1L);
+
+        // 1 과 5 가 친구가 됨 (5 의 친구: 2, 3, 4, 9)
+        friend(5, 9);
+        accept(1, 5, recommender);
+        assertEquals(List.of(
+                new FriendRecommender.Candidate(6, 2),
+                new FriendRecommender.Candidate(7, 1),
+                new FriendRecommender.Candidate(8, 1),
+                new FriendRecommender.Candidate(9, 1)), recommender.recommend(1L));
+
+        // 2 와 7 이 친구가 됨 → 1 에게 7 은 함께 아는 친구가 한 명 더 (같은 수는 id 순)
+        accept(2, 7, recommender);
+        assertEquals(List.of(
+                new FriendRecommender.Candidate(6, 2),
+                new FriendRecommender.Candidate(7, 2),
+                new FriendRecommender.Candidate(8, 1),
+                new FriendRecommender.Candidate(9, 1)), recommender.recommend(1L));
+
+        FriendshipChangedEvent rejected = new FriendshipChangedEvent(6L, 1L, FriendRequestStatus.REJECTED);
+        friendGraphCache.onFriendshipChanged(rejected);
+        recommender.onFriendshipChanged(rejected);
+        assertTrue(recommender.recommend(1L).stream().noneMatch(c -> c.userId() == 6));
+
+        verify(friendRequestRepository, times(1)).findRejectedCounterpartIds(1L);
+    }
+
+    private FriendRecommender recommender(int topK, int maxCandidates) {
+        return new FriendRecommender(friendGraphCache, friendRequestRepository, 100, 30, topK, maxCandidates,
+                new SimpleMeterRegistry());
+    }
+
+    // 저장소와 친구 그래프에 모두 반영한 뒤 추천에 알린다 (실제 리스너 순서와 무관해야 함)
+    private void accept(long requester, long receiver, FriendRecommender recommender) {
+        friend(requester, receiver);
+        FriendshipChangedEvent event = new FriendshipChangedEvent(requester, receiver, FriendRequestStatus.ACCEPTED);
+        friendGraphCache.onFriendshipChanged(event);
+        recommender.onFriendshipChanged(event);
+    }
+
+    private void friend(long requester, long receiver) {
+        edges.add(new FriendEdge(requester, receiver, FriendRequestStatus.ACCEPTED));
+    }
+
+    private List<FriendEdge> edgesOf(Collection<Long> userIds) {
+        return edges.stream()
+                .filter(e -> userIds.contains(e.requesterId()) || userIds.contains(e.receiverId()))
+                .toList();
+    }
+}
@@ -0,0 +1,112 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.friend.dto.FriendRequestDto;
+import com.project.bearlink.domain.friend.service.FriendRequestPairMigration;
+import com.project.bearlink.domain.friend.service.FriendService;
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.repository.UserRepository;
+import com.project.bearlink.global.exception.ApiException;
+import com.project.bearlink.global.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// pair 컬럼 도입 이전 행(같은 쌍의 방향별 행, pair 비어 있음)을 합치고 채우는지 검증
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class FriendRequestPairMigrationTest {
+
+    @Autowired
+    private FriendRequestPairMigration migration;
+
+    @Autowired
+    private FriendService friendService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("같은 쌍의 행은 ACCEPTED > PENDING > REJECTED, 최근 행 순으로 하나만 남기고 pair 를 채운다")
+    void migrate_mergesAndBackfillsLegacyRows() {
+        User a = user("legacyA");
+        User b = user("legacyB");
+        User c = user("legacyC");
+        User d = user("legacyD");
+        User e = user("legacyE");
+
+        legacyRow(a, b, "ACCEPTED");
+        legacyRow(b, a, "PENDING");
+        legacyRow(c, a, "REJECTED");
+        legacyRow(a, c, "PENDING");
+        legacyRow(a, d, "REJECTED");
+        long laterRejected = legacyRow(d, a, "REJECTED");
+        legacyRow(e, a, "PENDING");
+
+        migration.migrate();
+
+        assertEquals("ACCEPTED", onlyRow(a, b).get("status"));
+        assertEquals(a.getId(), ((Number) onlyRow(a, c).get("requester_id")).longValue());
+        assertEquals("PENDING", onlyRow(a, c).get("status"));
+        assertEquals(laterRejected, ((Number) onlyRow(a, d).get("id")).longValue());
+        assertEquals("PENDING", onlyRow(a, e).get("status"));
+
+        // upsert 가 이전 행을 본다: 이미 친구인 쌍에 새 대기 요청이 생기지 않는다
+        ApiException ex = assertThrows(ApiException.class, () ->
+                friendService.sendRequest(b.getId(), new FriendRequestDto(a.getId())));
+        assertEquals(ErrorCode.ALREADY_FRIENDS, ex.getErrorCode());
+        assertEquals(1, rowsOf(a, b).size());
+    }
+
+    // pair 컬럼 없이 넣은 행 (컬럼 추가 전 데이터)
+    private long legacyRow(User requester, User receiver, String status) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update("""
+                INSERT INTO friend_request (requester_id, receiver_id, status, requested_at, created_at, updated_at)
+                VALUES (?, ?, ?, ?, ?, ?)
+                """, requester.getId(), receiver.getId(), status, now, now, now);
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM friend_request", Long.class);
+    }
+
+    private Map<String, Object> onlyRow(User x, User y) {
+        List<Map<String, Object>> rows = rowsOf(x, y);
+        assertEquals(1, rows.size());
+
+        Map<String, Object> row = rows.get(0);
+        assertEquals(Math.min(x.getId(), y.getId()), ((Number) row.get("pair_low")).longValue());
+        assertEquals(Math.max(x.getId(), y.getId()), ((Number) row.get("pair_high")).longValue());
+        return row;
+    }
+
+    private List<Map<String, Object>> rowsOf(User x, User y) {
+        return jdbcTemplate.queryForList("""
+                SELECT id, requester_id, status, pair_low, pair_high FROM friend_request
+                WHERE (requester_id = ? AND receiver_id = ?) OR (requester_id = ? AND receiver_id = ?)
+                """, x.getId(), y.getId(), y.getId(), x.getId());
+    }
+
+    private User user(String loginId) {
+        return userRepository.save(User.builder()
+                .loginId(loginId)
+                .password("test1234")
+                .nickname(loginId)
+                .email(loginId + "@test.com")
+                .role(UserRole.USER)
+                .build());
+    }
+}
@@ -1,17 +1,30 @@
 package com.project.bearlink;
 
 import com.project.bearlink.domain.friend.dto.FriendRequestDto;
+import com.project.bearlink.domain.friend.entity.FriendRequest;
+import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
 import com.project.bearlink.domain.friend.repository.FriendRequestRepository;
 import com.project.bearlink.domain.friend.service.FriendService;
 import com.project.bearlink.domain.user.user.entity.User;
 import com.project.bearlink.domain.user.user.entity.UserRole;
 import com.project.bearlink.domain.user.user.repository.UserRepository;
+import com.project.bearlink.global.exception.ApiException;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessException;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 @SpringBootTest
@@ -54,7 +67,7 @@ class FriendServiceTransactionTest {
 
         // when
         System.out.println("\n 두 번째 친구 요청: 중복 요청 예외가 발생해야 합니다.");
-        assertThrows(IllegalArgumentException.class, () -> {
+        assertThrows(ApiException.class, () -> {
             friendService.sendRequest(userA.getId(), dto);
         });
 
@@ -66,4 +79,75 @@ class FriendServiceTransactionTest {
 
         System.out.println("\n 테스트 완료: 트랜잭션 롤백이 정상적으로 동작했습니다.\n");
     }
-}
\ No newline at end of file
+
+    @Test
+    void sendRequest_shouldAutoAccept_whenReverseRequestPending() {
+        User userA = userRepository.save(user("mutualA"));
+        User userB = userRepository.save(user("mutualB"));
+
+        friendService.sendRequest(userA.getId(), new FriendRequestDto(userB.getId()));
+
+        System.out.println("\n 반대 방향 요청: 기존 요청이 수락되어야 합니다.");
+        friendService.sendRequest(userB.getId(), new FriendRequestDto(userA.getId()));
+
+        List<FriendRequest> requests = friendRequestRepository.findAll();
+        assertEquals(1, requests.size());
+        assertEquals(FriendRequestStatus.ACCEPTED, requests.get(0).getStatus());
+        assertEquals(userA.getId(), requests.get(0).getRequester().getId());
+
+        assertThrows(ApiException.class, () ->
+                friendService.sendRequest(userA.getId(), new FriendRequestDto(userB.getId())));
+    }
+
+    // 각 요청이 자기 트랜잭션에서 커밋되어야 하므로 테스트 트랜잭션 없이 실행
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void sendRequest_shouldCreateOneRow_whenSentConcurrently() throws Exception {
+        int threads = 8;
+        User userA = userRepository.save(user("raceA"));
+        User userB = userRepository.save(user("raceB"));
+        FriendRequestDto dto = new FriendRequestDto(userB.getId());
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        friendService.sendRequest(userA.getId(), dto);
+                        return true;
+                    } catch (ApiException | DataAccessException e) {
+                        // H2 는 잠금을 기다리지 않고 충돌로 끝낼 수 있다
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            int succeeded = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) succeeded++;
+            }
+
+            System.out.println("\n 동시 요청 " + threads + "건 중 성공 = " + succeeded);
+            assertEquals(1, succeeded);
+            assertEquals(1, friendRequestRepository.count());
+        } finally {
+            executor.shutdownNow();
+            friendRequestRepository.deleteAll();
+            userRepository.deleteAll(List.of(userA, userB));
+        }
+    }
+
+    private User user(String loginId) {
+        return User.builder()
+                .loginId(loginId)
+                .password("test1234")
+                .nickname(loginId)
+                .email(loginId + "@test.com")
+                .role(UserRole.USER)
+                .build();
+    }
+}
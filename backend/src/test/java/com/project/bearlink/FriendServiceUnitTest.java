@@ -3,10 +3,15 @@ package com.project.bearlink;
 import com.project.bearlink.domain.friend.dto.FriendRequestDto;
 import com.project.bearlink.domain.friend.entity.FriendRequest;
 import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+import com.project.bearlink.domain.friend.event.FriendshipChangedEvent;
 import com.project.bearlink.domain.friend.repository.FriendRequestRepository;
+import com.project.bearlink.domain.friend.service.FriendGraphCache;
+import com.project.bearlink.domain.friend.service.FriendRecommender;
 import com.project.bearlink.domain.friend.service.FriendService;
 import com.project.bearlink.domain.user.user.entity.User;
 import com.project.bearlink.domain.user.user.repository.UserRepository;
+import com.project.bearlink.domain.user.user.service.NicknameIndex;
+import com.project.bearlink.domain.user.user.service.UserSnapshotCache;
 import com.project.bearlink.global.exception.ApiException;
 import com.project.bearlink.global.exception.ErrorCode;
 import org.junit.jupiter.api.BeforeEach;
@@ -18,6 +23,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 
 import java.util.Optional;
@@ -37,6 +43,21 @@ public class FriendServiceUnitTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private FriendGraphCache friendGraphCache;
+
+    @Mock
+    private UserSnapshotCache userSnapshotCache;
+
+    @Mock
+    private NicknameIndex nicknameIndex;
+
+    @Mock
+    private FriendRecommender friendRecommender;
+
     @InjectMocks
     private FriendService friendService;
 
@@ -70,21 +91,18 @@ public class FriendServiceUnitTest {
     @DisplayName("친구 요청 성공")
     public void sendRequest_success(){
 
-        when(friendRequestRepository.existsByRequesterIdAndReceiverIdAndStatus(
-                requester.getId(), receiver.getId(), FriendRequestStatus.PENDING))
-                .thenReturn(false);
-        when(userRepository.findById(requester.getId())).thenReturn(Optional.of(requester));
-        when(userRepository.findById(receiver.getId())).thenReturn(Optional.of(receiver));
+        when(friendRequestRepository.insertPendingIfAbsent(
+                eq(requester.getId()), eq(receiver.getId()), eq(1L), eq(2L), any()))
+                .thenReturn(1);
 
         log.info("친구 요청 서비스 호출");
         friendService.sendRequest(requester.getId(), dto);
 
-        verify(friendRequestRepository).save(friendRequestArgumentCaptor.capture());
-        FriendRequest saved = friendRequestArgumentCaptor.getValue();
-        log.info("저장된 친구 요청 = {} → {}", saved.getRequester().getNickname(), saved.getReceiver().getNickname());
-
-        assertEquals(requester.getId(), saved.getRequester().getId());
-        assertEquals(receiver.getId(), saved.getReceiver().getId());
+        log.info("조회 없이 INSERT 한 번으로 끝나야 함");
+        verify(friendRequestRepository, never()).acceptReverse(anyLong(), anyLong(), anyLong(), any());
+        verify(userRepository, never()).findById(anyLong());
+        verify(eventPublisher).publishEvent(
+                new FriendshipChangedEvent(requester.getId(), receiver.getId(), FriendRequestStatus.PENDING));
     }
 
     @Test
@@ -100,24 +118,40 @@ public class FriendServiceUnitTest {
 
         log.info("자기 자신한테 친구 요청 테스트 결과");
         assertEquals(ErrorCode.SELF_REQUEST_NOT_ALLOWED, ex.getErrorCode());
-        verify(friendRequestRepository, never()).save(any());
+        verify(friendRequestRepository, never()).insertPendingIfAbsent(anyLong(), anyLong(), anyLong(), anyLong(), any());
     }
 
     @Test
     @DisplayName("친구 요청 실패 - 중복된 요청 불가")
     void sendRequest_fail_duplicate(){
-        when(friendRequestRepository.existsByRequesterIdAndReceiverIdAndStatus(
-                requester.getId(), receiver.getId(), FriendRequestStatus.PENDING))
-                .thenReturn(true);
+        when(friendRequestRepository.insertPendingIfAbsent(anyLong(), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(0);
+        when(friendRequestRepository.findStatusByPair(1L, 2L)).thenReturn(Optional.of("PENDING"));
 
         log.info("중복 친구 요청");
         ApiException ex = assertThrows(ApiException.class, () ->
                 friendService.sendRequest(requester.getId(), dto)
         );
 
-        log.info("자기 자신한테 친구 요청 테스트 결과");
+        log.info("중복 친구 요청 테스트 결과");
         assertEquals(ErrorCode.DUPLICATE_REQUEST_PENDING, ex.getErrorCode());
-        verify(friendRequestRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("친구 요청 - 상대가 보낸 대기 요청이 있으면 바로 수락")
+    void sendRequest_mutual_autoAccept(){
+        when(friendRequestRepository.insertPendingIfAbsent(anyLong(), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(0);
+        when(friendRequestRepository.acceptReverse(eq(receiver.getId()), eq(1L), eq(2L), any()))
+                .thenReturn(1);
+
+        log.info("맞요청");
+        friendService.sendRequest(requester.getId(), dto);
+
+        verify(friendRequestRepository, never()).reopenRejected(anyLong(), anyLong(), anyLong(), anyLong(), any());
+        verify(eventPublisher).publishEvent(
+                new FriendshipChangedEvent(receiver.getId(), requester.getId(), FriendRequestStatus.ACCEPTED));
     }
 
     @Test
@@ -126,10 +160,10 @@ public class FriendServiceUnitTest {
 
         FriendRequestDto dto = new FriendRequestDto(0L);
 
-        when(friendRequestRepository.existsByRequesterIdAndReceiverIdAndStatus(anyLong(), anyLong(), any()))
-                .thenReturn(false);
-        when(userRepository.findById(0L)).thenReturn(Optional.empty());
-        when(userRepository.findById(requester.getId())).thenReturn(Optional.of(requester));
+        // INSERT IGNORE 가 FK 오류를 무시해 행이 생기지 않은 경우
+        when(friendRequestRepository.insertPendingIfAbsent(anyLong(), anyLong(), anyLong(), anyLong(), any()))
+                .thenReturn(0);
+        when(friendRequestRepository.findStatusByPair(0L, requester.getId())).thenReturn(Optional.empty());
 
 
         log.info("없는 요청자 id");
@@ -139,7 +173,7 @@ public class FriendServiceUnitTest {
 
         log.info("없는 요청자 id 테스트 결과");
         assertEquals(ErrorCode.RECEIVER_NOT_FOUND, ex.getErrorCode());
-        verify(friendRequestRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
 
     @Test
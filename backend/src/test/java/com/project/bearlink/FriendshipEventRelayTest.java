@@ -0,0 +1,66 @@
+package com.project.bearlink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+import com.project.bearlink.domain.friend.event.FriendshipChangedEvent;
+import com.project.bearlink.domain.friend.event.FriendshipEventRelay;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 친구 관계 변경이 다른 노드에는 remote 이벤트로 한 번만 전달되는지 검증 (Redis 채널은 발행 내용을 직접 넘겨 흉내 냄)
+public class FriendshipEventRelayTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private class Node {
+        final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        final ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+        final FriendshipEventRelay relay = new FriendshipEventRelay(redisTemplate, mock(RedisConnectionFactory.class),
+                objectMapper, eventPublisher);
+
+        String published() {
+            ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+            verify(redisTemplate).convertAndSend(anyString(), body.capture());
+            return body.getValue();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경은 remote 이벤트로 발행하고, 자기 노드가 보낸 메시지와 remote 이벤트는 다시 중계하지 않는다")
+    void relay_deliversToOtherNodesOnce() {
+        Node nodeA = new Node();
+        Node nodeB = new Node();
+
+        nodeA.relay.onFriendshipChanged(new FriendshipChangedEvent(1L, 2L, FriendRequestStatus.ACCEPTED));
+        String message = nodeA.published();
+
+        nodeB.relay.receive(message);
+        verify(nodeB.eventPublisher).publishEvent(new FriendshipChangedEvent(1L, 2L, FriendRequestStatus.ACCEPTED, true));
+
+        nodeA.relay.receive(message); // 자기 노드 메시지는 이미 반영됨
+        verify(nodeA.eventPublisher, never()).publishEvent(any());
+
+        nodeB.relay.onFriendshipChanged(new FriendshipChangedEvent(1L, 2L, FriendRequestStatus.ACCEPTED, true));
+        verify(nodeB.redisTemplate, never()).convertAndSend(anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("중계에 실패해도 이미 커밋된 요청을 실패시키지 않는다")
+    void relay_failureIsNotPropagated() {
+        Node node = new Node();
+        when(node.redisTemplate.convertAndSend(eq("friend:events"), anyString())).thenThrow(new IllegalStateException("redis down"));
+
+        assertDoesNotThrow(() ->
+                node.relay.onFriendshipChanged(new FriendshipChangedEvent(1L, 2L, FriendRequestStatus.PENDING)));
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.friend.entity.FriendRequest;
+import com.project.bearlink.domain.friend.entity.FriendRequestStatus;
+import com.project.bearlink.domain.friend.repository.FriendRequestRepository;
+import com.project.bearlink.domain.friend.service.FriendGraphCache;
+import com.project.bearlink.domain.room.dto.InviteFriendWithStatusResponse;
+import com.project.bearlink.domain.room.entity.InvitationStatus;
+import com.project.bearlink.domain.room.entity.LinkRoom;
+import com.project.bearlink.domain.room.entity.RoomMember;
+import com.project.bearlink.domain.room.repository.LinkRoomRepository;
+import com.project.bearlink.domain.room.repository.RoomMemberRepository;
+import com.project.bearlink.domain.room.service.RoomService;
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 초대 다이얼로그의 친구 + 초대 상태를 쿼리 한 번으로 가져오는지 (친구 그래프 캐시가 있을 때/없을 때 모두) 검증
+@SpringBootTest
+@Transactional
+@ActiveProfiles("test")
+class InviteFriendsQueryTest {
+
+    @Autowired
+    private RoomService roomService;
+
+    @Autowired
+    private FriendGraphCache friendGraphCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FriendRequestRepository friendRequestRepository;
+
+    @Autowired
+    private LinkRoomRepository linkRoomRepository;
+
+    @Autowired
+    private RoomMemberRepository roomMemberRepository;
+
+    @Test
+    @DisplayName("수락된 친구만 방 초대 상태와 함께 돌려주고, 친구 그래프 캐시 경로도 같은 결과를 낸다")
+    void inviteFriends_withAndWithoutGraphCache() {
+        User me = user("invite-me");
+        User invited = user("invite-b");
+        User notInvited = user("invite-c");
+        User pending = user("invite-d");
+
+        friendRequest(me, invited, FriendRequestStatus.ACCEPTED);
+        friendRequest(notInvited, me, FriendRequestStatus.ACCEPTED);
+        friendRequest(me, pending, FriendRequestStatus.PENDING);
+
+        LinkRoom room = linkRoomRepository.save(LinkRoom.builder().name("room").owner(me).build());
+        member(room, me, InvitationStatus.ACCEPTED);
+        member(room, invited, InvitationStatus.INVITED);
+
+        List<String> expected = List.of(
+                invited.getId() + ":INVITED",
+                notInvited.getId() + ":NOT_INVITED");
+
+        friendGraphCache.evict(me.getId());
+        assertEquals(expected, statuses(roomService.getInviteFriendsWithStatus(me.getId(), room.getId())));
+
+        friendGraphCache.friendsOf(me.getId()); // 캐시 적재 → 친구 id 로 방 멤버만 조회
+        assertEquals(expected, statuses(roomService.getInviteFriendsWithStatus(me.getId(), room.getId())));
+
+        friendGraphCache.evict(me.getId());
+    }
+
+    private static List<String> statuses(List<InviteFriendWithStatusResponse> friends) {
+        return friends.stream()
+                .sorted(Comparator.comparing(InviteFriendWithStatusResponse::userId))
+                .map(f -> f.userId() + ":" + f.invitationStatus())
+                .toList();
+    }
+
+    private User user(String loginId) {
+        return userRepository.save(User.builder()
+                .loginId(loginId)
+                .password("test1234")
+                .nickname(loginId)
+                .email(loginId + "@test.com")
+                .role(UserRole.USER)
+                .build());
+    }
+
+    private void friendRequest(User requester, User receiver, FriendRequestStatus status) {
+        friendRequestRepository.save(FriendRequest.builder()
+                .requester(requester)
+                .receiver(receiver)
+                .status(status)
+                .build());
+    }
+
+    private void member(LinkRoom room, User user, InvitationStatus status) {
+        roomMemberRepository.save(RoomMember.builder()
+                .room(room)
+                .user(user)
+                .status(status)
+                .build());
+    }
+}
@@ -0,0 +1,114 @@
+package com.project.bearlink;
+
+import com.project.bearlink.global.security.jwt.InMemoryJwtKeyStore;
+import com.project.bearlink.global.security.jwt.JwtKeyRing;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// kid 로 검증 키를 고르고, 키 교체/폐기 후 이전 토큰이 어떻게 처리되는지, 다른 노드에도 반영되는지 검증
+public class JwtKeyRingTest {
+
+    private static final String SECRET_1 = "test-secret-key-1-abcdefghijklmnopqrstuvwxyz";
+    private static final String SECRET_2 = "test-secret-key-2-abcdefghijklmnopqrstuvwxyz";
+
+    private final InMemoryJwtKeyStore keyStore = new InMemoryJwtKeyStore();
+    private final JwtKeyRing keyRing = new JwtKeyRing(SECRET_1, keyStore);
+
+    @Test
+    @DisplayName("서명한 토큰은 검증되고, 변조된 토큰은 null")
+    void signAndVerify() {
+        String token = keyRing.sign(Map.of("userId", 1L), 60);
+
+        assertEquals(1, ((Number) keyRing.verify(token).get("userId")).intValue());
+        assertNull(keyRing.verify(token.substring(0, token.length() - 2) + "xx"));
+        assertNull(keyRing.verify(""));
+    }
+
+    @Test
+    @DisplayName("키를 교체해도 이전 키 토큰은 폐기 전까지 통과하고, 폐기 후에는 거부된다")
+    void rotateThenRetire() {
+        String oldKid = keyRing.activeKid();
+        String oldToken = keyRing.sign(Map.of("userId", 1L), 60);
+
+        String newKid = keyRing.rotate(SECRET_2);
+        String newToken = keyRing.sign(Map.of("userId", 2L), 60);
+        assertNotEquals(oldKid, newKid);
+        assertNotNull(keyRing.verify(oldToken));
+        assertNotNull(keyRing.verify(newToken));
+
+        keyRing.retire(oldKid);
+        assertNull(keyRing.verify(oldToken));
+        assertNotNull(keyRing.verify(newToken));
+        assertEquals(Set.of(newKid), keyRing.verificationKids());
+
+        assertThrows(IllegalStateException.class, () -> keyRing.retire(newKid));
+    }
+
+    @Test
+    @DisplayName("kid 헤더가 없는 기존 토큰은 부팅 시 secret 으로 검증한다")
+    void legacyTokenWithoutKid() {
+        String legacy = Jwts.builder()
+                .claims(Map.of("userId", 3L))
+                .expiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(Keys.hmacShaKeyFor(SECRET_1.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+
+        assertNotNull(keyRing.verify(legacy));
+
+        keyRing.rotate(SECRET_2);
+        assertNotNull(keyRing.verify(legacy), "교체 후에도 부팅 secret 은 폐기 전까지 유효");
+    }
+
+    @Test
+    @DisplayName("같은 secret 이면 노드가 달라도 kid 가 같다")
+    void kidIsStableAcrossNodes() {
+        JwtKeyRing otherNode = new JwtKeyRing(SECRET_1, new InMemoryJwtKeyStore());
+        assertEquals(keyRing.activeKid(), otherNode.activeKid());
+        assertNotNull(otherNode.verify(keyRing.sign(Map.of("userId", 1L), 60)));
+    }
+
+    @Test
+    @DisplayName("한 노드에서 교체/폐기한 키는 저장소를 공유하는 다른 노드와 재시작한 노드에도 반영된다")
+    void rotationSharedThroughStore() {
+        JwtKeyRing otherNode = new JwtKeyRing(SECRET_1, keyStore);
+        String oldKid = keyRing.activeKid();
+        String oldToken = otherNode.sign(Map.of("userId", 1L), 60);
+
+        String newKid = keyRing.rotate(SECRET_2);
+        assertEquals(newKid, otherNode.activeKid());
+        assertNotNull(keyRing.verify(otherNode.sign(Map.of("userId", 2L), 60)));
+
+        keyRing.retire(oldKid);
+        assertNull(otherNode.verify(oldToken));
+
+        JwtKeyRing restarted = new JwtKeyRing(SECRET_1, keyStore);
+        assertEquals(newKid, restarted.activeKid());
+        assertEquals(Set.of(oldKid), restarted.retiredKids());
+        assertNull(restarted.verify(oldToken));
+    }
+
+    @Test
+    @DisplayName("키 목록이 바뀌면 리스너에 알린다 (검증 캐시 비우기)")
+    void listenerNotifiedOnChange() {
+        AtomicInteger changes = new AtomicInteger();
+        keyRing.addListener(changes::incrementAndGet);
+
+        keyRing.reload();
+        assertEquals(0, changes.get(), "바뀐 것이 없으면 알리지 않음");
+
+        String oldKid = keyRing.activeKid();
+        keyRing.rotate(SECRET_2);
+        keyRing.retire(oldKid);
+        assertEquals(2, changes.get());
+    }
+}
@@ -0,0 +1,47 @@
+package com.project.bearlink;
+
+import com.project.bearlink.global.exception.ErrorCode;
+import com.project.bearlink.global.exception.RateLimitedException;
+import com.project.bearlink.global.security.password.LoginRateLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 계정별/IP별 토큰 버킷 (분당 회복량 1 → 테스트 동안 회복되지 않는다)
+public class LoginRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final LoginRateLimiter limiter = new LoginRateLimiter(3, 1, 5, 1, meterRegistry);
+
+    @Test
+    @DisplayName("계정 버킷을 다 쓰면 429 + Retry-After, 대소문자/공백이 달라도 같은 계정으로 센다")
+    void account_rejectsAfterCapacity() {
+        limiter.acquire("user", "10.0.0.1");
+        limiter.acquire(" USER ", "10.0.0.2");
+        limiter.acquire("User", "10.0.0.3");
+
+        RateLimitedException ex = assertThrows(RateLimitedException.class,
+                () -> limiter.acquire("user", "10.0.0.4"));
+        assertEquals(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, ex.getErrorCode());
+        assertEquals(429, ex.getErrorCode().getHttpStatus().value());
+        assertTrue(ex.getRetryAfterSeconds() >= 1);
+
+        limiter.acquire("other", "10.0.0.5"); // 다른 계정은 영향 없음
+        assertEquals(1, meterRegistry.counter("auth.login.rejected", "reason", "account").count());
+    }
+
+    @Test
+    @DisplayName("IP 버킷은 계정과 무관하게 같은 IP 의 시도를 센다, 다른 IP 는 따로 센다")
+    void ip_rejectsAfterCapacity() {
+        for (int i = 0; i < 5; i++) limiter.acquire("user" + i, "10.0.0.1");
+
+        RateLimitedException ex = assertThrows(RateLimitedException.class,
+                () -> limiter.acquire("fresh", "10.0.0.1"));
+        assertEquals(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS, ex.getErrorCode());
+
+        limiter.acquire("fresh", "10.0.0.2");
+        assertEquals(1, meterRegistry.counter("auth.login.rejected", "reason", "ip").count());
+    }
+}
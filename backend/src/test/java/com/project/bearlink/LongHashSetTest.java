@@ -0,0 +1,81 @@
+package com.project.bearlink;
+
+import com.project.bearlink.global.util.LongHashSet;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 선형 탐사 + 뒤 원소 당기기 삭제가 HashSet<Long> 과 같은 결과를 내는지 검증
+public class LongHashSetTest {
+
+    @Test
+    @DisplayName("추가/삭제/포함 기본 동작과 0 이하 값 처리")
+    void basicOperations() {
+        LongHashSet set = new LongHashSet();
+
+        assertTrue(set.add(3));
+        assertFalse(set.add(3));
+        assertTrue(set.contains(3));
+        assertFalse(set.contains(0));
+        assertThrows(IllegalArgumentException.class, () -> set.add(0));
+        assertThrows(IllegalArgumentException.class, () -> set.add(-1));
+
+        assertTrue(set.remove(3));
+        assertFalse(set.remove(3));
+        assertFalse(set.remove(0));
+        assertTrue(set.isEmpty());
+    }
+
+    @Test
+    @DisplayName("같은 묶음(cluster) 가운데 원소를 지워도 뒤 원소를 계속 찾을 수 있다")
+    void removeFromCluster_keepsLaterElementsReachable() {
+        LongHashSet set = new LongHashSet(64);
+        for (long id = 1; id <= 60; id++) set.add(id); // 적재율이 높아 긴 묶음이 생김
+
+        for (long id = 1; id <= 60; id += 3) assertTrue(set.remove(id));
+        for (long id = 1; id <= 60; id++) {
+            assertEquals(id % 3 != 1, set.contains(id), "id=" + id);
+        }
+        assertEquals(40, set.size());
+    }
+
+    @Test
+    @DisplayName("무작위 추가/삭제를 반복해도 HashSet 과 같은 내용을 유지한다")
+    void randomOperations_matchHashSet() {
+        Random random = new Random(42);
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+
+        for (int n = 0; n < 100_000; n++) {
+            long value = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(value), set.remove(value));
+            } else {
+                assertEquals(expected.add(value), set.add(value));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        assertArrayEquals(expected.stream().mapToLong(Long::longValue).sorted().toArray(), set.toSortedArray());
+        for (long value = 1; value <= 2_000; value++) {
+            assertEquals(expected.contains(value), set.contains(value));
+        }
+    }
+
+    @Test
+    @DisplayName("forEachWhile 은 false 를 받으면 멈춘다")
+    void forEachWhile_stopsEarly() {
+        LongHashSet set = new LongHashSet();
+        for (long id = 1; id <= 10; id++) set.add(id);
+
+        int[] visited = new int[1];
+        assertFalse(set.forEachWhile(id -> ++visited[0] < 3));
+        assertEquals(3, visited[0]);
+        assertTrue(set.forEachWhile(id -> true));
+    }
+}
@@ -0,0 +1,69 @@
+package com.project.bearlink;
+
+import com.project.bearlink.global.util.LongIntHashMap;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 선형 탐사 + 뒤 원소 당기기 삭제가 HashMap<Long, Integer> 와 같은 결과를 내는지 검증
+public class LongIntHashMapTest {
+
+    @Test
+    @DisplayName("addTo 는 없던 키를 0 에서 시작하고, 0 이하 키는 받지 않는다")
+    void addToAndGet() {
+        LongIntHashMap map = new LongIntHashMap();
+
+        assertEquals(1, map.addTo(7, 1));
+        assertEquals(3, map.addTo(7, 2));
+        assertEquals(3, map.get(7));
+        assertEquals(0, map.get(8));
+        assertEquals(0, map.get(0));
+        assertThrows(IllegalArgumentException.class, () -> map.addTo(0, 1));
+
+        assertTrue(map.remove(7));
+        assertFalse(map.remove(7));
+        assertEquals(0, map.get(7));
+        assertEquals(0, map.size());
+    }
+
+    @Test
+    @DisplayName("묶음 가운데 키를 지워도 뒤 키의 값을 그대로 찾는다")
+    void removeFromCluster_keepsValues() {
+        LongIntHashMap map = new LongIntHashMap(64);
+        for (long key = 1; key <= 60; key++) map.addTo(key, (int) key * 10);
+
+        for (long key = 2; key <= 60; key += 2) assertTrue(map.remove(key));
+        for (long key = 1; key <= 60; key++) {
+            assertEquals(key % 2 == 1 ? key * 10 : 0, map.get(key), "key=" + key);
+        }
+        assertEquals(30, map.size());
+    }
+
+    @Test
+    @DisplayName("무작위 더하기/삭제를 반복해도 HashMap 과 같은 내용을 유지한다")
+    void randomOperations_matchHashMap() {
+        Random random = new Random(7);
+        LongIntHashMap map = new LongIntHashMap();
+        Map<Long, Integer> expected = new HashMap<>();
+
+        for (int n = 0; n < 100_000; n++) {
+            long key = 1 + random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key) != null, map.remove(key));
+            } else {
+                int delta = 1 + random.nextInt(5);
+                assertEquals((int) expected.merge(key, delta, Integer::sum), map.addTo(key, delta));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        Map<Long, Integer> actual = new HashMap<>();
+        map.forEach(actual::put);
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.user.user.event.UserChangedEvent;
+import com.project.bearlink.domain.user.user.service.NicknameIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 닉네임 trigram/prefix 인덱스 검색과 닉네임 변경/삭제 반영 검증 (DB 는 사용자별 닉네임 조회만 흉내 냄)
+public class NicknameIndexTest {
+
+    private static final int MAX_CANDIDATES = 3;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final Map<Long, String> users = new HashMap<>();
+    private final NicknameIndex index = new NicknameIndex(jdbcTemplate, 100, MAX_CANDIDATES, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setup() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), anyLong())).thenAnswer(inv -> {
+            String nickname = users.get((Long) inv.getArgument(2));
+            return nickname == null ? List.of() : List.of(nickname);
+        });
+        index.build(); // 빈 테이블로 적재 완료
+
+        save(1L, "Alice");
+        save(2L, "Malice");
+        save(3L, "Alan");
+        save(4L, "Bob");
+        save(5L, "abcXbcd");
+    }
+
+    @Test
+    @DisplayName("3글자 이상은 대소문자 구분 없이 부분 일치, trigram 이 흩어져 있기만 한 닉네임은 제외")
+    void trigramSearch() {
+        assertArrayEquals(new long[]{1, 2}, index.search("LIC", id -> true));
+        assertArrayEquals(new long[]{2}, index.search("malic", id -> true));
+        assertArrayEquals(new long[0], index.search("abcd", id -> true), "abc, bcd 는 있지만 이어지지 않음");
+        assertArrayEquals(new long[0], index.search("zzz", id -> true));
+    }
+
+    @Test
+    @DisplayName("1~2글자는 닉네임 사전순 prefix 로 찾는다")
+    void prefixSearch() {
+        assertArrayEquals(new long[]{3, 1}, index.search("al", id -> true)); // alan, alice
+        assertArrayEquals(new long[]{4}, index.search("b", id -> true));
+    }
+
+    @Test
+    @DisplayName("filter 를 통과한 사용자만, 최대 maxCandidates 개까지")
+    void filterAndLimit() {
+        assertArrayEquals(new long[]{2}, index.search("lic", id -> id != 1));
+
+        save(6L, "Alice2");
+        save(7L, "Alice3");
+        assertEquals(MAX_CANDIDATES, index.search("lic", id -> true).length);
+    }
+
+    @Test
+    @DisplayName("닉네임을 바꾸면 이전 닉네임으로는 찾지 못하고, 탈퇴한 사용자는 빠진다")
+    void renameAndRemove() {
+        save(1L, "Carol");
+        assertArrayEquals(new long[]{2}, index.search("lic", id -> true));
+        assertArrayEquals(new long[]{1}, index.search("car", id -> true));
+
+        users.remove(2L);
+        index.onUserChanged(new UserChangedEvent(2L));
+        assertArrayEquals(new long[0], index.search("lic", id -> true));
+    }
+
+    @Test
+    @DisplayName("적재 전에는 null 을 돌려 DB 검색으로 대신하게 한다")
+    void notReady_returnsNull() {
+        NicknameIndex notBuilt = new NicknameIndex(jdbcTemplate, 100, MAX_CANDIDATES, new SimpleMeterRegistry());
+        assertNull(notBuilt.search("alice", id -> true));
+    }
+
+    private void save(Long userId, String nickname) {
+        users.put(userId, nickname);
+        index.onUserChanged(new UserChangedEvent(userId));
+    }
+}
@@ -0,0 +1,99 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.user.user.dto.LoginRequestDto;
+import com.project.bearlink.domain.user.user.dto.SignupRequestDto;
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.repository.RefreshTokenStore;
+import com.project.bearlink.domain.user.user.repository.UserRepository;
+import com.project.bearlink.domain.user.user.service.AuthLoginService;
+import com.project.bearlink.domain.user.user.service.AuthTokenService;
+import com.project.bearlink.domain.user.user.service.UserService;
+import com.project.bearlink.global.security.password.LoginRateLimiter;
+import com.project.bearlink.global.security.password.PasswordHasher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+// 해싱 뒤의 저장 작업(회원 INSERT, refreshToken 저장)이 해싱 스레드가 아닌 후속 실행기에서 돌아가는지 검증
+public class PasswordHasherTest {
+
+    private final BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(4);
+    private final PasswordHasher passwordHasher = new PasswordHasher(encoder, 1, 4, 1, 1, new SimpleMeterRegistry());
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @AfterEach
+    void tearDown() {
+        passwordHasher.shutdown();
+    }
+
+    @Test
+    @DisplayName("회원가입의 저장은 해싱 스레드를 잡지 않는다")
+    void signup_savesOffHasherThread() throws Exception {
+        AtomicReference<String> savedOn = new AtomicReference<>();
+        when(userRepository.findByEmail(anyString())).thenReturn(Optional.empty());
+        when(userRepository.save(any())).thenAnswer(inv -> {
+            savedOn.set(Thread.currentThread().getName());
+            return inv.getArgument(0);
+        });
+
+        SignupRequestDto request = new SignupRequestDto();
+        request.setLoginId("user");
+        request.setPassword("password1!");
+        request.setEmail("user@test.com");
+        request.setNickname("user");
+
+        UserService userService = new UserService(userRepository, passwordHasher, mock(ApplicationEventPublisher.class));
+        User saved = userService.signup(request).get(5, TimeUnit.SECONDS);
+
+        assertTrue(encoder.matches("password1!", saved.getPassword()));
+        assertTrue(savedOn.get().startsWith("password-after-hash-"), savedOn.get());
+    }
+
+    @Test
+    @DisplayName("로그인의 토큰 발급/저장은 해싱 스레드를 잡지 않는다")
+    void login_issuesTokensOffHasherThread() throws Exception {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(1L);
+        when(user.getPassword()).thenReturn(encoder.encode("password1!"));
+        when(user.getRole()).thenReturn(UserRole.USER);
+        when(userRepository.findByLoginId("user")).thenReturn(Optional.of(user));
+
+        AuthTokenService authTokenService = mock(AuthTokenService.class);
+        when(authTokenService.genAccessToken(user)).thenReturn("access");
+        when(authTokenService.genRefreshToken(user)).thenReturn("refresh");
+
+        AtomicReference<String> storedOn = new AtomicReference<>();
+        RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+        doAnswer(inv -> {
+            storedOn.set(Thread.currentThread().getName());
+            return null;
+        }).when(refreshTokenStore).issue(anyString(), anyLong(), anyString(), any());
+
+        AuthLoginService authLoginService = new AuthLoginService(userRepository, passwordHasher,
+                new LoginRateLimiter(5, 5, 20, 60, new SimpleMeterRegistry()), authTokenService, refreshTokenStore,
+                mock(ApplicationEventPublisher.class));
+        ReflectionTestUtils.setField(authLoginService, "refreshTokenExpirationSeconds", 3600L);
+
+        LoginRequestDto request = new LoginRequestDto();
+        ReflectionTestUtils.setField(request, "loginId", "user");
+        ReflectionTestUtils.setField(request, "password", "password1!");
+
+        assertEquals("access", authLoginService.login(request, "10.0.0.1").get(5, TimeUnit.SECONDS).getAccessToken());
+        assertTrue(storedOn.get().startsWith("password-after-hash-"), storedOn.get());
+    }
+}
@@ -0,0 +1,87 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.user.user.repository.InMemoryRefreshTokenStore;
+import com.project.bearlink.domain.user.user.repository.RefreshTokenStore;
+import com.project.bearlink.domain.user.user.repository.RefreshTokenStore.RefreshTokenSession;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// refreshToken 교체(rotation)와 재사용 감지, family 단위 폐기 검증
+public class RefreshTokenStoreTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+
+    @Test
+    @DisplayName("교체하면 새 토큰만 유효하고, 교체된 토큰이 다시 오면 family 전체를 폐기한다")
+    void rotate_detectsReuse() {
+        store.issue("family-1", 1L, "t1", TTL);
+
+        assertEquals(Optional.of(new RefreshTokenSession(1L, "family-1")), store.rotate("t1", "t2", TTL));
+        assertTrue(store.find("t1").isEmpty());
+        assertTrue(store.find("t2").isPresent());
+
+        assertTrue(store.rotate("t1", "t3", TTL).isEmpty(), "이미 교체된 토큰 재사용");
+        assertTrue(store.find("t2").isEmpty(), "재사용이 감지되면 최신 토큰도 폐기");
+        assertTrue(store.find("t3").isEmpty());
+    }
+
+    @Test
+    @DisplayName("family(기기) 하나만 로그아웃하거나, 사용자의 모든 family 를 폐기한다")
+    void revokeFamilyAndAll() {
+        store.issue("phone", 1L, "phone-token", TTL);
+        store.issue("laptop", 1L, "laptop-token", TTL);
+        store.issue("other", 2L, "other-token", TTL);
+
+        store.revokeFamily("phone-token");
+        assertTrue(store.find("phone-token").isEmpty());
+        assertTrue(store.find("laptop-token").isPresent());
+
+        store.revokeAll(1L);
+        assertTrue(store.find("laptop-token").isEmpty());
+        assertTrue(store.find("other-token").isPresent(), "다른 사용자는 영향 없음");
+    }
+
+    @Test
+    @DisplayName("만료되거나 모르는 토큰은 찾지도 교체하지도 못한다")
+    void expiredOrUnknownToken() {
+        store.issue("family-1", 1L, "expired", Duration.ZERO);
+
+        assertTrue(store.find("expired").isEmpty());
+        assertTrue(store.rotate("expired", "next", TTL).isEmpty());
+        assertTrue(store.rotate("unknown", "next", TTL).isEmpty());
+        assertTrue(store.find("next").isEmpty());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 교체된 것까지 정리되고, 유효한 토큰은 남는다")
+    void purgeExpired_removesExpiredEntries() throws InterruptedException {
+        store.issue("short", 1L, "s1", Duration.ofMillis(20));
+        store.rotate("s1", "s2", Duration.ofMillis(20)); // s1 은 교체된 상태로 남아 있다
+        store.issue("long", 1L, "l1", TTL);
+
+        assertEquals(0, store.purgeExpired());
+        Thread.sleep(30);
+        assertEquals(2, store.purgeExpired());
+        assertEquals(0, store.purgeExpired());
+
+        assertTrue(store.find("l1").isPresent());
+        store.revokeAll(1L); // 정리된 family 가 남아 있어도 문제없이 폐기
+        assertTrue(store.find("l1").isEmpty());
+    }
+
+    @Test
+    @DisplayName("저장 키는 토큰 원문이 아닌 SHA-256 해시")
+    void hash_isSha256Hex() {
+        String hash = RefreshTokenStore.hash("token");
+        assertEquals(64, hash.length());
+        assertNotEquals("token", hash);
+        assertEquals(hash, RefreshTokenStore.hash("token"));
+    }
+}
@@ -0,0 +1,166 @@
+package com.project.bearlink;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.bearlink.global.websocket.InMemoryRoomEventBus;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
+import com.project.bearlink.global.websocket.RoomEventBus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 두 노드가 같은 버스(Redis 역할의 Hub)를 공유할 때 방 브로드캐스트 fan-out 검증
+public class RoomBroadcastRelayTest {
+
+    private static final String ROOM_1 = "/topic/room/1";
+    private static final int LOG_CAPACITY = 5;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    // 노드 하나: 버스 + 로컬 simple broker 로 나가는 메시지를 기록하는 채널
+    private class Node {
+        final List<Message<?>> delivered = Collections.synchronizedList(new ArrayList<>());
+        final RoomBroadcaster broadcaster;
+
+        Node(InMemoryRoomEventBus.Hub hub) {
+            SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> delivered.add(message));
+            broadcaster = new RoomBroadcaster(new InMemoryRoomEventBus(hub), template, objectMapper, List.of());
+        }
+
+        List<JsonNode> payloads(String destination) throws Exception {
+            List<JsonNode> result = new ArrayList<>();
+            synchronized (delivered) {
+                for (Message<?> message : delivered) {
+                    if (!destination.equals(message.getHeaders().get("simpDestination"))) continue;
+                    result.add(objectMapper.readTree((byte[]) message.getPayload()));
+                }
+            }
+            return result;
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        InMemoryRoomEventBus.Hub hub = new InMemoryRoomEventBus.Hub(LOG_CAPACITY);
+        nodeA = new Node(hub);
+        nodeB = new Node(hub);
+    }
+
+    @Test
+    @DisplayName("두 노드에서 동시에 발행해도 모든 노드가 같은 순서로 한 번씩 받는다")
+    void fanOut_orderedWithoutDuplicates() throws Exception {
+        nodeA.broadcaster.subscribed("a-1", "sub-0", ROOM_1);
+        nodeA.broadcaster.subscribed("a-2", "sub-0", ROOM_1); // 같은 노드의 두 번째 세션
+        nodeB.broadcaster.subscribed("b-1", "sub-0", ROOM_1);
+
+        int perNode = 500;
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        for (Node publisher : List.of(nodeA, nodeB)) {
+            String origin = publisher == nodeA ? "A" : "B";
+            pool.submit(() -> {
+                start.await();
+                for (int i = 0; i < perNode; i++) {
+                    publisher.broadcaster.broadcast(1L, Map.of("origin", origin, "n", i));
+                }
+                return null;
+            });
+        }
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        List<JsonNode> receivedA = nodeA.payloads(ROOM_1);
+        List<JsonNode> receivedB = nodeB.payloads(ROOM_1);
+
+        // 로컬 세션이 둘이어도 노드당 한 번만 브로커로 전달 (세션 fan-out 은 simple broker 담당)
+        assertEquals(perNode * 2, receivedA.size());
+        assertEquals(perNode * 2, receivedB.size());
+        assertEquals(receivedA, receivedB);
+
+        // 방 순번은 1부터 빈틈없이 증가
+        for (int i = 0; i < receivedA.size(); i++) {
+            assertEquals(i + 1, receivedA.get(i).get("seq").asLong());
+        }
+
+        // 중복 없음 + 발행 노드별 순서 유지
+        Set<String> seen = new HashSet<>();
+        Map<String, Integer> lastByOrigin = new HashMap<>(Map.of("A", -1, "B", -1));
+        for (JsonNode event : receivedA) {
+            String origin = event.get("origin").asText();
+            int n = event.get("n").asInt();
+            assertTrue(seen.add(origin + n), "중복 전달: " + origin + n);
+            assertEquals(lastByOrigin.get(origin) + 1, n);
+            lastByOrigin.put(origin, n);
+        }
+    }
+
+    @Test
+    @DisplayName("방을 보고 있는 세션이 없는 노드는 이벤트를 받지 않는다")
+    void fanOut_onlySubscribedNodes() throws Exception {
+        nodeA.broadcaster.subscribed("a-1", "sub-0", ROOM_1);
+        nodeB.broadcaster.subscribed("b-1", "sub-0", ROOM_1);
+
+        nodeA.broadcaster.broadcast(1L, Map.of("n", 0));
+
+        nodeB.broadcaster.unsubscribed("b-1", "sub-0");
+        nodeA.broadcaster.broadcast(1L, Map.of("n", 1));
+
+        nodeB.broadcaster.subscribed("b-2", "sub-0", ROOM_1);
+        nodeB.broadcaster.disconnected("b-2");
+        nodeB.broadcaster.broadcast(1L, Map.of("n", 2)); // 구독이 없는 노드에서 발행해도 다른 노드에는 전달
+
+        assertEquals(List.of(0, 1, 2), nodeA.payloads(ROOM_1).stream().map(e -> e.get("n").asInt()).toList());
+        assertEquals(List.of(0), nodeB.payloads(ROOM_1).stream().map(e -> e.get("n").asInt()).toList());
+    }
+
+    @Test
+    @DisplayName("재연결 시 마지막 seq 이후 이벤트만 돌려주고, 보관 범위를 넘으면 resync")
+    void replay_missedEventsOrResync() throws Exception {
+        for (int i = 0; i < 8; i++) {
+            long seq = (i % 2 == 0 ? nodeA : nodeB).broadcaster.broadcast(1L, Map.of("n", i));
+            assertEquals(i + 1, seq);
+        }
+
+        RoomEventBus.Replay missed = nodeB.broadcaster.replay(1L, 5);
+        assertFalse(missed.resync());
+        assertEquals(8, missed.latestSeq());
+        assertEquals(List.of(6L, 7L, 8L), missed.events().stream().map(this::seqOf).toList());
+
+        RoomEventBus.Replay upToDate = nodeA.broadcaster.replay(1L, 8);
+        assertFalse(upToDate.resync());
+        assertTrue(upToDate.events().isEmpty());
+
+        // 로그에는 최근 5개(4~8)만 남아 있음
+        assertEquals(List.of(4L, 5L, 6L, 7L, 8L), nodeA.broadcaster.replay(1L, 3).events().stream().map(this::seqOf).toList());
+        assertTrue(nodeA.broadcaster.replay(1L, 2).resync());
+        assertTrue(nodeA.broadcaster.replay(1L, 9).resync()); // 서버보다 앞선 seq
+    }
+
+    private long seqOf(String event) {
+        try {
+            return objectMapper.readTree(event).get("seq").asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
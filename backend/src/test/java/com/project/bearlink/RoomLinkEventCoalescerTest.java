@@ -0,0 +1,89 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.chat.entity.MessageType;
+import com.project.bearlink.domain.room.dto.RoomMessageDto;
+import com.project.bearlink.domain.room.event.RoomLinkChangedEvent;
+import com.project.bearlink.domain.room.service.RoomLinkEventCoalescer;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 창 안의 링크 이벤트가 규칙대로 합쳐지고, 받은 이벤트 객체는 바뀌지 않는지 검증
+public class RoomLinkEventCoalescerTest {
+
+    private static final Long ROOM_ID = 1L;
+
+    private final RoomBroadcaster roomBroadcaster = mock(RoomBroadcaster.class);
+    // 창을 길게 두고 stop() 으로 바로 내보냄
+    private final RoomLinkEventCoalescer coalescer = new RoomLinkEventCoalescer(roomBroadcaster, 60_000, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void setup() {
+        coalescer.start();
+    }
+
+    @Test
+    @DisplayName("ADD 후 UPDATE 는 최신 값을 담은 새 ADD 하나가 되고, 원래 ADD 이벤트는 그대로다")
+    void addThenUpdate_buildsNewAdd() {
+        RoomMessageDto add = link(MessageType.LINK_ADD, 10L, "old", "https://old");
+        publish(10L, add);
+        publish(10L, link(MessageType.LINK_UPDATE, 10L, "new", "https://new"));
+        coalescer.stop();
+
+        RoomMessageDto sent = sentMessage();
+        assertEquals(MessageType.LINK_ADD, sent.getType());
+        assertEquals("new", sent.getLinkTitle());
+        assertEquals("https://new", sent.getLinkUrl());
+        assertNotSame(add, sent);
+        assertEquals("old", add.getLinkTitle());
+        assertEquals("https://old", add.getLinkUrl());
+    }
+
+    @Test
+    @DisplayName("ADD 후 DELETE 는 버리고, 나머지가 여러 개면 LINK_BATCH 하나로 보낸다")
+    void mixedEvents_sentAsBatch() {
+        publish(10L, link(MessageType.LINK_ADD, 10L, "a", "https://a"));
+        publish(20L, link(MessageType.LINK_UPDATE, 20L, "b1", "https://b"));
+        publish(10L, link(MessageType.LINK_DELETE, 10L, null, null));
+        publish(20L, link(MessageType.LINK_UPDATE, 20L, "b2", "https://b"));
+        publish(30L, link(MessageType.LINK_DELETE, 30L, null, null));
+        coalescer.stop();
+
+        RoomMessageDto batch = sentMessage();
+        assertEquals(MessageType.LINK_BATCH, batch.getType());
+        assertEquals(List.of("LINK_UPDATE:20:b2", "LINK_DELETE:30:null"), batch.getEvents().stream()
+                .map(e -> e.getType() + ":" + e.getContent() + ":" + e.getLinkTitle())
+                .toList());
+    }
+
+    private void publish(Long linkId, RoomMessageDto message) {
+        coalescer.onLinkChanged(new RoomLinkChangedEvent(ROOM_ID, linkId, message));
+    }
+
+    private RoomMessageDto sentMessage() {
+        ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+        verify(roomBroadcaster).broadcast(eq(ROOM_ID), payload.capture());
+        return (RoomMessageDto) payload.getValue();
+    }
+
+    private static RoomMessageDto link(MessageType type, Long linkId, String title, String url) {
+        return RoomMessageDto.builder()
+                .roomId(ROOM_ID)
+                .senderId(7L)
+                .senderName("user7")
+                .type(type)
+                .content(linkId.toString())
+                .linkTitle(title)
+                .linkUrl(url)
+                .build();
+    }
+}
@@ -0,0 +1,159 @@
+package com.project.bearlink;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.project.bearlink.domain.chat.entity.MessageType;
+import com.project.bearlink.domain.chat.repository.ChatMessageRepository;
+import com.project.bearlink.domain.chat.service.ChatMessageWriter;
+import com.project.bearlink.domain.chat.service.RoomMessageBuffers;
+import com.project.bearlink.domain.room.dto.RoomMessageDto;
+import com.project.bearlink.domain.room.repository.LinkRoomRepository;
+import com.project.bearlink.global.websocket.InMemoryRoomEventBus;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+// 두 노드가 같은 버스를 쓸 때 다른 노드에서 보낸 채팅이 이력 버퍼에 반영되는지 검증
+public class RoomMessageBuffersTest {
+
+    private static final Long ROOM_ID = 1L;
+    private static final String ROOM_TOPIC = "/topic/room/1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private Node nodeA;
+    private Node nodeB;
+
+    // 노드 하나: 이력 버퍼 + 버퍼를 리스너로 둔 브로드캐스터 (DB 는 비어 있음)
+    private class Node {
+        final ChatMessageRepository chatMessageRepository = mock(ChatMessageRepository.class);
+        final RoomMessageBuffers buffers;
+        final RoomBroadcaster broadcaster;
+
+        Node(InMemoryRoomEventBus.Hub hub) {
+            LinkRoomRepository linkRoomRepository = mock(LinkRoomRepository.class);
+            when(linkRoomRepository.existsById(ROOM_ID)).thenReturn(true);
+            when(chatMessageRepository.findRecentMessages(eq(ROOM_ID), any(Pageable.class))).thenReturn(List.of());
+
+            InMemoryRoomEventBus bus = new InMemoryRoomEventBus(hub);
+            buffers = new RoomMessageBuffers(chatMessageRepository, linkRoomRepository, mock(ChatMessageWriter.class),
+                    bus, 50, 100, 30, objectMapper, new SimpleMeterRegistry());
+            broadcaster = new RoomBroadcaster(bus,
+                    new SimpMessagingTemplate((message, timeout) -> true), objectMapper, List.of(buffers));
+        }
+
+        // ChatService.publish 와 같은 순서: 버퍼 추가(+저장 요청) → 버스 발행
+        void send(Long senderId, String content) {
+            RoomMessageDto message = RoomMessageDto.builder()
+                    .roomId(ROOM_ID)
+                    .senderId(senderId)
+                    .senderName("user" + senderId)
+                    .type(MessageType.TALK)
+                    .content(content)
+                    .createdAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
+                    .build();
+            buffers.append(ROOM_ID, message, () -> null);
+            broadcaster.broadcast(ROOM_ID, message);
+        }
+
+        List<String> history() {
+            return buffers.recent(ROOM_ID).stream().map(RoomMessageDto::getContent).toList();
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        startNodes(100);
+    }
+
+    private void startNodes(int logCapacity) {
+        InMemoryRoomEventBus.Hub hub = new InMemoryRoomEventBus.Hub(logCapacity);
+        nodeA = new Node(hub);
+        nodeB = new Node(hub);
+    }
+
+    @Test
+    @DisplayName("다른 노드에서 보낸 채팅은 버스로 받아 버퍼에 추가되고, 자기 노드 메시지는 한 번만 들어간다")
+    void remoteMessages_appendedOnce() {
+        nodeA.broadcaster.subscribed("a-1", "sub-0", ROOM_TOPIC);
+        nodeB.broadcaster.subscribed("b-1", "sub-0", ROOM_TOPIC);
+        assertEquals(List.of(), nodeA.history());
+        assertEquals(List.of(), nodeB.history());
+
+        nodeA.send(10L, "from A");
+        nodeB.send(20L, "from B");
+        nodeA.broadcaster.signal(ROOM_ID, Map.of("type", "PRESENCE")); // 채팅이 아닌 이벤트는 무시
+
+        assertEquals(List.of("from B", "from A"), nodeA.history());
+        assertEquals(List.of("from B", "from A"), nodeB.history());
+        assertEquals(2L, nodeA.buffers.recent(ROOM_ID).get(0).getSeq(), "버스에서 받은 메시지에는 순번이 있다");
+
+        // 버퍼로 응답했으므로 DB 는 처음 한 번만 읽음
+        verify(nodeB.chatMessageRepository, times(1)).findRecentMessages(eq(ROOM_ID), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("방 구독이 끊겼던 노드는 DB 대신 버스 로그에서 놓친 메시지를 따라잡는다")
+    void resubscribe_catchesUpFromLog() {
+        nodeA.broadcaster.subscribed("a-1", "sub-0", ROOM_TOPIC);
+        nodeB.broadcaster.subscribed("b-1", "sub-0", ROOM_TOPIC);
+        nodeB.history();
+
+        nodeB.broadcaster.unsubscribed("b-1", "sub-0");
+        nodeA.send(10L, "missed by B"); // B 는 받지 못함
+        assertEquals(List.of("missed by B"), nodeB.history());
+
+        nodeA.send(10L, "missed again");
+        nodeB.broadcaster.subscribed("b-2", "sub-0", ROOM_TOPIC);
+        assertEquals(List.of("missed again", "missed by B"), nodeB.history());
+
+        nodeA.send(10L, "live");
+        assertEquals(List.of("live", "missed again", "missed by B"), nodeB.history());
+
+        verify(nodeB.chatMessageRepository, times(1)).findRecentMessages(eq(ROOM_ID), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("소켓 구독 전에 REST 로 읽은 이력도 버퍼로 응답한다 (MySQL 은 처음 한 번만)")
+    void historyBeforeSubscribe_servedFromBuffer() {
+        nodeA.broadcaster.subscribed("a-1", "sub-0", ROOM_TOPIC);
+        assertEquals(List.of(), nodeB.history());
+
+        nodeA.send(10L, "first");
+        assertEquals(List.of("first"), nodeB.history());
+
+        nodeB.broadcaster.subscribed("b-1", "sub-0", ROOM_TOPIC);
+        nodeA.send(10L, "second");
+        assertEquals(List.of("second", "first"), nodeB.history());
+
+        verify(nodeB.chatMessageRepository, times(1)).findRecentMessages(eq(ROOM_ID), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("놓친 이벤트가 버스 로그 보관 범위를 벗어나면 DB 에서 다시 채운다")
+    void logOverflow_reloadsFromDatabase() {
+        startNodes(2);
+        nodeA.broadcaster.subscribed("a-1", "sub-0", ROOM_TOPIC);
+        nodeB.history();
+
+        for (int i = 0; i < 3; i++) nodeA.send(10L, "message " + i);
+        nodeB.history();
+
+        verify(nodeB.chatMessageRepository, times(2)).findRecentMessages(eq(ROOM_ID), any(Pageable.class));
+    }
+}
@@ -0,0 +1,131 @@
+package com.project.bearlink;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.bearlink.domain.room.repository.InMemoryRoomPresenceStore;
+import com.project.bearlink.domain.room.repository.RoomPresenceStore;
+import com.project.bearlink.domain.room.service.RoomPresenceService;
+import com.project.bearlink.domain.user.user.dto.UserSnapshot;
+import com.project.bearlink.domain.user.user.service.UserSnapshotCache;
+import com.project.bearlink.global.websocket.InMemoryRoomEventBus;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
+import com.project.bearlink.global.websocket.StompPrincipal;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 두 노드가 presence 저장소와 방 버스를 공유할 때 사용자 단위 입장/퇴장 변경분 검증
+public class RoomPresenceTest {
+
+    private static final String ROOM_1 = "/topic/room/1";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final RoomPresenceStore store = new InMemoryRoomPresenceStore();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    private class Node {
+        final List<Message<?>> delivered = Collections.synchronizedList(new ArrayList<>());
+        final RoomBroadcaster broadcaster;
+        final RoomPresenceService presence;
+
+        Node(InMemoryRoomEventBus.Hub hub) {
+            SimpMessagingTemplate template = new SimpMessagingTemplate((message, timeout) -> delivered.add(message));
+            broadcaster = new RoomBroadcaster(new InMemoryRoomEventBus(hub), template, objectMapper, List.of());
+
+            UserSnapshotCache users = mock(UserSnapshotCache.class);
+            when(users.get(anyLong())).thenAnswer(inv -> {
+                Long id = inv.getArgument(0);
+                return new UserSnapshot(id, "u" + id, "user" + id, null, null, null, null);
+            });
+            presence = new RoomPresenceService(store, broadcaster, null, users);
+            ReflectionTestUtils.setField(presence, "ttlSeconds", 30L);
+        }
+
+        void subscribe(String sessionId, Long userId) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSessionId(sessionId);
+            accessor.setSubscriptionId("sub-0");
+            accessor.setDestination(ROOM_1);
+            Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+            broadcaster.subscribed(sessionId, "sub-0", ROOM_1);
+            presence.onSubscribe(new SessionSubscribeEvent(this, message, new StompPrincipal(userId, "user" + userId)));
+        }
+
+        void disconnect(String sessionId) {
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.DISCONNECT);
+            accessor.setSessionId(sessionId);
+            Message<byte[]> message = MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+
+            presence.onDisconnect(new SessionDisconnectEvent(this, message, sessionId, CloseStatus.NORMAL));
+            broadcaster.disconnected(sessionId);
+        }
+
+        // PRESENCE 프레임을 "+id" / "-id" 로 요약
+        List<String> diffs() throws Exception {
+            List<String> result = new ArrayList<>();
+            synchronized (delivered) {
+                for (Message<?> message : delivered) {
+                    JsonNode frame = objectMapper.readTree((byte[]) message.getPayload());
+                    if (!"PRESENCE".equals(frame.get("type").asText())) continue;
+                    assertFalse(frame.has("seq"), "presence 는 순번을 쓰지 않는다");
+
+                    frame.get("joined").forEach(u -> result.add("+" + u.get("userId").asLong()));
+                    frame.get("left").forEach(u -> result.add("-" + u.get("userId").asLong()));
+                }
+            }
+            return result;
+        }
+    }
+
+    @BeforeEach
+    void setup() {
+        InMemoryRoomEventBus.Hub hub = new InMemoryRoomEventBus.Hub();
+        nodeA = new Node(hub);
+        nodeB = new Node(hub);
+    }
+
+    @Test
+    @DisplayName("여러 노드/세션에 걸쳐 사용자의 첫 입장과 마지막 퇴장만 알리고, 죽은 노드의 세션은 만료로 정리한다")
+    void presence_userLevelDiffs() throws Exception {
+        nodeA.subscribe("a-1", 1L);
+        nodeB.subscribe("b-1", 1L); // 같은 사용자의 다른 노드 세션 → 변경 없음
+        // B 는 이때 처음 방 버스를 구독하므로 +1 은 받지 못한다 → 클라이언트는 구독 후 presence API 로 전체 목록을 받는다
+        assertEquals(Set.of(1L), store.users(1L, System.currentTimeMillis()));
+        nodeB.subscribe("b-2", 2L);
+        nodeA.subscribe("a-3", 3L);
+
+        nodeA.disconnect("a-1");    // b-1 이 남아 있음 → 변경 없음
+        nodeB.disconnect("b-1");
+        assertEquals(Set.of(2L, 3L), store.users(1L, System.currentTimeMillis()));
+
+        // 노드 B 가 죽어 b-2 연장이 멈춤 → 만료 후 노드 A 의 refresh 가 퇴장을 알린다
+        store.refresh(1L, List.of(new RoomPresenceStore.PresenceSession(2L, "b-2")), System.currentTimeMillis() - 1);
+        nodeA.presence.refresh();
+
+        assertEquals(List.of("+1", "+2", "+3", "-1", "-2"), nodeA.diffs());
+        assertEquals(List.of("+2", "+3", "-1", "-2"), nodeB.diffs()); // 구독 이후 변경분만
+        assertEquals(Set.of(3L), store.users(1L, System.currentTimeMillis()));
+    }
+}
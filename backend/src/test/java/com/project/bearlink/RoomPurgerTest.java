@@ -0,0 +1,106 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.chat.entity.ChatMessage;
+import com.project.bearlink.domain.chat.entity.MessageType;
+import com.project.bearlink.domain.chat.repository.ChatMessageRepository;
+import com.project.bearlink.domain.room.entity.InvitationStatus;
+import com.project.bearlink.domain.room.entity.LinkRoom;
+import com.project.bearlink.domain.room.entity.RoomLink;
+import com.project.bearlink.domain.room.entity.RoomMember;
+import com.project.bearlink.domain.room.repository.LinkRoomRepository;
+import com.project.bearlink.domain.room.repository.RoomLinkRepository;
+import com.project.bearlink.domain.room.repository.RoomMemberRepository;
+import com.project.bearlink.domain.room.service.RoomPurger;
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// auto-commit=false 에서 삭제 표시된 방의 하위 행과 방 행이 chunk 단위로 실제로 지워지는지 검증
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:roompurger;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.auto-commit=false",
+        "custom.room.purge.chunkSize=2",
+        "custom.room.purge.intervalMillis=3600000"
+})
+@ActiveProfiles("test")
+class RoomPurgerTest {
+
+    @Autowired
+    private RoomPurger roomPurger;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private LinkRoomRepository linkRoomRepository;
+
+    @Autowired
+    private RoomMemberRepository roomMemberRepository;
+
+    @Autowired
+    private RoomLinkRepository roomLinkRepository;
+
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
+    @Test
+    @DisplayName("삭제 표시된 방은 하위 행까지 모두 지워지고, 다른 방은 그대로 남는다")
+    void purge_deletesTombstonedRoom() {
+        User owner = userRepository.save(User.builder()
+                .loginId("purger")
+                .password("test1234")
+                .nickname("purger")
+                .email("purger@test.com")
+                .role(UserRole.USER)
+                .build());
+        LinkRoom deleted = room(owner, 5);
+        LinkRoom kept = room(owner, 1);
+
+        assertEquals(1, linkRoomRepository.tombstone(deleted.getId(), LocalDateTime.now()));
+        roomPurger.purgeTombstoned();
+
+        // chunkSize(2) 보다 많은 행도 나눠서 모두 지운다
+        for (String table : new String[]{"room_link", "chat_message", "room_member"}) {
+            assertEquals(0, rows(table, "room_id", deleted.getId()), table);
+            assertEquals(1, rows(table, "room_id", kept.getId()), table);
+        }
+        assertEquals(0, rows("link_room", "id", deleted.getId()));
+        assertEquals(1, rows("link_room", "id", kept.getId()));
+    }
+
+    // 링크/채팅 count 개 + 멤버 한 명인 방
+    private LinkRoom room(User owner, int count) {
+        LinkRoom room = linkRoomRepository.save(LinkRoom.builder().name("room").owner(owner).build());
+        roomMemberRepository.save(RoomMember.builder()
+                .room(room)
+                .user(owner)
+                .status(InvitationStatus.ACCEPTED)
+                .build());
+        for (int i = 0; i < count; i++) {
+            roomLinkRepository.save(RoomLink.builder().title("link " + i).url("https://example.com/" + i)
+                    .room(room).creator(owner).build());
+            chatMessageRepository.save(ChatMessage.builder().room(room).sender(owner)
+                    .type(MessageType.TALK).content("message " + i).build());
+        }
+        return room;
+    }
+
+    // 별도 커넥션에서 센 커밋된 행 수
+    private int rows(String table, String column, Long id) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE " + column + " = ?",
+                Integer.class, id);
+    }
+}
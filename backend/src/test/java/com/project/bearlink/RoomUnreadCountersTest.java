@@ -0,0 +1,155 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.room.entity.InvitationStatus;
+import com.project.bearlink.domain.room.entity.LinkRoom;
+import com.project.bearlink.domain.room.entity.RoomMember;
+import com.project.bearlink.domain.room.repository.LinkRoomRepository;
+import com.project.bearlink.domain.room.repository.RoomMemberRepository;
+import com.project.bearlink.domain.room.service.RoomUnreadCounters;
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 안 읽은 수 증분과 읽음 처리가 엇갈려도 읽은 메시지가 다시 더해지지 않는지 검증 (auto-commit=false)
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:autocommitoff;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.hikari.auto-commit=false"
+})
+@ActiveProfiles("test")
+class RoomUnreadCountersTest {
+
+    @Autowired
+    private RoomUnreadCounters roomUnreadCounters;
+
+    @Autowired
+    private RoomMemberRepository roomMemberRepository;
+
+    @Autowired
+    private LinkRoomRepository linkRoomRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private User sender;
+    private User reader;
+    private User other;
+    private LinkRoom room;
+
+    @BeforeEach
+    void setup() {
+        sender = user();
+        reader = user();
+        other = user();
+        room = linkRoomRepository.save(LinkRoom.builder().name("room").owner(sender).build());
+        for (User member : new User[]{sender, reader, other}) {
+            roomMemberRepository.save(RoomMember.builder()
+                    .room(room)
+                    .user(member)
+                    .status(InvitationStatus.ACCEPTED)
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("읽음 처리 뒤에 반영되는 (flush 중이던/다른 노드의) 증분은 읽은 위치 이전 메시지를 더하지 않는다")
+    void flushAfterRead_doesNotResurrectReadMessages() {
+        for (long seq = 1; seq <= 3; seq++) roomUnreadCounters.increment(room.getId(), sender.getId(), seq);
+
+        markRead(reader, 3);
+        roomUnreadCounters.flush(); // 읽음 처리 전에 꺼내 두었던 증분이 늦게 커밋되는 경우와 같다
+
+        assertEquals(0, unread(reader));
+        assertEquals(3, unread(other));
+        assertEquals(0, unread(sender), "보낸 사람은 세지 않는다");
+
+        roomUnreadCounters.increment(room.getId(), sender.getId(), 4);
+        roomUnreadCounters.flush();
+        assertEquals(1, unread(reader));
+    }
+
+    @Test
+    @DisplayName("읽은 위치 이후 메시지가 이미 더해졌다면 읽음 처리 후에도 그만큼 남는다")
+    void read_keepsMessagesAfterReadPosition() {
+        // seq 2 는 다른 노드에서 아직 반영되지 않은 메시지
+        roomUnreadCounters.increment(room.getId(), sender.getId(), 1);
+        roomUnreadCounters.increment(room.getId(), sender.getId(), 3);
+        roomUnreadCounters.flush();
+        assertEquals(2, unread(reader));
+
+        markRead(reader, 2);
+        assertEquals(1, unread(reader)); // seq 3
+
+        roomUnreadCounters.increment(room.getId(), other.getId(), 2); // 다른 노드의 증분이 뒤늦게 도착
+        roomUnreadCounters.flush();
+        assertEquals(1, unread(reader));
+
+        markRead(reader, 1); // 뒤로 가는 읽음은 무시
+        assertEquals(1, unread(reader));
+    }
+
+    @Test
+    @DisplayName("flush 와 읽음 처리가 동시에 반복돼도 마지막 읽은 위치 이후 메시지 수와 같다")
+    void concurrentFlushAndRead_matchesReadPosition() throws Exception {
+        int messages = 2000;
+        AtomicLong published = new AtomicLong();
+
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (long seq = 1; seq <= messages; seq++) {
+                roomUnreadCounters.increment(room.getId(), sender.getId(), seq);
+                published.set(seq); // 순번 부여 후 증분 기록 (ChatService 와 같은 순서)
+                if (seq % 50 == 0) roomUnreadCounters.flush();
+            }
+        });
+
+        long lastRead = 0;
+        while (!writer.isDone()) {
+            lastRead = Math.max(lastRead, published.get());
+            markRead(reader, lastRead);
+            Thread.sleep(ThreadLocalRandom.current().nextInt(3));
+        }
+        writer.get(30, TimeUnit.SECONDS);
+        roomUnreadCounters.flush();
+
+        assertEquals(messages - lastRead, unread(reader));
+        assertEquals(messages, unread(other));
+    }
+
+    private void markRead(User user, long seq) {
+        assertEquals(1, roomMemberRepository.markRead(room.getId(), user.getId(), seq, LocalDateTime.now()));
+    }
+
+    // 별도 커넥션에서 읽은 커밋된 값
+    private int unread(User user) {
+        return jdbcTemplate.queryForObject("SELECT unread_count FROM room_member WHERE room_id = ? AND user_id = ?",
+                Integer.class, room.getId(), user.getId());
+    }
+
+    private User user() {
+        String loginId = "unread" + System.nanoTime();
+        return userRepository.save(User.builder()
+                .loginId(loginId)
+                .password("test1234")
+                .nickname(loginId)
+                .email(loginId + "@test.com")
+                .role(UserRole.USER)
+                .build());
+    }
+}
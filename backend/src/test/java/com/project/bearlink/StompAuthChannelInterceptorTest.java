@@ -0,0 +1,142 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.room.repository.RoomMemberRepository;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.service.AuthTokenService;
+import com.project.bearlink.global.security.auth.SecurityUser;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
+import com.project.bearlink.global.websocket.StompAuthChannelInterceptor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+// STOMP 목적지 허용 목록과 방 멤버 재확인 규칙
+@ExtendWith(MockitoExtension.class)
+public class StompAuthChannelInterceptorTest {
+
+    private static final long USER_ID = 1L;
+    private static final long ROOM_ID = 10L;
+
+    @Mock
+    private AuthTokenService authTokenService;
+
+    @Mock
+    private RoomMemberRepository roomMemberRepository;
+
+    @Mock
+    private ObjectProvider<RoomBroadcaster> roomBroadcasterProvider;
+
+    @Mock
+    private RoomBroadcaster roomBroadcaster;
+
+    private StompAuthChannelInterceptor interceptor;
+    private Map<String, Object> session;
+
+    @BeforeEach
+    void setup() {
+        interceptor = new StompAuthChannelInterceptor(authTokenService, roomMemberRepository, roomBroadcasterProvider);
+        ReflectionTestUtils.setField(interceptor, "maxSubscribersPerRoom", 500);
+        ReflectionTestUtils.setField(interceptor, "roomAuthTtlSeconds", 30L);
+
+        when(authTokenService.authenticate("token"))
+                .thenReturn(SecurityUser.of(USER_ID, "user@test.com", "user", UserRole.USER));
+        when(roomMemberRepository.findAcceptedRoomIdsByUserId(USER_ID)).thenReturn(List.of(ROOM_ID));
+
+        session = new HashMap<>();
+        interceptor.preSend(message(StompCommand.CONNECT, null), null);
+    }
+
+    @Test
+    @DisplayName("와일드카드, 방이 아닌 topic, 잘못된 방 id 구독은 거부한다")
+    void subscribe_deniesDestinationsOutsideAllowList() {
+        for (String destination : new String[]{"/topic/**", "/topic/room/*", "/topic/room/{id}", "/topic/room/**",
+                "/topic/other", "/topic/room/10/x", "/topic/room/abc", "/queue/x", "/topic/room/",
+                "/user/queue/*", "/user/1/queue/errors", "/queue/errors-usersession-2"}) {
+            assertThrows(AccessDeniedException.class,
+                    () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, destination), null), destination);
+        }
+        verifyNoInteractions(roomBroadcasterProvider);
+    }
+
+    @Test
+    @DisplayName("자기 세션 오류 목적지는 인증된 세션이면 구독할 수 있다")
+    void subscribe_allowsOwnErrorQueue() {
+        interceptor.preSend(message(StompCommand.SUBSCRIBE, "/user/queue/errors"), null);
+
+        session.clear(); // 인증 전 세션
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/user/queue/errors"), null));
+    }
+
+    @Test
+    @DisplayName("방 topic 구독은 매번 DB 로 멤버 여부를 확인한다 (연결 후 삭제된 방은 다시 구독할 수 없다)")
+    void subscribe_rechecksMembership() {
+        when(roomBroadcasterProvider.getObject()).thenReturn(roomBroadcaster);
+        when(roomMemberRepository.existsAcceptedMember(ROOM_ID, USER_ID)).thenReturn(true, false);
+
+        interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/room/" + ROOM_ID), null);
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(message(StompCommand.SUBSCRIBE, "/topic/room/" + ROOM_ID), null));
+    }
+
+    @Test
+    @DisplayName("SEND 는 /app/room/{id} 만 허용한다 (broker topic 으로 직접 보내기 거부)")
+    void send_deniesDestinationsOutsideAllowList() {
+        for (String destination : new String[]{"/topic/room/" + ROOM_ID, "/app/room/*", "/app/other", "/user/x"}) {
+            assertThrows(AccessDeniedException.class,
+                    () -> interceptor.preSend(message(StompCommand.SEND, destination), null), destination);
+        }
+    }
+
+    @Test
+    @DisplayName("SEND 는 세션 방 목록을 쓰고, 만료된 항목은 DB 로 다시 확인해 빠진 방을 거부한다")
+    void send_rechecksAfterTtl() {
+        interceptor.preSend(message(StompCommand.SEND, "/app/room/" + ROOM_ID), null);
+        verify(roomMemberRepository, never()).existsAcceptedMember(anyLong(), anyLong());
+
+        // 확인 주기 0 으로 다시 연결 → 세션 방 목록이 바로 만료된다
+        ReflectionTestUtils.setField(interceptor, "roomAuthTtlSeconds", 0L);
+        interceptor.preSend(message(StompCommand.CONNECT, null), null);
+
+        when(roomMemberRepository.existsAcceptedMember(ROOM_ID, USER_ID)).thenReturn(false);
+        assertThrows(AccessDeniedException.class,
+                () -> interceptor.preSend(message(StompCommand.SEND, "/app/room/" + ROOM_ID), null));
+    }
+
+    @Test
+    @DisplayName("연결 후 수락한 방은 DB 확인을 거쳐 SEND 할 수 있다")
+    void send_allowsRoomJoinedAfterConnect() {
+        when(roomMemberRepository.existsAcceptedMember(20L, USER_ID)).thenReturn(true);
+
+        interceptor.preSend(message(StompCommand.SEND, "/app/room/20"), null);
+        interceptor.preSend(message(StompCommand.SEND, "/app/room/20"), null);
+        verify(roomMemberRepository, times(1)).existsAcceptedMember(20L, USER_ID);
+    }
+
+    private Message<byte[]> message(StompCommand command, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId("session-1");
+        accessor.setSessionAttributes(session);
+        if (destination != null) accessor.setDestination(destination);
+        if (command == StompCommand.CONNECT) accessor.setNativeHeader("Authorization", "Bearer token");
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
@@ -0,0 +1,149 @@
+package com.project.bearlink;
+
+import com.project.bearlink.global.websocket.SessionOutboundExecutor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHandler;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.messaging.support.MessageHandlingRunnable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 느린 클라이언트가 섞여 있어도 정상 세션의 전송 지연이 낮게 유지되는지 확인하는 부하 테스트
+// 소켓 쓰기를 흉내 내는 작업: 정상 세션 50µs, 느린 세션 20ms
+public class StompSlowConsumerTest {
+
+    private static final int HEALTHY = 20;
+    private static final int SLOW = 4;
+    private static final int BROADCASTS = 300;
+
+    private final ExecutorService backing = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        backing.shutdownNow();
+    }
+
+    // clientOutboundChannel 이 executor 에 넘기는 작업과 같은 형태
+    private record SendTask(Message<?> message, Runnable write) implements MessageHandlingRunnable {
+        @Override
+        public Message<?> getMessage() {
+            return message;
+        }
+
+        @Override
+        public MessageHandler getMessageHandler() {
+            return msg -> write.run();
+        }
+
+        @Override
+        public void run() {
+            write.run();
+        }
+    }
+
+    @Test
+    @DisplayName("느린 세션은 큐 상한을 넘으면 끊기고, 정상 세션은 순서대로 낮은 지연으로 받는다")
+    void slowConsumers_doNotDelayHealthySessions() throws Exception {
+        Set<String> evicted = ConcurrentHashMap.newKeySet();
+        SessionOutboundExecutor executor = new SessionOutboundExecutor(backing, 50, 8, evicted::add,
+                new SimpleMeterRegistry());
+
+        Map<String, List<Integer>> received = new ConcurrentHashMap<>();
+        List<Long> healthyLatencies = Collections.synchronizedList(new ArrayList<>());
+
+        List<String> sessions = new ArrayList<>();
+        for (int i = 0; i < HEALTHY; i++) sessions.add("healthy-" + i);
+        for (int i = 0; i < SLOW; i++) sessions.add("slow-" + i);
+        sessions.forEach(id -> received.put(id, Collections.synchronizedList(new ArrayList<>())));
+
+        // 방 브로드캐스트 하나 = 구독 세션마다 전송 작업 하나, 1ms 간격
+        for (int n = 0; n < BROADCASTS; n++) {
+            int seq = n;
+            for (String sessionId : sessions) {
+                boolean slow = sessionId.startsWith("slow");
+                long enqueuedAt = System.nanoTime();
+                executor.execute(new SendTask(messageFor(sessionId), () -> {
+                    if (!slow) healthyLatencies.add(System.nanoTime() - enqueuedAt);
+                    LockSupport.parkNanos(slow ? TimeUnit.MILLISECONDS.toNanos(20) : TimeUnit.MICROSECONDS.toNanos(50));
+                    received.get(sessionId).add(seq);
+                }));
+            }
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        // 정상 세션이 모두 받을 때까지 대기
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline
+                && sessions.stream().filter(id -> id.startsWith("healthy")).anyMatch(id -> received.get(id).size() < BROADCASTS)) {
+            Thread.sleep(10);
+        }
+
+        // 느린 세션은 모두 끊김
+        for (int i = 0; i < SLOW; i++) {
+            assertTrue(evicted.contains("slow-" + i), "느린 세션이 끊기지 않음: slow-" + i);
+            assertTrue(received.get("slow-" + i).size() < BROADCASTS);
+            assertTrue(executor.highWaterMarks().get("slow-" + i) >= 25, "느린 세션의 최고 큐 길이가 기록되지 않음");
+        }
+
+        // 정상 세션은 빠짐없이 순서대로 받음
+        List<Integer> expected = new ArrayList<>();
+        for (int n = 0; n < BROADCASTS; n++) expected.add(n);
+        for (int i = 0; i < HEALTHY; i++) {
+            assertFalse(evicted.contains("healthy-" + i));
+            assertEquals(expected, received.get("healthy-" + i));
+        }
+
+        // 정상 세션 p99 지연이 느린 세션의 한 번 쓰기 시간(20ms)보다 충분히 낮음
+        List<Long> sorted = new ArrayList<>(healthyLatencies);
+        Collections.sort(sorted);
+        long p99Millis = TimeUnit.NANOSECONDS.toMillis(sorted.get((int) (sorted.size() * 0.99)));
+        assertTrue(p99Millis < 20, "정상 세션 p99 지연이 너무 큼: " + p99Millis + "ms");
+    }
+
+    @Test
+    @DisplayName("세션별 큐 길이는 긴 순서로 상위 N 개와 순위 태그 게이지로만 노출한다")
+    void topQueues_areBounded() {
+        List<Runnable> parked = new ArrayList<>(); // backing 에 넘어간 작업을 실행하지 않아 큐가 그대로 쌓임
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SessionOutboundExecutor executor = new SessionOutboundExecutor(parked::add, 50, 8, id -> {}, meterRegistry);
+
+        for (int i = 0; i < 10; i++) {
+            for (int n = 0; n <= i * 3; n++) {
+                executor.execute(new SendTask(messageFor("s-" + i), () -> {}));
+            }
+        }
+
+        List<SessionOutboundExecutor.SessionDepth> top = executor.topQueues(3);
+        assertEquals(List.of("s-9", "s-8", "s-7"), top.stream().map(SessionOutboundExecutor.SessionDepth::sessionId).toList());
+        assertEquals(List.of(28, 25, 22), top.stream().map(SessionOutboundExecutor.SessionDepth::depth).toList());
+
+        assertEquals(28, meterRegistry.get("stomp.session.queue.top").tag("rank", "1").gauge().value());
+        assertEquals(16, meterRegistry.get("stomp.session.queue.top").tag("rank", "5").gauge().value());
+        assertEquals(5, meterRegistry.get("stomp.session.queue.top").gauges().size());
+
+        // maxQueue 절반(25) 이상 쌓인 세션만 최고 길이를 기록
+        assertEquals(Map.of("s-9", 28, "s-8", 25), executor.highWaterMarks());
+    }
+
+    private static Message<?> messageFor(String sessionId) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create();
+        accessor.setSessionId(sessionId);
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
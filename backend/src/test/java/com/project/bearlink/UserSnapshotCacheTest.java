@@ -0,0 +1,86 @@
+package com.project.bearlink;
+
+import com.project.bearlink.domain.category.repository.CategoryRepository;
+import com.project.bearlink.domain.category.service.CategoryService;
+import com.project.bearlink.domain.friend.repository.FriendRequestRepository;
+import com.project.bearlink.domain.friend.service.FriendGraphCache;
+import com.project.bearlink.domain.link.repository.LinkRepository;
+import com.project.bearlink.domain.room.repository.LinkRoomRepository;
+import com.project.bearlink.domain.room.repository.RoomLinkRepository;
+import com.project.bearlink.domain.room.repository.RoomMemberRepository;
+import com.project.bearlink.domain.room.service.RoomService;
+import com.project.bearlink.domain.user.user.entity.User;
+import com.project.bearlink.domain.user.user.entity.UserRole;
+import com.project.bearlink.domain.user.user.event.UserChangedEvent;
+import com.project.bearlink.domain.user.user.repository.UserRepository;
+import com.project.bearlink.domain.user.user.service.UserSnapshotCache;
+import com.project.bearlink.global.exception.ApiException;
+import com.project.bearlink.global.exception.ErrorCode;
+import com.project.bearlink.global.websocket.RoomBroadcaster;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+// 사용자 스냅샷 캐시와, 사용자 엔티티를 읽지 않는 쓰기 경로의 USER_NOT_FOUND 처리 검증
+public class UserSnapshotCacheTest {
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final UserSnapshotCache cache = new UserSnapshotCache(userRepository, 100, 300, new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("한 번 읽은 사용자는 캐시에서 주고, 변경 이벤트가 오면 다시 읽는다")
+    void snapshot_cachedUntilChanged() {
+        User user = user(1L, "before");
+        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
+
+        assertEquals("before", cache.get(1L).nickname());
+        when(user.getNickname()).thenReturn("after");
+        assertEquals("before", cache.get(1L).nickname());
+        verify(userRepository, times(1)).findById(1L);
+
+        cache.onUserChanged(new UserChangedEvent(1L));
+        assertEquals("after", cache.get(1L).nickname());
+        verify(userRepository, times(2)).findById(1L);
+    }
+
+    @Test
+    @DisplayName("없는 사용자는 USER_NOT_FOUND")
+    void snapshot_missingUser() {
+        when(userRepository.findById(99L)).thenReturn(Optional.empty());
+
+        ApiException e = assertThrows(ApiException.class, () -> cache.get(99L));
+        assertEquals(ErrorCode.USER_NOT_FOUND, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("FK 프록시만 쓰는 쓰기 경로도 없는 사용자면 500 이 아닌 USER_NOT_FOUND")
+    void writePaths_missingUser() {
+        when(userRepository.existsById(99L)).thenReturn(false);
+
+        CategoryService categoryService = new CategoryService(mock(CategoryRepository.class), userRepository,
+                mock(LinkRepository.class));
+        RoomService roomService = new RoomService(userRepository, mock(LinkRoomRepository.class),
+                mock(RoomMemberRepository.class), mock(RoomLinkRepository.class), mock(FriendRequestRepository.class),
+                mock(RoomBroadcaster.class), mock(FriendGraphCache.class));
+
+        assertEquals(ErrorCode.USER_NOT_FOUND,
+                assertThrows(ApiException.class, () -> categoryService.createCategory(null, 99L)).getErrorCode());
+        assertEquals(ErrorCode.USER_NOT_FOUND,
+                assertThrows(ApiException.class, () -> roomService.createRoom(null, 99L)).getErrorCode());
+        verify(userRepository, never()).getReferenceById(any());
+    }
+
+    private static User user(Long id, String nickname) {
+        User user = mock(User.class);
+        when(user.getId()).thenReturn(id);
+        when(user.getNickname()).thenReturn(nickname);
+        when(user.getRole()).thenReturn(UserRole.USER);
+        return user;
+    }
+}
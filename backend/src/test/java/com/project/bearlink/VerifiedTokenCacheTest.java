@@ -0,0 +1,65 @@
+package com.project.bearlink;
+
+import com.project.bearlink.global.security.jwt.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 검증된 토큰은 다시 검증하지 않고, 실패/만료/무효화된 토큰은 캐시하지 않는지 검증
+public class VerifiedTokenCacheTest {
+
+    private final VerifiedTokenCache cache = new VerifiedTokenCache(100, new SimpleMeterRegistry());
+    private final AtomicInteger verifications = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 토큰은 한 번만 검증하고, invalidate 후에는 다시 검증한다")
+    void verifiedToken_isCached() {
+        Supplier<Map<String, Object>> verifier = counting(Map.of("userId", 1L, "exp", secondsFromNow(60)));
+
+        assertEquals(1L, cache.get("token-a", verifier).get("userId"));
+        assertEquals(1L, cache.get("token-a", verifier).get("userId"));
+        assertEquals(1, verifications.get());
+
+        cache.invalidate("token-a");
+        cache.get("token-a", verifier);
+        assertEquals(2, verifications.get());
+    }
+
+    @Test
+    @DisplayName("검증 실패, exp 없음, 이미 만료된 토큰은 캐시하지 않는다")
+    void invalidOrExpiredToken_isNotCached() {
+        Supplier<Map<String, Object>> failing = counting(null);
+        assertNull(cache.get("bad", failing));
+        assertNull(cache.get("bad", failing));
+
+        Supplier<Map<String, Object>> noExp = counting(Map.of("userId", 1L));
+        cache.get("no-exp", noExp);
+        cache.get("no-exp", noExp);
+
+        Supplier<Map<String, Object>> expired = counting(Map.of("userId", 1L, "exp", new Date(System.currentTimeMillis() - 1000)));
+        cache.get("expired", expired);
+        cache.get("expired", expired);
+
+        assertEquals(6, verifications.get());
+        assertNull(cache.get(" ", counting(Map.of())));
+        assertEquals(6, verifications.get(), "빈 토큰은 검증하지 않는다");
+    }
+
+    private Supplier<Map<String, Object>> counting(Map<String, Object> claims) {
+        return () -> {
+            verifications.incrementAndGet();
+            return claims;
+        };
+    }
+
+    private static long secondsFromNow(long seconds) {
+        return System.currentTimeMillis() / 1000 + seconds;
+    }
+}
@@ -572,6 +572,11 @@ export default function Sidebar() {
                                 }`}
                               />
                               <span className="truncate">{room.name}</span>
+                              {!!room.unreadCount && !isSelected && (
+                                <span className="ml-auto flex-shrink-0 rounded-full bg-amber-500 px-1.5 text-xs text-white">
+                                  {room.unreadCount > 99 ? "99+" : room.unreadCount}
+                                </span>
+                              )}
                             </Link>
 
                             <button
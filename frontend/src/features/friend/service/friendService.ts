@@ -5,6 +5,7 @@ import {
   Friend,
   FriendRequest,
   FindFriendDto,
+  RecommendedFriendDto,
 } from "../types/friend";
 
 class FriendService {
@@ -54,6 +55,16 @@ class FriendService {
     }
   }
 
+  // 친구 추천 (함께 아는 친구가 많은 순)
+  async getRecommendations(): Promise<RecommendedFriendDto[]> {
+    const response = await api.get("/api/v1/friend/recommendations");
+    const apiResponse = response as ApiResponse<RecommendedFriendDto[]>;
+    if (!apiResponse.success) {
+      throw new Error(apiResponse.message);
+    }
+    return Array.isArray(apiResponse.data) ? apiResponse.data : [];
+  }
+
   // 받은 친구 신청 목록 조회
   async getFriendRequests(): Promise<FriendResponseDto[]> {
     try {
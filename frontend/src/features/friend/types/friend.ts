@@ -5,6 +5,14 @@ export interface FriendResponseDto {
   imageUrl: string;
 }
 
+// 백엔드 RecommendedFriendDto에 대응하는 인터페이스 (mutualCount: 함께 아는 친구 수)
+export interface RecommendedFriendDto {
+  id: number;
+  nickname: string;
+  imageUrl: string;
+  mutualCount: number;
+}
+
 // 백엔드 FriendRequestDto에 대응하는 인터페이스
 export interface FriendRequestDto {
   receiverId: number; // 친구 신청 대상자 ID
@@ -46,13 +46,20 @@ export const FloatingChat: React.FC<FloatingChatProps> = ({
     if (!isOpen) return;
 
     let mounted = true;
-    getChatHistory(roomId).then((msgs) => {
-      if (mounted) setMessages(msgs.reverse());
-    });
+    const loadHistory = () =>
+      getChatHistory(roomId).then((msgs) => {
+        if (mounted) setMessages(msgs.reverse());
+      });
+    loadHistory();
 
-    connectToRoom(roomId, (msg) => {
-      setMessages((prev) => [...prev, msg]);
-    });
+    // 재연결 시 놓친 이벤트를 복구할 수 없으면 이력을 다시 받는다
+    connectToRoom(
+      roomId,
+      (msg) => {
+        setMessages((prev) => [...prev, msg]);
+      },
+      loadHistory
+    );
 
     return () => {
       mounted = false;
@@ -25,12 +25,20 @@ export const RoomChat: React.FC<RoomChatProps> = ({
   // 메시지 불러오기 및 실시간 구독
   useEffect(() => {
     let mounted = true;
-    getChatHistory(roomId).then((msgs) => {
-      if (mounted) setMessages(msgs.reverse());
-    });
-    connectToRoom(roomId, (msg) => {
-      setMessages((prev) => [...prev, msg]);
-    });
+    const loadHistory = () =>
+      getChatHistory(roomId).then((msgs) => {
+        if (mounted) setMessages(msgs.reverse());
+      });
+    loadHistory();
+
+    // 재연결 시 놓친 이벤트를 복구할 수 없으면 이력을 다시 받는다
+    connectToRoom(
+      roomId,
+      (msg) => {
+        setMessages((prev) => [...prev, msg]);
+      },
+      loadHistory
+    );
     return () => {
       mounted = false;
       disconnectRoom();
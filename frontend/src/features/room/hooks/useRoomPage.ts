@@ -16,34 +16,87 @@ import {
   RoomLinkListDto,
   InviteFriendWithStatusResponse,
   InvitationResponse,
+  PresenceUser,
+  RoomMessageDto,
 } from "@/features/room/type/room";
 
+// 링크 이벤트 하나를 목록에 반영 (LINK_BATCH 는 안에 든 이벤트를 순서대로 반영)
+const applyLinkEvent = (
+  links: RoomLinkListDto[],
+  msg: RoomMessageDto
+): RoomLinkListDto[] => {
+  if (msg.type === "LINK_BATCH") {
+    return (msg.events ?? []).reduce(applyLinkEvent, links);
+  }
+
+  const id = Number(msg.content);
+  switch (msg.type) {
+    case "LINK_ADD":
+      return [
+        ...links.filter((link) => link.id !== id),
+        { id, title: msg.linkTitle ?? "", url: msg.linkUrl ?? "" },
+      ];
+    case "LINK_UPDATE":
+      return links.map((link) =>
+        link.id === id
+          ? {
+              ...link,
+              title: msg.linkTitle ?? link.title,
+              url: msg.linkUrl ?? link.url,
+            }
+          : link
+      );
+    case "LINK_DELETE":
+      return links.filter((link) => link.id !== id);
+    default:
+      return links;
+  }
+};
+
 interface UseRoomPageProps {
   roomId: number;
   userId?: number;
 }
 
 export const useRoomPage = ({ roomId, userId }: UseRoomPageProps) => {
-  // 실시간 링크 동기화: 웹소켓 메시지 수신 시 목록 새로고침
+  // 실시간 링크 동기화: 웹소켓 링크 이벤트는 목록에 바로 반영하고, 복구할 수 없을 때만 전체 재조회
   // 반드시 useRoomPage 함수 내부에서 선언되어야 roomId, userId, setLinks 접근 가능
   // (이 코드는 useRoomPage 함수 본문 안에 위치해야 함)
   useEffect(() => {
     if (!roomId || !userId) return;
     let mounted = true;
-    connectToRoom(roomId, async (msg) => {
-      if (["LINK_ADD", "LINK_UPDATE", "LINK_DELETE"].includes(msg.type)) {
-        const linksList = await getLinks(roomId);
-        const mappedLinks = linksList.map((link) => ({
-          id: link.id, // id는 백엔드에서 제공하는 id 사용
-          title: link.title,
-          url: link.url,
-          thumbnailImageUrl: link.thumbnailImageUrl ?? undefined,
-        }));
-        if (mounted) {
-          setLinks(mappedLinks);
+    const refreshLinks = async () => {
+      const linksList = await getLinks(roomId);
+      const mappedLinks = linksList.map((link) => ({
+        id: link.id, // id는 백엔드에서 제공하는 id 사용
+        title: link.title,
+        url: link.url,
+        thumbnailImageUrl: link.thumbnailImageUrl ?? undefined,
+      }));
+      if (mounted) {
+        setLinks(mappedLinks);
+      }
+    };
+    connectToRoom(
+      roomId,
+      (msg) => {
+        if (
+          mounted &&
+          ["LINK_ADD", "LINK_UPDATE", "LINK_DELETE", "LINK_BATCH"].includes(
+            msg.type
+          )
+        ) {
+          setLinks((prev) => applyLinkEvent(prev, msg));
         }
+      },
+      // 놓친 이벤트를 복구할 수 없으면 전체 재조회
+      () => {
+        refreshLinks();
+      },
+      (users) => {
+        if (mounted) setOnlineUsers(users);
       }
-    });
+    );
     return () => {
       mounted = false;
       disconnectRoom();
@@ -57,6 +110,7 @@ export const useRoomPage = ({ roomId, userId }: UseRoomPageProps) => {
   const [error, setError] = useState<string | null>(null);
   const [members, setMembers] = useState<RoomMember[]>([]);
   const [links, setLinks] = useState<RoomLinkListDto[]>([]);
+  const [onlineUsers, setOnlineUsers] = useState<PresenceUser[]>([]);
   const [loadingLinks, setLoadingLinks] = useState(false);
   const [invitableFriends, setInvitableFriends] = useState<
     InviteFriendWithStatusResponse[]
@@ -214,6 +268,12 @@ export const useRoomPage = ({ roomId, userId }: UseRoomPageProps) => {
     }
   }, [room, roomName, userId]);
 
+  // 방에 들어오면 읽음 처리 (방 목록의 안 읽은 수 초기화)
+  useEffect(() => {
+    if (!roomId || !userId) return;
+    roomService.markRead(roomId).catch(() => {});
+  }, [roomId, userId]);
+
   // 초기 로드
   useEffect(() => {
     loadRoom();
@@ -268,6 +328,7 @@ export const useRoomPage = ({ roomId, userId }: UseRoomPageProps) => {
     error,
     members,
     links,
+    onlineUsers,
     loadingLinks,
     invitableFriends,
     loadingFriends,
@@ -26,7 +26,15 @@ export async function getLinks(
 import SockJS from "sockjs-client";
 import { Client } from "@stomp/stompjs";
 import axios from "axios";
-import { RoomLinkDto, RoomMessageDto } from "../type/room";
+import {
+  ChatHistoryPage,
+  PresenceUser,
+  RoomEventReplay,
+  RoomLinkDto,
+  RoomMessageDto,
+  RoomPresence,
+  RoomPresenceDiff,
+} from "../type/room";
 
 const SOCKET_URL = `${process.env.NEXT_PUBLIC_API_URL}/ws`;
 const BASE_URL = `${process.env.NEXT_PUBLIC_API_URL}/api/rooms`;
@@ -35,23 +43,96 @@ let stompClient: Client | null = null;
 
 /**
  * WebSocket 연결 및 구독
+ * 재연결 시에는 마지막으로 받은 seq 이후 이벤트만 REST 로 받아 이어 붙인다.
+ * 서버 보관 범위를 벗어나면 onResync 로 전체 재조회를 요청한다.
+ * PRESENCE 프레임은 onMessage 로 보내지 않고, 접속자 목록으로 합쳐 onPresence 로 전달한다.
  * @param roomId 채팅방 ID
  * @param onMessage 수신 메시지 처리 콜백
+ * @param onResync 놓친 이벤트를 복구할 수 없을 때 호출 (링크 목록/채팅 이력 재조회)
+ * @param onPresence 접속자 목록이 바뀔 때 호출 (연결마다 전체 목록을 다시 받음)
  */
 export function connectToRoom(
   roomId: number,
-  onMessage: (msg: RoomMessageDto) => void
+  onMessage: (msg: RoomMessageDto) => void,
+  onResync?: () => void,
+  onPresence?: (users: PresenceUser[]) => void
 ) {
-  const socket = new SockJS(SOCKET_URL);
+  let lastSeq = 0; // 마지막으로 처리한 방 이벤트 순번
+  let connectedOnce = false;
+  let online = new Map<number, PresenceUser>();
+
+  const applyPresence = (diff: RoomPresenceDiff) => {
+    diff.joined.forEach((u) => online.set(u.userId, u));
+    diff.left.forEach((u) => online.delete(u.userId));
+    onPresence?.(Array.from(online.values()));
+  };
+
+  // 순번 기준 중복 제거 (replay 와 실시간 수신이 겹칠 수 있음)
+  const deliver = (msg: RoomMessageDto) => {
+    if (msg.seq != null) {
+      if (msg.seq <= lastSeq) return;
+      lastSeq = msg.seq;
+    }
+    onMessage(msg);
+  };
 
   stompClient = new Client({
-    webSocketFactory: () => socket,
+    webSocketFactory: () => new SockJS(SOCKET_URL),
     reconnectDelay: 5000, // 자동 재연결
+    // 서버가 heartbeat 로 끊긴 연결을 감지해 접속자 목록에서 뺀다
+    heartbeatIncoming: 10000,
+    heartbeatOutgoing: 10000,
     onConnect: () => {
+      const recovering = connectedOnce && lastSeq > 0;
+      connectedOnce = true;
+
+      // 복구가 끝날 때까지 실시간 메시지는 잠시 모아 둔다
+      const pending: RoomMessageDto[] = [];
+      let replaying = recovering;
+
+      // 보낸 메시지를 서버가 처리하지 못하면 이 세션으로만 알려준다
+      stompClient?.subscribe("/user/queue/errors", (message) => {
+        const error = JSON.parse(message.body);
+        console.error("Room message error:", error.message);
+      });
+
       stompClient?.subscribe(`/topic/room/${roomId}`, (message) => {
-        const msg: RoomMessageDto = JSON.parse(message.body);
-        onMessage(msg);
+        const frame = JSON.parse(message.body);
+        if (frame.type === "PRESENCE") {
+          applyPresence(frame as RoomPresenceDiff);
+          return;
+        }
+        const msg = frame as RoomMessageDto;
+        if (replaying) pending.push(msg);
+        else deliver(msg);
       });
+
+      // 변경분은 복구하지 않으므로 연결마다 현재 접속자를 다시 받는다
+      if (onPresence) {
+        getRoomPresence(roomId)
+          .then((presence) => {
+            online = new Map(presence.users.map((u) => [u.userId, u]));
+            onPresence(presence.users);
+          })
+          .catch(() => {});
+      }
+
+      if (!recovering) return;
+
+      getRoomEvents(roomId, lastSeq)
+        .then((replay) => {
+          if (replay.resync) {
+            lastSeq = replay.latestSeq;
+            onResync?.();
+          } else {
+            replay.events.forEach(deliver);
+          }
+        })
+        .catch(() => onResync?.())
+        .finally(() => {
+          replaying = false;
+          pending.forEach(deliver);
+        });
     },
     onDisconnect: () => {},
     onStompError: (frame) => {
@@ -90,21 +171,64 @@ export function sendRoomMessage(roomId: number, message: RoomMessageDto) {
 /**
  * 채팅 이력 조회 (REST)
  * @param roomId 채팅방 ID
+ * @returns 최신 → 오래된 순 메시지 목록 (첫 페이지)
  */
 export async function getChatHistory(
   roomId: number
 ): Promise<RoomMessageDto[]> {
+  const page = await getChatHistoryPage(roomId);
+  return page.messages;
+}
+
+/**
+ * 재연결 시 놓친 방 이벤트 조회 (REST)
+ * @param roomId 채팅방 ID
+ * @param afterSeq 마지막으로 받은 이벤트 순번
+ */
+export async function getRoomEvents(
+  roomId: number,
+  afterSeq: number
+): Promise<RoomEventReplay> {
+  const res = await axios.get(`${BASE_URL}/${roomId}/events`, {
+    params: { afterSeq },
+    withCredentials: true,
+  });
+
+  const apiResponse = res.data as ApiResponse<RoomEventReplay>;
+  if (!apiResponse.success) {
+    throw new Error(apiResponse.message);
+  }
+  return apiResponse.data;
+}
+
+/**
+ * 채팅 이력 페이지 조회 (REST)
+ * @param roomId 채팅방 ID
+ * @param cursor 이전 응답의 nextCursor (없으면 최신 페이지)
+ * @param size 페이지 크기 (서버 상한 적용)
+ */
+export async function getChatHistoryPage(
+  roomId: number,
+  cursor?: string | null,
+  size?: number
+): Promise<ChatHistoryPage> {
   const res = await axios.get(`${BASE_URL}/${roomId}/messages`, {
+    params: { cursor: cursor ?? undefined, size },
     withCredentials: true,
   });
 
   // ApiResponse 형태인지 확인하고 처리
   if (res.data && res.data.success !== undefined) {
-    const apiResponse = res.data as ApiResponse<RoomMessageDto[]>;
+    const apiResponse = res.data as ApiResponse<ChatHistoryPage>;
     if (!apiResponse.success) {
       throw new Error(apiResponse.message);
     }
-    return Array.isArray(apiResponse.data) ? apiResponse.data : [];
+    return {
+      messages: Array.isArray(apiResponse.data?.messages)
+        ? apiResponse.data.messages
+        : [],
+      nextCursor: apiResponse.data?.nextCursor ?? null,
+    };
   }
 
   return res.data;
@@ -186,3 +310,19 @@ export async function deleteLink(
 
   return "링크가 삭제되었습니다.";
 }
+
+/**
+ * 현재 방 접속자 조회 (REST)
+ * @param roomId 채팅방 ID
+ */
+export async function getRoomPresence(roomId: number): Promise<RoomPresence> {
+  const res = await axios.get(`${BASE_URL}/${roomId}/presence`, {
+    withCredentials: true,
+  });
+
+  const apiResponse = res.data as ApiResponse<RoomPresence>;
+  if (!apiResponse.success) {
+    throw new Error(apiResponse.message);
+  }
+  return apiResponse.data;
+}
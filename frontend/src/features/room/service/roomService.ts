@@ -183,6 +183,23 @@ export const roomService = {
     }
   },
 
+  /**
+   * 링크룸 읽음 처리 (안 읽은 수 초기화)
+   * 서버 엔드포인트: POST /api/v1/room/{roomId}/read
+   *
+   * @param roomId 읽음 처리할 방 ID
+   */
+  async markRead(roomId: number): Promise<void> {
+    const response = await api.post(`/api/v1/room/${roomId}/read`);
+
+    if (response && response.success !== undefined) {
+      const apiResponse = response as ApiResponse<void>;
+      if (!apiResponse.success) {
+        throw new Error(apiResponse.message);
+      }
+    }
+  },
+
   /**
    * 링크룸 초대 거절
    * 서버 엔드포인트: POST /api/v1/room/invitations/{roomMemberId}/decline
@@ -21,10 +21,37 @@ export interface RoomMessageDto {
   linkTitle?: string;
   linkUrl?: string;
   linkThumbnail?: string;
+  // 채팅 이력 커서용 (저장 전 메시지는 id 가 없을 수 있음)
+  id?: number | null;
+  createdAt?: string;
+  seq?: number | null; // 방별 이벤트 순번 (재연결 복구 기준)
+  events?: RoomMessageDto[]; // LINK_BATCH 일 때 합쳐진 링크 이벤트들
+}
+
+/**
+ * 재연결 복구 응답
+ * resync 가 true 면 보관 범위를 벗어났으므로 전체 재조회
+ */
+export interface RoomEventReplay {
+  latestSeq: number;
+  resync: boolean;
+  events: RoomMessageDto[];
+}
+
+/**
+ * 채팅 이력 한 페이지 (최신 → 오래된 순)
+ * nextCursor 가 null 이면 마지막 페이지
+ */
+export interface ChatHistoryPage {
+  messages: RoomMessageDto[];
+  nextCursor: string | null;
 }
 
 /**
- * 메시지 타입 (ENTER, TALK, LEAVE, LINK_ADD, LINK_DELETE, LINK_UPDATE)
+ * 메시지 타입 (ENTER, TALK, LEAVE, LINK_ADD, LINK_DELETE, LINK_UPDATE, LINK_BATCH, PRESENCE)
+ * LINK_BATCH: 짧은 시간 동안의 링크 이벤트 묶음 (events 필드)
+ * PRESENCE: 접속자 변경분 (RoomPresenceDiff, 순번 없음)
+ * ENTER/LEAVE 는 더 이상 서버에서 저장/전달하지 않는다 (presence 로 대체)
  */
 export type MessageType =
   | "ENTER"
@@ -32,7 +59,35 @@ export type MessageType =
   | "LEAVE"
   | "LINK_ADD"
   | "LINK_DELETE"
-  | "LINK_UPDATE";
+  | "LINK_UPDATE"
+  | "LINK_BATCH"
+  | "PRESENCE";
+
+/**
+ * 방에 접속해 있는 사용자
+ */
+export interface PresenceUser {
+  userId: number;
+  nickname: string | null;
+}
+
+/**
+ * 현재 접속자 (GET /api/rooms/{roomId}/presence)
+ */
+export interface RoomPresence {
+  roomId: number;
+  users: PresenceUser[];
+}
+
+/**
+ * 접속자 변경분 (방 topic 으로 수신)
+ */
+export interface RoomPresenceDiff {
+  type: "PRESENCE";
+  roomId: number;
+  joined: PresenceUser[];
+  left: PresenceUser[];
+}
 export interface CreateLinkRoomRequest {
   name: string;
 }
@@ -49,6 +104,7 @@ export interface RoomInviteRequest {
 export interface RoomsDto {
   id: number;
   name: string;
+  unreadCount?: number; // 방 목록 조회 시에만 (안 읽은 메시지 수)
   createdAt?: string;
   updatedAt?: string;
   ownerId?: number;
@@ -233,6 +233,7 @@ resolvers docker
 
 defaults
     mode http
+    option forwardfor
     timeout connect 5s
     timeout client 60s
     timeout server 60s